@@ -13,11 +13,10 @@
 package jasmin;
 
 import jas.RuntimeConstants;
-import java.util.Hashtable;
 
 class InsnInfo {
     // maps instruction name -> InsnInfo object
-    private static Hashtable infoTable;
+    private static NameTable infoTable;
 
     // information maintained about each instruction:
     public String name;     // instruction name
@@ -28,6 +27,10 @@ class InsnInfo {
 	return (InsnInfo)infoTable.get(name);
     }
 
+    public static InsnInfo get(char buf[], int off, int len) {
+	return (InsnInfo)infoTable.get(buf, off, len);
+    }
+
     public static boolean contains(String name) {
 	return infoTable.get(name) != null;
     }
@@ -47,7 +50,7 @@ class InsnInfo {
     // initializes the infoTable table
     //
     static {
-        infoTable = new Hashtable();
+        infoTable = new NameTable(256);
 
         addInfo("aaload", RuntimeConstants.opc_aaload, "");
         addInfo("aastore", RuntimeConstants.opc_aastore, "");
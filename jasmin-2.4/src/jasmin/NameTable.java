@@ -0,0 +1,104 @@
+/* --- Copyright Jonathan Meyer 1996. All rights reserved. -----------------
+ > File:        jasmin/src/jasmin/NameTable.java
+ > Purpose:     Unsynchronized name lookup table for the scanner
+ */
+
+//
+// NameTable maps names to values, like a Hashtable, but it can also be
+// probed directly with a slice of a char array. This lets the Scanner
+// recognize directives and instruction mnemonics straight out of its
+// token buffer, without building a String for every word it reads.
+// The table is filled once by a static initializer and then only read,
+// so no synchronization is needed.
+//
+
+package jasmin;
+
+final class NameTable {
+    private String keys[];
+    private Object values[];
+    private int count;
+
+    NameTable(int expected) {
+        int size = 16;
+        while (size < expected * 2)
+            size <<= 1;
+        keys = new String[size];
+        values = new Object[size];
+    }
+
+    //
+    // hash of len chars starting at buf[off] (same as String.hashCode)
+    //
+    private static int hash(char buf[], int off, int len) {
+        int h = 0;
+        for (int i = off; i < off + len; i++)
+            h = 31 * h + buf[i];
+        return h ^ (h >>> 16);
+    }
+
+    private static int hash(String name) {
+        int h = name.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    public void put(String name, Object value) {
+        if ((count + 1) * 2 > keys.length)
+            rehash();
+        int mask = keys.length - 1;
+        int i = hash(name) & mask;
+        while (keys[i] != null) {
+            if (keys[i].equals(name)) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = name;
+        values[i] = value;
+        count++;
+    }
+
+    public Object get(String name) {
+        int mask = keys.length - 1;
+        for (int i = hash(name) & mask; keys[i] != null; i = (i + 1) & mask) {
+            if (keys[i].equals(name))
+                return values[i];
+        }
+        return null;
+    }
+
+    //
+    // looks up the name held in buf[off .. off+len-1]
+    //
+    public Object get(char buf[], int off, int len) {
+        int mask = keys.length - 1;
+        for (int i = hash(buf, off, len) & mask; keys[i] != null; i = (i + 1) & mask) {
+            if (matches(keys[i], buf, off, len))
+                return values[i];
+        }
+        return null;
+    }
+
+    private static boolean matches(String key, char buf[], int off, int len) {
+        if (key.length() != len)
+            return false;
+        for (int i = 0; i < len; i++) {
+            if (key.charAt(i) != buf[off + i])
+                return false;
+        }
+        return true;
+    }
+
+    private void rehash() {
+        String old_keys[] = keys;
+        Object old_values[] = values;
+        keys = new String[old_keys.length * 2];
+        values = new Object[old_keys.length * 2];
+        count = 0;
+        for (int i = 0; i < old_keys.length; i++) {
+            if (old_keys[i] != null)
+                put(old_keys[i], old_values[i]);
+        }
+    }
+}
@@ -6,16 +6,19 @@
 
 package jasmin;
 
-import java.util.Hashtable;
 import java_cup.runtime.*;
 
 abstract class ReservedWords {
-    private static Hashtable reserved_words;
+    private static NameTable reserved_words;
 
     public static token get(String name) {
     	return (token)reserved_words.get(name);
     }
 
+    public static token get(char buf[], int off, int len) {
+    	return (token)reserved_words.get(buf, off, len);
+    }
+
     public static boolean contains(String name) {
     	return reserved_words.get(name) != null;
     }
@@ -24,7 +27,7 @@ abstract class ReservedWords {
     // scanner initializer - sets up reserved_words table
     //
     static {
-        reserved_words = new Hashtable();
+        reserved_words = new NameTable(80);
 
         // Jasmin directives
         reserved_words.put(".annotation", new token(sym.DANNOTATION));
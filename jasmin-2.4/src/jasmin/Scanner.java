@@ -18,12 +18,19 @@ import java.io.Reader;
 class Scanner {
   Reader inp;
 
+    // input is read from inp in blocks of this many characters
+    static private final int BLOCK_SIZE = 65536;
+
+    // block buffer and the read position within it
+    char in_buf[];
+    int in_pos, in_len;
+
     // single lookahead character
     int next_char;
 
     // temporary buffer
     char chars[];
-    static private int chars_size = 512;
+    private int chars_size = 512;
 
     // Whitespace characters
     static final String WHITESPACE = " \n\t\r";
@@ -31,6 +38,19 @@ class Scanner {
     // Separator characters
     static final String SEPARATORS = WHITESPACE + ":=";
 
+    // character classes, indexed by character code (only ASCII is
+    // ever a whitespace or separator character)
+    static private final byte CC_WHITESPACE = 1;
+    static private final byte CC_SEPARATOR  = 2;
+    static private final byte char_class[] = new byte[128];
+
+    static {
+        for (int i = 0; i < WHITESPACE.length(); i++)
+            char_class[WHITESPACE.charAt(i)] |= CC_WHITESPACE;
+        for (int i = 0; i < SEPARATORS.length(); i++)
+            char_class[SEPARATORS.charAt(i)] |= CC_SEPARATOR;
+    }
+
     /*
     // Character can be present in signature
     static final String SIGCHARS = ";:()[/.^*+-<>@";
@@ -38,7 +58,7 @@ class Scanner {
 
     // used for error reporting to print out where an error is on the line
     public int line_num, token_line_num, char_num, int_char_num, int_line_num;
-    public StringBuffer line;
+    public StringBuilder line;
     public String int_line;
 
     // used by the .set directive to define new variables.
@@ -48,23 +68,43 @@ class Scanner {
     // returns true if a character code is a whitespace character
     //
     protected static boolean whitespace(int c) {
-        return (WHITESPACE.indexOf(c) != -1);
+        return (c >= 0 && c < 128 && (char_class[c] & CC_WHITESPACE) != 0);
     }
 
     //
     // returns true if a character code is a separator character
     //
     protected static boolean separator(int c) {
-        return (c == -1 || SEPARATORS.indexOf(c) != -1);
+        return (c == -1 || (c >= 0 && c < 128 && (char_class[c] & CC_SEPARATOR) != 0));
     }
 
+    //
+    // Returns the next character of the input, refilling the block
+    // buffer from inp when it runs out. -1 at end of input.
+    //
+    private int read() throws java.io.IOException
+    {
+        if (in_pos >= in_len) {
+            if (in_len < 0)
+                return -1;
+            int n;
+            do {
+                n = inp.read(in_buf, 0, in_buf.length);
+            } while (n == 0);
+            in_pos = 0;
+            in_len = n;
+            if (n < 0)
+                return -1;
+        }
+        return in_buf[in_pos++];
+    }
 
     //
     // Advanced the input by one character
     //
     protected void advance() throws java.io.IOException
     {
-        next_char = inp.read();
+        next_char = read();
         switch (next_char) {
         case -1:  // EOF
             if (char_num == 0) {
@@ -93,8 +133,9 @@ class Scanner {
         inp = i;
         line_num = 1;
         char_num = 0;
-        line = new StringBuffer();
+        line = new StringBuilder();
         chars = new char[chars_size];
+        in_buf = new char[BLOCK_SIZE];
         next_char = 0;  // no start comment
         skip_empty_lines();
         if ( next_char == -1 )
@@ -196,13 +237,14 @@ class Scanner {
                     advance();
                 }while(!separator(next_char));
 
-                String str = new String(chars, 0, pos);
                 token tok;
 
                 // This catches directives like ".method"
-                if ((tok = ReservedWords.get(str)) != null)
+                if ((tok = ReservedWords.get(chars, 0, pos)) != null)
                     return tok;
 
+                String str = new String(chars, 0, pos);
+
                 Number num;
                 try {
                     num = ScannerUtils.convertNumber(str);
@@ -345,22 +387,21 @@ class Scanner {
                   if(pos == chars_size) chars_expand();
                   advance();
                 }while(!separator(next_char));
-                // convert the byte array into a String
-                String str = new String(chars, 0, pos);
 
                 if (!only_name) {
                     token tok;
+                    InsnInfo insn;
 
                     // Jasmin keyword or directive ?
-                    if ((tok = ReservedWords.get(str)) != null)
+                    if ((tok = ReservedWords.get(chars, 0, pos)) != null)
                         return tok;
 
                     // its a JVM instruction ?
-                    if (InsnInfo.contains(str))
-                        return new str_token(sym.Insn, str);
+                    if ((insn = InsnInfo.get(chars, 0, pos)) != null)
+                        return new str_token(sym.Insn, insn.name);
 
-                    if (str.charAt(0) == '$') {
-                        String s = str.substring(1);
+                    if (chars[0] == '$') {
+                        String s = new String(chars, 1, pos - 1);
                         Object v;
                         int n = 10;
                         boolean neg = false;
@@ -391,7 +432,7 @@ class Scanner {
                     } // not begin from '$'
                 } // !only_name
                 // Unrecognized string token (e.g. a classname)
-                return new str_token(sym.Word, str);
+                return new str_token(sym.Word, new String(chars, 0, pos));
             } /* default */
         } /* switch and for */
     }
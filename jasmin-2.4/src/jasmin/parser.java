@@ -1,10 +1,10 @@
 
 //----------------------------------------------------
 // The following code was generated by Java(tm) CUP v0.9d
-// Fri May 07 07:55:04 MSD 2010
+// Sun Oct 18 19:46:26 UTC 2026
 //----------------------------------------------------
 
-package jasmin;
+package jasmin;
 
 import java_cup.runtime.*;
 import jas.*;
@@ -17,842 +17,395 @@ public class parser extends java_cup.runtime.lr_parser {
   public parser() {super();}
 
   /** production table */
-  protected static final short _production_table[][] = {
-        {25, 4},     {0, 2},     {56, 11},     {54, 3},     {54, 0}, 
-        {55, 1},     {59, 3},     {59, 0},     {60, 0},     {51, 3}, 
-        {51, 0},     {38, 3},     {38, 3},     {38, 0},     {13, 4}, 
-        {13, 4},     {1, 1},     {105, 0},     {104, 2},     {11, 1}, 
-        {11, 0},     {10, 2},     {10, 1},     {9, 1},     {9, 1}, 
-        {9, 1},     {9, 1},     {9, 1},     {9, 1},     {9, 1}, 
-        {9, 1},     {9, 1},     {9, 1},     {9, 1},     {9, 1}, 
-        {9, 1},     {9, 1},     {9, 1},     {9, 1},     {9, 1}, 
-        {42, 3},     {22, 1},     {22, 0},     {23, 2},     {23, 1}, 
-        {24, 3},     {73, 1},     {73, 0},     {74, 2},     {74, 1}, 
-        {75, 3},     {90, 2},     {76, 2},     {77, 2},     {78, 3}, 
-        {78, 3},     {79, 3},     {79, 3},     {79, 4},     {79, 4}, 
-        {80, 1},     {80, 0},     {81, 2},     {81, 1},     {82, 3}, 
-        {88, 2},     {88, 3},     {83, 2},     {93, 2},     {93, 1}, 
-        {85, 2},     {85, 1},     {86, 1},     {92, 2},     {92, 1}, 
-        {91, 4},     {89, 1},     {84, 3},     {87, 1},     {87, 2}, 
-        {52, 1},     {52, 0},     {57, 2},     {57, 1},     {58, 3}, 
-        {53, 4},     {53, 0},     {61, 1},     {61, 0},     {62, 2}, 
-        {62, 1},     {63, 3},     {64, 2},     {20, 1},     {20, 0}, 
-        {18, 2},     {18, 1},     {19, 8},     {19, 6},     {19, 4}, 
-        {6, 2},     {6, 0},     {65, 5},     {66, 3},     {67, 1}, 
-        {67, 0},     {68, 2},     {68, 1},     {69, 3},     {69, 3}, 
-        {69, 3},     {69, 4},     {7, 1},     {7, 1},     {7, 1}, 
-        {8, 1},     {8, 1},     {70, 1},     {70, 0},     {71, 2}, 
-        {71, 1},     {72, 7},     {72, 7},     {2, 1},     {2, 0}, 
-        {3, 2},     {3, 0},     {4, 2},     {4, 0},     {35, 1}, 
-        {35, 0},     {33, 2},     {33, 1},     {34, 3},     {34, 2}, 
-        {15, 4},     {17, 3},     {40, 2},     {40, 1},     {106, 0}, 
-        {39, 3},     {41, 1},     {41, 1},     {41, 1},     {41, 1}, 
-        {41, 0},     {26, 2},     {26, 3},     {16, 2},     {16, 2}, 
-        {16, 2},     {16, 2},     {16, 2},     {16, 2},     {16, 2}, 
-        {16, 2},     {16, 2},     {16, 4},     {16, 4},     {16, 2}, 
-        {101, 3},     {101, 4},     {102, 3},     {103, 1},     {103, 0}, 
-        {94, 1},     {95, 2},     {97, 3},     {97, 3},     {97, 0}, 
-        {98, 2},     {98, 0},     {99, 2},     {100, 2},     {100, 3}, 
-        {100, 3},     {100, 2},     {100, 3},     {100, 3},     {96, 2}, 
-        {50, 9},     {50, 5},     {50, 9},     {5, 2},     {5, 0}, 
-        {27, 2},     {27, 2},     {27, 2},     {45, 1},     {49, 1}, 
-        {12, 7},     {12, 7},     {36, 2},     {21, 1},     {21, 1}, 
-        {37, 1},     {37, 3},     {37, 2},     {37, 2},     {37, 2}, 
-        {37, 3},     {37, 3},     {37, 2},     {37, 2},     {14, 2}, 
-        {14, 2},     {28, 3},     {29, 1},     {32, 2},     {32, 1}, 
-        {31, 4},     {31, 4},     {30, 3},     {30, 3},     {43, 3}, 
-        {44, 2},     {44, 3},     {48, 2},     {48, 1},     {47, 2}, 
-        {47, 2},     {46, 3},     {46, 3}  };
+  protected static final short _production_table[][] = 
+    unpack_table(new String[] {
+    "\337\002\033\006\002\002\004\002:\015\0028\005\0028\002\0029\003\002=\005\002=\002\002>\002\0025\005\002" +
+    "5\002\002(\005\002(\005\002(\002\002\017\006\002\017\006\002\003\003\002k\002\002j\004\002\015\003\002\015\002" +
+    "\002\014\004\002\014\003\002\013\003\002\013\003\002\013\003\002\013\003\002\013\003\002\013\003\002\013\003\002\013\003\002\013" +
+    "\003\002\013\003\002\013\003\002\013\003\002\013\003\002\013\003\002\013\003\002\013\003\002\013\003\002,\005\002\030\003\002" +
+    "\030\002\002\031\004\002\031\003\002\032\005\002K\003\002K\002\002L\004\002L\003\002M\005\002\134\004\002N\004" +
+    "\002O\004\002P\005\002P\005\002Q\005\002Q\005\002Q\006\002Q\006\002R\003\002R\002\002S\004\002S" +
+    "\003\002T\005\002Z\004\002Z\005\002U\004\002_\004\002_\003\002W\004\002W\003\002X\003\002^\004\002" +
+    "^\003\002]\006\002[\003\002V\005\002Y\003\002Y\004\0026\003\0026\002\002;\004\002;\003\002<\005" +
+    "\0027\006\0027\002\002?\003\002?\002\002@\004\002@\003\002A\005\002B\004\002\026\003\002\026\002\002\024" +
+    "\004\002\024\003\002\025\012\002\025\010\002\025\006\002\010\004\002\010\002\002C\007\002D\005\002E\003\002E\002\002" +
+    "F\004\002F\003\002G\005\002G\005\002G\005\002G\006\002\011\003\002\011\003\002\011\003\002\012\003\002\012\003" +
+    "\002H\003\002H\002\002I\004\002I\003\002J\011\002J\011\002\004\003\002\004\002\002\005\004\002\005\002\002\006" +
+    "\004\002\006\002\002%\003\002%\002\002#\004\002#\003\002$\005\002$\004\002\021\006\002\023\005\002*\004\002" +
+    "*\003\002l\002\002)\005\002+\003\002+\003\002+\003\002+\003\002+\002\002\034\004\002\034\005\002\022\004" +
+    "\002\022\004\002\022\004\002\022\004\002\022\004\002\022\004\002\022\004\002\022\004\002\022\004\002\022\006\002\022\006\002\022" +
+    "\004\002g\005\002g\006\002h\005\002i\003\002i\002\002`\003\002a\004\002c\005\002c\005\002c\002\002" +
+    "d\004\002d\002\002e\004\002f\004\002f\005\002f\005\002f\004\002f\005\002f\005\002b\004\0024\013" +
+    "\0024\007\0024\013\002\007\004\002\007\002\002\035\004\002\035\004\002\035\004\002/\003\0023\003\002\016\011\002\016" +
+    "\011\002&\004\002\027\003\002\027\003\002'\003\002'\005\002'\004\002'\004\002'\004\002'\005\002'\005\002" +
+    "'\004\002'\004\002\020\004\002\020\004\002\036\005\002\037\003\002\042\004\002\042\003\002!\006\002!\006\002 \005" +
+    "\002 \005\002-\005\002.\004\002.\005\0022\004\0022\003\0021\004\0021\004\0020\005\0020\005" });
 
   /** access to production table */
   public short[][] production_table() {return _production_table;}
 
   /** parse action table */
-  protected static final short[][] _action_table = {
-    /*0*/{3,-11,11,-11,15,-11,16,4,-1,0},
-    /*1*/{0,-119,5,-119,8,-119,23,134,-1,0},
-    /*2*/{0,133,-1,0},
-    /*3*/{70,131,-1,0},
-    /*4*/{3,-14,11,6,15,-14,-1,0},
-    /*5*/{66,127,67,128,-1,0},
-    /*6*/{3,9,15,8,-1,0},
-    /*7*/{43,-18,44,-18,45,-18,46,-18,47,-18,48,-18,49,-18,50,-18,51,-18,52,-18,53,-18,54,-18,55,-18,56,-18,57,-18,58,-18,59,-18,67,-18,-1,0},
-    /*8*/{43,-18,44,-18,45,-18,46,-18,47,-18,48,-18,49,-18,50,-18,51,-18,52,-18,53,-18,54,-18,55,-18,56,-18,57,-18,58,-18,59,-18,67,-18,-1,0},
-    /*9*/{10,12,-1,0},
-    /*10*/{0,-43,5,-43,8,-43,14,17,17,-43,18,-43,19,-43,21,-43,22,-43,23,-43,24,-43,-1,0},
-    /*11*/{67,13,-1,0},
-    /*12*/{27,-17,37,-17,64,-17,-1,0},
-    /*13*/{64,15,-1,0},
-    /*14*/{0,-41,5,-41,8,-41,14,-41,17,-41,18,-41,19,-41,21,-41,22,-41,23,-41,24,-41,-1,0},
-    /*15*/{0,-45,5,-45,8,-45,14,-45,17,-45,18,-45,19,-45,21,-45,22,-45,23,-45,24,-45,-1,0},
-    /*16*/{67,13,-1,0},
-    /*17*/{0,-5,5,-5,8,-5,17,-5,18,-5,19,22,21,-5,22,-5,23,-5,24,-5,-1,0},
-    /*18*/{0,-42,5,-42,8,-42,14,17,17,-42,18,-42,19,-42,21,-42,22,-42,23,-42,24,-42,-1,0},
-    /*19*/{0,-44,5,-44,8,-44,14,-44,17,-44,18,-44,19,-44,21,-44,22,-44,23,-44,24,-44,-1,0},
-    /*20*/{0,-87,5,-87,8,-87,17,-87,18,26,21,-87,22,-87,23,-87,24,-87,-1,0},
-    /*21*/{66,23,-1,0},
-    /*22*/{64,-6,-1,0},
-    /*23*/{64,25,-1,0},
-    /*24*/{0,-4,5,-4,8,-4,17,-4,18,-4,21,-4,22,-4,23,-4,24,-4,-1,0},
-    /*25*/{28,94,-1,0},
-    /*26*/{0,-8,5,-8,8,-8,17,-8,21,-8,22,28,23,-8,24,-8,-1,0},
-    /*27*/{64,-9,-1,0},
-    /*28*/{0,-48,5,-48,8,-48,17,-48,21,-48,23,-48,24,34,-1,0},
-    /*29*/{0,-50,5,-50,8,-50,17,-50,21,-50,23,-50,24,-50,-1,0},
-    /*30*/{0,-47,5,-47,8,-47,17,-47,21,-47,23,-47,24,34,-1,0},
-    /*31*/{4,-62,67,60,-1,0},
-    /*32*/{0,-89,5,-89,8,-89,17,-89,21,43,23,-89,-1,0},
-    /*33*/{38,36,39,35,-1,0},
-    /*34*/{67,13,-1,0},
-    /*35*/{67,13,-1,0},
-    /*36*/{4,-54,67,-54,-1,0},
-    /*37*/{64,39,-1,0},
-    /*38*/{4,-55,67,-55,-1,0},
-    /*39*/{64,41,-1,0},
-    /*40*/{4,-56,67,-56,-1,0},
-    /*41*/{0,-91,5,-91,8,-91,17,-91,21,-91,23,-91,-1,0},
-    /*42*/{67,54,-1,0},
-    /*43*/{0,-82,5,-82,8,-82,17,47,23,-82,-1,0},
-    /*44*/{0,-88,5,-88,8,-88,17,-88,21,43,23,-88,-1,0},
-    /*45*/{0,-90,5,-90,8,-90,17,-90,21,-90,23,-90,-1,0},
-    /*46*/{66,52,-1,0},
-    /*47*/{0,-81,5,-81,8,-81,17,47,23,-81,-1,0},
-    /*48*/{0,-84,5,-84,8,-84,17,-84,23,-84,-1,0},
-    /*49*/{0,-3,5,-3,8,-3,23,-3,-1,0},
-    /*50*/{0,-83,5,-83,8,-83,17,-83,23,-83,-1,0},
-    /*51*/{64,53,-1,0},
-    /*52*/{0,-85,5,-85,8,-85,17,-85,23,-85,-1,0},
-    /*53*/{66,57,-1,0},
-    /*54*/{64,56,-1,0},
-    /*55*/{0,-92,5,-92,8,-92,17,-92,21,-92,23,-92,-1,0},
-    /*56*/{64,-93,-1,0},
-    /*57*/{4,-61,67,60,-1,0},
-    /*58*/{63,70,-1,0},
-    /*59*/{67,68,-1,0},
-    /*60*/{4,-64,67,-64,-1,0},
-    /*61*/{4,65,-1,0},
-    /*62*/{0,-51,5,-51,8,-51,17,-51,21,-51,23,-51,24,-51,-1,0},
-    /*63*/{64,67,-1,0},
-    /*64*/{54,66,-1,0},
-    /*65*/{64,-53,-1,0},
-    /*66*/{0,-52,4,-52,5,-52,8,-52,17,-52,19,-52,21,-52,22,-52,23,-52,24,-52,67,-52,-1,0},
-    /*67*/{63,-66,67,69,-1,0},
-    /*68*/{63,-67,-1,0},
-    /*69*/{24,77,66,78,67,73,69,76,70,74,-1,0},
-    /*70*/{64,88,66,78,67,73,69,76,70,74,-1,0},
-    /*71*/{4,-65,67,-65,-1,0},
-    /*72*/{64,-116,66,-116,67,-116,69,-116,70,-116,-1,0},
-    /*73*/{64,-114,66,-114,67,-114,69,-114,70,-114,-1,0},
-    /*74*/{4,-75,24,-75,67,-75,-1,0},
-    /*75*/{64,-113,66,-113,67,-113,69,-113,70,-113,-1,0},
-    /*76*/{64,84,-1,0},
-    /*77*/{64,-115,66,-115,67,-115,69,-115,70,-115,-1,0},
-    /*78*/{4,-70,24,77,67,-70,-1,0},
-    /*79*/{64,-72,66,-72,67,-72,69,-72,70,-72,-1,0},
-    /*80*/{64,-117,66,-117,67,-117,69,-117,70,-117,-1,0},
-    /*81*/{64,-73,66,-73,67,-73,69,-73,70,-73,-1,0},
-    /*82*/{4,-74,24,-74,67,-74,-1,0},
-    /*83*/{4,-77,67,-77,-1,0},
-    /*84*/{4,-62,67,60,-1,0},
-    /*85*/{4,65,-1,0},
-    /*86*/{4,-76,24,-76,67,-76,-1,0},
-    /*87*/{4,-69,67,-69,-1,0},
-    /*88*/{64,-71,66,-71,67,-71,69,-71,70,-71,-1,0},
-    /*89*/{4,-63,67,-63,-1,0},
-    /*90*/{0,-49,5,-49,8,-49,17,-49,21,-49,23,-49,24,-49,-1,0},
-    /*91*/{64,93,-1,0},
-    /*92*/{0,-7,5,-7,8,-7,17,-7,21,-7,23,-7,24,-7,-1,0},
-    /*93*/{67,95,-1,0},
-    /*94*/{64,96,-1,0},
-    /*95*/{0,-86,5,-86,8,-86,17,-86,21,-86,22,-86,23,-86,24,-86,-1,0},
-    /*96*/{64,98,-1,0},
-    /*97*/{0,-46,5,-46,8,-46,14,-46,17,-46,18,-46,19,-46,21,-46,22,-46,23,-46,24,-46,-1,0},
-    /*98*/{67,13,-1,0},
-    /*99*/{36,-21,37,-21,43,117,44,113,45,115,46,105,47,103,48,111,49,107,50,109,51,118,52,112,53,108,54,106,55,114,56,104,57,116,58,110,59,102,64,-21,67,-21,-1,0},
-    /*100*/{36,-20,37,-20,43,117,44,113,45,115,46,105,47,103,48,111,49,107,50,109,51,118,52,112,53,108,54,106,55,114,56,104,57,116,58,110,59,102,64,-20,67,-20,-1,0},
-    /*101*/{36,-40,37,-40,43,-40,44,-40,45,-40,46,-40,47,-40,48,-40,49,-40,50,-40,51,-40,52,-40,53,-40,54,-40,55,-40,56,-40,57,-40,58,-40,59,-40,64,-40,67,-40,-1,0},
-    /*102*/{36,-25,37,-25,43,-25,44,-25,45,-25,46,-25,47,-25,48,-25,49,-25,50,-25,51,-25,52,-25,53,-25,54,-25,55,-25,56,-25,57,-25,58,-25,59,-25,64,-25,67,-25,-1,0},
-    /*103*/{36,-37,37,-37,43,-37,44,-37,45,-37,46,-37,47,-37,48,-37,49,-37,50,-37,51,-37,52,-37,53,-37,54,-37,55,-37,56,-37,57,-37,58,-37,59,-37,64,-37,67,-37,-1,0},
-    /*104*/{36,-32,37,-32,43,-32,44,-32,45,-32,46,-32,47,-32,48,-32,49,-32,50,-32,51,-32,52,-32,53,-32,54,-32,55,-32,56,-32,57,-32,58,-32,59,-32,64,-32,67,-32,-1,0},
-    /*105*/{36,-35,37,-35,43,-35,44,-35,45,-35,46,-35,47,-35,48,-35,49,-35,50,-35,51,-35,52,-35,53,-35,54,-35,55,-35,56,-35,57,-35,58,-35,59,-35,64,-35,67,-35,-1,0},
-    /*106*/{36,-24,37,-24,43,-24,44,-24,45,-24,46,-24,47,-24,48,-24,49,-24,50,-24,51,-24,52,-24,53,-24,54,-24,55,-24,56,-24,57,-24,58,-24,59,-24,64,-24,67,-24,-1,0},
-    /*107*/{36,-30,37,-30,43,-30,44,-30,45,-30,46,-30,47,-30,48,-30,49,-30,50,-30,51,-30,52,-30,53,-30,54,-30,55,-30,56,-30,57,-30,58,-30,59,-30,64,-30,67,-30,-1,0},
-    /*108*/{36,-27,37,-27,43,-27,44,-27,45,-27,46,-27,47,-27,48,-27,49,-27,50,-27,51,-27,52,-27,53,-27,54,-27,55,-27,56,-27,57,-27,58,-27,59,-27,64,-27,67,-27,-1,0},
-    /*109*/{36,-39,37,-39,43,-39,44,-39,45,-39,46,-39,47,-39,48,-39,49,-39,50,-39,51,-39,52,-39,53,-39,54,-39,55,-39,56,-39,57,-39,58,-39,59,-39,64,-39,67,-39,-1,0},
-    /*110*/{36,-26,37,-26,43,-26,44,-26,45,-26,46,-26,47,-26,48,-26,49,-26,50,-26,51,-26,52,-26,53,-26,54,-26,55,-26,56,-26,57,-26,58,-26,59,-26,64,-26,67,-26,-1,0},
-    /*111*/{36,-31,37,-31,43,-31,44,-31,45,-31,46,-31,47,-31,48,-31,49,-31,50,-31,51,-31,52,-31,53,-31,54,-31,55,-31,56,-31,57,-31,58,-31,59,-31,64,-31,67,-31,-1,0},
-    /*112*/{36,-28,37,-28,43,-28,44,-28,45,-28,46,-28,47,-28,48,-28,49,-28,50,-28,51,-28,52,-28,53,-28,54,-28,55,-28,56,-28,57,-28,58,-28,59,-28,64,-28,67,-28,-1,0},
-    /*113*/{36,-36,37,-36,43,-36,44,-36,45,-36,46,-36,47,-36,48,-36,49,-36,50,-36,51,-36,52,-36,53,-36,54,-36,55,-36,56,-36,57,-36,58,-36,59,-36,64,-36,67,-36,-1,0},
-    /*114*/{36,-33,37,-33,43,-33,44,-33,45,-33,46,-33,47,-33,48,-33,49,-33,50,-33,51,-33,52,-33,53,-33,54,-33,55,-33,56,-33,57,-33,58,-33,59,-33,64,-33,67,-33,-1,0},
-    /*115*/{36,-38,37,-38,43,-38,44,-38,45,-38,46,-38,47,-38,48,-38,49,-38,50,-38,51,-38,52,-38,53,-38,54,-38,55,-38,56,-38,57,-38,58,-38,59,-38,64,-38,67,-38,-1,0},
-    /*116*/{36,-34,37,-34,43,-34,44,-34,45,-34,46,-34,47,-34,48,-34,49,-34,50,-34,51,-34,52,-34,53,-34,54,-34,55,-34,56,-34,57,-34,58,-34,59,-34,64,-34,67,-34,-1,0},
-    /*117*/{36,-29,37,-29,43,-29,44,-29,45,-29,46,-29,47,-29,48,-29,49,-29,50,-29,51,-29,52,-29,53,-29,54,-29,55,-29,56,-29,57,-29,58,-29,59,-29,64,-29,67,-29,-1,0},
-    /*118*/{36,-19,37,-19,64,-19,67,-19,-1,0},
-    /*119*/{36,-23,37,-23,43,-23,44,-23,45,-23,46,-23,47,-23,48,-23,49,-23,50,-23,51,-23,52,-23,53,-23,54,-23,55,-23,56,-23,57,-23,58,-23,59,-23,64,-23,67,-23,-1,0},
-    /*120*/{36,-22,37,-22,43,-22,44,-22,45,-22,46,-22,47,-22,48,-22,49,-22,50,-22,51,-22,52,-22,53,-22,54,-22,55,-22,56,-22,57,-22,58,-22,59,-22,64,-22,67,-22,-1,0},
-    /*121*/{64,123,-1,0},
-    /*122*/{10,-15,-1,0},
-    /*123*/{67,13,-1,0},
-    /*124*/{64,126,-1,0},
-    /*125*/{10,-16,-1,0},
-    /*126*/{64,130,-1,0},
-    /*127*/{64,129,-1,0},
-    /*128*/{3,-13,15,-13,-1,0},
-    /*129*/{3,-12,15,-12,-1,0},
-    /*130*/{64,132,-1,0},
-    /*131*/{3,-10,11,-10,15,-10,-1,0},
-    /*132*/{0,-2,-1,0},
-    /*133*/{34,371,45,370,-1,0},
-    /*134*/{0,-121,5,-121,8,-121,23,-121,-1,0},
-    /*135*/{0,-95,5,141,8,-95,-1,0},
-    /*136*/{0,-118,5,-118,8,-118,23,134,-1,0},
-    /*137*/{0,-120,5,-120,8,-120,23,-120,-1,0},
-    /*138*/{0,-131,8,179,-1,0},
-    /*139*/{0,-97,5,-97,8,-97,-1,0},
-    /*140*/{43,-18,44,-18,45,-18,46,-18,47,-18,48,-18,49,-18,50,-18,51,-18,52,-18,53,-18,54,-18,55,-18,56,-18,57,-18,58,-18,59,-18,67,-18,-1,0},
-    /*141*/{0,-94,5,141,8,-94,-1,0},
-    /*142*/{0,-96,5,-96,8,-96,-1,0},
-    /*143*/{67,167,-1,0},
-    /*144*/{4,-106,19,151,21,147,22,146,24,152,-1,0},
-    /*145*/{64,-9,-1,0},
-    /*146*/{67,54,-1,0},
-    /*147*/{4,-105,19,151,21,147,22,146,24,152,-1,0},
-    /*148*/{4,-108,19,-108,21,-108,22,-108,24,-108,-1,0},
-    /*149*/{4,158,-1,0},
-    /*150*/{66,23,-1,0},
-    /*151*/{38,36,39,35,-1,0},
-    /*152*/{4,-62,67,60,-1,0},
-    /*153*/{4,65,-1,0},
-    /*154*/{4,-112,19,-112,21,-112,22,-112,24,-112,-1,0},
-    /*155*/{64,157,-1,0},
-    /*156*/{4,-109,19,-109,21,-109,22,-109,24,-109,-1,0},
-    /*157*/{33,160,-1,0},
-    /*158*/{0,-100,5,-100,8,-100,-1,0},
-    /*159*/{64,161,-1,0},
-    /*160*/{0,-104,5,-104,8,-104,-1,0},
-    /*161*/{4,-107,19,-107,21,-107,22,-107,24,-107,-1,0},
-    /*162*/{64,164,-1,0},
-    /*163*/{4,-110,19,-110,21,-110,22,-110,24,-110,-1,0},
-    /*164*/{64,166,-1,0},
-    /*165*/{4,-111,19,-111,21,-111,22,-111,24,-111,-1,0},
-    /*166*/{67,168,-1,0},
-    /*167*/{29,171,63,169,64,-102,-1,0},
-    /*168*/{66,78,69,76,70,74,-1,0},
-    /*169*/{64,175,-1,0},
-    /*170*/{66,172,-1,0},
-    /*171*/{63,169,64,-102,-1,0},
-    /*172*/{64,174,-1,0},
-    /*173*/{0,-98,5,-98,8,-98,-1,0},
-    /*174*/{0,-99,4,-103,5,-99,8,-99,19,-103,21,-103,22,-103,24,-103,-1,0},
-    /*175*/{64,-101,-1,0},
-    /*176*/{0,-1,-1,0},
-    /*177*/{0,-133,8,-133,-1,0},
-    /*178*/{43,-18,44,-18,45,-18,46,-18,47,-18,48,-18,49,-18,50,-18,51,-18,52,-18,53,-18,54,-18,55,-18,56,-18,57,-18,58,-18,59,-18,67,-18,-1,0},
-    /*179*/{1,-140,2,-140,4,185,6,-140,7,-140,9,-140,12,-140,13,-140,19,-140,20,-140,21,-140,22,-140,24,-140,60,-140,61,-140,64,-140,67,-140,68,-140,69,-140,-1,0},
-    /*180*/{0,-130,8,179,-1,0},
-    /*181*/{0,-132,8,-132,-1,0},
-    /*182*/{1,-140,2,-140,4,185,6,-140,7,-140,9,-140,12,-140,13,-140,19,-140,20,-140,21,-140,22,-140,24,-140,60,-140,61,-140,64,-140,67,-140,68,-140,69,-140,-1,0},
-    /*183*/{1,205,2,198,6,193,7,207,9,206,12,212,13,192,19,194,20,203,21,190,22,210,24,195,60,204,61,202,64,-146,67,191,68,201,69,196,-1,0},
-    /*184*/{28,188,-1,0},
-    /*185*/{1,-139,2,-139,4,-139,6,-139,7,-139,9,-139,12,-139,13,-139,19,-139,20,-139,21,-139,22,-139,24,-139,60,-139,61,-139,64,-139,67,-139,68,-139,69,-139,-1,0},
-    /*186*/{0,-135,8,-135,-1,0},
-    /*187*/{64,189,-1,0},
-    /*188*/{0,-137,8,-137,-1,0},
-    /*189*/{67,54,-1,0},
-    /*190*/{65,363,-1,0},
-    /*191*/{69,349,-1,0},
-    /*192*/{30,342,32,344,67,343,-1,0},
-    /*193*/{66,23,-1,0},
-    /*194*/{38,316,39,314,40,319,41,318,62,313,-1,0},
-    /*195*/{65,311,-1,0},
-    /*196*/{64,-145,-1,0},
-    /*197*/{67,13,-1,0},
-    /*198*/{64,-143,-1,0},
-    /*199*/{64,297,-1,0},
-    /*200*/{64,-196,66,289,67,290,69,292,70,293,71,291,-1,0},
-    /*201*/{69,273,-1,0},
-    /*202*/{42,241,64,238,-1,0},
-    /*203*/{64,221,-1,0},
-    /*204*/{64,-144,-1,0},
-    /*205*/{67,219,-1,0},
-    /*206*/{69,217,-1,0},
-    /*207*/{64,-142,-1,0},
-    /*208*/{64,-194,-1,0},
-    /*209*/{64,-9,-1,0},
-    /*210*/{64,-195,-1,0},
-    /*211*/{67,13,-1,0},
-    /*212*/{64,-190,-1,0},
-    /*213*/{64,-152,-1,0},
-    /*214*/{64,-157,-1,0},
-    /*215*/{64,-151,-1,0},
-    /*216*/{64,-189,-1,0},
-    /*217*/{64,-154,-1,0},
-    /*218*/{66,78,67,73,69,76,70,74,-1,0},
-    /*219*/{64,-193,-1,0},
-    /*220*/{69,-208,-1,0},
-    /*221*/{69,226,-1,0},
-    /*222*/{64,-205,-1,0},
-    /*223*/{62,-210,69,-210,-1,0},
-    /*224*/{62,233,69,226,-1,0},
-    /*225*/{65,227,-1,0},
-    /*226*/{67,228,69,229,-1,0},
-    /*227*/{64,231,-1,0},
-    /*228*/{64,230,-1,0},
-    /*229*/{62,-212,69,-212,-1,0},
-    /*230*/{62,-211,69,-211,-1,0},
-    /*231*/{64,-207,-1,0},
-    /*232*/{65,235,-1,0},
-    /*233*/{62,-209,69,-209,-1,0},
-    /*234*/{67,236,69,237,-1,0},
-    /*235*/{64,-213,-1,0},
-    /*236*/{64,-214,-1,0},
-    /*237*/{4,-166,30,-166,31,-166,32,-166,-1,0},
-    /*238*/{4,-170,30,-170,31,246,32,-170,-1,0},
-    /*239*/{64,-160,-1,0},
-    /*240*/{32,-165,69,244,-1,0},
-    /*241*/{32,267,-1,0},
-    /*242*/{4,-170,30,-170,31,246,32,-170,-1,0},
-    /*243*/{32,-164,-1,0},
-    /*244*/{4,264,-1,0},
-    /*245*/{67,260,69,261,-1,0},
-    /*246*/{4,-172,30,-172,32,-172,-1,0},
-    /*247*/{4,-167,30,249,32,252,-1,0},
-    /*248*/{67,257,-1,0},
-    /*249*/{4,-171,30,-171,32,-171,-1,0},
-    /*250*/{64,256,-1,0},
-    /*251*/{67,253,-1,0},
-    /*252*/{64,-174,67,254,69,255,-1,0},
-    /*253*/{64,-175,-1,0},
-    /*254*/{64,-176,-1,0},
-    /*255*/{4,-173,30,-173,32,-173,-1,0},
-    /*256*/{64,-177,67,258,69,259,-1,0},
-    /*257*/{64,-178,-1,0},
-    /*258*/{64,-179,-1,0},
-    /*259*/{64,263,-1,0},
-    /*260*/{64,262,-1,0},
-    /*261*/{4,-168,30,-168,32,-168,-1,0},
-    /*262*/{4,-169,30,-169,32,-169,-1,0},
-    /*263*/{30,266,-1,0},
-    /*264*/{64,-162,-1,0},
-    /*265*/{64,-180,-1,0},
-    /*266*/{64,268,-1,0},
-    /*267*/{4,-163,30,-163,31,-163,32,-163,-1,0},
-    /*268*/{4,264,-1,0},
-    /*269*/{64,-161,-1,0},
-    /*270*/{67,277,69,280,-1,0},
-    /*271*/{64,-206,-1,0},
-    /*272*/{64,274,69,275,-1,0},
-    /*273*/{67,-216,69,-216,-1,0},
-    /*274*/{64,276,-1,0},
-    /*275*/{67,-217,69,-217,-1,0},
-    /*276*/{64,288,-1,0},
-    /*277*/{62,282,67,277,69,280,-1,0},
-    /*278*/{62,-219,67,-219,69,-219,-1,0},
-    /*279*/{64,281,-1,0},
-    /*280*/{62,-221,67,-221,69,-221,-1,0},
-    /*281*/{65,285,-1,0},
-    /*282*/{62,-218,67,-218,69,-218,-1,0},
-    /*283*/{64,-215,-1,0},
-    /*284*/{67,286,69,287,-1,0},
-    /*285*/{64,-222,-1,0},
-    /*286*/{64,-223,-1,0},
-    /*287*/{62,-220,67,-220,69,-220,-1,0},
-    /*288*/{64,-203,-1,0},
-    /*289*/{64,-200,67,295,69,296,-1,0},
-    /*290*/{64,-204,-1,0},
-    /*291*/{64,-198,69,294,-1,0},
-    /*292*/{64,-199,-1,0},
-    /*293*/{64,-197,-1,0},
-    /*294*/{64,-202,-1,0},
-    /*295*/{64,-201,-1,0},
-    /*296*/{1,-141,2,-141,4,-141,6,-141,7,-141,9,-141,12,-141,13,-141,19,-141,20,-141,21,-141,22,-141,24,-141,60,-141,61,-141,64,-141,67,-141,68,-141,69,-141,-1,0},
-    /*297*/{64,-153,-1,0},
-    /*298*/{27,300,-1,0},
-    /*299*/{67,301,69,302,-1,0},
-    /*300*/{35,307,-1,0},
-    /*301*/{35,303,-1,0},
-    /*302*/{69,304,-1,0},
-    /*303*/{25,305,-1,0},
-    /*304*/{69,306,-1,0},
-    /*305*/{64,-192,-1,0},
-    /*306*/{67,308,-1,0},
-    /*307*/{25,309,-1,0},
-    /*308*/{67,310,-1,0},
-    /*309*/{64,-191,-1,0},
-    /*310*/{60,204,61,202,68,201,-1,0},
-    /*311*/{64,-148,-1,0},
-    /*312*/{64,339,-1,0},
-    /*313*/{67,13,-1,0},
-    /*314*/{4,-62,67,60,-1,0},
-    /*315*/{67,13,-1,0},
-    /*316*/{67,326,-1,0},
-    /*317*/{69,323,-1,0},
-    /*318*/{69,320,-1,0},
-    /*319*/{67,13,-1,0},
-    /*320*/{64,322,-1,0},
-    /*321*/{4,-59,67,-59,-1,0},
-    /*322*/{67,13,-1,0},
-    /*323*/{64,325,-1,0},
-    /*324*/{4,-60,67,-60,-1,0},
-    /*325*/{63,-79,67,332,-1,0},
-    /*326*/{4,65,-1,0},
-    /*327*/{63,329,-1,0},
-    /*328*/{24,77,66,78,67,73,69,76,70,74,-1,0},
-    /*329*/{4,-78,-1,0},
-    /*330*/{64,-159,-1,0},
-    /*331*/{63,-80,-1,0},
-    /*332*/{64,334,-1,0},
-    /*333*/{4,-57,67,-57,-1,0},
-    /*334*/{4,65,-1,0},
-    /*335*/{64,-158,-1,0},
-    /*336*/{64,338,-1,0},
-    /*337*/{4,-58,67,-58,-1,0},
-    /*338*/{67,-68,-1,0},
-    /*339*/{64,-155,-1,0},
-    /*340*/{64,-150,-1,0},
-    /*341*/{69,347,-1,0},
-    /*342*/{69,346,-1,0},
-    /*343*/{69,345,-1,0},
-    /*344*/{64,-186,-1,0},
-    /*345*/{64,-188,-1,0},
-    /*346*/{64,-187,-1,0},
-    /*347*/{64,-149,-1,0},
-    /*348*/{26,350,-1,0},
-    /*349*/{67,351,-1,0},
-    /*350*/{67,352,-1,0},
-    /*351*/{27,-185,29,353,64,-185,-1,0},
-    /*352*/{66,362,-1,0},
-    /*353*/{27,355,64,-182,-1,0},
-    /*354*/{67,356,69,357,-1,0},
-    /*355*/{35,360,-1,0},
-    /*356*/{35,358,-1,0},
-    /*357*/{69,359,-1,0},
-    /*358*/{64,-183,-1,0},
-    /*359*/{67,361,-1,0},
-    /*360*/{64,-181,-1,0},
-    /*361*/{27,-184,64,-184,-1,0},
-    /*362*/{64,-147,-1,0},
-    /*363*/{64,-156,-1,0},
-    /*364*/{1,-138,2,-138,4,-138,6,-138,7,-138,9,-138,12,-138,13,-138,19,-138,20,-138,21,-138,22,-138,24,-138,60,-138,61,-138,64,-138,67,-138,68,-138,69,-138,-1,0},
-    /*365*/{0,-134,8,-134,-1,0},
-    /*366*/{67,368,-1,0},
-    /*367*/{64,369,-1,0},
-    /*368*/{1,-136,2,-136,4,-136,6,-136,7,-136,9,-136,12,-136,13,-136,19,-136,20,-136,21,-136,22,-136,24,-136,60,-136,61,-136,64,-136,67,-136,68,-136,69,-136,-1,0},
-    /*369*/{36,-18,37,-18,43,-18,44,-18,45,-18,46,-18,47,-18,48,-18,49,-18,50,-18,51,-18,52,-18,53,-18,54,-18,55,-18,56,-18,57,-18,58,-18,59,-18,64,-18,67,-18,-1,0},
-    /*370*/{36,-18,37,-18,43,-18,44,-18,45,-18,46,-18,47,-18,48,-18,49,-18,50,-18,51,-18,52,-18,53,-18,54,-18,55,-18,56,-18,57,-18,58,-18,59,-18,64,-18,67,-18,-1,0},
-    /*371*/{36,-125,37,-125,64,-125,67,374,-1,0},
-    /*372*/{36,375,37,-127,64,-127,-1,0},
-    /*373*/{36,-124,37,-124,64,-124,-1,0},
-    /*374*/{67,13,-1,0},
-    /*375*/{37,377,64,-129,-1,0},
-    /*376*/{67,13,-1,0},
-    /*377*/{64,379,-1,0},
-    /*378*/{0,-122,5,-122,8,-122,23,-122,-1,0},
-    /*379*/{64,-128,-1,0},
-    /*380*/{37,-126,64,-126,-1,0},
-    /*381*/{36,-125,37,-125,64,-125,67,374,-1,0},
-    /*382*/{36,375,37,-127,64,-127,-1,0},
-    /*383*/{37,377,64,-129,-1,0},
-    /*384*/{64,386,-1,0},
-    /*385*/{0,-123,5,-123,8,-123,23,-123,-1,0},
-  };
+  protected static final short[][] _action_table = 
+    unpack_table(new String[] {
+    "\u0182\012\005\ufff7\015\ufff7\021\ufff7\022\004\001\002\004H\010\001\002\004\002\011\001\002\010\005\ufff4\015\012\021\ufff4\001\002\012" +
+    "\002\uff8b\007\uff8b\012\uff8b\031\014\001\002\004B\020\001\002\004\002\000\001\002\006D\021E\022\001\002\006\005\023\021\024" +
+    "\001\002\006$\026/\027\001\002\010\002\uffa3\007\030\012\uffa3\001\002\012\002\uff8c\007\uff8c\012\uff8c\031\014\001\002\012\002\uff89" +
+    "\007\uff89\012\uff89\031\uff89\001\002\010\005\ufff8\015\ufff8\021\ufff8\001\002\004B\035\001\002\004B\036\001\002&-\ufff0.\ufff0" +
+    "/\ufff00\ufff01\ufff02\ufff03\ufff04\ufff05\ufff06\ufff07\ufff08\ufff09\ufff0:\ufff0;\ufff0<\ufff0=\ufff0E\ufff0" +
+    "\001\002&-\ufff0.\ufff0/\ufff00\ufff01\ufff02\ufff03\ufff04\ufff05\ufff06\ufff07\ufff08\ufff09\ufff0:\ufff0;" +
+    "\ufff0<\ufff0=\ufff0E\ufff0\001\002\004\014\042\001\002,&\ufff0'\ufff0-\ufff0.\ufff0/\ufff00\ufff01\ufff02\ufff03" +
+    "\ufff04\ufff05\ufff06\ufff07\ufff08\ufff09\ufff0:\ufff0;\ufff0<\ufff0=\ufff0B\ufff0E\ufff0\001\002,&\ufff0'\ufff0" +
+    "-\ufff0.\ufff0/\ufff00\ufff01\ufff02\ufff03\ufff04\ufff05\ufff06\ufff07\ufff08\ufff09\ufff0:\ufff0;\ufff0<\ufff0" +
+    "=\ufff0B\ufff0E\ufff0\001\002&-\ufff0.\ufff0/\ufff00\ufff01\ufff02\ufff03\ufff04\ufff05\ufff06\ufff07\ufff08" +
+    "\ufff09\ufff0:\ufff0;\ufff0<\ufff0=\ufff0E\ufff0\001\002\010\002\uffa4\007\030\012\uffa4\001\002\010\002\uffa1\007\uffa1\012\uffa1\001" +
+    "\002\006\002\uff7f\012)\001\002\012\002\uff8a\007\uff8a\012\uff8a\031\uff8a\001\002\006\005\ufff6\021\ufff6\001\002\006\005\ufff5\021\ufff5\001" +
+    "\002\004E.\001\002,&\uffed'\uffed-0.1/2031425364758697" +
+    ":8;9<:=;><?=@B\uffedE\uffed\001\002\004E.\001\002\004E.\001\002\030\002\uffd7" +
+    "\007\uffd7\012\uffd7\020F\023\uffd7\024\uffd7\025\uffd7\027\uffd7\030\uffd7\031\uffd7\032\uffd7\001\002\012&\uff85'\uff85B\uff85EJ\001" +
+    "\002\012&\uff85'\uff85B\uff85EJ\001\002\014\006\uff98\025M\027N\030O\032P\001\002\004ET\001\002\010\002" +
+    "\uffa2\007\uffa2\012\uffa2\001\002&-\ufff0.\ufff0/\ufff00\ufff01\ufff02\ufff03\ufff04\ufff05\ufff06\ufff07\ufff08\ufff0" +
+    "9\ufff0:\ufff0;\ufff0<\ufff0=\ufff0E\ufff0\001\002(\003\uff76\004\uff76\006V\010\uff76\011\uff76\013\uff76\016\uff76\017\uff76\025" +
+    "\uff76\026\uff76\027\uff76\030\uff76\032\uff76>\uff76?\uff76B\uff76E\uff76F\uff76G\uff76\001\002\006\002\uff80\012)\001\002\006\002" +
+    "\uff7d\012\uff7d\001\002\004\002\001\001\002\010\035\ufff1'\ufff1B\ufff1\001\002\004B\134\001\002,&\uffe0'\uffe0-\uffe0." +
+    "\uffe0/\uffe00\uffe01\uffe02\uffe03\uffe04\uffe05\uffe06\uffe07\uffe08\uffe09\uffe0:\uffe0;\uffe0<\uffe0=\uffe0B" +
+    "\uffe0E\uffe0\001\002,&\uffe6'\uffe6-\uffe6.\uffe6/\uffe60\uffe61\uffe62\uffe63\uffe64\uffe65\uffe66\uffe67\uffe6" +
+    "8\uffe69\uffe6:\uffe6;\uffe6<\uffe6=\uffe6B\uffe6E\uffe6\001\002,&\uffe1'\uffe1-\uffe1.\uffe1/\uffe10\uffe11" +
+    "\uffe12\uffe13\uffe14\uffe15\uffe16\uffe17\uffe18\uffe19\uffe1:\uffe1;\uffe1<\uffe1=\uffe1B\uffe1E\uffe1\001\002," +
+    "&\uffe2'\uffe2-\uffe2.\uffe2/\uffe20\uffe21\uffe22\uffe23\uffe24\uffe25\uffe26\uffe27\uffe28\uffe29\uffe2:\uffe2" +
+    ";\uffe2<\uffe2=\uffe2B\uffe2E\uffe2\001\002,&\uffe9'\uffe9-\uffe9.\uffe9/\uffe90\uffe91\uffe92\uffe93\uffe94" +
+    "\uffe95\uffe96\uffe97\uffe98\uffe99\uffe9:\uffe9;\uffe9<\uffe9=\uffe9B\uffe9E\uffe9\001\002,&\uffe8'\uffe8-\uffe8" +
+    ".\uffe8/\uffe80\uffe81\uffe82\uffe83\uffe84\uffe85\uffe86\uffe87\uffe88\uffe89\uffe8:\uffe8;\uffe8<\uffe8=\uffe8" +
+    "B\uffe8E\uffe8\001\002,&\uffea'\uffea-\uffea.\uffea/\uffea0\uffea1\uffea2\uffea3\uffea4\uffea5\uffea6\uffea7" +
+    "\uffea8\uffea9\uffea:\uffea;\uffea<\uffea=\uffeaB\uffeaE\uffea\001\002,&\uffe7'\uffe7-\uffe7.\uffe7/\uffe70\uffe7" +
+    "1\uffe72\uffe73\uffe74\uffe75\uffe76\uffe77\uffe78\uffe79\uffe7:\uffe7;\uffe7<\uffe7=\uffe7B\uffe7E\uffe7\001\002" +
+    ",&\uffe5'\uffe5-\uffe5.\uffe5/\uffe50\uffe51\uffe52\uffe53\uffe54\uffe55\uffe56\uffe57\uffe58\uffe59\uffe5:" +
+    "\uffe5;\uffe5<\uffe5=\uffe5B\uffe5E\uffe5\001\002,&\uffe3'\uffe3-\uffe3.\uffe3/\uffe30\uffe31\uffe32\uffe33\uffe3" +
+    "4\uffe35\uffe36\uffe37\uffe38\uffe39\uffe3:\uffe3;\uffe3<\uffe3=\uffe3B\uffe3E\uffe3\001\002,&\uffe4'\uffe4-" +
+    "\uffe4.\uffe4/\uffe40\uffe41\uffe42\uffe43\uffe44\uffe45\uffe46\uffe47\uffe48\uffe49\uffe4:\uffe4;\uffe4<\uffe4=" +
+    "\uffe4B\uffe4E\uffe4\001\002,&\uffdf'\uffdf-\uffdf.\uffdf/\uffdf0\uffdf1\uffdf2\uffdf3\uffdf4\uffdf5\uffdf6\uffdf" +
+    "7\uffdf8\uffdf9\uffdf:\uffdf;\uffdf<\uffdf=\uffdfB\uffdfE\uffdf\001\002,&\uffde'\uffde-\uffde.\uffde/\uffde0" +
+    "\uffde1\uffde2\uffde3\uffde4\uffde5\uffde6\uffde7\uffde8\uffde9\uffde:\uffde;\uffde<\uffde=\uffdeB\uffdeE\uffde\001" +
+    "\002,&\uffdd'\uffdd-\uffdd.\uffdd/\uffdd0\uffdd1\uffdd2\uffdd3\uffdd4\uffdd5\uffdd6\uffdd7\uffdd8\uffdd9\uffdd" +
+    ":\uffdd;\uffdd<\uffdd=\uffddB\uffddE\uffdd\001\002,&\uffdc'\uffdc-\uffdc.\uffdc/\uffdc0\uffdc1\uffdc2\uffdc3" +
+    "\uffdc4\uffdc5\uffdc6\uffdc7\uffdc8\uffdc9\uffdc:\uffdc;\uffdc<\uffdc=\uffdcB\uffdcE\uffdc\001\002,&\uffdb'\uffdb" +
+    "-\uffdb.\uffdb/\uffdb0\uffdb1\uffdb2\uffdb3\uffdb4\uffdb5\uffdb6\uffdb7\uffdb8\uffdb9\uffdb:\uffdb;\uffdb<\uffdb" +
+    "=\uffdbB\uffdbE\uffdb\001\002,&\uffda'\uffda-\uffda.\uffda/\uffda0\uffda1\uffda2\uffda3\uffda4\uffda5\uffda6" +
+    "\uffda7\uffda8\uffda9\uffda:\uffda;\uffda<\uffda=\uffdaB\uffdaE\uffda\001\002,&\uffeb'\uffeb-\uffeb.\uffeb/\uffeb" +
+    "0\uffeb1\uffeb2\uffeb3\uffeb4\uffeb5\uffeb6\uffeb7\uffeb8\uffeb9\uffeb:\uffeb;\uffeb<\uffeb=\uffebB\uffebE\uffeb" +
+    "\001\002,&\uffee'\uffee-0.1/2031425364758697:8;9" +
+    "<:=;><?=@B\uffeeE\uffee\001\002\012&\uffef'\uffefB\uffefE\uffef\001\002\004B^\001\002\004" +
+    "B_\001\002\004E.\001\002\026\002\ufffd\007\ufffd\012\ufffd\023\ufffd\024\ufffd\025a\027\ufffd\030\ufffd\031\ufffd\032\ufffd\001\002" +
+    "\030\002\uffd8\007\uffd8\012\uffd8\020F\023\uffd8\024\uffd8\025\uffd8\027\uffd8\030\uffd8\031\uffd8\032\uffd8\001\002\030\002\uffd5\007\uffd5\012\uffd5" +
+    "\020\uffd5\023\uffd5\024\uffd5\025\uffd5\027\uffd5\030\uffd5\031\uffd5\032\uffd5\001\002\010&\uff86'\uff86B\uff86\001\002\010&d'\uff83" +
+    "B\uff83\001\002\010&d'\uff83B\uff83\001\002\004Dg\001\002\004Ei\001\002\004B\ufff9\001\002\006(l)" +
+    "m\001\002\004\006o\001\002\014\006\uff99\025M\027N\030O\032P\001\002\014\006\uff96\025\uff96\027\uff96\030\uff96\032\uff96" +
+    "\001\002\004Er\001\002\004Es\001\002\004\036t\001\002\006\002\uff7b\012\uff7b\001\002(\003\uff77\004\uff77\006\uff77\010" +
+    "\uff77\011\uff77\013\uff77\016\uff77\017\uff77\025\uff77\026\uff77\027\uff77\030\uff77\032\uff77>\uff77?\uff77B\uff77E\uff77F\uff77G\uff77\001" +
+    "\002(\003\uff76\004\uff76\006V\010\uff76\011\uff76\013\uff76\016\uff76\017\uff76\025\uff76\026\uff76\027\uff76\030\uff76\032\uff76>\uff76?\uff76" +
+    "B\uff76E\uff76F\uff76G\uff76\001\002&\003w\004x\010y\011z\013{\016|\017}\025~\026\177\027\200\030" +
+    "\201\032\202>\203?\204B\uff70E\205F\206G\207\001\002\006\002\uff7e\012\uff7e\001\002\004\014\ufff3\001\002,&\uffec" +
+    "'\uffec-\uffec.\uffec/\uffec0\uffec1\uffec2\uffec3\uffec4\uffec5\uffec6\uffec7\uffec8\uffec9\uffec:\uffec;\uffec" +
+    "<\uffec=\uffecB\uffecE\uffec\001\002\004\014\ufff2\001\002\030\002\uffd9\007\uffd9\012\uffd9\020\uffd9\023\uffd9\024\uffd9\025\uffd9\027\uffd9" +
+    "\030\uffd9\031\uffd9\032\uffd9\001\002\004B\216\001\002\004Dg\001\002\024\002\uffab\007\uffab\012\uffab\023\uffab\024\220\027\uffab\030" +
+    "\uffab\031\uffab\032\uffab\001\002\030\002\uffd6\007\uffd6\012\uffd6\020\uffd6\023\uffd6\024\uffd6\025\uffd6\027\uffd6\030\uffd6\031\uffd6\032\uffd6\001\002" +
+    "\004E.\001\002\006'\223B\uff81\001\002\006'\223B\uff81\001\002\004B\ufffc\001\002\004B\226\001\002\004D\227" +
+    "\001\002\004B\230\001\002\004B\231\001\002\004E.\001\002\004E.\001\002\006\006\uffc4E\234\001\002\004#\241" +
+    "\001\002\010\002\uff9e\007\uff9e\012\uff9e\001\002\014\006\uff97\025\uff97\027\uff97\030\uff97\032\uff97\001\002\010\037\242A\243B\uff9c\001" +
+    "\002\004B\245\001\002\004B\246\001\002\006\002\uff7c\012\uff7c\001\002(\003\uff78\004\uff78\006\uff78\010\uff78\011\uff78\013\uff78\016" +
+    "\uff78\017\uff78\025\uff78\026\uff78\027\uff78\030\uff78\032\uff78>\uff78?\uff78B\uff78E\uff78F\uff78G\uff78\001\002\004B\uff72\001\002" +
+    "\004E.\001\002\010 \251\042\252E\253\001\002\004G\255\001\002\004E\257\001\002\004E.\001\002\004G\263" +
+    "\001\002\004Dg\001\002\006,\266B\267\001\002\004Ei\001\002\004B\ufff9\001\002\014(\274)\275*\276+" +
+    "\277@\300\001\002\004B\303\001\002\004G\306\001\002\004C\311\001\002\016B\uff3eD\312E\313G\314H\315I" +
+    "\316\001\002\004C\317\001\002\004B\uff3f\001\002\004B\uff73\001\002\004B\uff74\001\002\004B\uff71\001\002\004B\uff40\001" +
+    "\002\004B\320\001\002\030\002\uffd4\007\uffd4\012\uffd4\020\uffd4\023\uffd4\024\uffd4\025\uffd4\027\uffd4\030\uffd4\031\uffd4\032\uffd4\001\002\004" +
+    "B\321\001\002\004\036\322\001\002\022\002\ufffa\007\ufffa\012\ufffa\023\ufffa\027\ufffa\030\323\031\ufffa\032\ufffa\001\002\006'\uff84B" +
+    "\uff84\001\002\004E.\001\002\004B\326\001\002\004B\327\001\002\014\006\uff95\025\uff95\027\uff95\030\uff95\032\uff95\001\002\004" +
+    "B\uffa5\001\002\014\006\uff94\025\uff94\027\uff94\030\uff94\032\uff94\001\002\014\006\uff93\025\uff93\027\uff93\030\uff93\032\uff93\001\002\004B" +
+    "\330\001\002\004B\331\001\002\004E\332\001\002\004\006\333\001\002\006\006\uffc5E\234\001\002\006\006\uffc2E\uffc2\001\002" +
+    "\004A\337\001\002\004B\340\001\002\004D\341\001\002\010D\342G\343H\344\001\002\004B\346\001\002(\003\uff7a" +
+    "\004\uff7a\006\uff7a\010\uff7a\011\uff7a\013\uff7a\016\uff7a\017\uff7a\025\uff7a\026\uff7a\027\uff7a\030\uff7a\032\uff7a>\uff7a?\uff7aB\uff7aE\uff7a" +
+    "F\uff7aG\uff7a\001\002\006\002\uff79\012\uff79\001\002\004\035\347\001\002\004B\uff69\001\002\004G\350\001\002\004G\351\001" +
+    "\002\004G\352\001\002\004B\uff6c\001\002\004B\uff45\001\002\004B\uff6b\001\002\012D\342E\353G\343H\344\001\002" +
+    "\004B\uff68\001\002\004B\uff44\001\002\004B\uff6a\001\002\004\034\356\001\002\004B\uff6d\001\002\004B\uff67\001\002\006\042" +
+    "\uff5dG\357\001\002\012\006\uff5c \uff5c!\uff5c\042\uff5c\001\002\012\006\uff58 \uff58!\362\042\uff58\001\002\004B\uff62\001\002" +
+    "\004B\uff66\001\002\004B\uff65\001\002\004E.\001\002\004E.\001\002\004G\367\001\002\004G\370\001\002\004B" +
+    "\371\001\002\006\006\uffc4E\234\001\002\004E\373\001\002\004G\uff32\001\002\004B\uff35\001\002\004G\376\001\002\006B" +
+    "\u0101G\u0102\001\002\004B\uff34\001\002\006E\u0103G\u0104\001\002\004B\uff6f\001\002\004B\uff37\001\002\010B\uff3aE\u0107" +
+    "G\u0108\001\002\006B\uff3cG\u0109\001\002\004B\uff3b\001\002\004B\uff36\001\002\010>\203?\204F\206\001\002(\003" +
+    "\uff75\004\uff75\006\uff75\010\uff75\011\uff75\013\uff75\016\uff75\017\uff75\025\uff75\026\uff75\027\uff75\030\uff75\032\uff75>\uff75?\uff75B\uff75E" +
+    "\uff75F\uff75G\uff75\001\002\024\002\ufffe\007\ufffe\012\ufffe\023\ufffe\024\ufffe\027\ufffe\030\ufffe\031\ufffe\032\ufffe\001\002\004E\u010b\001" +
+    "\002\004B\ufff9\001\002\020\002\uffd2\007\uffd2\012\uffd2\023\uffd2\027\uffd2\031\uffd2\032\u010d\001\002\004B\uff82\001\002\012\002\uff88\007" +
+    "\uff88\012\uff88\031\uff88\001\002\012\002\uff87\007\uff87\012\uff87\031\uff87\001\002\006\006\uffcbE\uffcb\001\002\006\006\uffcaE\uffca\001\002" +
+    "\006A\uffc0E\u0112\001\002\0048\u0113\001\002\004B\u0114\001\002\014\006\uff92\025\uff92\027\uff92\030\uff92\032\uff92\001\002\006\006" +
+    "\uffc3E\uffc3\001\002\014\032\u0115D\342E\353G\343H\344\001\002\010\002\uff9a\007\uff9a\012\uff9a\001\002\006A\243B\uff9c" +
+    "\001\002\014B\uff8fD\uff8fE\uff8fG\uff8fH\uff8f\001\002\014B\uff91D\uff91E\uff91G\uff91H\uff91\001\002\014B\uff90D" +
+    "\uff90E\uff90G\uff90H\uff90\001\002\004B\uff9d\001\002\022\002\uff9f\006\uff9b\007\uff9f\012\uff9f\025\uff9b\027\uff9b\030\uff9b\032\uff9b\001" +
+    "\002\006E\u011dG\u011e\001\002\004B\uff47\001\002\004B\uff48\001\002\004B\uff46\001\002\014B\uff8eD\uff8eE\uff8eG\uff8e" +
+    "H\uff8e\001\002\014B\uff8dD\uff8dE\uff8dG\uff8dH\uff8d\001\002\004B\uff41\001\002\004E\u011f\001\002\004\042\uff5e\001\002" +
+    "\012\006\uff58 \uff58!\362\042\uff58\001\002\004\042\u0121\001\002\006E\u0122G\u0123\001\002\004\006\u0124\001\002\010\006\uff56 " +
+    "\uff56\042\uff56\001\002\004B\u0127\001\002\004B\u0128\001\002\004E.\001\002\004E.\001\002\004E\uffbe\001\002\004\006" +
+    "\333\001\002\006A\uffb3E\u012c\001\002\004\006\333\001\002\004A\u012e\001\002\004C\u012f\001\002\006@\uff30G\uff30\001\002" +
+    "\006@\u0130G\376\001\002\006E\uff2aG\uff2a\001\002\004B\u0133\001\002\004B\u0134\001\002\004B\u0135\001\002\010@\uff27" +
+    "E\uff27G\uff27\001\002\010@\u0136E\u0103G\u0104\001\002\004B\uff38\001\002\004B\uff39\001\002\004B\uff3d\001\002\004B" +
+    "\uff6e\001\002\004B\u0139\001\002\004B\u013a\001\002\006(l)m\001\002\016\002\uffa9\007\uffa9\012\uffa9\023\uffa9\027\u013c\031" +
+    "\uffa9\001\002\020\002\uffd3\007\uffd3\012\uffd3\023\uffd3\027\uffd3\031\uffd3\032\u010d\001\002\020\002\uffd0\007\uffd0\012\uffd0\023\uffd0\027\uffd0\031" +
+    "\uffd0\032\uffd0\001\002\006\006\uffc4E\234\001\002\004A\uffbf\001\002\004B\uffcd\001\002\030\002\uffce\006\uffce\007\uffce\012\uffce\023" +
+    "\uffce\025\uffce\027\uffce\030\uffce\031\uffce\032\uffceE\uffce\001\002\004B\u0142\001\002\014B\uffb9D\uffb9E\uffb9G\uffb9H\uffb9\001" +
+    "\002\014B\u0144D\342E\353G\343H\344\001\002\014B\uffbaD\uffbaE\uffbaG\uffbaH\uffba\001\002\010\006\uffb7\032\uffb7" +
+    "E\uffb7\001\002\010\006\uffbc\032\u0115E\uffbc\001\002\006\006\uffc1E\uffc1\001\002\004B\u0147\001\002\004%\u0148\001\002\004%" +
+    "\u0149\001\002\004E\u014a\001\002\004\006\u0124\001\002\004B\u014c\001\002\004B\u014d\001\002\004B\u014e\001\002\004 \u014f\001" +
+    "\002\004B\uff61\001\002\010\006\uff5b \u0150\042\u0151\001\002\006\006\uffc9E\uffc9\001\002\006\006\uffc8E\uffc8\001\002\004B\u0154" +
+    "\001\002\004B\u0155\001\002\004B\uff64\001\002\004A\uffb2\001\002\004B\uff63\001\002\014\032\u0115D\342E\353G\343H" +
+    "\344\001\002\006E\u0157G\u0158\001\002\004C\u0159\001\002\004B\uff33\001\002\006@\uff31G\uff31\001\002\006E\uff29G\uff29" +
+    "\001\002\010@\uff26E\uff26G\uff26\001\002\010@\uff25E\uff25G\uff25\001\002\004C\u015a\001\002\004B\uff2b\001\002\010@" +
+    "\uff28E\uff28G\uff28\001\002\022\002\uffac\007\uffac\012\uffac\023\uffac\027\uffac\030\uffac\031\uffac\032\uffac\001\002\020\002\ufffb\007\ufffb\012" +
+    "\ufffb\023\ufffb\027\ufffb\031\ufffb\032\ufffb\001\002\006\006\uffccE\uffcc\001\002\004Ei\001\002\014\002\uffb0\007\uffb0\012\uffb0\023\u015c" +
+    "\031\uffb0\001\002\016\002\uffaa\007\uffaa\012\uffaa\023\uffaa\027\u013c\031\uffaa\001\002\016\002\uffa7\007\uffa7\012\uffa7\023\uffa7\027\uffa7\031\uffa7" +
+    "\001\002\020\002\uffd1\007\uffd1\012\uffd1\023\uffd1\027\uffd1\031\uffd1\032\uffd1\001\002\004\006\333\001\002\006\006\uffb5E\uffb5\001\002\006" +
+    "\006\uffc4E\234\001\002\006\006\uffbdE\uffbd\001\002\014B\uffbbD\uffbbE\uffbbG\uffbbH\uffbb\001\002\010\006\uffb8\032\uffb8E" +
+    "\uffb8\001\002\010\002\uffa0\007\uffa0\012\uffa0\001\002\004E\u0163\001\002\004G\u0164\001\002\010\035\uff49\037\u0165B\uff49\001\002\004" +
+    "B\uff60\001\002\012\006\uff5f \uff5f!\uff5f\042\uff5f\001\002\010\006\uff59 \uff59\042\uff59\001\002\010\006\uff5a \uff5a\042\uff5a\001" +
+    "\002\004B\uff4e\001\002\004E\u0167\001\002\004E\u0168\001\002\010\006\uff57 \uff57\042\uff57\001\002\004B\u0169\001\002\006\006" +
+    "\uffc7E\uffc7\001\002\006\006\uffc6E\uffc6\001\002\004\006\uffb4\001\002\004B\u016a\001\002\004B\u016b\001\002\006E\u016cG\u016d" +
+    "\001\002\006E\u016eG\u016f\001\002\004B\u0170\001\002\004D\u0171\001\002\012\002\uffff\007\uffff\012\uffff\031\uffff\001\002\014\002" +
+    "\uffb1\007\uffb1\012\uffb1\023\u015c\031\uffb1\001\002\014\002\uffae\007\uffae\012\uffae\023\uffae\031\uffae\001\002\016\002\uffa8\007\uffa8\012\uffa8\023" +
+    "\uffa8\027\uffa8\031\uffa8\001\002\020\002\uffcf\007\uffcf\012\uffcf\023\uffcf\027\uffcf\031\uffcf\032\uffcf\001\002\004\006\333\001\002\004\033\u0174" +
+    "\001\002\004\033\u0175\001\002\004D\u0176\001\002\006\035\u0177B\uff4c\001\002\010B\uff51E\u0178G\u0179\001\002\010B\uff54E" +
+    "\u017aG\u017b\001\002\010\006\uff55 \uff55\042\uff55\001\002\006@\uff2fG\uff2f\001\002\006@\uff2eG\uff2e\001\002\004B\uff2d\001" +
+    "\002\004B\uff2c\001\002\004B\uff24\001\002\004B\uff23\001\002\016\002\uffa6\007\uffa6\012\uffa6\023\uffa6\027\uffa6\031\uffa6\001\002\004" +
+    "B\u017c\001\002\014\002\uffaf\007\uffaf\012\uffaf\023\uffaf\031\uffaf\001\002\010\006\uffb6\032\uffb6E\uffb6\001\002\004E\u017d\001\002\004" +
+    "G\u017e\001\002\006\035\uff4aB\uff4a\001\002\006E\u017fG\u0180\001\002\004B\uff50\001\002\004B\uff4f\001\002\004B\uff53\001" +
+    "\002\004B\uff52\001\002\014\002\uffad\007\uffad\012\uffad\023\uffad\031\uffad\001\002\004B\uff43\001\002\004B\uff42\001\002\004%\u0181" +
+    "\001\002\004%\u0182\001\002\004E\u0183\001\002\004G\u0184\001\002\004B\uff4d\001\002\004B\uff4b\001\002" });
 
   /** access to parse action table */
   public short[][] action_table() {return _action_table;}
 
+  /** parse action table in comb vector form */
+  protected static final short[][] _action_comb = 
+    unpack_table(new String[] {
+    "\004\u0182\u0263\027\005\u0293\u04e76\026e\003\u0258 \u0546\u054a\u029aOb\u0350\u0369\023\002\033\u0382\u027e\u02c3\003\u0550\014\u02adx4" +
+    "\221\227\002\u0276\u034f\u02dc\260\u0320\u039b\u0263\004\u02bd>\u02c2\306Mf\177\230\261\312\343\374\u0115\u012e\u0147\u0160\u0179\u0192\u01ab\u01c4\u01dd" +
+    "\u01f6\u020f\u03b5\311\314\334\u0432\u029c\u02f9\u03c1\u03e9\u040f\343\370\376\035\u014d\u02e2\u0339\u0111\u0127\u0154\u02ca\u027b\u02c0\u03d6\u02db\u0179\u0228\u017f\u0356\u015c" +
+    "\u0160\u0446\u03e8\u0172\200\231\u0178\u018e\u0192\u01a7\u01ad\u01bd\u01c3\u0269\u01f8\u033f\u033f\u03df\u01df\u01f2\u02f3\u02d8\u01f8\u0208\u02e8\u0209\u020d\u020e\u023b\u0249\227\u0268" +
+    "\u027a\003\u02a2\u02b1\u02be\u0252\u02d6\u02ef\u02f4\u0305\u0306\u0310\u0313\u040f\u031c\u035a\u0465\313\u0349\u0366\u037f\u03dc\u0382\u03ef\u03f3\u039b\u03a1\u03a4\u0408\u02d3\u0315\u03ec" +
+    "\u03fc\u040a\u022f\u0414\u031d\u031a\u0445\u0430\u042d\u044a\u0472\u047b\u0485\u048f\u0247\u04b0\u04b1\u04bb\u04ef\u04d7\u04da\u02f3\004\u02b1\u04dd\u04df\u04e0\u04e5\u04eb\u04f4\u04f8\u04ff" +
+    "\u0323\u0523\u0527\u052e\u052a\255\u0532\337\u0534\u0535\027\370\u0536\u0538\u0333\u0335\u0451\u0536\u053a\u0479\u053b\u0554\u0556\u0366\u03e0\u02ca\u0546\u0541\u043d\u03ff\u034b\u0410" +
+    "\u0117\u0365\u037e\u04b3\u0542\011\u012a\u0547\u0548\u0549\u04ba\u04c1\u054a\u0548\u056c\u02ca\u056d\u0143\u058a\u0418\u054f\u0550\u054e\u054f\u0550\u0590\u045a\u0591\u0557\u0556\u03cc\u03f0" +
+    "\u015c\u0558\u0559\u055a\u03ec\u041c\u055b\u055c\u055d\u055e\u055f\u0560\u0194\u04b5\u0483\u048d\u0449\u0562\u0562\u0428\u0563\u04c8\u04cf\u04d6\u0460\u046a\u0492\u0564\u0582\u0583\u0564\u05a4" +
+    "\u0569\u056a\u056b\u058e\u056d\u04ad\u049c\u04a3\u056e\u056f\u0570\u0572\u0572\u04df\u018e\u0572\u0574\u0483\u01a7\u042e\u0494\u0574\u0576\u049e\u046f\u0497\u04a6\u0574\u051e\u04bf\u04c9\u04a1" +
+    "\u05b4\u04fe\u0501\u052d\u04e7\u0471\u0560\u0576\u0575\u04d0\u057b\u030e\u055f\u0560\u057c\u057a\u057b\u0565\u057f\u0530\u0534\u05bc\u0581\u0582\u01c0\u01d9\u0583\u0582\u055a\u052b\u0532\u04d3" +
+    "\u04ab\u05c1\u05ad\u05ae\u0586\u031f0I\u0566\u04ce\u050e\u0589\u058a\u058b\u058c\u04dd\u058d\u0536\u047b\u058b\u058a\u0325\u01f2\u0590\u0591\u0592\u0593\u0540\u0594\u0595\u05b3\u05b4" +
+    "\u0595\u0594\u059a\u059b\u0182\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+    "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+    "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+    "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+    "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+    "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+    "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+    "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+    "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+    "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+    "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+    "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+    "\002\002\002\002\002\002\002\u05da\042\032*\004\012\042\266\345\042\032*\345\345\034\042\345\012\042\042\042\010\042\042\042" +
+    "\042\034\345\024\345\345\014\345\266\266\266\014\025\025\014\201\201\201\201\025\025\025\025\025\025\025\025\025\025\025\025\025" +
+    "\025\025\025\025,\026\026\201\025OO\025\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\312\037\037" +
+    "\312\026\312\003\026\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\u0166//\u0166\037\u0166\007\037//" +
+    "///////////////\u016700\u0167/\u0167\020/000000000" +
+    "00000000\02111d0\011\01101111111111111111" +
+    "1\03622e1d~122222222222222222 33~2e" +
+    "!233333333333333333\30544\2213\305&344444" +
+    "444444444444.55C4\221D4555555555555" +
+    "55555E66\3075\307L566666666666666666\3137" +
+    "7M6\313N677777777777777777P88S7\340\34078" +
+    "8888888888888888T99\3468\346U899999999" +
+    "999999999[::\3619\361]9:::::::::::::::" +
+    "::_;;\u0100:\u0100`:;;;;;;;;;;;;;;;;;c<<f;" +
+    "\u010c\u010c;<<<<<<<<<<<<<<<<<g==\u012e<\u012eh<====" +
+    "=============i>>\u0132=\u0132j=>>>>>>>>>>>" +
+    ">>>>>>k??\u0158>\u0158l>?????????????????n" +
+    "@@\u0159?\u0159r?@@@@@@@@@@@@@@@@@sAA\u0176@\u0176v@" +
+    "AAAAAAAAAAAAAAAAAw\134\134yAz{A\134\134\134\134\134\134\134" +
+    "\134\134\134\134\134\134\134\134\134\134))\002)\134))\134)m\002))\242\002\002\242\242))))" +
+    "\013)WW\030W|WW\030W\013\030WW\256\256}\256\256WWWW\205W\205\205\005\205\205\205" +
+    "##G\017\005))G\005)G\017)))\017G\177mGGG\035GGGG\267#WW#" +
+    "\200W\035+WWWXX\031X+XX\031XV\031XX\357\267\267\267VXXXX\235Xu" +
+    "uZu-uu%u\202ZuuQ-\357\357\357uuuu%u%%t%Q\203QQH" +
+    "QtXXH\204XH-XXXxHx\331HHH\331HHHH\u014b\265uu\235\206u\236" +
+    "\245uuu\244\244'\244\245\244\244'\244\300'\244\244x\u014b\u014b\u014b\207\244\244\244\244\210\244\317\317\265\317" +
+    "\u0165\317\317R\317o\u0175\317\317po\211\212o\317\317\317\317R\317RR\213Rp\214pp^p\236\244" +
+    "\244^\216\244^\u0165\244\244\244\336^\u0175\300^^^\327^^^^\316\316\317\317$$\317\217\316\317\317" +
+    "\317\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\222\336\336$\336\336$\022\023\023\023\023\023\023" +
+    "\023\023\023\023\023\023\023\023\023\023\023\341\223\341\341\327\341\341\023\027\027\027\027\027\027\027\027\027\027\027\027\027" +
+    "\027\027\027\027\342\224\342\342\226\342\342\027(((((((((((((((((YYB" +
+    "B\231YY(Y\225\232YY\330II\233bYYYYbY\225b\225\225\227\225Bb\230Bb" +
+    "bbqbbbbI\227\335\227\227\230\227\230\230\376\230\234JJ\215\337\376YY\215\337Y\215\337Y" +
+    "YY\363\215qq\215\215\215\330\215\215\215\215\u0113J\u0104\237\u0113\u0113\377\u0104\u0113\u0104FKK\377\363F\363\u0113" +
+    "F\u0113\240\u0113\u0113\u0113\u0113\334\335FFFaFFFFa\241\u0110aK\334\320\334\334\243\334\320aa\320" +
+    "\u0105aaaa\u0105\246\u0105\320\320\u0118\220\320\320\320\320\220\u0113\u0133\220\u0119\u0138\247\u0133\250\u0133\u0138\u0145\220\u0138\u0118\323" +
+    "\220\220\220\220\323\u0172\u0138\323\u0119\u010e\u0138\u0138\u0138\u0138\u010e\u0145\323\u010e\u0110\u010f\323\251\323\323\u010f\u0172\u010e\u010f\u011a\u0139\u010e\372" +
+    "\u010e\u010e\u0139\372\u010f\u0139\u0126\u013f\u010f\u0118\u010f\u010f\u013f\u0127\u0139\u013f\u013a\u0160\u0139\u0119\u0139\u0139\u0160\u0125\u013f\u0160\u0145\u010d\u013f\252\u013f\u013f" +
+    "\u010d\253\u0160\u010d\u0172\u013d\u0160\u0131\u0160\u0160\u013d\254\u010d\u013d\u0131\u013e\u010d\u0125\u010d\u0125\u013e\255\u013d\u013e\u0134\u015f\u013d\u011a\u013d\u0134\u015f\u0134" +
+    "\u013e\u015f\u0137\u016f\u013e\u0126\u013e\u0137\u016f\u0137\u015f\u016f\u0127\006\u015f\u013a\u015f\u0149\006\u0149\u016f\006\257\260\u016f\343\u016f\343\343\u012d\343\343" +
+    "\352\261\352\352\006\352\352\353\u0141\353\353\u0142\353\353\u0115\262\u0115\u0115\u0169\u0115\u0115\u0116\u0149\u0116\u0116\u0169\u0116\u0116\u0117\263\u0117\u0117" +
+    "\264\u0117\u0117\270\u013c\271\272\u012d\u012d\u013c\u012d\u012d\u013c\u0144\273\u0144\u0144\u015d\u0144\u0144\274\u013c\u015d\u0143\u015e\u015d\u0153\u013c\u0171\u015e\u0154\275" +
+    "\u015e\u0171\u015d\276\u0171\277\u017b\u0141\u015d\u015e\u0142\u017b\015\u0171\u017b\u015e\016\015\u016a\u0171\015\016\033\u017b\016\u016a\325\033\326\u017b\033\325" +
+    "\u015c\326\325\015\326\u015c\u0146\016\u015c\u014c\u014d\u0146\301\033\u0146\u0151\u0168\325\302\326\303\304\u0143\u015c\306\u0153\310\311\314\u0154\315\321" +
+    "\322\324\332\u014c\u014d\u014c\u014d\333\344\u0151\u0168\u0151\u0168\347\350\351\354\355\356\360\362\364\365\366\367\370\371\373\374\375\u0101\u0102" +
+    "\u0103\u0106\u0107\u0108\u0109\u010a\u010b\u0111\u0112\u0114\u011b\u011c\u011d\u011e\u011f\u0120\u0121\u0122\u0123\u0124\u0128\u0129\u012a\u012b\u012c\u012f\u0130\u0135\u0136\u013b\u0140\u0147" +
+    "\u0148\u014a\u014e\u014f\u0150\u0152\u0155\u0156\u0157\u015a\u015b\u0161\u0162\u0163\u0164\u016b\u016c\u016d\u016e\u0170\u0173\u0174\u0177\u0178\u0179\u017a\u017c\u017d\u017e\u017f\u0180\u0181" +
+    "\u0182\u0183\u05da\uffd7\uff7f\uff80\011\023\uffd7\uff5c\uff9f\uffd7))\uff9b\uff9f\ufff6F\uff9f\024\uffd7\uffd7\uffd7\000\uffd7\uffd7\uffd7\uffd7\ufff6\uff9b\042\uff9b" +
+    "\uff9b\uffa3\uff9b\uff5c\uff5c\uff5c\030\ufff0\ufff0\uffa3\274\275\276\277\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\001" +
+    "\ufff0\ufff0\300\ufff0lm\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\uff3a\uffed\uffed\u0107\ufff0\u0108\010\ufff0" +
+    "0123456789:;<=>?@\uff51\uffe0\uffe0\u0178\uffed\u0179\020\uffed\uffe0\uffe0\uffe0\uffe0\uffe0\uffe0\uffe0" +
+    "\uffe0\uffe0\uffe0\uffe0\uffe0\uffe0\uffe0\uffe0\uffe0\uffe0\uff54\uffe6\uffe6\u017a\uffe0\u017b\035\uffe0\uffe6\uffe6\uffe6\uffe6\uffe6\uffe6\uffe6\uffe6\uffe6\uffe6\uffe6\uffe6\uffe6\uffe6" +
+    "\uffe6\uffe6\uffe6\036\uffe1\uffe1\223\uffe6\021\022\uffe6\uffe1\uffe1\uffe1\uffe1\uffe1\uffe1\uffe1\uffe1\uffe1\uffe1\uffe1\uffe1\uffe1\uffe1\uffe1\uffe1\uffe1.\uffe2\uffe2\223" +
+    "\uffe1\uff81\266\uffe1\uffe2\uffe2\uffe2\uffe2\uffe2\uffe2\uffe2\uffe2\uffe2\uffe2\uffe2\uffe2\uffe2\uffe2\uffe2\uffe2\uffe2.\uffe9\uffe9\267\uffe2\uff81.\uffe2\uffe9\uffe9\uffe9" +
+    "\uffe9\uffe9\uffe9\uffe9\uffe9\uffe9\uffe9\uffe9\uffe9\uffe9\uffe9\uffe9\uffe9\uffe9\u0101\uffe8\uffe8\uff84\uffe9\u0102T\uffe9\uffe8\uffe8\uffe8\uffe8\uffe8\uffe8\uffe8\uffe8\uffe8\uffe8" +
+    "\uffe8\uffe8\uffe8\uffe8\uffe8\uffe8\uffe8\134\uffea\uffea^\uffe8\uff84_\uffe8\uffea\uffea\uffea\uffea\uffea\uffea\uffea\uffea\uffea\uffea\uffea\uffea\uffea\uffea\uffea\uffea\uffea" +
+    ".\uffe7\uffe7\u0103\uffea\u0104g\uffea\uffe7\uffe7\uffe7\uffe7\uffe7\uffe7\uffe7\uffe7\uffe7\uffe7\uffe7\uffe7\uffe7\uffe7\uffe7\uffe7\uffe7\uff3c\uffe5\uffe5i\uffe7\u0109\ufff9" +
+    "\uffe7\uffe5\uffe5\uffe5\uffe5\uffe5\uffe5\uffe5\uffe5\uffe5\uffe5\uffe5\uffe5\uffe5\uffe5\uffe5\uffe5\uffe5o\uffe3\uffe3r\uffe5\243\uff9c\uffe5\uffe3\uffe3\uffe3\uffe3\uffe3\uffe3" +
+    "\uffe3\uffe3\uffe3\uffe3\uffe3\uffe3\uffe3\uffe3\uffe3\uffe3\uffe3s\uffe4\uffe4\u011d\uffe3\u011et\uffe3\uffe4\uffe4\uffe4\uffe4\uffe4\uffe4\uffe4\uffe4\uffe4\uffe4\uffe4\uffe4\uffe4" +
+    "\uffe4\uffe4\uffe4\uffe4\ufff3\uffdf\uffdf\u0122\uffe4\u0123\ufff2\uffe4\uffdf\uffdf\uffdf\uffdf\uffdf\uffdf\uffdf\uffdf\uffdf\uffdf\uffdf\uffdf\uffdf\uffdf\uffdf\uffdf\uffdf\216\uffde\uffde" +
+    "\uff2a\uffdf\uff2ag\uffdf\uffde\uffde\uffde\uffde\uffde\uffde\uffde\uffde\uffde\uffde\uffde\uffde\uffde\uffde\uffde\uffde\uffde.\uffdd\uffdd\ufffc\uffdelm\uffde\uffdd\uffdd" +
+    "\uffdd\uffdd\uffdd\uffdd\uffdd\uffdd\uffdd\uffdd\uffdd\uffdd\uffdd\uffdd\uffdd\uffdd\uffdd\226\uffdc\uffdc\u0157\uffdd\u0158\227\uffdd\uffdc\uffdc\uffdc\uffdc\uffdc\uffdc\uffdc\uffdc\uffdc" +
+    "\uffdc\uffdc\uffdc\uffdc\uffdc\uffdc\uffdc\uffdc\230\uffdb\uffdb\uff29\uffdc\uff29\231\uffdc\uffdb\uffdb\uffdb\uffdb\uffdb\uffdb\uffdb\uffdb\uffdb\uffdb\uffdb\uffdb\uffdb\uffdb\uffdb\uffdb" +
+    "\uffdb.\uffda\uffda\u016c\uffdb\u016d.\uffdb\uffda\uffda\uffda\uffda\uffda\uffda\uffda\uffda\uffda\uffda\uffda\uffda\uffda\uffda\uffda\uffda\uffda\241\uffeb\uffeb\u016e\uffda\u016f" +
+    "\245\uffda\uffeb\uffeb\uffeb\uffeb\uffeb\uffeb\uffeb\uffeb\uffeb\uffeb\uffeb\uffeb\uffeb\uffeb\uffeb\uffeb\uffeb\246\uffee\uffee\u017f\uffeb\u0180\uff72\uffeb01234" +
+    "56789:;<=>?@.\uffec\uffec\255\uffee\257.\uffee\uffec\uffec\uffec\uffec\uffec\uffec\uffec\uffec\uffec\uffec\uffec\uffec" +
+    "\uffec\uffec\uffec\uffec\uffec\uff76\uff76\ufff7V\uffec\uff76\uff76\uffec\uff76\uffc4\ufff7\uff76\uff76\342\ufff7\004\343\344\uff76\uff76\uff76\uff76\026\uff76\uff77\uff77\uffa4" +
+    "\uff77\263\uff77\uff77\030\uff77\027\uffa4\uff77\uff77\342\353g\343\344\uff77\uff77\uff77\uff77\uff3e\uff77\312\313\ufff4\314\315\316\uff85\uff85\uffd8\ufff8\012" +
+    "\uff76\uff76\uffd8\ufff4\uff76\uffd8\ufff8\uff76\uff76\uff76\ufff8Fi\234\uffd8\uffd8\uffd8\ufff5\uffd8\uffd8\uffd8\uffd8\uff58\uff85\uff77\uff77J\ufff9\uff77\ufff5\uff7d\uff77" +
+    "\uff77\uff77\uff76\uff76\uffa1V\uff7d\uff76\uff76\uffa1\uff76\uff7b\uffa1\uff76\uff76\uff58\uff58\362\uff58\uff7b\uff76\uff76\uff76\uff76\uffc5\uff76\uff78\uff78\uff7e\uff78\ufff1\uff78" +
+    "\uff78\uff98\uff78\303\uff7e\uff78\uff78\uff99\ufff1\uff58\362\uff58\uff78\uff78\uff78\uff78M\uff78NO\uff7cPM\306NO\uffd5P\uff7c\uff76\uff76\uffd5" +
+    "\311\uff76\uffd5\ufff1\uff76\uff76\uff76\251\uffd5\252\uffc0\uffd5\uffd5\uffd5\u0112\uffd5\uffd5\uffd5\uffd5\uff5f\uff5d\uff78\uff78\234\317\uff78\uffc2\uff79\uff78\uff78\uff78\uff7a" +
+    "\uff7a\uffa2\uff7a\uff79\uff7a\uff7a\uffa2\uff7a\uffc4\uffa2\uff7a\uff7a\253\uff5f\uff5f\uff5f\uff3f\uff7a\uff7a\uff7a\uff7a\uff73\uff7a\uff75\uff75\357\uff75\u0177\uff75\uff75\uff96\uff75" +
+    "\uff9e\uff4a\uff75\uff75\uff97\uff9e\uff74\uff71\uff9e\uff75\uff75\uff75\uff75\uff96\uff75\uff96\uff96\uff40\uff96\uff97\320\uff97\uff97\uffd9\uff97\uffc2\uff7a\uff7a\uffd9\321\uff7a\uffd9" +
+    "\uff4c\uff7a\uff7a\uff7a\u0115\uffd9\uff4a\234\uffd9\uffd9\uffd9\uffcb\uffd9\uffd9\uffd9\uffd9\203\204\uff75\uff75\uff85\uff85\uff75\322\206\uff75\uff75\uff75\ufff0\ufff0\ufff0\ufff0" +
+    "\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0.\342\353\uff85\343\344J\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0" +
+    "\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\uff8f\326\uff8f\uff8f\uffcb\uff8f\uff8f\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\uff91" +
+    "\327\uff91\uff91\uffa5\uff91\uff91\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0\ufff0wx\uffef\uffef\330yz\ufff0" +
+    "{\uff95\331|}\uffca\uff86\uff86\332\uffd6~\177\200\201\uffd6\202\uff95\uffd6\uff95\uff95\uff94\uff95\uffef\uffd6\uff93\uffef\uffd6\uffd6\uffd6\242\uffd6\uffd6" +
+    "\uffd6\uffd6\uff86\uff94\uffc3\uff94\uff94\uff93\uff94\uff93\uff93\uff30\uff93\333d\uff83\uffd4\uff9a\uff30\203\204\uffd4\uff9a\uff70\uffd4\uff9a\205\206\207\uff56\uffd4\243" +
+    "\uff9c\uffd4\uffd4\uffd4\uffca\uffd4\uffd4\uffd4\uffd4\uffce\uff83\uff27\337\uffce\uffce\u0130\uff27\uffce\uff27\ufffdd\uff83\376\uff56\ufffd\uff56\uffce\ufffd\uffce\340\uffce\uffce" +
+    "\uffce\uffce\uff92\uffc3\ufffd\ufffda\uffab\ufffd\ufffd\ufffd\ufffd\uffab\341\uffc4\uffab\uff83\uff92\ufffe\uff92\uff92\346\uff92\ufffe\uffab\220\ufffe\u0136\uffab\uffab\uffab\uffab" +
+    "\u0103\347\u0104\ufffe\ufffe\uffb7\ufffa\ufffe\ufffe\ufffe\ufffe\ufffa\uffce\uff26\ufffa\uffbc\uffac\uff69\uff26\350\uff26\uffac\uffb8\ufffa\uffac\uffb7\uffd2\ufffa\323\ufffa\ufffa\uffd2" +
+    "\uffb6\uffac\uffd2\u0115\uffd3\uffac\uffac\uffac\uffac\uffd3\uffb8\uffd2\uffd3\234\uffd0\uffd2\351\uffd2\u010d\uffd0\uffb6\uffd3\uffd0\uffc1\ufffb\uffd3\uffb3\uffd3\u010d\ufffb\u012c\uffd0" +
+    "\ufffb\uffc9\uffd1\uffd0\uffb7\uffd0\uffd0\uffd1\uffc8\ufffb\uffd1\uffcc\uffcf\ufffb\uffbc\ufffb\ufffb\uffcf\uff5b\uffd1\uffcf\uffb8\uffa9\uffd1\352\uffd1\uffd1\uffa9\uff6c\uffcf\uffa9\uffb6" +
+    "\uffaa\uffcf\uff31\uffcf\uffcf\uffaa\uff45\uffa9\uffaa\uff31\uffa7\u013c\u0150\uffa9\u0151\uffa7\uff6b\uffaa\uffa7\uff25\uffa8\u013c\uffc1\uffaa\uff25\uffa8\uff25\uffa7\uffa8\uff28\uffa6\uffa7" +
+    "\uffc9\uffa7\uff28\uffa6\uff28\uffa8\uffa6\uffc8\uff8b\uffa8\uffcc\uffa8\uff49\uff8b\u0165\uffa6\uff8b\uff68\uff44\uffa6\uff90\uffa6\uff90\uff90\u0115\uff90\uff90\uff8e\uff6a\uff8e\uff8e\014" +
+    "\uff8e\uff8e\uff8d\uffb5\uff8d\uff8d\uffc4\uff8d\uff8d\uffb9\356\uffb9\uffb9\uff2f\uffb9\uffb9\u0144\uff49\342\353\uff2f\343\344\uffba\uff6d\uffba\uffba\uff67\uffba\uffba\uff62\uffb0" +
+    "\uff66\uff65\342\353\uffb0\343\344\uffb0\uffbb.\uffbb\uffbb\uffb1\uffbb\uffbb.\u015c\uffb1\uffbd\uffae\uffb1\uffc7\uffb0\uffaf\uffae\uffc6\367\uffae\uffaf\u015c\370\uffaf" +
+    "\371\uffad\uffb5\uffb1\uffae\234\uffad\uff8c\uffaf\uffad\uffae\uff89\uff8c\uff2e\uffaf\uff8c\uff89\uff8a\uffad\uff89\uff2e\uff88\uff8a\uff87\uffad\uff8a\uff88\uffff\uff87\uff88\014\uff87" +
+    "\uffff\uffa0\uff89\uffff\uff59\uff5a\uffa0\373\uff8a\uffa0\uff57\uff55\uff88\uff32\uff87\uff35\376\uffbd\uffff\uff34\uffc7\uff6f\uff37\uff3b\uffc6\uff36\u010b\ufff9\uff82\u0113\uff59\uff5a" +
+    "\uff59\uff5a\u0114\uff9d\uff57\uff55\uff57\uff55\uff47\uff48\uff46\uff41\u011f\uff5e\u0121\u0124\u0127\u0128..\uffbe\333\333\u012e\u012f\u0133\u0134\u0135\uff38\uff39\uff3d\uff6e" +
+    "\u0139\u013a\uffbf\uffcd\u0142\u0147\u0148\u0149\u014a\u0124\u014c\u014d\u014e\u014f\uff61\u0154\u0155\uff64\uffb2\uff63\u0159\uff33\u015a\uff2bi\333\u0163\u0164\uff60\uff4e\u0167\u0168" +
+    "\u0169\uffb4\u016a\u016b\u0170\u0171\333\u0174\u0175\u0176\uff2d\uff2c\uff24\uff23\u017c\u017d\u017e\uff50\uff4f\uff53\uff52\uff43\uff42\u0181\u0182\u0183\u0184\uff4d\uff4b" });
+
+  /** access to comb vector action table */
+  public short[][] action_comb() {return _action_comb;}
+
   /** reduce_goto table */
-  protected static final short[][] _reduce_table = {
-    /*0*/{25,2,51,4,56,1,-1,-1},
-    /*1*/{70,135,71,136,72,134,-1,-1},
-    /*2*/{-1,-1},
-    /*3*/{-1,-1},
-    /*4*/{38,6,-1,-1},
-    /*5*/{-1,-1},
-    /*6*/{13,9,-1,-1},
-    /*7*/{104,123,105,99,-1,-1},
-    /*8*/{104,98,105,99,-1,-1},
-    /*9*/{42,10,-1,-1},
-    /*10*/{22,17,23,18,24,15,-1,-1},
-    /*11*/{1,13,-1,-1},
-    /*12*/{-1,-1},
-    /*13*/{-1,-1},
-    /*14*/{-1,-1},
-    /*15*/{-1,-1},
-    /*16*/{1,96,-1,-1},
-    /*17*/{54,20,-1,-1},
-    /*18*/{24,19,-1,-1},
-    /*19*/{-1,-1},
-    /*20*/{53,26,-1,-1},
-    /*21*/{55,23,-1,-1},
-    /*22*/{-1,-1},
-    /*23*/{-1,-1},
-    /*24*/{-1,-1},
-    /*25*/{-1,-1},
-    /*26*/{59,28,-1,-1},
-    /*27*/{60,91,-1,-1},
-    /*28*/{73,32,74,30,75,29,77,31,-1,-1},
-    /*29*/{-1,-1},
-    /*30*/{75,90,77,31,-1,-1},
-    /*31*/{80,61,81,57,82,60,88,58,-1,-1},
-    /*32*/{61,43,62,44,63,41,-1,-1},
-    /*33*/{78,36,-1,-1},
-    /*34*/{1,39,-1,-1},
-    /*35*/{1,37,-1,-1},
-    /*36*/{-1,-1},
-    /*37*/{-1,-1},
-    /*38*/{-1,-1},
-    /*39*/{-1,-1},
-    /*40*/{-1,-1},
-    /*41*/{-1,-1},
-    /*42*/{64,54,-1,-1},
-    /*43*/{52,49,57,47,58,48,-1,-1},
-    /*44*/{63,45,-1,-1},
-    /*45*/{-1,-1},
-    /*46*/{-1,-1},
-    /*47*/{58,50,-1,-1},
-    /*48*/{-1,-1},
-    /*49*/{-1,-1},
-    /*50*/{-1,-1},
-    /*51*/{-1,-1},
-    /*52*/{-1,-1},
-    /*53*/{-1,-1},
-    /*54*/{-1,-1},
-    /*55*/{-1,-1},
-    /*56*/{-1,-1},
-    /*57*/{82,89,88,58,-1,-1},
-    /*58*/{-1,-1},
-    /*59*/{-1,-1},
-    /*60*/{-1,-1},
-    /*61*/{76,63,90,62,-1,-1},
-    /*62*/{-1,-1},
-    /*63*/{-1,-1},
-    /*64*/{-1,-1},
-    /*65*/{-1,-1},
-    /*66*/{-1,-1},
-    /*67*/{-1,-1},
-    /*68*/{-1,-1},
-    /*69*/{7,80,8,81,85,70,86,79,91,74,92,78,93,71,-1,-1},
-    /*70*/{7,80,8,81,86,88,-1,-1},
-    /*71*/{-1,-1},
-    /*72*/{-1,-1},
-    /*73*/{-1,-1},
-    /*74*/{-1,-1},
-    /*75*/{-1,-1},
-    /*76*/{89,84,-1,-1},
-    /*77*/{-1,-1},
-    /*78*/{91,82,-1,-1},
-    /*79*/{-1,-1},
-    /*80*/{-1,-1},
-    /*81*/{-1,-1},
-    /*82*/{-1,-1},
-    /*83*/{-1,-1},
-    /*84*/{80,85,81,57,82,60,88,58,-1,-1},
-    /*85*/{76,63,90,86,-1,-1},
-    /*86*/{-1,-1},
-    /*87*/{-1,-1},
-    /*88*/{-1,-1},
-    /*89*/{-1,-1},
-    /*90*/{-1,-1},
-    /*91*/{-1,-1},
-    /*92*/{-1,-1},
-    /*93*/{-1,-1},
-    /*94*/{-1,-1},
-    /*95*/{-1,-1},
-    /*96*/{-1,-1},
-    /*97*/{-1,-1},
-    /*98*/{1,121,-1,-1},
-    /*99*/{9,119,10,100,11,118,-1,-1},
-    /*100*/{9,120,-1,-1},
-    /*101*/{-1,-1},
-    /*102*/{-1,-1},
-    /*103*/{-1,-1},
-    /*104*/{-1,-1},
-    /*105*/{-1,-1},
-    /*106*/{-1,-1},
-    /*107*/{-1,-1},
-    /*108*/{-1,-1},
-    /*109*/{-1,-1},
-    /*110*/{-1,-1},
-    /*111*/{-1,-1},
-    /*112*/{-1,-1},
-    /*113*/{-1,-1},
-    /*114*/{-1,-1},
-    /*115*/{-1,-1},
-    /*116*/{-1,-1},
-    /*117*/{-1,-1},
-    /*118*/{-1,-1},
-    /*119*/{-1,-1},
-    /*120*/{-1,-1},
-    /*121*/{-1,-1},
-    /*122*/{-1,-1},
-    /*123*/{1,124,-1,-1},
-    /*124*/{-1,-1},
-    /*125*/{-1,-1},
-    /*126*/{-1,-1},
-    /*127*/{-1,-1},
-    /*128*/{-1,-1},
-    /*129*/{-1,-1},
-    /*130*/{-1,-1},
-    /*131*/{-1,-1},
-    /*132*/{-1,-1},
-    /*133*/{-1,-1},
-    /*134*/{-1,-1},
-    /*135*/{18,141,19,139,20,138,-1,-1},
-    /*136*/{72,137,-1,-1},
-    /*137*/{-1,-1},
-    /*138*/{15,179,33,180,34,177,35,176,-1,-1},
-    /*139*/{-1,-1},
-    /*140*/{65,144,104,143,105,99,-1,-1},
-    /*141*/{19,142,-1,-1},
-    /*142*/{-1,-1},
-    /*143*/{-1,-1},
-    /*144*/{67,149,68,147,69,148,-1,-1},
-    /*145*/{60,164,-1,-1},
-    /*146*/{64,162,-1,-1},
-    /*147*/{69,161,-1,-1},
-    /*148*/{-1,-1},
-    /*149*/{66,158,-1,-1},
-    /*150*/{55,155,-1,-1},
-    /*151*/{78,152,-1,-1},
-    /*152*/{80,153,81,57,82,60,88,58,-1,-1},
-    /*153*/{76,63,90,154,-1,-1},
-    /*154*/{-1,-1},
-    /*155*/{-1,-1},
-    /*156*/{-1,-1},
-    /*157*/{-1,-1},
-    /*158*/{-1,-1},
-    /*159*/{-1,-1},
-    /*160*/{-1,-1},
-    /*161*/{-1,-1},
-    /*162*/{-1,-1},
-    /*163*/{-1,-1},
-    /*164*/{-1,-1},
-    /*165*/{-1,-1},
-    /*166*/{-1,-1},
-    /*167*/{6,169,-1,-1},
-    /*168*/{7,175,-1,-1},
-    /*169*/{-1,-1},
-    /*170*/{-1,-1},
-    /*171*/{6,172,-1,-1},
-    /*172*/{-1,-1},
-    /*173*/{-1,-1},
-    /*174*/{-1,-1},
-    /*175*/{-1,-1},
-    /*176*/{-1,-1},
-    /*177*/{-1,-1},
-    /*178*/{104,366,105,99,-1,-1},
-    /*179*/{17,186,39,185,40,182,106,183,-1,-1},
-    /*180*/{15,179,34,181,-1,-1},
-    /*181*/{-1,-1},
-    /*182*/{17,365,39,364,106,183,-1,-1},
-    /*183*/{14,210,16,198,21,207,26,196,37,208,41,199,-1,-1},
-    /*184*/{-1,-1},
-    /*185*/{-1,-1},
-    /*186*/{-1,-1},
-    /*187*/{-1,-1},
-    /*188*/{-1,-1},
-    /*189*/{64,363,-1,-1},
-    /*190*/{-1,-1},
-    /*191*/{50,347,-1,-1},
-    /*192*/{27,340,-1,-1},
-    /*193*/{55,339,-1,-1},
-    /*194*/{79,314,83,316,-1,-1},
-    /*195*/{-1,-1},
-    /*196*/{-1,-1},
-    /*197*/{1,298,12,297,-1,-1},
-    /*198*/{-1,-1},
-    /*199*/{-1,-1},
-    /*200*/{-1,-1},
-    /*201*/{43,271,44,270,-1,-1},
-    /*202*/{94,238,101,239,-1,-1},
-    /*203*/{28,222,29,221,-1,-1},
-    /*204*/{-1,-1},
-    /*205*/{36,217,-1,-1},
-    /*206*/{45,215,-1,-1},
-    /*207*/{-1,-1},
-    /*208*/{-1,-1},
-    /*209*/{60,214,-1,-1},
-    /*210*/{-1,-1},
-    /*211*/{1,212,49,213,-1,-1},
-    /*212*/{-1,-1},
-    /*213*/{-1,-1},
-    /*214*/{-1,-1},
-    /*215*/{-1,-1},
-    /*216*/{-1,-1},
-    /*217*/{-1,-1},
-    /*218*/{7,80,8,219,-1,-1},
-    /*219*/{-1,-1},
-    /*220*/{-1,-1},
-    /*221*/{31,223,32,224,-1,-1},
-    /*222*/{-1,-1},
-    /*223*/{-1,-1},
-    /*224*/{30,231,31,233,-1,-1},
-    /*225*/{-1,-1},
-    /*226*/{-1,-1},
-    /*227*/{-1,-1},
-    /*228*/{-1,-1},
-    /*229*/{-1,-1},
-    /*230*/{-1,-1},
-    /*231*/{-1,-1},
-    /*232*/{-1,-1},
-    /*233*/{-1,-1},
-    /*234*/{-1,-1},
-    /*235*/{-1,-1},
-    /*236*/{-1,-1},
-    /*237*/{-1,-1},
-    /*238*/{95,268,97,246,-1,-1},
-    /*239*/{-1,-1},
-    /*240*/{102,242,103,241,-1,-1},
-    /*241*/{-1,-1},
-    /*242*/{95,244,97,246,-1,-1},
-    /*243*/{-1,-1},
-    /*244*/{96,264,-1,-1},
-    /*245*/{-1,-1},
-    /*246*/{98,247,-1,-1},
-    /*247*/{99,249,100,250,-1,-1},
-    /*248*/{-1,-1},
-    /*249*/{-1,-1},
-    /*250*/{-1,-1},
-    /*251*/{-1,-1},
-    /*252*/{-1,-1},
-    /*253*/{-1,-1},
-    /*254*/{-1,-1},
-    /*255*/{-1,-1},
-    /*256*/{-1,-1},
-    /*257*/{-1,-1},
-    /*258*/{-1,-1},
-    /*259*/{-1,-1},
-    /*260*/{-1,-1},
-    /*261*/{-1,-1},
-    /*262*/{-1,-1},
-    /*263*/{-1,-1},
-    /*264*/{-1,-1},
-    /*265*/{-1,-1},
-    /*266*/{-1,-1},
-    /*267*/{-1,-1},
-    /*268*/{96,269,-1,-1},
-    /*269*/{-1,-1},
-    /*270*/{47,278,48,277,-1,-1},
-    /*271*/{-1,-1},
-    /*272*/{-1,-1},
-    /*273*/{-1,-1},
-    /*274*/{-1,-1},
-    /*275*/{-1,-1},
-    /*276*/{-1,-1},
-    /*277*/{46,283,47,282,-1,-1},
-    /*278*/{-1,-1},
-    /*279*/{-1,-1},
-    /*280*/{-1,-1},
-    /*281*/{-1,-1},
-    /*282*/{-1,-1},
-    /*283*/{-1,-1},
-    /*284*/{-1,-1},
-    /*285*/{-1,-1},
-    /*286*/{-1,-1},
-    /*287*/{-1,-1},
-    /*288*/{-1,-1},
-    /*289*/{-1,-1},
-    /*290*/{-1,-1},
-    /*291*/{-1,-1},
-    /*292*/{-1,-1},
-    /*293*/{-1,-1},
-    /*294*/{-1,-1},
-    /*295*/{-1,-1},
-    /*296*/{-1,-1},
-    /*297*/{-1,-1},
-    /*298*/{-1,-1},
-    /*299*/{-1,-1},
-    /*300*/{-1,-1},
-    /*301*/{-1,-1},
-    /*302*/{-1,-1},
-    /*303*/{-1,-1},
-    /*304*/{-1,-1},
-    /*305*/{-1,-1},
-    /*306*/{-1,-1},
-    /*307*/{-1,-1},
-    /*308*/{-1,-1},
-    /*309*/{-1,-1},
-    /*310*/{14,210,21,311,37,208,-1,-1},
-    /*311*/{-1,-1},
-    /*312*/{-1,-1},
-    /*313*/{1,336,-1,-1},
-    /*314*/{80,334,81,57,82,60,88,58,-1,-1},
-    /*315*/{1,332,-1,-1},
-    /*316*/{84,326,87,327,-1,-1},
-    /*317*/{-1,-1},
-    /*318*/{-1,-1},
-    /*319*/{1,320,-1,-1},
-    /*320*/{-1,-1},
-    /*321*/{-1,-1},
-    /*322*/{1,323,-1,-1},
-    /*323*/{-1,-1},
-    /*324*/{-1,-1},
-    /*325*/{-1,-1},
-    /*326*/{76,330,-1,-1},
-    /*327*/{-1,-1},
-    /*328*/{7,80,8,81,85,70,86,79,91,74,92,78,93,329,-1,-1},
-    /*329*/{-1,-1},
-    /*330*/{-1,-1},
-    /*331*/{-1,-1},
-    /*332*/{-1,-1},
-    /*333*/{-1,-1},
-    /*334*/{76,335,-1,-1},
-    /*335*/{-1,-1},
-    /*336*/{-1,-1},
-    /*337*/{-1,-1},
-    /*338*/{-1,-1},
-    /*339*/{-1,-1},
-    /*340*/{-1,-1},
-    /*341*/{-1,-1},
-    /*342*/{-1,-1},
-    /*343*/{-1,-1},
-    /*344*/{-1,-1},
-    /*345*/{-1,-1},
-    /*346*/{-1,-1},
-    /*347*/{-1,-1},
-    /*348*/{-1,-1},
-    /*349*/{-1,-1},
-    /*350*/{-1,-1},
-    /*351*/{5,353,-1,-1},
-    /*352*/{-1,-1},
-    /*353*/{-1,-1},
-    /*354*/{-1,-1},
-    /*355*/{-1,-1},
-    /*356*/{-1,-1},
-    /*357*/{-1,-1},
-    /*358*/{-1,-1},
-    /*359*/{-1,-1},
-    /*360*/{-1,-1},
-    /*361*/{-1,-1},
-    /*362*/{-1,-1},
-    /*363*/{-1,-1},
-    /*364*/{-1,-1},
-    /*365*/{-1,-1},
-    /*366*/{-1,-1},
-    /*367*/{-1,-1},
-    /*368*/{-1,-1},
-    /*369*/{104,381,105,99,-1,-1},
-    /*370*/{104,371,105,99,-1,-1},
-    /*371*/{2,372,-1,-1},
-    /*372*/{3,375,-1,-1},
-    /*373*/{-1,-1},
-    /*374*/{1,380,-1,-1},
-    /*375*/{4,377,-1,-1},
-    /*376*/{1,379,-1,-1},
-    /*377*/{-1,-1},
-    /*378*/{-1,-1},
-    /*379*/{-1,-1},
-    /*380*/{-1,-1},
-    /*381*/{2,382,-1,-1},
-    /*382*/{3,383,-1,-1},
-    /*383*/{4,384,-1,-1},
-    /*384*/{-1,-1},
-    /*385*/{-1,-1},
-  };
+  protected static final short[][] _reduce_table = 
+    unpack_table(new String[] {
+    "\u0182\010\033\0045\005:\006\001\001\002\001\001\002\001\001\004(\012\001\001\010H\014I\015J\016\001\001\002\001" +
+    "\001\002\001\001\002\001\001\004\017\024\001\001\002\001\001\010\024\030\025\031\026\032\001\001\004J\033\001\001\002\001\001" +
+    "\002\001\001\002\001\001\002\001\001\006j\036k\037\001\001\006j k\037\001\001\004,\042\001\001\006j#k" +
+    "\037\001\001\006j$k\037\001\001\010C%j&k\037\001\001\004\025'\001\001\002\001\001\012\021)#*" +
+    "$+%,\001\001\002\001\001\002\001\001\002\001\001\004\003.\001\001\010\013@\014A\015B\001\001\004\003C" +
+    "\001\001\004\003D\001\001\010\030F\031G\032H\001\001\004\004J\001\001\004\004K\001\001\010EPFQG" +
+    "R\001\001\002\001\001\002\001\001\006jTk\037\001\001\012\023V)W*XlY\001\001\006\021)$Z" +
+    "\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001" +
+    "\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001" +
+    "\001\002\001\001\004\013\134\001\001\002\001\001\002\001\001\002\001\001\004\003_\001\001\0048a\001\001\004\032b\001" +
+    "\001\002\001\001\002\001\001\004\005d\001\001\004\005e\001\001\0049g\001\001\004Bi\001\001\004>j\001\001" +
+    "\004Pm\001\001\004Do\001\001\004Gp\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001" +
+    "\001\010\023t)ulY\001\001\016\020\207\022\210\027\211\034\212'\213+\214\001\001\002\001\001\002\001\001\002" +
+    "\001\001\002\001\001\002\001\001\002\001\001\0049\216\001\001\0047\220\001\001\002\001\001\004\003\221\001\001\004\006\223" +
+    "\001\001\004\006\224\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\004\003\231\001\001\004\003\232\001\001" +
+    "\012R\234S\235T\236Z\237\001\001\002\001\001\002\001\001\002\001\001\004\010\243\001\001\002\001\001\002\001\001\002" +
+    "\001\001\002\001\001\002\001\001\006\003\246\016\247\001\001\004\035\253\001\001\004/\255\001\001\004&\257\001\001\006\003" +
+    "\2603\261\001\001\0044\263\001\001\0049\264\001\001\006`\267g\270\001\001\004B\271\001\001\004>\272\001\001" +
+    "\006Q\300U\301\001\001\006\036\303\037\304\001\001\006-\306.\307\001\001\002\001\001\002\001\001\002\001\001\002\001" +
+    "\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\004=\323\001\001\002\001" +
+    "\001\004\003\324\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001" +
+    "\001\006N\333\134\334\001\001\006T\335Z\237\001\001\002\001\001\002\001\001\002\001\001\002\001\001\004\011\344\001\001" +
+    "\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001" +
+    "\001\006\011\353\012\354\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\006h\357i\360\001" +
+    "\001\002\001\001\006a\362c\363\001\001\002\001\001\002\001\001\002\001\001\004\003\364\001\001\004\003\365\001\001\002\001" +
+    "\001\002\001\001\002\001\001\012R\371S\235T\236Z\237\001\001\006V\373Y\374\001\001\002\001\001\002\001\001\006" +
+    "!\376\042\377\001\001\002\001\001\002\001\001\0061\u01042\u0105\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002" +
+    "\001\001\002\001\001\010\020\207\027\u0109'\213\001\001\002\001\001\002\001\001\002\001\001\004>\u010b\001\001\012K\u010dL" +
+    "\u010eM\u010fO\u0110\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002" +
+    "\001\001\002\001\001\020\011\353\012\u0115W\u0116X\u0117]\u0118^\u0119_\u011a\001\001\002\001\001\004\010\u011b\001\001\002\001" +
+    "\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002" +
+    "\001\001\002\001\001\002\001\001\006a\u011fc\363\001\001\002\001\001\002\001\001\004b\u0124\001\001\004d\u0125\001\001\002" +
+    "\001\001\002\001\001\004\003\u0128\001\001\004\003\u0129\001\001\002\001\001\004N\u012a\001\001\002\001\001\004N\u012c\001\001\002" +
+    "\001\001\002\001\001\002\001\001\006 \u0130!\u0131\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\0060" +
+    "\u01361\u0137\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\004P\u013a\001\001\010?\u013c@" +
+    "\u013dA\u013e\001\001\006M\u013fO\u0110\001\001\002\001\001\012R\u0140S\235T\236Z\237\001\001\002\001\001\002\001\001" +
+    "\002\001\001\004[\u0142\001\001\002\001\001\010\011\353\012\u0115X\u0144\001\001\002\001\001\002\001\001\004]\u0145\001\001\002" +
+    "\001\001\002\001\001\002\001\001\002\001\001\002\001\001\004b\u014a\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002" +
+    "\001\001\006e\u0151f\u0152\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\020\011" +
+    "\353\012\u0115W\u0116X\u0117]\u0118^\u0119_\u0155\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001" +
+    "\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\004B\u015a\001\001\0106\u015c;\u015d" +
+    "<\u015e\001\001\004A\u015f\001\001\002\001\001\002\001\001\006N\333\134\u0160\001\001\002\001\001\012R\u0161S\235T\236" +
+    "Z\237\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\004\007\u0165\001\001\002\001\001\002\001" +
+    "\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002" +
+    "\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\004<\u0171\001\001\002\001\001\002\001\001\002" +
+    "\001\001\006N\333\134\u0172\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001" +
+    "\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002" +
+    "\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001" +
+    "\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001" });
 
   /** access to reduce_goto table */
   public short[][] reduce_table() {return _reduce_table;}
 
+  /** reduce_goto table in comb vector form */
+  protected static final short[][] _reduce_comb = 
+    unpack_table(new String[] {
+    "\004\u0182\002\002\002\025\002\002\002\002\002\002\002\021\002\002\002\002\012\024\024\026\030\015\017\002\002\002\002\002\004\017" +
+    "\005\006\007\006\011\002\002\002\032\002\027\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+    "\002;\002\002\002hDq\002\002\226\227d]bQ^\134\002\002\002\002\002\002\017\002\002\002\002\002\002\002" +
+    "ko\002\244\242\243\002\002\002\002\002\247\250\004\002\002\002\244\002\002\002\002\002\002\220\177\211\003|x\017p" +
+    "u5\022\005\002\002\002\002\002\002\002\002\002\002\002\002w\002\262\002\002\002\002\002\002\002\002\002\0363\002\002" +
+    "\002\002\255\002\002\002\002\002\002\002\002\002\002\002+\002\002\002\002\002\002 \002+\002\002\002\264\265\002\002\002" +
+    "\0239\002\002#\002\002!\002\002\002\002\002\002\023\002\002\002{\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+    "\262\002\002\002\002\002\002\002\002\002\002\002\002\002\0020\002\002YX\002\002\272\273\002q\002r\002\002\0024" +
+    "\002\002\002\002\002d\002\002\002\002\002\002q\002I\002\026\002\002\002g\002%\002\002f\002\002\002\002\002b" +
+    "\002\002\002\002\0024\002\002\002\002\002\002\002\005\002\002\002\002\002\002\002\002\002\002\002\002\002\203\003\205\002\002" +
+    "B\002\037\002\002\002\002\002\002\300\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\214\002\002" +
+    "\002I\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+    "\002\002\002\002\u0182\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+    "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+    "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+    "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+    "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+    "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+    "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+    "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+    "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+    "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+    "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+    "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+    "\001\001\001\001\001\001\001\305\001w{\036 !#\336\336$\u012d\u012dw\012Y\032Y)\014\014\014Y\037\037" +
+    "\037\002Y\042\042\042X\316\030\032\032\032*Y\316))Y\u0116\u0116\202\202\203\203\256\256{\002X\u013c\316*" +
+    "\002\005\u013c\u013c\024\u010d\u010d\u010d\304\304A%%%\006\006\006\323\323\323\027\323\307\307\377\377mmm\336\336\015" +
+    "\u012d\u012dm\336\336\336\u012d\u012d\u012d\300\300\300\u0110\u0110\u0110E\234\300)~\u0110\u0142\u0142\u0142\022\022~\027\027\u0142\234X" +
+    "F\u0116\023\023\025\025\026\026((\201\235\265\265\201G\267\235\267\301\u0140\357\301\357\u0105\u0105\u010e\u0161\u010e\u0125\u0125J" +
+    "KL\u0140MNOPQ`\u0161acdeklqxyz|}\177\200\220\222\242\273\274\322\340\362" +
+    "\363\366\367\371\373\u010c\u0114\u0119\u011f\u013b\u013d\u0149\u015d\305\002\246\260.CDJ\353\u0115K\353\u0115\247\024\207)\210V" +
+    "\030\031\032\211@AB\004\212FGHt\207'*+,)\213\u0109WX\214\353\u0115\303\304\306\307\353\354" +
+    "\261\005u\u015c\213Z\006\012\u015d\u015e\042\u013c\u013d\u013e\376\377\134PQR\014\015\016\u010d\u010e\u010f%\u0110\u0104\u0105\u0130\u0131" +
+    "\234\235\236\u0116\u0117\033\u0116\u0117\237\u0118\u0119\u011a\u0118\u0119\u0155\371\235\236\u0140\235\236_\333\237Y\267\237\u0161\235\236\036\037" +
+    "\270&\037\237\334Ya\u0144 \037#\037$\037T\037\300\335\357\360\301b\362\237\363\373\333\u011f\374\363\u0136\u0137" +
+    "\u013f\333\u0110\u0151\u0152deg\u0160ijmop\216\u0172\220\221\223\224\231\232\243\253\255\257\263\264\271\272\323\324" +
+    "\344\364\365\u010b\u011b\u0124\u0125\u0128\u0129\u012a\u012c\u013a\u0142\u0145\u014a\u015a\u015f\u0165\u0171" });
+
+  /** access to comb vector reduce_goto table */
+  public short[][] reduce_comb() {return _reduce_comb;}
+
   /** instance of action encapsulation class */
   protected CUP$actions action_obj;
 
@@ -866,7 +419,7 @@ public class parser extends java_cup.runtime.lr_parser {
   public java_cup.runtime.symbol do_action(
     int                        act_num,
     java_cup.runtime.lr_parser parser,
-    java.util.Stack            stack,
+    java_cup.runtime.parse_stack stack,
     int                        top)
     throws java.lang.Exception
   {
@@ -945,7 +498,7 @@ class CUP$actions {
   public final java_cup.runtime.symbol CUP$do_action(
     int                        CUP$act_num,
     java_cup.runtime.lr_parser CUP$parser,
-    java.util.Stack            CUP$stack,
+    java_cup.runtime.parse_stack CUP$stack,
     int                        CUP$top)
     throws java.lang.Exception
     {
@@ -958,7 +511,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 222: // table_default ::= DEFAULT COLON Int 
             {
-              CUP$result = new symbol(/*table_default*/46);
+              CUP$result = CUP$parser.new_symbol(/*table_default*/46);
                classFile.endTableswitch((/*off*/(int_token)CUP$stack.elementAt(CUP$top-0)).int_val); 
             }
           return CUP$result;
@@ -966,7 +519,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 221: // table_default ::= DEFAULT COLON Word 
             {
-              CUP$result = new symbol(/*table_default*/46);
+              CUP$result = CUP$parser.new_symbol(/*table_default*/46);
                classFile.endTableswitch((/*w*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val); 
             }
           return CUP$result;
@@ -974,7 +527,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 220: // table_entry ::= Int SEP 
             {
-              CUP$result = new symbol(/*table_entry*/47);
+              CUP$result = CUP$parser.new_symbol(/*table_entry*/47);
                classFile.addTableswitch((/*off*/(int_token)CUP$stack.elementAt(CUP$top-1)).int_val); 
             }
           return CUP$result;
@@ -982,7 +535,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 219: // table_entry ::= Word SEP 
             {
-              CUP$result = new symbol(/*table_entry*/47);
+              CUP$result = CUP$parser.new_symbol(/*table_entry*/47);
                classFile.addTableswitch((/*w*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
           return CUP$result;
@@ -990,7 +543,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 218: // table_list ::= table_entry 
             {
-              CUP$result = new symbol(/*table_list*/48);
+              CUP$result = CUP$parser.new_symbol(/*table_list*/48);
               
             }
           return CUP$result;
@@ -998,7 +551,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 217: // table_list ::= table_list table_entry 
             {
-              CUP$result = new symbol(/*table_list*/48);
+              CUP$result = CUP$parser.new_symbol(/*table_list*/48);
               
             }
           return CUP$result;
@@ -1006,7 +559,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 216: // table_args ::= Int Int SEP 
             {
-              CUP$result = new symbol(/*table_args*/44);
+              CUP$result = CUP$parser.new_symbol(/*table_args*/44);
                classFile.newTableswitch((/*low*/(int_token)CUP$stack.elementAt(CUP$top-2)).int_val, (/*high*/(int_token)CUP$stack.elementAt(CUP$top-1)).int_val); 
             }
           return CUP$result;
@@ -1014,7 +567,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 215: // table_args ::= Int SEP 
             {
-              CUP$result = new symbol(/*table_args*/44);
+              CUP$result = CUP$parser.new_symbol(/*table_args*/44);
                classFile.newTableswitch((/*low*/(int_token)CUP$stack.elementAt(CUP$top-1)).int_val); 
             }
           return CUP$result;
@@ -1022,7 +575,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 214: // table ::= table_args table_list table_default 
             {
-              CUP$result = new symbol(/*table*/43);
+              CUP$result = CUP$parser.new_symbol(/*table*/43);
               
             }
           return CUP$result;
@@ -1030,7 +583,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 213: // lookup_default ::= DEFAULT COLON Int 
             {
-              CUP$result = new symbol(/*lookup_default*/30);
+              CUP$result = CUP$parser.new_symbol(/*lookup_default*/30);
                classFile.endLookupswitch((/*off*/(int_token)CUP$stack.elementAt(CUP$top-0)).int_val); 
             }
           return CUP$result;
@@ -1038,7 +591,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 212: // lookup_default ::= DEFAULT COLON Word 
             {
-              CUP$result = new symbol(/*lookup_default*/30);
+              CUP$result = CUP$parser.new_symbol(/*lookup_default*/30);
                classFile.endLookupswitch((/*w*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val); 
             }
           return CUP$result;
@@ -1046,7 +599,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 211: // lookup_entry ::= Int COLON Int SEP 
             {
-              CUP$result = new symbol(/*lookup_entry*/31);
+              CUP$result = CUP$parser.new_symbol(/*lookup_entry*/31);
                classFile.addLookupswitch((/*i*/(int_token)CUP$stack.elementAt(CUP$top-3)).int_val, (/*off*/(int_token)CUP$stack.elementAt(CUP$top-1)).int_val); 
             }
           return CUP$result;
@@ -1054,7 +607,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 210: // lookup_entry ::= Int COLON Word SEP 
             {
-              CUP$result = new symbol(/*lookup_entry*/31);
+              CUP$result = CUP$parser.new_symbol(/*lookup_entry*/31);
                classFile.addLookupswitch((/*i*/(int_token)CUP$stack.elementAt(CUP$top-3)).int_val, (/*w*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
           return CUP$result;
@@ -1062,7 +615,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 209: // lookup_list ::= lookup_entry 
             {
-              CUP$result = new symbol(/*lookup_list*/32);
+              CUP$result = CUP$parser.new_symbol(/*lookup_list*/32);
               
             }
           return CUP$result;
@@ -1070,7 +623,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 208: // lookup_list ::= lookup_list lookup_entry 
             {
-              CUP$result = new symbol(/*lookup_list*/32);
+              CUP$result = CUP$parser.new_symbol(/*lookup_list*/32);
               
             }
           return CUP$result;
@@ -1078,7 +631,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 207: // lookup_args ::= SEP 
             {
-              CUP$result = new symbol(/*lookup_args*/29);
+              CUP$result = CUP$parser.new_symbol(/*lookup_args*/29);
                classFile.newLookupswitch(); 
             }
           return CUP$result;
@@ -1086,7 +639,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 206: // lookup ::= lookup_args lookup_list lookup_default 
             {
-              CUP$result = new symbol(/*lookup*/28);
+              CUP$result = CUP$parser.new_symbol(/*lookup*/28);
               
             }
           return CUP$result;
@@ -1094,7 +647,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 205: // complex_instruction ::= TABLESWITCH table 
             {
-              CUP$result = new symbol(/*complex_instruction*/14);
+              CUP$result = CUP$parser.new_symbol(/*complex_instruction*/14);
               
             }
           return CUP$result;
@@ -1102,7 +655,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 204: // complex_instruction ::= LOOKUPSWITCH lookup 
             {
-              CUP$result = new symbol(/*complex_instruction*/14);
+              CUP$result = CUP$parser.new_symbol(/*complex_instruction*/14);
               
             }
           return CUP$result;
@@ -1110,7 +663,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 203: // simple_instruction ::= Insn Relative 
             {
-              CUP$result = new symbol(/*simple_instruction*/37);
+              CUP$result = CUP$parser.new_symbol(/*simple_instruction*/37);
                classFile.plantRelativeGoto((/*i*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*n*/(relative_num_token)CUP$stack.elementAt(CUP$top-0)).int_val); 
             }
           return CUP$result;
@@ -1118,7 +671,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 202: // simple_instruction ::= Insn Str 
             {
-              CUP$result = new symbol(/*simple_instruction*/37);
+              CUP$result = CUP$parser.new_symbol(/*simple_instruction*/37);
                classFile.plantString((/*i*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*n*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val); 
             }
           return CUP$result;
@@ -1126,7 +679,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 201: // simple_instruction ::= Insn Word Word 
             {
-              CUP$result = new symbol(/*simple_instruction*/37);
+              CUP$result = CUP$parser.new_symbol(/*simple_instruction*/37);
                classFile.plant((/*i*/(str_token)CUP$stack.elementAt(CUP$top-2)).str_val, (/*n1*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*n2*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val); 
             }
           return CUP$result;
@@ -1134,7 +687,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 200: // simple_instruction ::= Insn Word Int 
             {
-              CUP$result = new symbol(/*simple_instruction*/37);
+              CUP$result = CUP$parser.new_symbol(/*simple_instruction*/37);
                classFile.plant((/*i*/(str_token)CUP$stack.elementAt(CUP$top-2)).str_val, (/*n*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*n2*/(int_token)CUP$stack.elementAt(CUP$top-0)).int_val); 
             }
           return CUP$result;
@@ -1142,7 +695,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 199: // simple_instruction ::= Insn Word 
             {
-              CUP$result = new symbol(/*simple_instruction*/37);
+              CUP$result = CUP$parser.new_symbol(/*simple_instruction*/37);
                classFile.plant((/*i*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*n*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val); 
             }
           return CUP$result;
@@ -1150,7 +703,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 198: // simple_instruction ::= Insn Num 
             {
-              CUP$result = new symbol(/*simple_instruction*/37);
+              CUP$result = CUP$parser.new_symbol(/*simple_instruction*/37);
                classFile.plant((/*i*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*n*/(num_token)CUP$stack.elementAt(CUP$top-0)).num_val); 
             }
           return CUP$result;
@@ -1158,7 +711,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 197: // simple_instruction ::= Insn Int 
             {
-              CUP$result = new symbol(/*simple_instruction*/37);
+              CUP$result = CUP$parser.new_symbol(/*simple_instruction*/37);
                classFile.plant((/*i*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*n*/(int_token)CUP$stack.elementAt(CUP$top-0)).int_val); 
             }
           return CUP$result;
@@ -1166,7 +719,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 196: // simple_instruction ::= Insn Int Int 
             {
-              CUP$result = new symbol(/*simple_instruction*/37);
+              CUP$result = CUP$parser.new_symbol(/*simple_instruction*/37);
                classFile.plant((/*i*/(str_token)CUP$stack.elementAt(CUP$top-2)).str_val, (/*n1*/(int_token)CUP$stack.elementAt(CUP$top-1)).int_val, (/*n2*/(int_token)CUP$stack.elementAt(CUP$top-0)).int_val); 
             }
           return CUP$result;
@@ -1174,7 +727,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 195: // simple_instruction ::= Insn 
             {
-              CUP$result = new symbol(/*simple_instruction*/37);
+              CUP$result = CUP$parser.new_symbol(/*simple_instruction*/37);
                classFile.plant((/*i*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val); 
             }
           return CUP$result;
@@ -1182,7 +735,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 194: // instruction ::= complex_instruction 
             {
-              CUP$result = new symbol(/*instruction*/21);
+              CUP$result = CUP$parser.new_symbol(/*instruction*/21);
               
             }
           return CUP$result;
@@ -1190,7 +743,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 193: // instruction ::= simple_instruction 
             {
-              CUP$result = new symbol(/*instruction*/21);
+              CUP$result = CUP$parser.new_symbol(/*instruction*/21);
               
             }
           return CUP$result;
@@ -1198,7 +751,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 192: // set_expr ::= Word any_item 
             {
-              CUP$result = new symbol(/*set_expr*/36);
+              CUP$result = CUP$parser.new_symbol(/*set_expr*/36);
                scanner.dict.put((/*name*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*v*/(var_token)CUP$stack.elementAt(CUP$top-0))); 
             }
           return CUP$result;
@@ -1206,7 +759,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 191: // catch_expr ::= classname FROM Int TO Int USING Int 
             {
-              CUP$result = new symbol(/*catch_expr*/12);
+              CUP$result = CUP$parser.new_symbol(/*catch_expr*/12);
                classFile.addCatch((/*aclass*/(str_token)CUP$stack.elementAt(CUP$top-6)).str_val,
                               (/*fromoff*/(int_token)CUP$stack.elementAt(CUP$top-4)).int_val,
                               (/*tooff*/(int_token)CUP$stack.elementAt(CUP$top-2)).int_val,
@@ -1217,7 +770,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 190: // catch_expr ::= classname FROM Word TO Word USING Word 
             {
-              CUP$result = new symbol(/*catch_expr*/12);
+              CUP$result = CUP$parser.new_symbol(/*catch_expr*/12);
                classFile.addCatch((/*aclass*/(str_token)CUP$stack.elementAt(CUP$top-6)).str_val,
                               (/*fromlab*/(str_token)CUP$stack.elementAt(CUP$top-4)).str_val,
                               (/*tolab*/(str_token)CUP$stack.elementAt(CUP$top-2)).str_val,
@@ -1228,7 +781,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 189: // throws_expr ::= classname 
             {
-              CUP$result = new symbol(/*throws_expr*/49);
+              CUP$result = CUP$parser.new_symbol(/*throws_expr*/49);
                classFile.addThrow((/*s*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val); 
             }
           return CUP$result;
@@ -1236,7 +789,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 188: // line_expr ::= Int 
             {
-              CUP$result = new symbol(/*line_expr*/45);
+              CUP$result = CUP$parser.new_symbol(/*line_expr*/45);
                classFile.addLine((/*v*/(int_token)CUP$stack.elementAt(CUP$top-0)).int_val); 
             }
           return CUP$result;
@@ -1244,7 +797,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 187: // limit_expr ::= Word Int 
             {
-              CUP$result = new symbol(/*limit_expr*/27);
+              CUP$result = CUP$parser.new_symbol(/*limit_expr*/27);
                classFile.report_error(".limit expected \"stack\" or \"locals\", but got "
                                 + (/*w*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
@@ -1253,7 +806,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 186: // limit_expr ::= STACK Int 
             {
-              CUP$result = new symbol(/*limit_expr*/27);
+              CUP$result = CUP$parser.new_symbol(/*limit_expr*/27);
                classFile.setStackSize((/*v*/(int_token)CUP$stack.elementAt(CUP$top-0)).int_val); 
             }
           return CUP$result;
@@ -1261,7 +814,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 185: // limit_expr ::= LOCALS Int 
             {
-              CUP$result = new symbol(/*limit_expr*/27);
+              CUP$result = CUP$parser.new_symbol(/*limit_expr*/27);
                classFile.setVarSize((/*v*/(int_token)CUP$stack.elementAt(CUP$top-0)).int_val); 
             }
           return CUP$result;
@@ -1285,7 +838,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 182: // var_expr ::= Int IS Word Word optional_signature FROM Int TO Int 
             {
-              CUP$result = new symbol(/*var_expr*/50);
+              CUP$result = CUP$parser.new_symbol(/*var_expr*/50);
                classFile.addVar((/*soff*/(int_token)CUP$stack.elementAt(CUP$top-2)).int_val, (/*eoff*/(int_token)CUP$stack.elementAt(CUP$top-0)).int_val, (/*name*/(str_token)CUP$stack.elementAt(CUP$top-6)).str_val,
                             (/*desc*/(str_token)CUP$stack.elementAt(CUP$top-5)).str_val, (/*sign*/(str_token)CUP$stack.elementAt(CUP$top-4)).str_val, (/*reg*/(int_token)CUP$stack.elementAt(CUP$top-8)).int_val); 
             }
@@ -1294,7 +847,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 181: // var_expr ::= Int IS Word Word optional_signature 
             {
-              CUP$result = new symbol(/*var_expr*/50);
+              CUP$result = CUP$parser.new_symbol(/*var_expr*/50);
                classFile.addVar(null, null, (/*name*/(str_token)CUP$stack.elementAt(CUP$top-2)).str_val, (/*desc*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val,
                             (/*sign*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val,  (/*reg*/(int_token)CUP$stack.elementAt(CUP$top-4)).int_val); 
             }
@@ -1303,7 +856,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 180: // var_expr ::= Int IS Word Word optional_signature FROM Word TO Word 
             {
-              CUP$result = new symbol(/*var_expr*/50);
+              CUP$result = CUP$parser.new_symbol(/*var_expr*/50);
                classFile.addVar((/*slab*/(str_token)CUP$stack.elementAt(CUP$top-2)).str_val, (/*elab*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val, (/*name*/(str_token)CUP$stack.elementAt(CUP$top-6)).str_val,
                             (/*desc*/(str_token)CUP$stack.elementAt(CUP$top-5)).str_val, (/*sign*/(str_token)CUP$stack.elementAt(CUP$top-4)).str_val, (/*reg*/(int_token)CUP$stack.elementAt(CUP$top-8)).int_val); 
             }
@@ -1312,7 +865,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 179: // endstack ::= DEND STACK 
             {
-              CUP$result = new symbol(/*endstack*/96);
+              CUP$result = CUP$parser.new_symbol(/*endstack*/96);
                classFile.endStack(); 
             }
           return CUP$result;
@@ -1320,7 +873,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 178: // stack_item_expr ::= STACK Word Int 
             {
-              CUP$result = new symbol(/*stack_item_expr*/100);
+              CUP$result = CUP$parser.new_symbol(/*stack_item_expr*/100);
                classFile.plantStackStack((/*w*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, String.valueOf((/*n*/(int_token)CUP$stack.elementAt(CUP$top-0)).int_val)); 
             }
           return CUP$result;
@@ -1328,7 +881,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 177: // stack_item_expr ::= STACK Word Word 
             {
-              CUP$result = new symbol(/*stack_item_expr*/100);
+              CUP$result = CUP$parser.new_symbol(/*stack_item_expr*/100);
                classFile.plantStackStack((/*w*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*val*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val); 
             }
           return CUP$result;
@@ -1336,7 +889,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 176: // stack_item_expr ::= STACK Word 
             {
-              CUP$result = new symbol(/*stack_item_expr*/100);
+              CUP$result = CUP$parser.new_symbol(/*stack_item_expr*/100);
                classFile.plantStackStack((/*w*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val, null); 
             }
           return CUP$result;
@@ -1344,7 +897,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 175: // stack_item_expr ::= LOCALS Word Int 
             {
-              CUP$result = new symbol(/*stack_item_expr*/100);
+              CUP$result = CUP$parser.new_symbol(/*stack_item_expr*/100);
                classFile.plantStackLocals((/*w*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, String.valueOf((/*n*/(int_token)CUP$stack.elementAt(CUP$top-0)).int_val)); 
             }
           return CUP$result;
@@ -1352,7 +905,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 174: // stack_item_expr ::= LOCALS Word Word 
             {
-              CUP$result = new symbol(/*stack_item_expr*/100);
+              CUP$result = CUP$parser.new_symbol(/*stack_item_expr*/100);
                classFile.plantStackLocals((/*w*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*val*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val); 
             }
           return CUP$result;
@@ -1360,7 +913,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 173: // stack_item_expr ::= LOCALS Word 
             {
-              CUP$result = new symbol(/*stack_item_expr*/100);
+              CUP$result = CUP$parser.new_symbol(/*stack_item_expr*/100);
                classFile.plantStackLocals((/*w*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val, null); 
             }
           return CUP$result;
@@ -1368,7 +921,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 172: // stack_item ::= stack_item_expr SEP 
             {
-              CUP$result = new symbol(/*stack_item*/99);
+              CUP$result = CUP$parser.new_symbol(/*stack_item*/99);
               
             }
           return CUP$result;
@@ -1376,7 +929,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 171: // stack_items ::= 
             {
-              CUP$result = new symbol(/*stack_items*/98);
+              CUP$result = CUP$parser.new_symbol(/*stack_items*/98);
               
             }
           return CUP$result;
@@ -1384,7 +937,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 170: // stack_items ::= stack_items stack_item 
             {
-              CUP$result = new symbol(/*stack_items*/98);
+              CUP$result = CUP$parser.new_symbol(/*stack_items*/98);
               
             }
           return CUP$result;
@@ -1392,7 +945,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 169: // stack_offset_def ::= 
             {
-              CUP$result = new symbol(/*stack_offset_def*/97);
+              CUP$result = CUP$parser.new_symbol(/*stack_offset_def*/97);
               
             }
           return CUP$result;
@@ -1400,7 +953,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 168: // stack_offset_def ::= OFFSET Word SEP 
             {
-              CUP$result = new symbol(/*stack_offset_def*/97);
+              CUP$result = CUP$parser.new_symbol(/*stack_offset_def*/97);
                classFile.plantStackOffset((/*w*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
           return CUP$result;
@@ -1408,7 +961,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 167: // stack_offset_def ::= OFFSET Int SEP 
             {
-              CUP$result = new symbol(/*stack_offset_def*/97);
+              CUP$result = CUP$parser.new_symbol(/*stack_offset_def*/97);
                classFile.plantStackOffset((/*n*/(int_token)CUP$stack.elementAt(CUP$top-1)).int_val); 
             }
           return CUP$result;
@@ -1416,7 +969,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 166: // stack_map_frame_desc ::= stack_offset_def stack_items 
             {
-              CUP$result = new symbol(/*stack_map_frame_desc*/95);
+              CUP$result = CUP$parser.new_symbol(/*stack_map_frame_desc*/95);
               
             }
           return CUP$result;
@@ -1424,7 +977,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 165: // defstack ::= SEP 
             {
-              CUP$result = new symbol(/*defstack*/94);
+              CUP$result = CUP$parser.new_symbol(/*defstack*/94);
                classFile.beginStack(false); 
             }
           return CUP$result;
@@ -1432,7 +985,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 164: // defstack_same_expr ::= 
             {
-              CUP$result = new symbol(/*defstack_same_expr*/103);
+              CUP$result = CUP$parser.new_symbol(/*defstack_same_expr*/103);
                classFile.beginStack(true); 
             }
           return CUP$result;
@@ -1440,7 +993,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 163: // defstack_same_expr ::= Int 
             {
-              CUP$result = new symbol(/*defstack_same_expr*/103);
+              CUP$result = CUP$parser.new_symbol(/*defstack_same_expr*/103);
                classFile.beginStack((/*n*/(int_token)CUP$stack.elementAt(CUP$top-0)).int_val); 
             }
           return CUP$result;
@@ -1448,7 +1001,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 162: // defstack_same ::= defstack_same_expr LOCALS SEP 
             {
-              CUP$result = new symbol(/*defstack_same*/102);
+              CUP$result = CUP$parser.new_symbol(/*defstack_same*/102);
               
             }
           return CUP$result;
@@ -1456,7 +1009,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 161: // stackmap ::= USE defstack_same stack_map_frame_desc endstack 
             {
-              CUP$result = new symbol(/*stackmap*/101);
+              CUP$result = CUP$parser.new_symbol(/*stackmap*/101);
               
             }
           return CUP$result;
@@ -1464,7 +1017,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 160: // stackmap ::= defstack stack_map_frame_desc endstack 
             {
-              CUP$result = new symbol(/*stackmap*/101);
+              CUP$result = CUP$parser.new_symbol(/*stackmap*/101);
               
             }
           return CUP$result;
@@ -1472,7 +1025,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 159: // directive ::= DSTACK stackmap 
             {
-              CUP$result = new symbol(/*directive*/16);
+              CUP$result = CUP$parser.new_symbol(/*directive*/16);
               
             }
           return CUP$result;
@@ -1480,7 +1033,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 158: // directive ::= DANNOTATION ann_def_spec ann_def_val endannotation 
             {
-              CUP$result = new symbol(/*directive*/16);
+              CUP$result = CUP$parser.new_symbol(/*directive*/16);
               
             }
           return CUP$result;
@@ -1488,7 +1041,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 157: // directive ::= DANNOTATION ann_met_expr ann_arglist endannotation 
             {
-              CUP$result = new symbol(/*directive*/16);
+              CUP$result = CUP$parser.new_symbol(/*directive*/16);
               
             }
           return CUP$result;
@@ -1496,7 +1049,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 156: // directive ::= DDEPRECATED deprecated_expr 
             {
-              CUP$result = new symbol(/*directive*/16);
+              CUP$result = CUP$parser.new_symbol(/*directive*/16);
               
             }
           return CUP$result;
@@ -1504,7 +1057,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 155: // directive ::= DATTRIBUTE generic_expr 
             {
-              CUP$result = new symbol(/*directive*/16);
+              CUP$result = CUP$parser.new_symbol(/*directive*/16);
               
             }
           return CUP$result;
@@ -1512,7 +1065,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 154: // directive ::= DSIGNATURE signature_expr 
             {
-              CUP$result = new symbol(/*directive*/16);
+              CUP$result = CUP$parser.new_symbol(/*directive*/16);
               
             }
           return CUP$result;
@@ -1520,7 +1073,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 153: // directive ::= DSET set_expr 
             {
-              CUP$result = new symbol(/*directive*/16);
+              CUP$result = CUP$parser.new_symbol(/*directive*/16);
               
             }
           return CUP$result;
@@ -1528,7 +1081,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 152: // directive ::= DCATCH catch_expr 
             {
-              CUP$result = new symbol(/*directive*/16);
+              CUP$result = CUP$parser.new_symbol(/*directive*/16);
               
             }
           return CUP$result;
@@ -1536,7 +1089,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 151: // directive ::= DTHROWS throws_expr 
             {
-              CUP$result = new symbol(/*directive*/16);
+              CUP$result = CUP$parser.new_symbol(/*directive*/16);
               
             }
           return CUP$result;
@@ -1544,7 +1097,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 150: // directive ::= DLINE line_expr 
             {
-              CUP$result = new symbol(/*directive*/16);
+              CUP$result = CUP$parser.new_symbol(/*directive*/16);
               
             }
           return CUP$result;
@@ -1552,7 +1105,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 149: // directive ::= DLIMIT limit_expr 
             {
-              CUP$result = new symbol(/*directive*/16);
+              CUP$result = CUP$parser.new_symbol(/*directive*/16);
               
             }
           return CUP$result;
@@ -1560,7 +1113,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 148: // directive ::= DVAR var_expr 
             {
-              CUP$result = new symbol(/*directive*/16);
+              CUP$result = CUP$parser.new_symbol(/*directive*/16);
               
             }
           return CUP$result;
@@ -1568,7 +1121,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 147: // label ::= Int COLON instruction 
             {
-              CUP$result = new symbol(/*label*/26);
+              CUP$result = CUP$parser.new_symbol(/*label*/26);
                classFile.plantLabel(String.valueOf((/*label*/(int_token)CUP$stack.elementAt(CUP$top-2)).int_val)); 
             }
           return CUP$result;
@@ -1576,7 +1129,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 146: // label ::= Word COLON 
             {
-              CUP$result = new symbol(/*label*/26);
+              CUP$result = CUP$parser.new_symbol(/*label*/26);
                classFile.plantLabel((/*label*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
           return CUP$result;
@@ -1584,7 +1137,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 145: // stmnt ::= 
             {
-              CUP$result = new symbol(/*stmnt*/41);
+              CUP$result = CUP$parser.new_symbol(/*stmnt*/41);
               
             }
           return CUP$result;
@@ -1592,7 +1145,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 144: // stmnt ::= label 
             {
-              CUP$result = new symbol(/*stmnt*/41);
+              CUP$result = CUP$parser.new_symbol(/*stmnt*/41);
               
             }
           return CUP$result;
@@ -1600,7 +1153,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 143: // stmnt ::= error 
             {
-              CUP$result = new symbol(/*stmnt*/41);
+              CUP$result = CUP$parser.new_symbol(/*stmnt*/41);
               
             }
           return CUP$result;
@@ -1608,7 +1161,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 142: // stmnt ::= directive 
             {
-              CUP$result = new symbol(/*stmnt*/41);
+              CUP$result = CUP$parser.new_symbol(/*stmnt*/41);
               
             }
           return CUP$result;
@@ -1616,7 +1169,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 141: // stmnt ::= instruction 
             {
-              CUP$result = new symbol(/*stmnt*/41);
+              CUP$result = CUP$parser.new_symbol(/*stmnt*/41);
               
             }
           return CUP$result;
@@ -1624,7 +1177,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 140: // statement ::= NT$1 stmnt SEP 
             {
-              CUP$result = new symbol(/*statement*/39);
+              CUP$result = CUP$parser.new_symbol(/*statement*/39);
               
             }
           return CUP$result;
@@ -1640,7 +1193,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 138: // statements ::= statement 
             {
-              CUP$result = new symbol(/*statements*/40);
+              CUP$result = CUP$parser.new_symbol(/*statements*/40);
               
             }
           return CUP$result;
@@ -1648,7 +1201,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 137: // statements ::= statements statement 
             {
-              CUP$result = new symbol(/*statements*/40);
+              CUP$result = CUP$parser.new_symbol(/*statements*/40);
               
             }
           return CUP$result;
@@ -1656,7 +1209,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 136: // endmethod ::= DEND METHOD SEP 
             {
-              CUP$result = new symbol(/*endmethod*/17);
+              CUP$result = CUP$parser.new_symbol(/*endmethod*/17);
                classFile.endMethod(); 
             }
           return CUP$result;
@@ -1664,7 +1217,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 135: // defmethod ::= DMETHOD access Word SEP 
             {
-              CUP$result = new symbol(/*defmethod*/15);
+              CUP$result = CUP$parser.new_symbol(/*defmethod*/15);
                String split[] = ScannerUtils.splitMethodSignature((/*name*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val);
            classFile.newMethod(split[0], split[1], (/*i*/(int_token)CUP$stack.elementAt(CUP$top-2)).int_val); 
             }
@@ -1673,7 +1226,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 134: // method_spec ::= defmethod endmethod 
             {
-              CUP$result = new symbol(/*method_spec*/34);
+              CUP$result = CUP$parser.new_symbol(/*method_spec*/34);
               
             }
           return CUP$result;
@@ -1681,7 +1234,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 133: // method_spec ::= defmethod statements endmethod 
             {
-              CUP$result = new symbol(/*method_spec*/34);
+              CUP$result = CUP$parser.new_symbol(/*method_spec*/34);
               
             }
           return CUP$result;
@@ -1689,7 +1242,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 132: // method_list ::= method_spec 
             {
-              CUP$result = new symbol(/*method_list*/33);
+              CUP$result = CUP$parser.new_symbol(/*method_list*/33);
               
             }
           return CUP$result;
@@ -1697,7 +1250,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 131: // method_list ::= method_list method_spec 
             {
-              CUP$result = new symbol(/*method_list*/33);
+              CUP$result = CUP$parser.new_symbol(/*method_list*/33);
               
             }
           return CUP$result;
@@ -1705,7 +1258,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 130: // methods ::= 
             {
-              CUP$result = new symbol(/*methods*/35);
+              CUP$result = CUP$parser.new_symbol(/*methods*/35);
               
             }
           return CUP$result;
@@ -1713,7 +1266,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 129: // methods ::= method_list 
             {
-              CUP$result = new symbol(/*methods*/35);
+              CUP$result = CUP$parser.new_symbol(/*methods*/35);
               
             }
           return CUP$result;
@@ -1769,7 +1322,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 122: // inner_spec ::= DINNER INTERFACE access inner_name inner_inner inner_outer SEP 
             {
-              CUP$result = new symbol(/*inner_spec*/72);
+              CUP$result = CUP$parser.new_symbol(/*inner_spec*/72);
                classFile.addInner((short)((/*a*/(int_token)CUP$stack.elementAt(CUP$top-4)).int_val |
                               RuntimeConstants.ACC_INTERFACE),
                                 (/*n*/(str_token)CUP$stack.elementAt(CUP$top-3)).str_val, (/*i*/(str_token)CUP$stack.elementAt(CUP$top-2)).str_val, (/*o*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
@@ -1779,7 +1332,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 121: // inner_spec ::= DINNER CLASS access inner_name inner_inner inner_outer SEP 
             {
-              CUP$result = new symbol(/*inner_spec*/72);
+              CUP$result = CUP$parser.new_symbol(/*inner_spec*/72);
                classFile.addInner((short)(/*a*/(int_token)CUP$stack.elementAt(CUP$top-4)).int_val,
                               (/*n*/(str_token)CUP$stack.elementAt(CUP$top-3)).str_val, (/*i*/(str_token)CUP$stack.elementAt(CUP$top-2)).str_val, (/*o*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
@@ -1788,7 +1341,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 120: // inner_list ::= inner_spec 
             {
-              CUP$result = new symbol(/*inner_list*/71);
+              CUP$result = CUP$parser.new_symbol(/*inner_list*/71);
               
             }
           return CUP$result;
@@ -1796,7 +1349,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 119: // inner_list ::= inner_list inner_spec 
             {
-              CUP$result = new symbol(/*inner_list*/71);
+              CUP$result = CUP$parser.new_symbol(/*inner_list*/71);
               
             }
           return CUP$result;
@@ -1804,7 +1357,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 118: // inners ::= 
             {
-              CUP$result = new symbol(/*inners*/70);
+              CUP$result = CUP$parser.new_symbol(/*inners*/70);
               
             }
           return CUP$result;
@@ -1812,7 +1365,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 117: // inners ::= inner_list 
             {
-              CUP$result = new symbol(/*inners*/70);
+              CUP$result = CUP$parser.new_symbol(/*inners*/70);
               
             }
           return CUP$result;
@@ -1860,7 +1413,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 111: // field_ext_expr ::= DANNOTATION ann_clf_expr ann_arglist endannotationsep 
             {
-              CUP$result = new symbol(/*field_ext_expr*/69);
+              CUP$result = CUP$parser.new_symbol(/*field_ext_expr*/69);
               
             }
           return CUP$result;
@@ -1868,7 +1421,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 110: // field_ext_expr ::= DDEPRECATED deprecated_expr SEP 
             {
-              CUP$result = new symbol(/*field_ext_expr*/69);
+              CUP$result = CUP$parser.new_symbol(/*field_ext_expr*/69);
               
             }
           return CUP$result;
@@ -1876,7 +1429,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 109: // field_ext_expr ::= DATTRIBUTE generic_expr SEP 
             {
-              CUP$result = new symbol(/*field_ext_expr*/69);
+              CUP$result = CUP$parser.new_symbol(/*field_ext_expr*/69);
               
             }
           return CUP$result;
@@ -1884,7 +1437,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 108: // field_ext_expr ::= DSIGNATURE signature_expr SEP 
             {
-              CUP$result = new symbol(/*field_ext_expr*/69);
+              CUP$result = CUP$parser.new_symbol(/*field_ext_expr*/69);
               
             }
           return CUP$result;
@@ -1892,7 +1445,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 107: // field_ext_list ::= field_ext_expr 
             {
-              CUP$result = new symbol(/*field_ext_list*/68);
+              CUP$result = CUP$parser.new_symbol(/*field_ext_list*/68);
               
             }
           return CUP$result;
@@ -1900,7 +1453,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 106: // field_ext_list ::= field_ext_list field_ext_expr 
             {
-              CUP$result = new symbol(/*field_ext_list*/68);
+              CUP$result = CUP$parser.new_symbol(/*field_ext_list*/68);
               
             }
           return CUP$result;
@@ -1908,7 +1461,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 105: // field_exts ::= 
             {
-              CUP$result = new symbol(/*field_exts*/67);
+              CUP$result = CUP$parser.new_symbol(/*field_exts*/67);
               
             }
           return CUP$result;
@@ -1916,7 +1469,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 104: // field_exts ::= field_ext_list 
             {
-              CUP$result = new symbol(/*field_exts*/67);
+              CUP$result = CUP$parser.new_symbol(/*field_exts*/67);
               
             }
           return CUP$result;
@@ -1924,7 +1477,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 103: // endfield ::= DEND FIELD SEP 
             {
-              CUP$result = new symbol(/*endfield*/66);
+              CUP$result = CUP$parser.new_symbol(/*endfield*/66);
                classFile.endField(); 
             }
           return CUP$result;
@@ -1932,7 +1485,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 102: // field_start ::= access Word Word optional_default SEP 
             {
-              CUP$result = new symbol(/*field_start*/65);
+              CUP$result = CUP$parser.new_symbol(/*field_start*/65);
                classFile.beginField((short)(/*a*/(int_token)CUP$stack.elementAt(CUP$top-4)).int_val, (/*name*/(str_token)CUP$stack.elementAt(CUP$top-3)).str_val,
                               (/*desc*/(str_token)CUP$stack.elementAt(CUP$top-2)).str_val, (/*v*/(var_token)CUP$stack.elementAt(CUP$top-1)).var_val); 
             }
@@ -1957,7 +1510,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 99: // field_spec ::= DFIELD field_start field_exts endfield 
             {
-              CUP$result = new symbol(/*field_spec*/19);
+              CUP$result = CUP$parser.new_symbol(/*field_spec*/19);
               
             }
           return CUP$result;
@@ -1965,7 +1518,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 98: // field_spec ::= DFIELD access Word Word optional_default SEP 
             {
-              CUP$result = new symbol(/*field_spec*/19);
+              CUP$result = CUP$parser.new_symbol(/*field_spec*/19);
                classFile.addField((short)(/*a*/(int_token)CUP$stack.elementAt(CUP$top-4)).int_val, (/*name*/(str_token)CUP$stack.elementAt(CUP$top-3)).str_val, (/*desc*/(str_token)CUP$stack.elementAt(CUP$top-2)).str_val,
                                null, (/*v*/(var_token)CUP$stack.elementAt(CUP$top-1)).var_val); 
             }
@@ -1974,7 +1527,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 97: // field_spec ::= DFIELD access Word Word SIGNATURE Str optional_default SEP 
             {
-              CUP$result = new symbol(/*field_spec*/19);
+              CUP$result = CUP$parser.new_symbol(/*field_spec*/19);
                classFile.addField((short)(/*a*/(int_token)CUP$stack.elementAt(CUP$top-6)).int_val, (/*name*/(str_token)CUP$stack.elementAt(CUP$top-5)).str_val, (/*desc*/(str_token)CUP$stack.elementAt(CUP$top-4)).str_val,
                               (/*sig*/(str_token)CUP$stack.elementAt(CUP$top-2)).str_val, (/*v*/(var_token)CUP$stack.elementAt(CUP$top-1)).var_val); 
             }
@@ -1983,7 +1536,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 96: // field_list ::= field_spec 
             {
-              CUP$result = new symbol(/*field_list*/18);
+              CUP$result = CUP$parser.new_symbol(/*field_list*/18);
               
             }
           return CUP$result;
@@ -1991,7 +1544,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 95: // field_list ::= field_list field_spec 
             {
-              CUP$result = new symbol(/*field_list*/18);
+              CUP$result = CUP$parser.new_symbol(/*field_list*/18);
               
             }
           return CUP$result;
@@ -1999,7 +1552,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 94: // fields ::= 
             {
-              CUP$result = new symbol(/*fields*/20);
+              CUP$result = CUP$parser.new_symbol(/*fields*/20);
               
             }
           return CUP$result;
@@ -2007,7 +1560,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 93: // fields ::= field_list 
             {
-              CUP$result = new symbol(/*fields*/20);
+              CUP$result = CUP$parser.new_symbol(/*fields*/20);
               
             }
           return CUP$result;
@@ -2015,7 +1568,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 92: // generic_expr ::= Word Str 
             {
-              CUP$result = new symbol(/*generic_expr*/64);
+              CUP$result = CUP$parser.new_symbol(/*generic_expr*/64);
                classFile.addGenericAttr((/*name*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*file*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val); 
             }
           return CUP$result;
@@ -2023,7 +1576,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 91: // generic_spec ::= DATTRIBUTE generic_expr SEP 
             {
-              CUP$result = new symbol(/*generic_spec*/63);
+              CUP$result = CUP$parser.new_symbol(/*generic_spec*/63);
               
             }
           return CUP$result;
@@ -2031,7 +1584,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 90: // generic_list ::= generic_spec 
             {
-              CUP$result = new symbol(/*generic_list*/62);
+              CUP$result = CUP$parser.new_symbol(/*generic_list*/62);
               
             }
           return CUP$result;
@@ -2039,7 +1592,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 89: // generic_list ::= generic_list generic_spec 
             {
-              CUP$result = new symbol(/*generic_list*/62);
+              CUP$result = CUP$parser.new_symbol(/*generic_list*/62);
               
             }
           return CUP$result;
@@ -2047,7 +1600,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 88: // generic_attributes ::= 
             {
-              CUP$result = new symbol(/*generic_attributes*/61);
+              CUP$result = CUP$parser.new_symbol(/*generic_attributes*/61);
               
             }
           return CUP$result;
@@ -2055,7 +1608,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 87: // generic_attributes ::= generic_list 
             {
-              CUP$result = new symbol(/*generic_attributes*/61);
+              CUP$result = CUP$parser.new_symbol(/*generic_attributes*/61);
               
             }
           return CUP$result;
@@ -2063,7 +1616,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 86: // enclosing_spec ::= 
             {
-              CUP$result = new symbol(/*enclosing_spec*/53);
+              CUP$result = CUP$parser.new_symbol(/*enclosing_spec*/53);
               
             }
           return CUP$result;
@@ -2071,7 +1624,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 85: // enclosing_spec ::= DENCLOSING METHOD Word SEP 
             {
-              CUP$result = new symbol(/*enclosing_spec*/53);
+              CUP$result = CUP$parser.new_symbol(/*enclosing_spec*/53);
                classFile.setEnclosingMethod((/*w*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
           return CUP$result;
@@ -2079,7 +1632,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 84: // debug_spec ::= DDEBUG Str SEP 
             {
-              CUP$result = new symbol(/*debug_spec*/58);
+              CUP$result = CUP$parser.new_symbol(/*debug_spec*/58);
                classFile.setSourceDebugExtension((/*s*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
           return CUP$result;
@@ -2087,7 +1640,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 83: // debug_list ::= debug_spec 
             {
-              CUP$result = new symbol(/*debug_list*/57);
+              CUP$result = CUP$parser.new_symbol(/*debug_list*/57);
               
             }
           return CUP$result;
@@ -2095,7 +1648,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 82: // debug_list ::= debug_list debug_spec 
             {
-              CUP$result = new symbol(/*debug_list*/57);
+              CUP$result = CUP$parser.new_symbol(/*debug_list*/57);
               
             }
           return CUP$result;
@@ -2103,7 +1656,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 81: // debug_extension ::= 
             {
-              CUP$result = new symbol(/*debug_extension*/52);
+              CUP$result = CUP$parser.new_symbol(/*debug_extension*/52);
               
             }
           return CUP$result;
@@ -2111,7 +1664,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 80: // debug_extension ::= debug_list 
             {
-              CUP$result = new symbol(/*debug_extension*/52);
+              CUP$result = CUP$parser.new_symbol(/*debug_extension*/52);
               
             }
           return CUP$result;
@@ -2119,7 +1672,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 79: // ann_def_expr ::= Word Word 
             {
-              CUP$result = new symbol(/*ann_def_expr*/87);
+              CUP$result = CUP$parser.new_symbol(/*ann_def_expr*/87);
                classFile.addAnnotationField(null, (/*dsc*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*sub*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val); 
             }
           return CUP$result;
@@ -2127,7 +1680,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 78: // ann_def_expr ::= Word 
             {
-              CUP$result = new symbol(/*ann_def_expr*/87);
+              CUP$result = CUP$parser.new_symbol(/*ann_def_expr*/87);
                classFile.addAnnotationField(null, (/*dsc*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val, null); 
             }
           return CUP$result;
@@ -2135,7 +1688,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 77: // ann_def_val ::= ann_def_expr EQ ann_value_list 
             {
-              CUP$result = new symbol(/*ann_def_val*/84);
+              CUP$result = CUP$parser.new_symbol(/*ann_def_val*/84);
               
             }
           return CUP$result;
@@ -2143,7 +1696,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 76: // ann_nest ::= SEP 
             {
-              CUP$result = new symbol(/*ann_nest*/89);
+              CUP$result = CUP$parser.new_symbol(/*ann_nest*/89);
                classFile.nestAnnotation(); 
             }
           return CUP$result;
@@ -2151,7 +1704,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 75: // ann_ann_value ::= DANNOTATION ann_nest ann_arglist endannotationsep 
             {
-              CUP$result = new symbol(/*ann_ann_value*/91);
+              CUP$result = CUP$parser.new_symbol(/*ann_ann_value*/91);
               
             }
           return CUP$result;
@@ -2159,7 +1712,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 74: // ann_ann_list ::= ann_ann_value 
             {
-              CUP$result = new symbol(/*ann_ann_list*/92);
+              CUP$result = CUP$parser.new_symbol(/*ann_ann_list*/92);
               
             }
           return CUP$result;
@@ -2167,7 +1720,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 73: // ann_ann_list ::= ann_ann_list ann_ann_value 
             {
-              CUP$result = new symbol(/*ann_ann_list*/92);
+              CUP$result = CUP$parser.new_symbol(/*ann_ann_list*/92);
               
             }
           return CUP$result;
@@ -2175,7 +1728,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 72: // ann_value ::= any_item 
             {
-              CUP$result = new symbol(/*ann_value*/86);
+              CUP$result = CUP$parser.new_symbol(/*ann_value*/86);
                classFile.addAnnotationValue((/*v*/(var_token)CUP$stack.elementAt(CUP$top-0)).var_val); 
             }
           return CUP$result;
@@ -2183,7 +1736,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 71: // ann_value_items ::= ann_value 
             {
-              CUP$result = new symbol(/*ann_value_items*/85);
+              CUP$result = CUP$parser.new_symbol(/*ann_value_items*/85);
               
             }
           return CUP$result;
@@ -2191,7 +1744,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 70: // ann_value_items ::= ann_value_items ann_value 
             {
-              CUP$result = new symbol(/*ann_value_items*/85);
+              CUP$result = CUP$parser.new_symbol(/*ann_value_items*/85);
               
             }
           return CUP$result;
@@ -2199,7 +1752,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 69: // ann_value_list ::= ann_ann_list 
             {
-              CUP$result = new symbol(/*ann_value_list*/93);
+              CUP$result = CUP$parser.new_symbol(/*ann_value_list*/93);
               
             }
           return CUP$result;
@@ -2207,7 +1760,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 68: // ann_value_list ::= ann_value_items SEP 
             {
-              CUP$result = new symbol(/*ann_value_list*/93);
+              CUP$result = CUP$parser.new_symbol(/*ann_value_list*/93);
               
             }
           return CUP$result;
@@ -2215,7 +1768,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 67: // ann_def_spec ::= DEFAULT SEP 
             {
-              CUP$result = new symbol(/*ann_def_spec*/83);
+              CUP$result = CUP$parser.new_symbol(/*ann_def_spec*/83);
                classFile.addAnnotation(); 
             }
           return CUP$result;
@@ -2223,7 +1776,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 66: // ann_arg_expr ::= Word Word Word 
             {
-              CUP$result = new symbol(/*ann_arg_expr*/88);
+              CUP$result = CUP$parser.new_symbol(/*ann_arg_expr*/88);
                classFile.addAnnotationField((/*n*/(str_token)CUP$stack.elementAt(CUP$top-2)).str_val, (/*dsc*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*sub*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val); 
             }
           return CUP$result;
@@ -2231,7 +1784,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 65: // ann_arg_expr ::= Word Word 
             {
-              CUP$result = new symbol(/*ann_arg_expr*/88);
+              CUP$result = CUP$parser.new_symbol(/*ann_arg_expr*/88);
                classFile.addAnnotationField((/*n*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*dsc*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val, null); 
             }
           return CUP$result;
@@ -2239,7 +1792,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 64: // ann_arg_spec ::= ann_arg_expr EQ ann_value_list 
             {
-              CUP$result = new symbol(/*ann_arg_spec*/82);
+              CUP$result = CUP$parser.new_symbol(/*ann_arg_spec*/82);
               
             }
           return CUP$result;
@@ -2247,7 +1800,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 63: // ann_arg_list ::= ann_arg_spec 
             {
-              CUP$result = new symbol(/*ann_arg_list*/81);
+              CUP$result = CUP$parser.new_symbol(/*ann_arg_list*/81);
               
             }
           return CUP$result;
@@ -2255,7 +1808,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 62: // ann_arg_list ::= ann_arg_list ann_arg_spec 
             {
-              CUP$result = new symbol(/*ann_arg_list*/81);
+              CUP$result = CUP$parser.new_symbol(/*ann_arg_list*/81);
               
             }
           return CUP$result;
@@ -2263,7 +1816,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 61: // ann_arglist ::= 
             {
-              CUP$result = new symbol(/*ann_arglist*/80);
+              CUP$result = CUP$parser.new_symbol(/*ann_arglist*/80);
               
             }
           return CUP$result;
@@ -2271,7 +1824,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 60: // ann_arglist ::= ann_arg_list 
             {
-              CUP$result = new symbol(/*ann_arglist*/80);
+              CUP$result = CUP$parser.new_symbol(/*ann_arglist*/80);
               
             }
           return CUP$result;
@@ -2279,7 +1832,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 59: // ann_met_expr ::= INVISIBLEPARAM Int classname SEP 
             {
-              CUP$result = new symbol(/*ann_met_expr*/79);
+              CUP$result = CUP$parser.new_symbol(/*ann_met_expr*/79);
                classFile.addAnnotation(false, (/*name*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*n*/(int_token)CUP$stack.elementAt(CUP$top-2)).int_val); 
             }
           return CUP$result;
@@ -2287,7 +1840,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 58: // ann_met_expr ::= VISIBLEPARAM Int classname SEP 
             {
-              CUP$result = new symbol(/*ann_met_expr*/79);
+              CUP$result = CUP$parser.new_symbol(/*ann_met_expr*/79);
                classFile.addAnnotation(true, (/*name*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val, (/*n*/(int_token)CUP$stack.elementAt(CUP$top-2)).int_val); 
             }
           return CUP$result;
@@ -2295,7 +1848,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 57: // ann_met_expr ::= INVISIBLE classname SEP 
             {
-              CUP$result = new symbol(/*ann_met_expr*/79);
+              CUP$result = CUP$parser.new_symbol(/*ann_met_expr*/79);
                classFile.addAnnotation(false, (/*name*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
           return CUP$result;
@@ -2303,7 +1856,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 56: // ann_met_expr ::= VISIBLE classname SEP 
             {
-              CUP$result = new symbol(/*ann_met_expr*/79);
+              CUP$result = CUP$parser.new_symbol(/*ann_met_expr*/79);
                classFile.addAnnotation(true, (/*name*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
           return CUP$result;
@@ -2311,7 +1864,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 55: // ann_clf_expr ::= INVISIBLE classname SEP 
             {
-              CUP$result = new symbol(/*ann_clf_expr*/78);
+              CUP$result = CUP$parser.new_symbol(/*ann_clf_expr*/78);
                classFile.addAnnotation(false, (/*name*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
           return CUP$result;
@@ -2319,7 +1872,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 54: // ann_clf_expr ::= VISIBLE classname SEP 
             {
-              CUP$result = new symbol(/*ann_clf_expr*/78);
+              CUP$result = CUP$parser.new_symbol(/*ann_clf_expr*/78);
                classFile.addAnnotation(true, (/*name*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
           return CUP$result;
@@ -2327,7 +1880,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 53: // ann_cls_expr ::= DANNOTATION ann_clf_expr 
             {
-              CUP$result = new symbol(/*ann_cls_expr*/77);
+              CUP$result = CUP$parser.new_symbol(/*ann_cls_expr*/77);
               
             }
           return CUP$result;
@@ -2335,7 +1888,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 52: // endannotation ::= DEND ANNOTATION 
             {
-              CUP$result = new symbol(/*endannotation*/76);
+              CUP$result = CUP$parser.new_symbol(/*endannotation*/76);
                classFile.endAnnotation(); 
             }
           return CUP$result;
@@ -2343,7 +1896,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 51: // endannotationsep ::= endannotation SEP 
             {
-              CUP$result = new symbol(/*endannotationsep*/90);
+              CUP$result = CUP$parser.new_symbol(/*endannotationsep*/90);
               
             }
           return CUP$result;
@@ -2351,7 +1904,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 50: // ann_cls_spec ::= ann_cls_expr ann_arglist endannotationsep 
             {
-              CUP$result = new symbol(/*ann_cls_spec*/75);
+              CUP$result = CUP$parser.new_symbol(/*ann_cls_spec*/75);
               
             }
           return CUP$result;
@@ -2359,7 +1912,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 49: // ann_cls_list ::= ann_cls_spec 
             {
-              CUP$result = new symbol(/*ann_cls_list*/74);
+              CUP$result = CUP$parser.new_symbol(/*ann_cls_list*/74);
               
             }
           return CUP$result;
@@ -2367,7 +1920,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 48: // ann_cls_list ::= ann_cls_list ann_cls_spec 
             {
-              CUP$result = new symbol(/*ann_cls_list*/74);
+              CUP$result = CUP$parser.new_symbol(/*ann_cls_list*/74);
               
             }
           return CUP$result;
@@ -2375,7 +1928,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 47: // annotations ::= 
             {
-              CUP$result = new symbol(/*annotations*/73);
+              CUP$result = CUP$parser.new_symbol(/*annotations*/73);
               
             }
           return CUP$result;
@@ -2383,7 +1936,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 46: // annotations ::= ann_cls_list 
             {
-              CUP$result = new symbol(/*annotations*/73);
+              CUP$result = CUP$parser.new_symbol(/*annotations*/73);
               
             }
           return CUP$result;
@@ -2391,7 +1944,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 45: // implements_spec ::= DIMPLEMENTS classname SEP 
             {
-              CUP$result = new symbol(/*implements_spec*/24);
+              CUP$result = CUP$parser.new_symbol(/*implements_spec*/24);
                classFile.addInterface((/*name*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
           return CUP$result;
@@ -2399,7 +1952,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 44: // implements_list ::= implements_spec 
             {
-              CUP$result = new symbol(/*implements_list*/23);
+              CUP$result = CUP$parser.new_symbol(/*implements_list*/23);
               
             }
           return CUP$result;
@@ -2407,7 +1960,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 43: // implements_list ::= implements_list implements_spec 
             {
-              CUP$result = new symbol(/*implements_list*/23);
+              CUP$result = CUP$parser.new_symbol(/*implements_list*/23);
               
             }
           return CUP$result;
@@ -2415,7 +1968,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 42: // implements ::= 
             {
-              CUP$result = new symbol(/*implements*/22);
+              CUP$result = CUP$parser.new_symbol(/*implements*/22);
               
             }
           return CUP$result;
@@ -2423,7 +1976,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 41: // implements ::= implements_list 
             {
-              CUP$result = new symbol(/*implements*/22);
+              CUP$result = CUP$parser.new_symbol(/*implements*/22);
               
             }
           return CUP$result;
@@ -2431,7 +1984,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 40: // super_spec ::= DSUPER classname SEP 
             {
-              CUP$result = new symbol(/*super_spec*/42);
+              CUP$result = CUP$parser.new_symbol(/*super_spec*/42);
                classFile.setSuperClass((/*name*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
           return CUP$result;
@@ -2439,7 +1992,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 39: // access_item ::= SYNTHETIC 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_SYNTHETIC; 
             }
           return CUP$result;
@@ -2447,7 +2000,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 38: // access_item ::= STRICT 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_STRICT; 
             }
           return CUP$result;
@@ -2455,7 +2008,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 37: // access_item ::= VARARGS 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_VARARGS; 
             }
           return CUP$result;
@@ -2463,7 +2016,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 36: // access_item ::= BRIDGE 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_BRIDGE; 
             }
           return CUP$result;
@@ -2471,7 +2024,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 35: // access_item ::= ENUM 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_ENUM; 
             }
           return CUP$result;
@@ -2479,7 +2032,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 34: // access_item ::= ANNOTATION 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_ANNOTATION; 
             }
           return CUP$result;
@@ -2487,7 +2040,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 33: // access_item ::= ABSTRACT 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_ABSTRACT; 
             }
           return CUP$result;
@@ -2495,7 +2048,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 32: // access_item ::= INTERFACE 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_INTERFACE; 
             }
           return CUP$result;
@@ -2503,7 +2056,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 31: // access_item ::= NATIVE 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_NATIVE; 
             }
           return CUP$result;
@@ -2511,7 +2064,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 30: // access_item ::= TRANSIENT 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_TRANSIENT; 
             }
           return CUP$result;
@@ -2519,7 +2072,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 29: // access_item ::= VOLATILE 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_VOLATILE; 
             }
           return CUP$result;
@@ -2527,7 +2080,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 28: // access_item ::= SYNCHRONIZED 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_SYNCHRONIZED; 
             }
           return CUP$result;
@@ -2535,7 +2088,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 27: // access_item ::= FINAL 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_FINAL; 
             }
           return CUP$result;
@@ -2543,7 +2096,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 26: // access_item ::= STATIC 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_STATIC; 
             }
           return CUP$result;
@@ -2551,7 +2104,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 25: // access_item ::= PROTECTED 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_PROTECTED; 
             }
           return CUP$result;
@@ -2559,7 +2112,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 24: // access_item ::= PRIVATE 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_PRIVATE; 
             }
           return CUP$result;
@@ -2567,7 +2120,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 23: // access_item ::= PUBLIC 
             {
-              CUP$result = new symbol(/*access_item*/9);
+              CUP$result = CUP$parser.new_symbol(/*access_item*/9);
                access_val |= RuntimeConstants.ACC_PUBLIC; 
             }
           return CUP$result;
@@ -2575,7 +2128,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 22: // access_items ::= access_item 
             {
-              CUP$result = new symbol(/*access_items*/10);
+              CUP$result = CUP$parser.new_symbol(/*access_items*/10);
               
             }
           return CUP$result;
@@ -2583,7 +2136,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 21: // access_items ::= access_items access_item 
             {
-              CUP$result = new symbol(/*access_items*/10);
+              CUP$result = CUP$parser.new_symbol(/*access_items*/10);
               
             }
           return CUP$result;
@@ -2591,7 +2144,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 20: // access_list ::= 
             {
-              CUP$result = new symbol(/*access_list*/11);
+              CUP$result = CUP$parser.new_symbol(/*access_list*/11);
               
             }
           return CUP$result;
@@ -2599,7 +2152,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 19: // access_list ::= access_items 
             {
-              CUP$result = new symbol(/*access_list*/11);
+              CUP$result = CUP$parser.new_symbol(/*access_list*/11);
               
             }
           return CUP$result;
@@ -2631,7 +2184,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 15: // class_spec ::= DINTERFACE access classname SEP 
             {
-              CUP$result = new symbol(/*class_spec*/13);
+              CUP$result = CUP$parser.new_symbol(/*class_spec*/13);
                classFile.setClass((/*name*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val,
                 (short)((/*a*/(int_token)CUP$stack.elementAt(CUP$top-2)).int_val |
                         RuntimeConstants.ACC_SUPER |
@@ -2642,7 +2195,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 14: // class_spec ::= DCLASS access classname SEP 
             {
-              CUP$result = new symbol(/*class_spec*/13);
+              CUP$result = CUP$parser.new_symbol(/*class_spec*/13);
                classFile.setClass((/*name*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val,
                 (short)((/*a*/(int_token)CUP$stack.elementAt(CUP$top-2)).int_val | RuntimeConstants.ACC_SUPER)); 
             }
@@ -2651,7 +2204,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 13: // source_spec ::= 
             {
-              CUP$result = new symbol(/*source_spec*/38);
+              CUP$result = CUP$parser.new_symbol(/*source_spec*/38);
               
             }
           return CUP$result;
@@ -2659,7 +2212,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 12: // source_spec ::= DSOURCE Word SEP 
             {
-              CUP$result = new symbol(/*source_spec*/38);
+              CUP$result = CUP$parser.new_symbol(/*source_spec*/38);
                classFile.setSource((/*w*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
           return CUP$result;
@@ -2667,7 +2220,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 11: // source_spec ::= DSOURCE Str SEP 
             {
-              CUP$result = new symbol(/*source_spec*/38);
+              CUP$result = CUP$parser.new_symbol(/*source_spec*/38);
                classFile.setSource((/*s*/(str_token)CUP$stack.elementAt(CUP$top-1)).str_val); 
             }
           return CUP$result;
@@ -2675,7 +2228,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 10: // bytecode_spec ::= 
             {
-              CUP$result = new symbol(/*bytecode_spec*/51);
+              CUP$result = CUP$parser.new_symbol(/*bytecode_spec*/51);
               
             }
           return CUP$result;
@@ -2683,7 +2236,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 9: // bytecode_spec ::= DBYTECODE Num SEP 
             {
-              CUP$result = new symbol(/*bytecode_spec*/51);
+              CUP$result = CUP$parser.new_symbol(/*bytecode_spec*/51);
                classFile.setVersion((/*n*/(num_token)CUP$stack.elementAt(CUP$top-1)).num_val); 
             }
           return CUP$result;
@@ -2691,7 +2244,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 8: // deprecated_expr ::= 
             {
-              CUP$result = new symbol(/*deprecated_expr*/60);
+              CUP$result = CUP$parser.new_symbol(/*deprecated_expr*/60);
                classFile.setDeprecated(); 
             }
           return CUP$result;
@@ -2699,7 +2252,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 7: // deprecated_spec ::= 
             {
-              CUP$result = new symbol(/*deprecated_spec*/59);
+              CUP$result = CUP$parser.new_symbol(/*deprecated_spec*/59);
               
             }
           return CUP$result;
@@ -2707,7 +2260,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 6: // deprecated_spec ::= DDEPRECATED deprecated_expr SEP 
             {
-              CUP$result = new symbol(/*deprecated_spec*/59);
+              CUP$result = CUP$parser.new_symbol(/*deprecated_spec*/59);
               
             }
           return CUP$result;
@@ -2715,7 +2268,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 5: // signature_expr ::= Str 
             {
-              CUP$result = new symbol(/*signature_expr*/55);
+              CUP$result = CUP$parser.new_symbol(/*signature_expr*/55);
                classFile.setSignature((/*sig*/(str_token)CUP$stack.elementAt(CUP$top-0)).str_val); 
             }
           return CUP$result;
@@ -2723,7 +2276,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 4: // signature_spec ::= 
             {
-              CUP$result = new symbol(/*signature_spec*/54);
+              CUP$result = CUP$parser.new_symbol(/*signature_spec*/54);
               
             }
           return CUP$result;
@@ -2731,7 +2284,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 3: // signature_spec ::= DSIGNATURE signature_expr SEP 
             {
-              CUP$result = new symbol(/*signature_spec*/54);
+              CUP$result = CUP$parser.new_symbol(/*signature_spec*/54);
               
             }
           return CUP$result;
@@ -2739,7 +2292,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 2: // jasmin_header ::= bytecode_spec source_spec class_spec super_spec implements signature_spec enclosing_spec deprecated_spec annotations generic_attributes debug_extension 
             {
-              CUP$result = new symbol(/*jasmin_header*/56);
+              CUP$result = CUP$parser.new_symbol(/*jasmin_header*/56);
                classFile.endHeader(); 
             }
           return CUP$result;
@@ -2757,7 +2310,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 0: // jas_file ::= jasmin_header inners fields methods 
             {
-              CUP$result = new symbol(/*jas_file*/25);
+              CUP$result = CUP$parser.new_symbol(/*jas_file*/25);
               
             }
           return CUP$result;
@@ -2769,5 +2322,5 @@ class CUP$actions {
 
         }
     }
-};
+};
 
@@ -31,6 +31,8 @@ import java.io.*;
  *   <dd> number of conflicts expected/allowed [default 0]
  *   <dt> -compact_red
  *   <dd> compact tables by defaulting to most frequent reduce
+ *   <dt> -comb_tables
+ *   <dd> also emit comb vector tables for constant time action lookup
  *   <dt> -nowarn
  *   <dd> don't warn about useless productions, etc.
  *   <dt> -nosummary
@@ -220,6 +222,7 @@ public class Main {
 "    -nonterms      put non terminals in symbol constant class\n" +
 "    -expect #      number of conflicts expected/allowed [default 0]\n" +
 "    -compact_red   compact tables by defaulting to most frequent reduce\n" +
+"    -comb_tables   also emit comb vector tables for constant time lookup\n" +
 "    -nowarn        don't warn about useless productions, etc.\n" +
 "    -nosummary     don't print the usual summary of parse states, etc.\n" +
 "    -progress      print messages to indicate progress of the system\n" +
@@ -321,6 +324,7 @@ public class Main {
                 usage("-out argument must be a valid existing path");
 	    }
 	  else if (argv[i].equals("-compact_red"))  opt_compact_red = true;
+	  else if (argv[i].equals("-comb_tables"))  emit.comb_tables = true;
 	  else if (argv[i].equals("-nosummary"))    no_summary = true;
 	  else if (argv[i].equals("-nowarn"))       emit.nowarn = true;
 	  else if (argv[i].equals("-dump_states"))  opt_dump_states = true;
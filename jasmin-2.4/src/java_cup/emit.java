@@ -65,6 +65,8 @@ import java.util.Date;
      emit_production_table - emit declaration and init for the production table
      do_action_table       - emit declaration and init for the action table
      do_reduce_table       - emit declaration and init for the reduce-goto table
+     do_table_as_string    - emit a table packed into String constants
+     comb_table            - build the comb vector form of a table
 
    Finally, this class uses a number of public instance variables to communicate
    optional parameters and flags used to control how code is generated,
@@ -88,6 +90,7 @@ import java.util.Date;
    import_list             - list of imports for use with action class.
    num_conflicts           - number of conflicts detected.
    nowarn                  - true if we are not to issue warning messages.
+   comb_tables             - true if we also emit comb vector tables.
    not_reduced             - count of number of productions that never reduce.
    unused_term             - count of unused terminal symbols.
    unused_non_term         - count of unused non terminal symbols.
@@ -172,6 +175,12 @@ public class emit {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** User option -- do we also emit the action and reduce-goto tables in
+   *  comb vector form (see comb_table()). */
+  public static boolean comb_tables = false;
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** Count of the number on non-reduced productions found. */
   public static int not_reduced = 0;
 
@@ -305,6 +314,7 @@ public class emit {
     throws internal_error
     {
       production prod;
+      String     lhs_type;
 
       long start_time = System.currentTimeMillis();
 
@@ -334,7 +344,7 @@ public class emit {
 		     pre("do_action") + "(");
       out.println("    int                        " + pre("act_num,"));
       out.println("    java_cup.runtime.lr_parser " + pre("parser,"));
-      out.println("    java.util.Stack            " + pre("stack,"));
+      out.println("    java_cup.runtime.parse_stack " + pre("stack,"));
       out.println("    int                        " + pre("top)"));
       out.println("    throws java.lang.Exception");
       out.println("    {");
@@ -367,11 +377,20 @@ public class emit {
             out.println("             " +debug_grammar+ "(\"" +
                         prod.to_simple_string() + "\");");
 
-	  /* create the result symbol */
-	  out.println("              " + pre("result") + " = new " +
-	    prod.lhs().the_symbol().stack_type() + "(/*" +
-	    prod.lhs().the_symbol().name() + "*/" +
-	    prod.lhs().the_symbol().index() + ");");
+	  /* create the result symbol (plain symbols come from the parser's 
+	     pool rather than being allocated each time) */
+	  lhs_type = prod.lhs().the_symbol().stack_type();
+	  if (lhs_type.equals("symbol") || 
+	      lhs_type.equals("java_cup.runtime.symbol"))
+	    out.println("              " + pre("result") + " = " +
+	      pre("parser") + ".new_symbol(/*" +
+	      prod.lhs().the_symbol().name() + "*/" +
+	      prod.lhs().the_symbol().index() + ");");
+	  else
+	    out.println("              " + pre("result") + " = new " +
+	      lhs_type + "(/*" +
+	      prod.lhs().the_symbol().name() + "*/" +
+	      prod.lhs().the_symbol().index() + ");");
 
 	  /* if there is an action string, emit it */
 	  if (prod.action() != null && prod.action().code_string() != null &&
@@ -420,14 +439,10 @@ public class emit {
     {
       production all_prods[];
       production prod;
+      short prod_table[][];
 
       long start_time = System.currentTimeMillis();
 
-      /* do the top of the table */
-      out.println();
-      out.println("  /** production table */");
-      out.println("  protected static final short _production_table[][] = {");
-
       /* collect up the productions in order */
       all_prods = new production[production.number()];
       for (Enumeration p = production.all(); p.hasMoreElements(); )
@@ -437,29 +452,22 @@ public class emit {
 	}
 
       /* do one entry per production */
-      out.print("    ");
+      prod_table = new short[production.number()][];
       for (int i = 0; i<production.number(); i++)
 	{
 	  prod = all_prods[i];
 
 	  /* make the table entry */
-	  out.print("    {");
-	  out.print(/* lhs symbol # */ prod.lhs().the_symbol().index() + ", ");
-	  out.print(/* rhs size */     prod.rhs_length() + "}");
-
-	  /* put in a comma if we aren't at the end */
-	  if (i < production.number()-1) out.print(", ");
-
-	  /* 5 entries per line */
-	  if ((i+1) % 5 == 0)
-	    {
-	      out.println();
-	      out.print("    ");
-	    }
+	  prod_table[i] = new short[2];
+	  prod_table[i][0] = (short)/* lhs symbol # */ prod.lhs().the_symbol().index();
+	  prod_table[i][1] = (short)/* rhs size */     prod.rhs_length();
 	}
 
-      /* finish off the table initializer */
-      out.println("  };");
+      /* emit the table as packed strings */
+      out.println();
+      out.println("  /** production table */");
+      out.println("  protected static final short _production_table[][] = ");
+      do_table_as_string(out, prod_table);
 
       /* do the public accessor method */
       out.println();
@@ -486,12 +494,14 @@ public class emit {
       parse_action_row row;
       parse_action     act;
       int              red;
+      short            action_table[][];
+      short            temp_table[];
+      int              nentries;
 
       long start_time = System.currentTimeMillis();
 
-      out.println();
-      out.println("  /** parse action table */");
-      out.println("  protected static final short[][] _action_table = {");
+      action_table = new short[act_tab.num_states()][];
+      temp_table = new short[2*parse_action_row.size()+2];
 
       /* do each state (row) of the action table */
       for (int i = 0; i < act_tab.num_states(); i++)
@@ -505,7 +515,7 @@ public class emit {
 	  else
 	    row.default_reduce = -1;
 
-	  out.print("    /*" + i + "*/{");
+	  nentries = 0;
 
 	  /* do each column */
 	  for (int j = 0; j < row.size(); j++)
@@ -521,8 +531,9 @@ public class emit {
 		  /* shifts get positive entries of state number + 1 */
 		  if (act.kind() == parse_action.SHIFT)
 		    {
-		    out.print(j + "," +
-			    (((shift_action)act).shift_to().index() + 1) + ",");
+		      temp_table[nentries++] = (short)j;
+		      temp_table[nentries++] = (short)
+			(((shift_action)act).shift_to().index() + 1);
 		    }
 
 		  /* reduce actions get negated entries of production# + 1 */
@@ -531,7 +542,10 @@ public class emit {
 		      /* if its the default entry let it get defaulted out */
 		      red = ((reduce_action)act).reduce_with().index();
 		      if (red != row.default_reduce)
-		        out.print(j + "," + (-(red+1)) + ",");
+			{
+			  temp_table[nentries++] = (short)j;
+			  temp_table[nentries++] = (short)(-(red+1));
+			}
 		    }
 
 		  /* shouldn't be anything else */
@@ -542,20 +556,40 @@ public class emit {
 	    }
 
 	  /* finish off the row with a default entry */
+	  temp_table[nentries++] = -1;
 	  if (row.default_reduce != -1)
-	    out.println("-1," + (-(row.default_reduce+1)) + "},");
+	    temp_table[nentries++] = (short)(-(row.default_reduce+1));
 	  else
-	    out.println("-1,0},");
+	    temp_table[nentries++] = 0;
+
+	  /* copy it into the result table */
+	  action_table[i] = new short[nentries];
+	  System.arraycopy(temp_table, 0, action_table[i], 0, nentries);
 	}
 
-      /* finish off the init of the table */
-      out.println("  };");
+      /* emit the table as packed strings */
+      out.println();
+      out.println("  /** parse action table */");
+      out.println("  protected static final short[][] _action_table = ");
+      do_table_as_string(out, action_table);
 
       /* do the public accessor method */
       out.println();
       out.println("  /** access to parse action table */");
       out.println("  public short[][] action_table() {return _action_table;}");
 
+      /* and the comb vector form if it was asked for */
+      if (comb_tables)
+	{
+	  out.println();
+	  out.println("  /** parse action table in comb vector form */");
+	  out.println("  protected static final short[][] _action_comb = ");
+	  do_table_as_string(out, comb_table(action_table));
+	  out.println();
+	  out.println("  /** access to comb vector action table */");
+	  out.println("  public short[][] action_comb() {return _action_comb;}");
+	}
+
       action_table_time = System.currentTimeMillis() - start_time;
     }
 
@@ -568,20 +602,22 @@ public class emit {
   protected static void do_reduce_table(
     PrintStream out,
     parse_reduce_table red_tab)
+    throws internal_error
     {
       lalr_state       goto_st;
-      parse_action     act;
+      short            reduce_goto_table[][];
+      short            temp_table[];
+      int              nentries;
 
       long start_time = System.currentTimeMillis();
 
-      out.println();
-      out.println("  /** reduce_goto table */");
-      out.println("  protected static final short[][] _reduce_table = {");
+      reduce_goto_table = new short[red_tab.num_states()][];
+      temp_table = new short[2*parse_reduce_row.size()+2];
 
       /* do each row of the reduce-goto table */
       for (int i=0; i<red_tab.num_states(); i++)
 	{
-	  out.print("    /*" + i + "*/{");
+	  nentries = 0;
 
 	  /* do each entry in the row */
 	  for (int j=0; j<red_tab.under_state[i].size(); j++)
@@ -593,16 +629,25 @@ public class emit {
 	      if (goto_st != null)
 		{
 		  /* make entries for the index and the value */
-		  out.print(j + "," + goto_st.index() + ",");
+		  temp_table[nentries++] = (short)j;
+		  temp_table[nentries++] = (short)goto_st.index();
 		}
 	    }
 
 	  /* end row with default value */
-	  out.println("-1,-1},");
+	  temp_table[nentries++] = -1;
+	  temp_table[nentries++] = -1;
+
+	  /* copy it into the result table */
+	  reduce_goto_table[i] = new short[nentries];
+	  System.arraycopy(temp_table, 0, reduce_goto_table[i], 0, nentries);
 	}
 
-      /* finish off the init of the table */
-      out.println("  };");
+      /* emit the table as packed strings */
+      out.println();
+      out.println("  /** reduce_goto table */");
+      out.println("  protected static final short[][] _reduce_table = ");
+      do_table_as_string(out, reduce_goto_table);
 
       /* do the public accessor method */
       out.println();
@@ -610,11 +655,207 @@ public class emit {
       out.println("  public short[][] reduce_table() {return _reduce_table;}");
       out.println();
 
+      /* and the comb vector form if it was asked for */
+      if (comb_tables)
+	{
+	  out.println("  /** reduce_goto table in comb vector form */");
+	  out.println("  protected static final short[][] _reduce_comb = ");
+	  do_table_as_string(out, comb_table(reduce_goto_table));
+	  out.println();
+	  out.println("  /** access to comb vector reduce_goto table */");
+	  out.println("  public short[][] reduce_comb() {return _reduce_comb;}");
+	  out.println();
+	}
+
       goto_table_time = System.currentTimeMillis() - start_time;
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** Build the comb vector (row displacement) form of a parse table.  The
+   *  input is in the usual compacted form: each row is a list of index, 
+   *  value pairs ended by a -1 index and the default value.  All rows are
+   *  overlaid into a single pair of vectors, "check" and "next", by giving 
+   *  each row a base offset such that none of its entries collide with 
+   *  those of rows already placed.  Entry [state, sym] then lives at 
+   *  base[state] + sym if check[base[state] + sym] == state, and is the
+   *  row default otherwise, so a lookup takes constant time instead of a 
+   *  search of the row.  Rows are placed densest first, each at the lowest
+   *  base that fits (first fit), which keeps the vectors short.  <p>
+   *
+   *  The result has four rows: base and default (indexed by state), then 
+   *  check and next.
+   *
+   * @param rows the table in compacted form.
+   */
+  protected static short[][] comb_table(short[][] rows) throws internal_error
+    {
+      int nstates = rows.length;
+      short[] base    = new short[nstates];
+      short[] dflt    = new short[nstates];
+      int[]   order   = new int[nstates];
+      int[]   check   = new int[64];
+      short[] next    = new short[64];
+      int     top     = 0;
+
+      /* note the default of each row and sort rows densest first */
+      for (int s = 0; s < nstates; s++)
+	{
+	  dflt[s] = rows[s][rows[s].length-1];
+	  order[s] = s;
+	}
+      for (int i = 1; i < nstates; i++)
+	{
+	  int s = order[i], j = i;
+	  for (; j > 0 && rows[order[j-1]].length < rows[s].length; j--)
+	    order[j] = order[j-1];
+	  order[j] = s;
+	}
+      java.util.Arrays.fill(check, -1);
+
+      /* place each row at the first base where all of its entries fit */
+      for (int i = 0; i < nstates; i++)
+	{
+	  int s = order[i];
+	  short[] row = rows[s];
+	  int b;
+
+	  /* a row with nothing but a default needs no entries */
+	  if (row.length == 2)
+	    continue;
+
+	  for (b = 0; ; b++)
+	    {
+	      int k;
+	      for (k = 0; k < row.length - 2; k += 2)
+		if (b + row[k] < check.length && check[b + row[k]] != -1)
+		  break;
+	      if (k >= row.length - 2)
+		break;
+	    }
+
+	  /* grow the vectors if needed, then fill in the entries */
+	  for (int k = 0; k < row.length - 2; k += 2)
+	    {
+	      int pos = b + row[k];
+	      while (pos >= check.length)
+		{
+		  int[] new_check = new int[check.length * 2];
+		  short[] new_next = new short[check.length * 2];
+		  java.util.Arrays.fill(new_check, -1);
+		  System.arraycopy(check, 0, new_check, 0, check.length);
+		  System.arraycopy(next, 0, new_next, 0, next.length);
+		  check = new_check;
+		  next = new_next;
+		}
+	      check[pos] = s;
+	      next[pos] = row[k+1];
+	      if (pos >= top)
+		top = pos + 1;
+	    }
+
+	  if (b > Short.MAX_VALUE || top > Short.MAX_VALUE)
+	    throw new internal_error(
+	      "Parse table too large for comb vector form");
+	  base[s] = (short)b;
+	}
+
+      /* trim the vectors to the used length */
+      short[][] result = new short[4][];
+      result[0] = base;
+      result[1] = dflt;
+      result[2] = new short[top];
+      result[3] = new short[top];
+      for (int i = 0; i < top; i++)
+	{
+	  result[2][i] = (short)check[i];
+	  result[3][i] = next[i];
+	}
+      return result;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Characters per String piece of a packed table.  Each character takes
+   *  at most 3 bytes in the class file, keeping a piece under the 65535 
+   *  byte limit on a constant.
+   */
+  protected static final int PACKED_PIECE = 16384;
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Emit a parse table as an initializer that unpacks it from an array of
+   *  String constants at class initialization time (see
+   *  lr_parser.unpack_table()).  A table written out as nested array 
+   *  initializers compiles to a very large static initializer that has to
+   *  store every element one by one; packed into Strings, the table sits in 
+   *  the constant pool and is rebuilt by a single short loop.  The packed
+   *  form is the number of rows, then for each row its length followed by 
+   *  its entries, each entry offset by 2 so the common -1 and 0 values 
+   *  stay small.  The data is split into pieces so no String constant 
+   *  comes near the class file size limit.
+   *
+   * @param out stream to produce output on.
+   * @param sa  the table to emit.
+   */
+  protected static void do_table_as_string(PrintStream out, short[][] sa)
+    {
+      StringBuffer packed = new StringBuffer();
+
+      /* flatten the table */
+      packed.append((char)sa.length);
+      for (int i = 0; i < sa.length; i++)
+	{
+	  packed.append((char)sa[i].length);
+	  for (int j = 0; j < sa[i].length; j++)
+	    packed.append((char)(sa[i][j] + 2));
+	}
+
+      /* emit it 32 characters per line, starting a new String every
+	 PACKED_PIECE characters (lines within a piece are joined with + and
+	 folded into a single constant by the compiler) */
+      out.println("    unpack_table(new String[] {");
+      for (int i = 0; i < packed.length(); i += 32)
+	{
+	  out.print("    \"");
+	  for (int j = i; j < i + 32 && j < packed.length(); j++)
+	    do_escaped(out, packed.charAt(j));
+	  if (i + 32 >= packed.length())
+	    out.println("\" });");
+	  else if ((i + 32) % PACKED_PIECE == 0)
+	    out.println("\",");
+	  else
+	    out.println("\" +");
+	}
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Emit one character of a String constant, escaped if needed.  Unicode
+   *  escapes are only used for characters above 0xff, so that no escape can
+   *  turn into a line terminator or quote before the Java lexer sees it.
+   *
+   * @param out stream to produce output on.
+   * @param c   the character to emit.
+   */
+  protected static void do_escaped(PrintStream out, char c)
+    {
+      if (c >= ' ' && c < 127 && c != '"' && c != '\\')
+	out.print(c);
+      else if (c < 256)
+	{
+	  String oct = Integer.toOctalString(c);
+	  out.print("\\" + "000".substring(oct.length()) + oct);
+	}
+      else
+	{
+	  String hex = Integer.toHexString(c);
+	  out.print("\\u" + "0000".substring(hex.length()) + hex);
+	}
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** Emit the parser subclass with embedded tables.
    * @param out             stream to produce output on.
    * @param action_table    internal representation of the action table.
@@ -681,7 +922,7 @@ public class emit {
       out.println("  public java_cup.runtime.symbol do_action(");
       out.println("    int                        act_num,");
       out.println("    java_cup.runtime.lr_parser parser,");
-      out.println("    java.util.Stack            stack,");
+      out.println("    java_cup.runtime.parse_stack stack,");
       out.println("    int                        top)");
       out.println("    throws java.lang.Exception");
       out.println("  {");
@@ -45,7 +45,6 @@ public class lalr_item extends lr_item_core {
     {
       super(prod, pos);
       _lookahead = look;
-      _propagate_items = new Stack();
       needs_propagation = true;
     }
 
@@ -85,8 +84,14 @@ public class lalr_item extends lr_item_core {
   /** Links to items that the lookahead needs to be propagated to. */
   protected Stack _propagate_items; 
 
-  /** Links to items that the lookahead needs to be propagated to */
-  public Stack propagate_items() {return _propagate_items;}
+  /** Links to items that the lookahead needs to be propagated to (the 
+   *  Stack is only created when first asked for, since the machine builder 
+   *  does not use these links). */
+  public Stack propagate_items() 
+    {
+      if (_propagate_items == null) _propagate_items = new Stack();
+      return _propagate_items;
+    }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
@@ -100,7 +105,7 @@ public class lalr_item extends lr_item_core {
   /** Add a new item to the set of items we propagate to. */
   public void add_propagate(lalr_item prop_to)
     {
-      _propagate_items.push(prop_to);
+      propagate_items().push(prop_to);
       needs_propagation = true;
     }
 
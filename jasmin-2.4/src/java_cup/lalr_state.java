@@ -3,7 +3,8 @@ package java_cup;
 
 import java.util.Hashtable;
 import java.util.Enumeration;
-import java.util.Stack;
+import java.util.Vector;
+import java.util.BitSet;
 
 /** This class represents a state in the LALR viable prefix recognition machine.
  *  A state consists of an LALR item set and a set of transitions to other 
@@ -97,7 +98,7 @@ public class lalr_state {
 
   /** Hash table to find states by their kernels (i.e, the original, 
    *  unclosed, set of items -- which uniquely define the state).  This table 
-   *  stores state objects using (a copy of) their kernel item sets as keys. 
+   *  stores state objects using the kernel_key() of their kernels as keys. 
    */
   protected static Hashtable _all_kernels = new Hashtable();
 
@@ -149,6 +150,18 @@ public class lalr_state {
   /** Index of this state in the parse tables */
   public int index() {return _index;}
 
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Numbers of the items in this state, in increasing order (see 
+   *  number_items()). */
+  protected int[] _item_ids;
+
+  /** The items of this state, in the same order as _item_ids. */
+  protected lalr_item[] _item_objs;
+
+  /** The state reached from this one under each symbol number, or -1. */
+  protected int[] _goto_state;
+
   /*-----------------------------------------------------------*/
   /*--- Static Methods ----------------------------------------*/
   /*-----------------------------------------------------------*/
@@ -191,23 +204,245 @@ public class lalr_state {
       System.out.println("}");
     }
 
+  /*-----------------------------------------------------------*/
+  /*--- Machine Construction Tables ---------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /* While the machine is being built, items and symbols are referred to
+     by number.  Item cores are numbered production by production, so the
+     item for production p with the dot at position pos is numbered
+     item_base[p.index()] + pos.  Symbols are numbered with the terminals
+     first (by their index) followed by the non terminals (numbered
+     terminal.number() + their index).  lalr_item objects are only created
+     once we know the items of each state. */
+
+  /** First item number for each production (indexed by production). */
+  protected static int[] item_base;
+
+  /** Production of each item. */
+  protected static production[] item_prod;
+
+  /** Dot position of each item. */
+  protected static int[] item_pos;
+
+  /** Number of the symbol after the dot in each item (-1 if none). */
+  protected static int[] item_sym;
+
+  /** For each item, whether everything after the symbol after the dot is
+   *  nullable (see lalr_item.lookahead_visible()). */
+  protected static boolean[] item_visible;
+
+  /** Symbols indexed by symbol number. */
+  protected static symbol[] sym_by_num;
+
+  /** For each non terminal, the set of (dot at start) items added to a
+   *  state by closure when that non terminal appears after a dot. */
+  protected static BitSet[] nt_closure;
+
+  /** All states in index order. */
+  protected static Vector state_list = new Vector();
+
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
-  /** Propagate lookahead sets through the constructed viable prefix 
-   *  recognizer.  When the machine is constructed, each item that results
-      in the creation of another such that its lookahead is included in the
-      other's will have a propagate link set up for it.  This allows additions
-      to the lookahead of one item to be included in other items that it 
-      was used to directly or indirectly create.
+  /** Number the items and symbols of the grammar and precompute the
+   *  closure of each non terminal.
    */
-  protected static void propagate_all_lookaheads() throws internal_error
+  protected static void number_items() throws internal_error
     {
-      /* iterate across all states */
-      for (Enumeration st = all(); st.hasMoreElements(); )
+      int             nterms = terminal.number();
+      int             nprods = production.number();
+      production[]    prods  = new production[nprods];
+      production      prod;
+      production_part part;
+      symbol          sym;
+      boolean         visible;
+      int             total, id;
+
+      /* gather the symbols and productions up by number */
+      sym_by_num = new symbol[nterms + non_terminal.number()];
+      for (int t = 0; t < nterms; t++)
+	sym_by_num[t] = terminal.find(t);
+      for (Enumeration e = non_terminal.all(); e.hasMoreElements(); )
+	{
+	  sym = (symbol)e.nextElement();
+	  sym_by_num[nterms + sym.index()] = sym;
+	}
+      for (Enumeration e = production.all(); e.hasMoreElements(); )
 	{
-	  /* propagate lookaheads out of that state */
-	  ((lalr_state)st.nextElement()).propagate_lookaheads();
+	  prod = (production)e.nextElement();
+	  prods[prod.index()] = prod;
 	}
+
+      /* each production has one item per dot position */
+      item_base = new int[nprods];
+      total = 0;
+      for (int p = 0; p < nprods; p++)
+	{
+	  item_base[p] = total;
+	  total += prods[p].rhs_length() + 1;
+	}
+
+      item_prod    = new production[total];
+      item_pos     = new int[total];
+      item_sym     = new int[total];
+      item_visible = new boolean[total];
+
+      /* fill in the items of each production working back from the end,
+	 so we know whether the rest of the production is nullable */
+      for (int p = 0; p < nprods; p++)
+	{
+	  prod = prods[p];
+	  visible = true;
+	  for (int pos = prod.rhs_length(); pos >= 0; pos--)
+	    {
+	      id = item_base[p] + pos;
+	      item_prod[id]    = prod;
+	      item_pos[id]     = pos;
+	      item_sym[id]     = -1;
+	      item_visible[id] = visible;
+
+	      if (pos == prod.rhs_length()) continue;
+
+	      part = prod.rhs(pos);
+	      if (part.is_action()) continue;
+
+	      sym = ((symbol_part)part).the_symbol();
+	      if (sym.is_non_term())
+		{
+		  item_sym[id] = nterms + sym.index();
+		  if (!((non_terminal)sym).nullable()) visible = false;
+		}
+	      else
+		{
+		  item_sym[id] = sym.index();
+		  visible = false;
+		}
+	    }
+	}
+
+      /* the closure of a non terminal is the start items of its productions
+	 and (recursively) of any non terminal those start with */
+      nt_closure = new BitSet[non_terminal.number()];
+      int[] work = new int[non_terminal.number()];
+      for (int a = 0; a < nt_closure.length; a++)
+	{
+	  BitSet seen  = new BitSet(nt_closure.length);
+	  BitSet items = new BitSet(total);
+	  int    top   = 0;
+
+	  work[top++] = a;
+	  seen.set(a);
+	  while (top > 0)
+	    {
+	      non_terminal nt = (non_terminal)sym_by_num[nterms + work[--top]];
+	      for (Enumeration e = nt.productions(); e.hasMoreElements(); )
+		{
+		  id = item_base[((production)e.nextElement()).index()];
+		  items.set(id);
+		  if (item_sym[id] >= nterms && !seen.get(item_sym[id] - nterms))
+		    {
+		      seen.set(item_sym[id] - nterms);
+		      work[top++] = item_sym[id] - nterms;
+		    }
+		}
+	    }
+	  nt_closure[a] = items;
+	}
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Build the key used to find a state in _all_kernels from its kernel
+   *  (given as a sorted list of item numbers).  Each item number is packed
+   *  into two chars.
+   * @param kernel the item numbers of the kernel.
+   * @param len    the number of items in the kernel.
+   */
+  protected static String kernel_key(int[] kernel, int len)
+    {
+      char[] key = new char[len*2];
+
+      for (int i = 0; i < len; i++)
+	{
+	  key[2*i]   = (char)(kernel[i] >>> 16);
+	  key[2*i+1] = (char)kernel[i];
+	}
+      return new String(key);
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Create the state with the given kernel.  The kernel is closed, an
+   *  lalr_item (with an empty lookahead) is made for each item of the
+   *  closure, and the state is entered in _all_kernels.
+   * @param kernel the item numbers of the kernel, in increasing order.
+   * @param len    the number of items in the kernel.
+   * @param key    the kernel_key() of the kernel.
+   */
+  protected static lalr_state new_state(int[] kernel, int len, String key)
+    throws internal_error
+    {
+      int           nterms  = terminal.number();
+      BitSet        closure = new BitSet(item_prod.length);
+      lalr_item_set itms    = new lalr_item_set();
+      lalr_state    result;
+      int           count, id;
+
+      /* close the kernel */
+      for (int i = 0; i < len; i++)
+	{
+	  closure.set(kernel[i]);
+	  if (item_sym[kernel[i]] >= nterms)
+	    closure.or(nt_closure[item_sym[kernel[i]] - nterms]);
+	}
+
+      /* make the items */
+      count = 0;
+      for (id = closure.nextSetBit(0); id >= 0; id = closure.nextSetBit(id+1))
+	count++;
+      int[]       ids  = new int[count];
+      lalr_item[] objs = new lalr_item[count];
+      count = 0;
+      for (id = closure.nextSetBit(0); id >= 0; id = closure.nextSetBit(id+1))
+	{
+	  ids[count]  = id;
+	  objs[count] = new lalr_item(item_prod[id], item_pos[id],
+				      new terminal_set());
+	  itms.add(objs[count]);
+	  count++;
+	}
+
+      /* build the state */
+      result = new lalr_state(itms);
+      result._item_ids   = ids;
+      result._item_objs  = objs;
+      result._goto_state = new int[sym_by_num.length];
+      for (int s = 0; s < sym_by_num.length; s++)
+	result._goto_state[s] = -1;
+
+      state_list.addElement(result);
+      _all_kernels.put(key, result);
+      return result;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Find the lalr_item object for an item number in this state (or null
+   *  if the item is not part of the state).
+   * @param id the item number.
+   */
+  protected lalr_item item_by_number(int id)
+    {
+      int lo = 0, hi = _item_ids.length - 1, mid;
+
+      while (lo <= hi)
+	{
+	  mid = (lo + hi) >>> 1;
+	  if (_item_ids[mid] < id)      lo = mid + 1;
+	  else if (_item_ids[mid] > id) hi = mid - 1;
+	  else return _item_objs[mid];
+	}
+      return null;
     }
 
   /*-----------------------------------------------------------*/
@@ -218,7 +453,7 @@ public class lalr_state {
    * @param on_sym the symbol the transition is under.
    * @param to_st  the state the transition goes to.
    */
-  public void add_transition(symbol on_sym, lalr_state to_st) 
+  public void add_transition(symbol on_sym, lalr_state to_st)
     throws internal_error
     {
       lalr_transition trans;
@@ -230,197 +465,399 @@ public class lalr_state {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
-  /** Build an LALR viable prefix recognition machine given a start 
-   *  production.  This method operates by first building a start state
-   *  from the start production (based on a single item with the dot at
-   *  the beginning and EOF as expected lookahead).  Then for each state
-   *  it attempts to extend the machine by creating transitions out of
-   *  the state to new or existing states.  When considering extension
-   *  from a state we make a transition on each symbol that appears before
-   *  the dot in some item.  For example, if we have the items: <pre>
-   *    [A ::= a b * X c, {d,e}]
-   *    [B ::= a b * X d, {a,b}]
+  /** Build an LALR viable prefix recognition machine given a start
+   *  production.  This is done in two steps.  First the LR(0) machine is
+   *  built: starting from a state whose kernel is the start production
+   *  with the dot at the beginning, for each state we make a transition on
+   *  each symbol that appears after the dot in some item.  For example, if
+   *  we have the items: <pre>
+   *    [A ::= a b * X c]
+   *    [B ::= a b * X d]
    *  </pre>
    *  in some state, then we would be making a transition under X to a new
-   *  state.  This new state would be formed by a "kernel" of items 
+   *  state.  This new state would be formed by a "kernel" of items
    *  corresponding to moving the dot past the X.  In this case: <pre>
-   *    [A ::= a b X * c, {d,e}]
-   *    [B ::= a b X * Y, {a,b}]
+   *    [A ::= a b X * c]
+   *    [B ::= a b X * d]
    *  </pre>
-   *  The full state would then be formed by "closing" this kernel set of 
-   *  items so that it included items that represented productions of things
-   *  the parser was now looking for.  In this case we would items 
-   *  corresponding to productions of Y, since various forms of Y are expected
-   *  next when in this state (see lalr_item_set.compute_closure() for details 
-   *  on closure). <p>
+   *  The full state is then formed by "closing" this kernel set of items so
+   *  that it includes items for the productions of any non terminal that
+   *  appears after a dot.  Kernels are kept as sorted lists of item
+   *  numbers and closures are computed as the union of precomputed bit sets
+   *  (see number_items()), so states are compared and closed without
+   *  building item objects.  States are numbered in the order they are
+   *  found, visiting states breadth first and symbols in symbol number
+   *  order.<p>
    *
-   *  The process of building the viable prefix recognizer terminates when no
-   *  new states can be added.  However, in order to build a smaller number of
-   *  states (i.e., corresponding to LALR rather than canonical LR) the state 
-   *  building process does not maintain full loookaheads in all items.  
-   *  Consequently, after the machine is built, we go back and propagate 
-   *  lookaheads through the constructed machine using a call to 
-   *  propagate_all_lookaheads().  This makes use of propagation links 
-   *  constructed during the closure and transition process.
+   *  The lookaheads are then added to the items of the finished machine
+   *  using the relations based method of DeRemer and Pennello (see
+   *  compute_lookaheads()), rather than by propagating lookaheads from
+   *  item to item until nothing changes.
    *
    * @param start_prod the start production of the grammar
-   * @see   java_cup.lalr_item_set#compute_closure
-   * @see   java_cup.lalr_state#propagate_all_lookaheads
+   * @see   java_cup.lalr_state#compute_lookaheads
    */
 
-  public static lalr_state build_machine(production start_prod) 
+  public static lalr_state build_machine(production start_prod)
     throws internal_error
     {
-      lalr_state    start_state;
-      lalr_item_set start_items;
-      lalr_item_set new_items;
-      lalr_item_set linked_items;
-      lalr_item_set kernel;
-      Stack         work_stack = new Stack();
-      lalr_state    st, new_st;
-      symbol_set    outgoing;
-      lalr_item     itm, new_itm, existing, fix_itm;
-      symbol        sym, sym2;
-      Enumeration   i, s, fix;
+      lalr_state start_state, st, to_st;
+      int[]      kernel, bucket, outgoing, count, start;
+      String     key;
+      int        len, nsyms, nout, sym, pos;
 
       /* sanity check */
       if (start_prod == null)
 	throw new internal_error(
  	  "Attempt to build viable prefix recognizer using a null production");
 
-      /* build item with dot at front of start production and EOF lookahead */
-      start_items = new lalr_item_set();
-      itm = new lalr_item(start_prod);
-      itm.lookahead().add(terminal.EOF);
-      start_items.add(itm);
-
-      /* create copy the item set to form the kernel */
-      kernel = new lalr_item_set(start_items);
-
-      /* create the closure from that item set */
-      start_items.compute_closure();
-
-      /* build a state out of that item set and put it in our work set */
-      start_state = new lalr_state(start_items);
-      work_stack.push(start_state);
-
-      /* enter the state using the kernel as the key */
-      _all_kernels.put(kernel, start_state);
-
-      /* continue looking at new states until we have no more work to do */
-      while (!work_stack.empty())
+      /* number everything */
+      number_items();
+      nsyms    = sym_by_num.length;
+      kernel   = new int[item_prod.length];
+      bucket   = new int[item_prod.length];
+      outgoing = new int[nsyms];
+      count    = new int[nsyms];
+      start    = new int[nsyms];
+
+      /* build the start state from the start production */
+      kernel[0] = item_base[start_prod.index()];
+      start_state = new_state(kernel, 1, kernel_key(kernel, 1));
+
+      /* extend the machine from each state in turn (states found along the
+	 way are added to the end of state_list) */
+      for (int s = 0; s < state_list.size(); s++)
 	{
-	  /* remove a state from the work set */
-	  st = (lalr_state)work_stack.pop();
+	  st = (lalr_state)state_list.elementAt(s);
 
-	  /* gather up all the symbols that appear before dots */
-	  outgoing = new symbol_set();
-	  for (i = st.items().all(); i.hasMoreElements(); )
+	  /* gather up the symbols that appear after dots, in order */
+	  nout = 0;
+	  for (int i = 0; i < st._item_ids.length; i++)
 	    {
-	      itm = (lalr_item)i.nextElement();
+	      sym = item_sym[st._item_ids[i]];
+	      if (sym >= 0 && count[sym]++ == 0)
+		{
+		  int j = nout++;
+		  for (; j > 0 && outgoing[j-1] > sym; j--)
+		    outgoing[j] = outgoing[j-1];
+		  outgoing[j] = sym;
+		}
+	    }
 
-	      /* add the symbol before the dot (if any) to our collection */
-	      sym = itm.symbol_after_dot();
-	      if (sym != null) outgoing.add(sym);
+	  /* bucket the items by that symbol with the dot moved past it (this
+	     keeps the item numbers in each bucket sorted) */
+	  pos = 0;
+	  for (int k = 0; k < nout; k++)
+	    {
+	      start[outgoing[k]] = pos;
+	      pos += count[outgoing[k]];
+	    }
+	  for (int i = 0; i < st._item_ids.length; i++)
+	    {
+	      sym = item_sym[st._item_ids[i]];
+	      if (sym >= 0)
+		bucket[start[sym]++] = st._item_ids[i] + 1;
 	    }
 
 	  /* now create a transition out for each individual symbol */
-	  for (s = outgoing.all(); s.hasMoreElements(); )
+	  pos = 0;
+	  for (int k = 0; k < nout; k++)
 	    {
-	      sym = (symbol)s.nextElement();
+	      sym = outgoing[k];
+	      len = count[sym];
+	      count[sym] = 0;
 
-	      /* will be keeping the set of items with propagate links */
-	      linked_items = new lalr_item_set();
+	      /* the bucket is the kernel of the state we go to */
+	      System.arraycopy(bucket, pos, kernel, 0, len);
+	      pos += len;
 
-	      /* gather up shifted versions of all the items that have this
-		 symbol before the dot */
-	      new_items = new lalr_item_set();
-	      for (i = st.items().all(); i.hasMoreElements();)
-		{
-		  itm = (lalr_item)i.nextElement();
-
-		  /* if this is the symbol we are working on now, add to set */
-		  sym2 = itm.symbol_after_dot();
-		  if (sym.equals(sym2))
-		    {
-		      /* add to the kernel of the new state */
-		      new_items.add(itm.shift());
+	      /* find the state, or build it if we haven't seen it yet */
+	      key = kernel_key(kernel, len);
+	      to_st = (lalr_state)_all_kernels.get(key);
+	      if (to_st == null)
+		to_st = new_state(kernel, len, key);
 
-		      /* remember that itm has propagate link to it */
-		      linked_items.add(itm);
-		    }
-		}
-
-	      /* use new items as state kernel */
-	      kernel = new lalr_item_set(new_items);
+	      /* add a transition from current state to that state */
+	      st._goto_state[sym] = to_st.index();
+	      st.add_transition(sym_by_num[sym], to_st);
+	    }
+	}
 
-	      /* have we seen this one already? */
-	      new_st = (lalr_state)_all_kernels.get(kernel);
+      /* all done building states, now fill in the lookaheads */
+      compute_lookaheads(start_state, start_prod);
 
-	      /* if we haven't, build a new state out of the item set */
-	      if (new_st == null)
-		{
-	          /* compute closure of the kernel for the full item set */
-	          new_items.compute_closure();
+      return start_state;
+    }
 
-		  /* build the new state */
-		  new_st = new lalr_state(new_items);
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
-		  /* add the new state to our work set */
-		  work_stack.push(new_st);
+  /** Compute the LALR(1) lookaheads for the items of the machine using the
+   *  method of DeRemer and Pennello ("Efficient Computation of LALR(1)
+   *  Look-Ahead Sets", TOPLAS 4(4), 1982).  This works with the transitions
+   *  of the machine on non terminals.  For such a transition (p,A): <ul>
+   *    <li> DR(p,A) is the set of terminals shifted directly out of the
+   *         state the transition goes to.
+   *    <li> (p,A) reads (r,C) if the transition goes to r, and r has a
+   *         transition on a nullable C.  Read(p,A) is then DR(p,A) together
+   *         with Read of everything (p,A) reads.
+   *    <li> (p,A) includes (p',B) if there is a production B ::= beta A gamma
+   *         where gamma is nullable and beta leads from p' to p.  Follow(p,A)
+   *         is Read(p,A) together with Follow of everything (p,A) includes.
+   *  </ul>
+   *  Both unions over relations are computed with digraph().  Finally,
+   *  for a production A ::= omega, each item of that production found
+   *  along the path spelling omega from p gets Follow(p,A) in its
+   *  lookahead.  The start production is handled by treating the start
+   *  state as having a transition on $START with a Follow of just EOF.
+   *
+   * @param start_state the start state of the machine.
+   * @param start_prod  the start production of the grammar.
+   */
+  protected static void compute_lookaheads(
+    lalr_state start_state,
+    production start_prod)
+    throws internal_error
+    {
+      int            nterms  = terminal.number();
+      int            nstates = state_list.size();
+      int            ntrans, id, sym, q, to;
+      int[]          trans_from, trans_nt;
+      int[][]        trans_id;
+      int[]          edge_from = new int[64], edge_to = new int[64];
+      int            nedges;
+      terminal_set[] dr, read, follow;
+      int[][]        reads, includes;
+      lalr_state     st;
+      lalr_item      itm;
+      production     prod;
+
+      /* number the transitions on non terminals.  Transition 0 is the
+	 pretend transition on $START out of the start state */
+      trans_id = new int[nstates][];
+      ntrans = 1;
+      for (int s = 0; s < nstates; s++)
+	{
+	  st = (lalr_state)state_list.elementAt(s);
+	  trans_id[s] = new int[sym_by_num.length - nterms];
+	  for (int a = 0; a < trans_id[s].length; a++)
+	    trans_id[s][a] = st._goto_state[nterms + a] >= 0 ? ntrans++ : -1;
+	}
+      trans_from = new int[ntrans];
+      trans_nt   = new int[ntrans];
+      trans_from[0] = start_state.index();
+      trans_nt[0]   = nterms + start_prod.lhs().the_symbol().index();
+      for (int s = 0; s < nstates; s++)
+	for (int a = 0; a < trans_id[s].length; a++)
+	  if (trans_id[s][a] >= 0)
+	    {
+	      trans_from[trans_id[s][a]] = s;
+	      trans_nt[trans_id[s][a]]   = nterms + a;
+	    }
 
-		  /* put it in our kernel table */
-		  _all_kernels.put(kernel, new_st);
-		}
-	      /* otherwise relink propagation to items in existing state */
-	      else 
+      /* DR and the reads relation */
+      dr = new terminal_set[ntrans];
+      dr[0] = new terminal_set();
+      dr[0].add(terminal.EOF);
+      nedges = 0;
+      for (int j = 1; j < ntrans; j++)
+	{
+	  st = state_by_number(
+	    state_by_number(trans_from[j])._goto_state[trans_nt[j]]);
+	  dr[j] = new terminal_set();
+	  for (lalr_transition tr = st.transitions(); tr != null; tr = tr.next())
+	    {
+	      if (!tr.on_symbol().is_non_term())
+		dr[j].add((terminal)tr.on_symbol());
+	      else if (((non_terminal)tr.on_symbol()).nullable())
 		{
-		  /* walk through the items that have links to the new state */
-		  for (fix = linked_items.all(); fix.hasMoreElements(); )
+		  if (nedges == edge_from.length)
 		    {
-		      fix_itm = (lalr_item)fix.nextElement();
+		      edge_from = grow(edge_from);
+		      edge_to   = grow(edge_to);
+		    }
+		  edge_from[nedges] = j;
+		  edge_to[nedges]   = trans_id[st.index()][tr.on_symbol().index()];
+		  nedges++;
+		}
+	    }
+	}
+      reads = make_relation(ntrans, edge_from, edge_to, nedges);
 
-		      /* look at each propagate link out of that item */
-		      for (int l =0; l < fix_itm.propagate_items().size(); l++)
+      /* the includes relation, found by walking each production of the
+	 non terminal of each transition */
+      nedges = 0;
+      for (int j = 0; j < ntrans; j++)
+	{
+	  non_terminal nt = (non_terminal)sym_by_num[trans_nt[j]];
+	  for (Enumeration p = nt.productions(); p.hasMoreElements(); )
+	    {
+	      prod = (production)p.nextElement();
+	      q = trans_from[j];
+	      for (id = item_base[prod.index()]; (sym = item_sym[id]) >= 0; id++)
+		{
+		  if (sym >= nterms && item_visible[id])
+		    {
+		      if (nedges == edge_from.length)
 			{
-			  /* pull out item linked to in the new state */
-			  new_itm = 
-			    (lalr_item)fix_itm.propagate_items().elementAt(l);
-
-			  /* find corresponding item in the existing state */
-			  existing = new_st.items().find(new_itm);
-
-			  /* fix up the item so it points to the existing set */
-			  if (existing != null)
-			    fix_itm.propagate_items().setElementAt(existing ,l);
+			  edge_from = grow(edge_from);
+			  edge_to   = grow(edge_to);
 			}
+		      edge_from[nedges] = trans_id[q][sym - nterms];
+		      edge_to[nedges]   = j;
+		      nedges++;
 		    }
+		  q = state_by_number(q)._goto_state[sym];
 		}
+	    }
+	}
+      includes = make_relation(ntrans, edge_from, edge_to, nedges);
 
-	      /* add a transition from current state to that state */
-	      st.add_transition(sym, new_st);
+      /* Read and Follow */
+      read   = digraph(reads, dr);
+      follow = digraph(includes, read);
+
+      /* walk each production again, this time adding Follow to the
+	 lookahead of each item along the way */
+      for (int j = 0; j < ntrans; j++)
+	{
+	  non_terminal nt = (non_terminal)sym_by_num[trans_nt[j]];
+	  for (Enumeration p = nt.productions(); p.hasMoreElements(); )
+	    {
+	      prod = (production)p.nextElement();
+	      q = trans_from[j];
+	      for (id = item_base[prod.index()]; ; id++)
+		{
+		  itm = state_by_number(q).item_by_number(id);
+		  if (itm == null)
+		    throw new internal_error(
+		      "Item missing from state while computing lookaheads");
+		  itm.lookahead().add(follow[j]);
+
+		  if ((sym = item_sym[id]) < 0) break;
+		  q = state_by_number(q)._goto_state[sym];
+		}
 	    }
 	}
+    }
 
-      /* all done building states */
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
-      /* propagate complete lookahead sets throughout the states */
-      propagate_all_lookaheads();
+  /** Return the state with the given index. */
+  protected static lalr_state state_by_number(int indx)
+    {
+      return (lalr_state)state_list.elementAt(indx);
+    }
 
-      return start_state;
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Double the size of an array of edge ends. */
+  protected static int[] grow(int[] old)
+    {
+      int[] result = new int[old.length * 2];
+      System.arraycopy(old, 0, result, 0, old.length);
+      return result;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Turn a list of edges into a relation giving the successors of each
+   *  node.
+   * @param n         the number of nodes.
+   * @param edge_from the node each edge starts at.
+   * @param edge_to   the node each edge ends at.
+   * @param nedges    the number of edges.
+   */
+  protected static int[][] make_relation(
+    int n, int[] edge_from, int[] edge_to, int nedges)
+    {
+      int[][] result = new int[n][];
+      int[]   count  = new int[n];
+
+      for (int e = 0; e < nedges; e++)
+	count[edge_from[e]]++;
+      for (int x = 0; x < n; x++)
+	{
+	  result[x] = new int[count[x]];
+	  count[x] = 0;
+	}
+      for (int e = 0; e < nedges; e++)
+	result[edge_from[e]][count[edge_from[e]]++] = edge_to[e];
+      return result;
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
-  /** Propagate lookahead sets out of this state. This recursively 
-   *  propagates to all items that have propagation links from some item 
-   *  in this state. 
+  /* state for digraph() and traverse() */
+  protected static int[][]        dg_rel;
+  protected static terminal_set[] dg_init, dg_result;
+  protected static int[]          dg_depth, dg_stack;
+  protected static int            dg_top;
+
+  /** Compute, for each node x, the union of init over every node reachable
+   *  from x under a relation.  This is the digraph algorithm of DeRemer and
+   *  Pennello: a depth first search that collapses each strongly connected
+   *  component as it is finished, so each set is built only once.
+   * @param rel  the relation.
+   * @param init the initial set for each node.
    */
-  protected void propagate_lookaheads() throws internal_error
+  protected static terminal_set[] digraph(int[][] rel, terminal_set[] init)
+    throws internal_error
     {
-      /* recursively propagate out from each item in the state */
-      for (Enumeration itm = items().all(); itm.hasMoreElements(); )
-	((lalr_item)itm.nextElement()).propagate_lookaheads(null);
+      terminal_set[] result;
+
+      dg_rel    = rel;
+      dg_init   = init;
+      dg_result = new terminal_set[init.length];
+      dg_depth  = new int[init.length];
+      dg_stack  = new int[init.length];
+      dg_top    = 0;
+
+      for (int x = 0; x < init.length; x++)
+	if (dg_depth[x] == 0)
+	  traverse(x);
+
+      result = dg_result;
+      dg_rel = null; dg_init = null; dg_result = null;
+      dg_depth = null; dg_stack = null;
+      return result;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Depth first step of digraph().
+   * @param x the node to visit.
+   */
+  protected static void traverse(int x) throws internal_error
+    {
+      int d, y;
+
+      dg_stack[dg_top++] = x;
+      d = dg_top;
+      dg_depth[x]  = d;
+      dg_result[x] = new terminal_set(dg_init[x]);
+
+      for (int i = 0; i < dg_rel[x].length; i++)
+	{
+	  y = dg_rel[x][i];
+	  if (dg_depth[y] == 0)
+	    traverse(y);
+	  if (dg_depth[y] < dg_depth[x])
+	    dg_depth[x] = dg_depth[y];
+	  dg_result[x].add(dg_result[y]);
+	}
+
+      /* if x is the root of a strongly connected component, everything in
+	 the component gets the same set */
+      if (dg_depth[x] == d)
+	{
+	  do
+	    {
+	      y = dg_stack[--dg_top];
+	      dg_depth[y]  = Integer.MAX_VALUE;
+	      dg_result[y] = dg_result[x];
+	    }
+	  while (y != x);
+	}
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
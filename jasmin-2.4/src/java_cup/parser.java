@@ -1,10 +1,10 @@
 
 //----------------------------------------------------
 // The following code was generated by Java(tm) CUP v0.9d
-// Thu Aug 10 03:51:39 MSD 2006
+// Sun Oct 18 19:46:27 UTC 2026
 //----------------------------------------------------
 
-package java_cup;
+package java_cup;
 
 import java_cup.runtime.*;
 import java.util.Hashtable;
@@ -15,275 +15,78 @@ public class parser extends java_cup.runtime.lr_parser {
   public parser() {super();}
 
   /** production table */
-  protected static final short _production_table[][] = {
-        {0, 2},     {32, 0},     {1, 10},     {1, 4},     {33, 0}, 
-        {2, 4},     {2, 1},     {3, 2},     {3, 1},     {34, 0}, 
-        {11, 4},     {4, 2},     {5, 4},     {5, 1},     {6, 4}, 
-        {6, 1},     {13, 4},     {13, 1},     {14, 4},     {14, 1}, 
-        {16, 4},     {16, 1},     {7, 2},     {7, 1},     {35, 0}, 
-        {15, 5},     {36, 0},     {15, 6},     {37, 0},     {15, 4}, 
-        {38, 0},     {15, 5},     {18, 3},     {18, 1},     {19, 3}, 
-        {19, 1},     {39, 0},     {8, 5},     {8, 1},     {9, 2}, 
-        {9, 1},     {40, 0},     {20, 5},     {41, 0},     {20, 3}, 
-        {25, 3},     {25, 1},     {26, 1},     {21, 2},     {21, 1}, 
-        {22, 2},     {22, 1},     {31, 2},     {31, 1},     {10, 3}, 
-        {10, 1},     {12, 3},     {12, 1},     {17, 1},     {23, 1}, 
-        {24, 1},     {28, 1},     {29, 1},     {30, 1},     {27, 0}
-      };
+  protected static final short _production_table[][] = 
+    unpack_table(new String[] {
+    "A\002\002\004\002\042\002\002\003\014\002\003\006\002#\002\002\004\006\002\004\003\002\005\004\002\005\003\002$\002\002" +
+    "\015\006\002\006\004\002\007\006\002\007\003\002\010\006\002\010\003\002\017\006\002\017\003\002\020\006\002\020\003\002\022\006" +
+    "\002\022\003\002\011\004\002\011\003\002%\002\002\021\007\002&\002\002\021\010\002'\002\002\021\006\002(\002\002\021" +
+    "\007\002\024\005\002\024\003\002\025\005\002\025\003\002)\002\002\012\007\002\012\003\002\013\004\002\013\003\002*\002\002" +
+    "\026\007\002+\002\002\026\005\002\033\005\002\033\003\002\034\003\002\027\004\002\027\003\002\030\004\002\030\003\002!\004" +
+    "\002!\003\002\014\005\002\014\003\002\016\005\002\016\003\002\023\003\002\031\003\002\032\003\002\036\003\002\037\003\002 " +
+    "\003\002\035\002" });
 
   /** access to production table */
   public short[][] production_table() {return _production_table;}
 
   /** parse action table */
-  protected static final short[][] _action_table = {
-    /*0*/{1,3,2,-2,3,-2,5,-2,6,-2,7,-2,8,-2,9,-2,10,-2,20,-2,-1,0},
-    /*1*/{0,120,-1,0},
-    /*2*/{7,34,8,36,-1,0},
-    /*3*/{2,7,3,-65,5,-65,6,-65,7,-65,8,-65,9,-65,10,-65,20,-65,-1,0},
-    /*4*/{3,-65,5,-65,6,-65,7,-65,8,-65,9,-65,10,-65,20,-65,-1,0},
-    /*5*/{3,-7,5,-7,6,-7,7,-7,8,-7,9,-7,10,-7,20,-7,-1,0},
-    /*6*/{21,8,-1,0},
-    /*7*/{13,-56,16,-56,21,-56,-1,0},
-    /*8*/{13,-5,16,11,-1,0},
-    /*9*/{13,13,-1,0},
-    /*10*/{21,12,-1,0},
-    /*11*/{13,-55,16,-55,21,-55,-1,0},
-    /*12*/{3,-6,5,-6,6,-6,7,-6,8,-6,9,-6,10,-6,20,-6,-1,0},
-    /*13*/{3,17,5,18,6,-65,7,-65,8,-65,9,-65,10,-65,20,-65,-1,0},
-    /*14*/{3,-9,5,-9,6,-9,7,-9,8,-9,9,-9,10,-9,20,-9,-1,0},
-    /*15*/{3,-8,5,-8,6,-8,7,-8,8,-8,9,-8,10,-8,20,-8,-1,0},
-    /*16*/{21,8,-1,0},
-    /*17*/{4,108,-1,0},
-    /*18*/{6,103,7,-65,8,-65,9,-65,10,-65,20,-65,-1,0},
-    /*19*/{6,-14,7,-14,8,-14,9,-14,10,-14,20,-14,-1,0},
-    /*20*/{7,-65,8,-65,9,-65,10,-65,20,22,-1,0},
-    /*21*/{11,99,-1,0},
-    /*22*/{7,-22,8,-22,9,-22,10,-22,-1,0},
-    /*23*/{7,-65,8,-65,9,25,10,-65,-1,0},
-    /*24*/{11,96,-1,0},
-    /*25*/{7,-65,8,-65,10,29,-1,0},
-    /*26*/{7,-18,8,-18,10,-18,-1,0},
-    /*27*/{7,34,8,36,-1,0},
-    /*28*/{11,31,-1,0},
-    /*29*/{7,-20,8,-20,-1,0},
-    /*30*/{22,32,-1,0},
-    /*31*/{13,33,-1,0},
-    /*32*/{7,-19,8,-19,-1,0},
-    /*33*/{1,85,21,8,-1,0},
-    /*34*/{1,-24,7,-24,8,-24,12,-24,21,-24,-1,0},
-    /*35*/{7,72,-1,0},
-    /*36*/{1,-65,7,34,8,36,12,41,21,-65,-1,0},
-    /*37*/{1,47,21,43,-1,0},
-    /*38*/{1,-39,21,-39,-1,0},
-    /*39*/{1,-23,7,-23,8,-23,12,-23,21,-23,-1,0},
-    /*40*/{11,42,-1,0},
-    /*41*/{21,43,-1,0},
-    /*42*/{13,-62,18,-62,-1,0},
-    /*43*/{13,-37,-1,0},
-    /*44*/{13,46,-1,0},
-    /*45*/{1,-38,21,-38,-1,0},
-    /*46*/{13,-44,-1,0},
-    /*47*/{18,-42,-1,0},
-    /*48*/{0,-3,1,47,21,43,-1,0},
-    /*49*/{0,-41,1,-41,21,-41,-1,0},
-    /*50*/{0,-40,1,-40,21,-40,-1,0},
-    /*51*/{18,53,-1,0},
-    /*52*/{13,-65,19,-65,21,-65,22,-65,-1,0},
-    /*53*/{13,68,19,67,-1,0},
-    /*54*/{13,-50,19,-50,21,-50,22,-50,-1,0},
-    /*55*/{13,-48,19,-48,21,59,22,58,-1,0},
-    /*56*/{13,-47,19,-47,-1,0},
-    /*57*/{13,-52,19,-52,21,-52,22,-52,-1,0},
-    /*58*/{13,-63,17,-63,19,-63,21,-63,22,-63,-1,0},
-    /*59*/{13,-65,17,62,19,-65,21,-65,22,-65,-1,0},
-    /*60*/{13,-49,19,-49,21,-49,22,-49,-1,0},
-    /*61*/{21,65,-1,0},
-    /*62*/{13,-54,19,-54,21,-54,22,-54,-1,0},
-    /*63*/{13,-51,19,-51,21,-51,22,-51,-1,0},
-    /*64*/{13,-64,21,-64,22,-64,-1,0},
-    /*65*/{13,-53,21,-53,22,-53,-1,0},
-    /*66*/{13,-65,19,-65,21,-65,22,-65,-1,0},
-    /*67*/{0,-43,1,-43,21,-43,-1,0},
-    /*68*/{13,-46,19,-46,-1,0},
-    /*69*/{13,71,-1,0},
-    /*70*/{0,-45,1,-45,21,-45,-1,0},
-    /*71*/{1,73,21,8,-1,0},
-    /*72*/{13,-31,-1,0},
-    /*73*/{16,11,21,-59,-1,0},
-    /*74*/{21,76,-1,0},
-    /*75*/{13,-61,14,-61,-1,0},
-    /*76*/{13,-27,14,79,-1,0},
-    /*77*/{13,-36,14,-36,-1,0},
-    /*78*/{21,76,-1,0},
-    /*79*/{13,81,-1,0},
-    /*80*/{1,-28,7,-28,8,-28,12,-28,21,-28,-1,0},
-    /*81*/{13,-35,14,-35,-1,0},
-    /*82*/{13,84,-1,0},
-    /*83*/{1,-32,7,-32,8,-32,12,-32,21,-32,-1,0},
-    /*84*/{13,-29,-1,0},
-    /*85*/{21,87,-1,0},
-    /*86*/{13,-60,14,-60,-1,0},
-    /*87*/{13,-34,14,-34,-1,0},
-    /*88*/{13,-25,14,91,-1,0},
-    /*89*/{13,93,-1,0},
-    /*90*/{21,87,-1,0},
-    /*91*/{13,-33,14,-33,-1,0},
-    /*92*/{1,-26,7,-26,8,-26,12,-26,21,-26,-1,0},
-    /*93*/{13,95,-1,0},
-    /*94*/{1,-30,7,-30,8,-30,12,-30,21,-30,-1,0},
-    /*95*/{22,97,-1,0},
-    /*96*/{13,98,-1,0},
-    /*97*/{7,-17,8,-17,10,-17,-1,0},
-    /*98*/{21,8,-1,0},
-    /*99*/{13,101,16,11,-1,0},
-    /*100*/{7,-21,8,-21,9,-21,10,-21,-1,0},
-    /*101*/{7,-16,8,-16,9,-16,10,-16,20,-16,-1,0},
-    /*102*/{4,105,-1,0},
-    /*103*/{7,-12,8,-12,9,-12,10,-12,20,-12,-1,0},
-    /*104*/{22,106,-1,0},
-    /*105*/{13,107,-1,0},
-    /*106*/{7,-15,8,-15,9,-15,10,-15,20,-15,-1,0},
-    /*107*/{22,109,-1,0},
-    /*108*/{13,110,-1,0},
-    /*109*/{6,-13,7,-13,8,-13,9,-13,10,-13,20,-13,-1,0},
-    /*110*/{13,-58,16,115,-1,0},
-    /*111*/{13,-10,-1,0},
-    /*112*/{13,114,-1,0},
-    /*113*/{3,-11,5,-11,6,-11,7,-11,8,-11,9,-11,10,-11,20,-11,-1,0},
-    /*114*/{15,116,21,12,-1,0},
-    /*115*/{13,-57,-1,0},
-    /*116*/{1,-65,7,34,8,36,12,41,21,-65,-1,0},
-    /*117*/{1,47,21,43,-1,0},
-    /*118*/{0,-4,1,47,21,43,-1,0},
-    /*119*/{0,-1,-1,0},
-  };
+  protected static final short[][] _action_table = 
+    unpack_table(new String[] {
+    "x\026\003\004\004\000\005\000\007\000\010\000\011\000\012\000\013\000\014\000\026\000\001\002\006\011\007\012\010\001\002\004" +
+    "\002\013\001\002\024\004\014\005\uffc1\007\uffc1\010\uffc1\011\uffc1\012\uffc1\013\uffc1\014\uffc1\026\uffc1\001\002\006\003\017\027\020\001\002" +
+    "\004\011\023\001\002\014\003\uffc1\011\007\012\010\016\024\027\uffc1\001\002\014\003\uffea\011\uffea\012\uffea\016\uffea\027\uffea\001\002\004" +
+    "\002\001\001\002\004\027\020\001\002\022\005\uffc1\007\uffc1\010\uffc1\011\uffc1\012\uffc1\013\uffc1\014\uffc1\026\uffc1\001\002\022\005\ufffb\007" +
+    "\ufffb\010\ufffb\011\ufffb\012\ufffb\013\ufffb\014\ufffb\026\ufffb\001\002\004\017\uffe5\001\002\010\017\uffca\022\uffca\027\uffca\001\002\006\022\034" +
+    "\027\uffc7\001\002\004\027\035\001\002\006\003 \027\020\001\002\004\015\042\001\002\006\003#\027$\001\002\014\003\uffeb\011" +
+    "\uffeb\012\uffeb\016\uffeb\027\uffeb\001\002\006\003\uffdb\027\uffdb\001\002\006\017\ufffd\022\034\001\002\022\005)\007*\010\uffc1\011\uffc1" +
+    "\012\uffc1\013\uffc1\014\uffc1\026\uffc1\001\002\022\005\ufff9\007\ufff9\010\ufff9\011\ufff9\012\ufff9\013\ufff9\014\ufff9\026\ufff9\001\002\004\017/" +
+    "\001\002\004\0270\001\002\006\017\uffc6\020\uffc6\001\002\006\017\uffe9\0201\001\002\006\017\uffe0\020\uffe0\001\002\004\017\uffe3\001" +
+    "\002\004\0274\001\002\004\027$\001\002\004\017\uffd6\001\002\006\017\uffc4\024\uffc4\001\002\010\002\ufffe\003#\027$\001\002" +
+    "\010\002\uffd9\003\uffd9\027\uffd9\001\002\004\024\uffd8\001\002\004\017;\001\002\004\027\020\001\002\004\006>\001\002\014\011\uffc1" +
+    "\012\uffc1\013\uffc1\014\uffc1\026?\001\002\016\010B\011\uffc1\012\uffc1\013\uffc1\014\uffc1\026\uffc1\001\002\022\005\ufffa\007\ufffa\010\ufffa" +
+    "\011\ufffa\012\ufffa\013\ufffa\014\ufffa\026\ufffa\001\002\016\010\ufff4\011\ufff4\012\ufff4\013\ufff4\014\ufff4\026\ufff4\001\002\014\003\uffe4\011\uffe4" +
+    "\012\uffe4\016\uffe4\027\uffe4\001\002\010\017\uffcb\022\uffcb\027\uffcb\001\002\004\027\035\001\002\004\017F\001\002\004\017G\001\002" +
+    "\006\017\uffc5\020\uffc5\001\002\006\017\uffe7\020H\001\002\006\017\uffde\020\uffde\001\002\004\017\uffdd\001\002\004\017K\001\002\010" +
+    "\002\uffda\003\uffda\027\uffda\001\002\004\024L\001\002\022\005\ufffc\007\ufffc\010\ufffc\011\ufffc\012\ufffc\013\ufffc\014\ufffc\026\ufffc\001\002" +
+    "\006\017\uffc8\022M\001\002\004\017\ufff8\001\002\004\030O\001\002\004\015P\001\002\012\011\uffc1\012\uffc1\013Q\014\uffc1\001" +
+    "\002\012\011\uffec\012\uffec\013\uffec\014\uffec\001\002\004\006T\001\002\014\011\ufff6\012\ufff6\013\ufff6\014\ufff6\026\ufff6\001\002\014\011" +
+    "\ufff2\012\ufff2\013\ufff2\014\ufff2\026\ufff2\001\002\006\017\uffe1\020\uffe1\001\002\014\003\uffe8\011\uffe8\012\uffe8\016\uffe8\027\uffe8\001\002\014" +
+    "\003\uffe2\011\uffe2\012\uffe2\016\uffe2\027\uffe2\001\002\004\0274\001\002\004\017V\001\002\004\017W\001\002\010\002\uffd5\003\uffd5" +
+    "\027\uffd5\001\002\012\017\uffc1\025\uffc1\027\uffc1\030\uffc1\001\002\006\021\134\0270\001\002\004\017]\001\002\004\017^\001\002" +
+    "\004\027\020\001\002\004\015`\001\002\010\011\uffc1\012\uffc1\014a\001\002\010\011\ufff0\012\ufff0\014\ufff0\001\002\004\030d\001" +
+    "\002\006\017\uffdf\020\uffdf\001\002\014\003\uffe6\011\uffe6\012\uffe6\016\uffe6\027\uffe6\001\002\006\003\uffdc\027\uffdc\001\002\012\017\uffd2\025" +
+    "\uffd2\027e\030f\001\002\006\017i\025j\001\002\006\017\uffd3\025\uffd3\001\002\012\017\uffd0\025\uffd0\027\uffd0\030\uffd0\001\002" +
+    "\004\017\uffc9\001\002\022\005\ufff7\007\ufff7\010\ufff7\011\ufff7\012\ufff7\013\ufff7\014\ufff7\026\ufff7\001\002\016\010\ufff5\011\ufff5\012\ufff5\013" +
+    "\ufff5\014\ufff5\026\ufff5\001\002\006\017k\022\034\001\002\004\030l\001\002\004\015m\001\002\006\011\007\012\010\001\002\006" +
+    "\011\uffee\012\uffee\001\002\004\017o\001\002\014\017\uffc3\023\uffc3\025\uffc3\027\uffc3\030\uffc3\001\002\012\017\uffce\025\uffce\027\uffce\030" +
+    "\uffce\001\002\012\017\uffd1\025\uffd1\027\uffd1\030\uffd1\001\002\014\017\uffc1\023p\025\uffc1\027\uffc1\030\uffc1\001\002\010\002\uffd7\003\uffd7" +
+    "\027\uffd7\001\002\012\017\uffc1\025\uffc1\027\uffc1\030\uffc1\001\002\012\011\uffed\012\uffed\013\uffed\014\uffed\001\002\004\017t\001\002\004" +
+    "\030u\001\002\014\003\uffc1\011\007\012\010\016\024\027\uffc1\001\002\014\011\ufff3\012\ufff3\013\ufff3\014\ufff3\026\ufff3\001\002\004\027" +
+    "w\001\002\012\017\uffcc\025\uffcc\027\uffcc\030\uffcc\001\002\012\017\uffcf\025\uffcf\027\uffcf\030\uffcf\001\002\006\017\uffd4\025\uffd4\001\002" +
+    "\010\011\ufff1\012\ufff1\014\ufff1\001\002\004\017y\001\002\006\003#\027$\001\002\012\017\uffc2\025\uffc2\027\uffc2\030\uffc2\001\002" +
+    "\012\017\uffcd\025\uffcd\027\uffcd\030\uffcd\001\002\006\011\uffef\012\uffef\001\002\010\002\uffff\003#\027$\001\002" });
 
   /** access to parse action table */
   public short[][] action_table() {return _action_table;}
 
   /** reduce_goto table */
-  protected static final short[][] _reduce_table = {
-    /*0*/{1,1,32,3,-1,-1},
-    /*1*/{-1,-1},
-    /*2*/{7,116,15,34,-1,-1},
-    /*3*/{2,4,27,5,-1,-1},
-    /*4*/{3,13,27,14,-1,-1},
-    /*5*/{-1,-1},
-    /*6*/{10,8,-1,-1},
-    /*7*/{-1,-1},
-    /*8*/{33,9,-1,-1},
-    /*9*/{-1,-1},
-    /*10*/{-1,-1},
-    /*11*/{-1,-1},
-    /*12*/{-1,-1},
-    /*13*/{4,20,5,18,11,15,27,19,-1,-1},
-    /*14*/{-1,-1},
-    /*15*/{-1,-1},
-    /*16*/{10,110,12,111,-1,-1},
-    /*17*/{-1,-1},
-    /*18*/{6,103,27,101,-1,-1},
-    /*19*/{-1,-1},
-    /*20*/{16,23,27,22,-1,-1},
-    /*21*/{-1,-1},
-    /*22*/{-1,-1},
-    /*23*/{13,25,27,26,-1,-1},
-    /*24*/{-1,-1},
-    /*25*/{14,27,27,29,-1,-1},
-    /*26*/{-1,-1},
-    /*27*/{7,36,15,34,-1,-1},
-    /*28*/{-1,-1},
-    /*29*/{-1,-1},
-    /*30*/{-1,-1},
-    /*31*/{-1,-1},
-    /*32*/{-1,-1},
-    /*33*/{10,73,17,85,-1,-1},
-    /*34*/{-1,-1},
-    /*35*/{-1,-1},
-    /*36*/{8,37,15,39,27,38,-1,-1},
-    /*37*/{9,48,20,49,28,47,-1,-1},
-    /*38*/{-1,-1},
-    /*39*/{-1,-1},
-    /*40*/{-1,-1},
-    /*41*/{28,43,-1,-1},
-    /*42*/{-1,-1},
-    /*43*/{39,44,-1,-1},
-    /*44*/{-1,-1},
-    /*45*/{-1,-1},
-    /*46*/{41,69,-1,-1},
-    /*47*/{40,51,-1,-1},
-    /*48*/{20,50,28,47,-1,-1},
-    /*49*/{-1,-1},
-    /*50*/{-1,-1},
-    /*51*/{-1,-1},
-    /*52*/{21,55,25,53,26,56,27,54,-1,-1},
-    /*53*/{-1,-1},
-    /*54*/{-1,-1},
-    /*55*/{22,60,29,59,-1,-1},
-    /*56*/{-1,-1},
-    /*57*/{-1,-1},
-    /*58*/{-1,-1},
-    /*59*/{27,62,31,63,-1,-1},
-    /*60*/{-1,-1},
-    /*61*/{30,65,-1,-1},
-    /*62*/{-1,-1},
-    /*63*/{-1,-1},
-    /*64*/{-1,-1},
-    /*65*/{-1,-1},
-    /*66*/{21,55,26,68,27,54,-1,-1},
-    /*67*/{-1,-1},
-    /*68*/{-1,-1},
-    /*69*/{-1,-1},
-    /*70*/{-1,-1},
-    /*71*/{10,73,17,74,-1,-1},
-    /*72*/{38,82,-1,-1},
-    /*73*/{-1,-1},
-    /*74*/{19,76,24,77,-1,-1},
-    /*75*/{-1,-1},
-    /*76*/{36,79,-1,-1},
-    /*77*/{-1,-1},
-    /*78*/{24,81,-1,-1},
-    /*79*/{-1,-1},
-    /*80*/{-1,-1},
-    /*81*/{-1,-1},
-    /*82*/{-1,-1},
-    /*83*/{-1,-1},
-    /*84*/{37,93,-1,-1},
-    /*85*/{18,88,23,87,-1,-1},
-    /*86*/{-1,-1},
-    /*87*/{-1,-1},
-    /*88*/{35,89,-1,-1},
-    /*89*/{-1,-1},
-    /*90*/{23,91,-1,-1},
-    /*91*/{-1,-1},
-    /*92*/{-1,-1},
-    /*93*/{-1,-1},
-    /*94*/{-1,-1},
-    /*95*/{-1,-1},
-    /*96*/{-1,-1},
-    /*97*/{-1,-1},
-    /*98*/{10,99,-1,-1},
-    /*99*/{-1,-1},
-    /*100*/{-1,-1},
-    /*101*/{-1,-1},
-    /*102*/{-1,-1},
-    /*103*/{-1,-1},
-    /*104*/{-1,-1},
-    /*105*/{-1,-1},
-    /*106*/{-1,-1},
-    /*107*/{-1,-1},
-    /*108*/{-1,-1},
-    /*109*/{-1,-1},
-    /*110*/{-1,-1},
-    /*111*/{34,112,-1,-1},
-    /*112*/{-1,-1},
-    /*113*/{-1,-1},
-    /*114*/{-1,-1},
-    /*115*/{-1,-1},
-    /*116*/{8,117,15,39,27,38,-1,-1},
-    /*117*/{9,118,20,49,28,47,-1,-1},
-    /*118*/{20,50,28,47,-1,-1},
-    /*119*/{-1,-1},
-  };
+  protected static final short[][] _reduce_table = 
+    unpack_table(new String[] {
+    "x\006\003\004\042\005\001\001\006\011\010\021\011\001\001\002\001\001\006\004\014\035\015\001\001\006\014\020\023\021\001\001" +
+    "\002\001\001\010\012\024\021\025\035\026\001\001\002\001\001\002\001\001\004\014\027\001\001\006\005\030\035\031\001\001\002\001" +
+    "\001\004'\032\001\001\002\001\001\002\001\001\006\024\035\031\036\001\001\006\014\020\023 \001\001\002\001\001\010\013$" +
+    "\026%\036&\001\001\002\001\001\002\001\001\004#'\001\001\012\006*\007+\015,\035-\001\001\002\001\001\002" +
+    "\001\001\002\001\001\002\001\001\004%1\001\001\002\001\001\004(2\001\001\006\0254\0325\001\001\004\0366\001" +
+    "\001\004+7\001\001\002\001\001\006\0268\036&\001\001\002\001\001\004*9\001\001\002\001\001\006\014;\016<" +
+    "\001\001\002\001\001\006\022?\035@\001\001\006\010B\035C\001\001\002\001\001\002\001\001\002\001\001\002\001\001\004" +
+    "\031D\001\001\002\001\001\002\001\001\002\001\001\004&H\001\001\002\001\001\004)I\001\001\002\001\001\002\001\001" +
+    "\002\001\001\002\001\001\002\001\001\004$M\001\001\002\001\001\002\001\001\006\017Q\035R\001\001\002\001\001\002\001" +
+    "\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\004\032T\001\001\002\001\001\002\001\001\002\001\001\012\027" +
+    "W\033X\034Y\035Z\001\001\002\001\001\002\001\001\002\001\001\004\014^\001\001\002\001\001\006\020a\035b\001" +
+    "\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\006\030f\037g\001\001\002\001\001\002\001\001\002\001\001" +
+    "\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\002\001\001\006\011m\021\011\001\001\002\001\001\002\001\001\002" +
+    "\001\001\002\001\001\002\001\001\006\035p!q\001\001\002\001\001\010\027W\034r\035Z\001\001\002\001\001\002\001" +
+    "\001\002\001\001\010\012u\021\025\035\026\001\001\002\001\001\004 w\001\001\002\001\001\002\001\001\002\001\001\002\001" +
+    "\001\002\001\001\010\013y\026%\036&\001\001\002\001\001\002\001\001\002\001\001\006\0268\036&\001\001" });
 
   /** access to reduce_goto table */
   public short[][] reduce_table() {return _reduce_table;}
@@ -301,7 +104,7 @@ public class parser extends java_cup.runtime.lr_parser {
   public java_cup.runtime.symbol do_action(
     int                        act_num,
     java_cup.runtime.lr_parser parser,
-    java.util.Stack            stack,
+    java_cup.runtime.parse_stack stack,
     int                        top)
     throws java.lang.Exception
   {
@@ -428,7 +231,7 @@ class CUP$actions {
   public final java_cup.runtime.symbol CUP$do_action(
     int                        CUP$act_num,
     java_cup.runtime.lr_parser CUP$parser,
-    java.util.Stack            CUP$stack,
+    java_cup.runtime.parse_stack CUP$stack,
     int                        CUP$top)
     throws java.lang.Exception
     {
@@ -441,7 +244,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 64: // empty ::= 
             {
-              CUP$result = new java_cup.runtime.symbol(/*empty*/27);
+              CUP$result = CUP$parser.new_symbol(/*empty*/27);
               
             }
           return CUP$result;
@@ -473,7 +276,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 60: // new_non_term_id ::= ID 
             {
-              CUP$result = new java_cup.runtime.symbol(/*new_non_term_id*/24);
+              CUP$result = CUP$parser.new_symbol(/*new_non_term_id*/24);
               
 	  /* see if this non terminal has been declared before */
 	  if (symbols.get((/*non_term_id*/(java_cup.runtime.str_token)CUP$stack.elementAt(CUP$top-0)).str_val) != null)
@@ -501,7 +304,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 59: // new_term_id ::= ID 
             {
-              CUP$result = new java_cup.runtime.symbol(/*new_term_id*/23);
+              CUP$result = CUP$parser.new_symbol(/*new_term_id*/23);
               
 	  /* see if this terminal has been declared before */
 	  if (symbols.get((/*term_id*/(java_cup.runtime.str_token)CUP$stack.elementAt(CUP$top-0)).str_val) != null)
@@ -523,7 +326,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 58: // type_id ::= multipart_id 
             {
-              CUP$result = new java_cup.runtime.symbol(/*type_id*/17);
+              CUP$result = CUP$parser.new_symbol(/*type_id*/17);
               
             }
           return CUP$result;
@@ -531,7 +334,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 57: // import_id ::= multipart_id 
             {
-              CUP$result = new java_cup.runtime.symbol(/*import_id*/12);
+              CUP$result = CUP$parser.new_symbol(/*import_id*/12);
               
             }
           return CUP$result;
@@ -539,7 +342,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 56: // import_id ::= multipart_id DOT STAR 
             {
-              CUP$result = new java_cup.runtime.symbol(/*import_id*/12);
+              CUP$result = CUP$parser.new_symbol(/*import_id*/12);
                append_multipart("*"); 
             }
           return CUP$result;
@@ -547,7 +350,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 55: // multipart_id ::= ID 
             {
-              CUP$result = new java_cup.runtime.symbol(/*multipart_id*/10);
+              CUP$result = CUP$parser.new_symbol(/*multipart_id*/10);
                append_multipart((/*an_id*/(java_cup.runtime.str_token)CUP$stack.elementAt(CUP$top-0)).str_val); 
             }
           return CUP$result;
@@ -555,7 +358,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 54: // multipart_id ::= multipart_id DOT ID 
             {
-              CUP$result = new java_cup.runtime.symbol(/*multipart_id*/10);
+              CUP$result = CUP$parser.new_symbol(/*multipart_id*/10);
                append_multipart((/*another_id*/(java_cup.runtime.str_token)CUP$stack.elementAt(CUP$top-0)).str_val); 
             }
           return CUP$result;
@@ -579,7 +382,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 51: // prod_part ::= CODE_STRING 
             {
-              CUP$result = new java_cup.runtime.symbol(/*prod_part*/22);
+              CUP$result = CUP$parser.new_symbol(/*prod_part*/22);
               
 	  /* add a new production part */
 	  add_rhs_part(new action_part((/*code_str*/(java_cup.runtime.str_token)CUP$stack.elementAt(CUP$top-0)).str_val));
@@ -590,7 +393,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 50: // prod_part ::= symbol_id opt_label 
             {
-              CUP$result = new java_cup.runtime.symbol(/*prod_part*/22);
+              CUP$result = CUP$parser.new_symbol(/*prod_part*/22);
               
 	  /* try to look up the id */
 	  production_part symb = (production_part)symbols.get((/*symid*/(java_cup.runtime.str_token)CUP$stack.elementAt(CUP$top-1)).str_val);
@@ -614,7 +417,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 49: // prod_part_list ::= empty 
             {
-              CUP$result = new java_cup.runtime.symbol(/*prod_part_list*/21);
+              CUP$result = CUP$parser.new_symbol(/*prod_part_list*/21);
               
             }
           return CUP$result;
@@ -622,7 +425,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 48: // prod_part_list ::= prod_part_list prod_part 
             {
-              CUP$result = new java_cup.runtime.symbol(/*prod_part_list*/21);
+              CUP$result = CUP$parser.new_symbol(/*prod_part_list*/21);
               
             }
           return CUP$result;
@@ -630,7 +433,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 47: // rhs ::= prod_part_list 
             {
-              CUP$result = new java_cup.runtime.symbol(/*rhs*/26);
+              CUP$result = CUP$parser.new_symbol(/*rhs*/26);
               
 	  if (lhs_nt != null)
 	    {
@@ -663,7 +466,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 46: // rhs_list ::= rhs 
             {
-              CUP$result = new java_cup.runtime.symbol(/*rhs_list*/25);
+              CUP$result = CUP$parser.new_symbol(/*rhs_list*/25);
               
             }
           return CUP$result;
@@ -671,7 +474,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 45: // rhs_list ::= rhs_list BAR rhs 
             {
-              CUP$result = new java_cup.runtime.symbol(/*rhs_list*/25);
+              CUP$result = CUP$parser.new_symbol(/*rhs_list*/25);
               
             }
           return CUP$result;
@@ -679,7 +482,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 44: // production ::= error NT$9 SEMI 
             {
-              CUP$result = new java_cup.runtime.symbol(/*production*/20);
+              CUP$result = CUP$parser.new_symbol(/*production*/20);
               
             }
           return CUP$result;
@@ -695,7 +498,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 42: // production ::= nt_id NT$8 COLON_COLON_EQUALS rhs_list SEMI 
             {
-              CUP$result = new java_cup.runtime.symbol(/*production*/20);
+              CUP$result = CUP$parser.new_symbol(/*production*/20);
               
             }
           return CUP$result;
@@ -725,7 +528,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 40: // production_list ::= production 
             {
-              CUP$result = new java_cup.runtime.symbol(/*production_list*/9);
+              CUP$result = CUP$parser.new_symbol(/*production_list*/9);
               
             }
           return CUP$result;
@@ -733,7 +536,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 39: // production_list ::= production_list production 
             {
-              CUP$result = new java_cup.runtime.symbol(/*production_list*/9);
+              CUP$result = CUP$parser.new_symbol(/*production_list*/9);
               
             }
           return CUP$result;
@@ -741,7 +544,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 38: // start_spec ::= empty 
             {
-              CUP$result = new java_cup.runtime.symbol(/*start_spec*/8);
+              CUP$result = CUP$parser.new_symbol(/*start_spec*/8);
               
             }
           return CUP$result;
@@ -749,7 +552,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 37: // start_spec ::= START WITH nt_id NT$7 SEMI 
             {
-              CUP$result = new java_cup.runtime.symbol(/*start_spec*/8);
+              CUP$result = CUP$parser.new_symbol(/*start_spec*/8);
               
             }
           return CUP$result;
@@ -786,7 +589,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 35: // non_term_name_list ::= new_non_term_id 
             {
-              CUP$result = new java_cup.runtime.symbol(/*non_term_name_list*/19);
+              CUP$result = CUP$parser.new_symbol(/*non_term_name_list*/19);
               
             }
           return CUP$result;
@@ -794,7 +597,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 34: // non_term_name_list ::= non_term_name_list COMMA new_non_term_id 
             {
-              CUP$result = new java_cup.runtime.symbol(/*non_term_name_list*/19);
+              CUP$result = CUP$parser.new_symbol(/*non_term_name_list*/19);
               
             }
           return CUP$result;
@@ -802,7 +605,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 33: // term_name_list ::= new_term_id 
             {
-              CUP$result = new java_cup.runtime.symbol(/*term_name_list*/18);
+              CUP$result = CUP$parser.new_symbol(/*term_name_list*/18);
               
             }
           return CUP$result;
@@ -810,7 +613,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 32: // term_name_list ::= term_name_list COMMA new_term_id 
             {
-              CUP$result = new java_cup.runtime.symbol(/*term_name_list*/18);
+              CUP$result = CUP$parser.new_symbol(/*term_name_list*/18);
               
             }
           return CUP$result;
@@ -818,7 +621,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 31: // symbol ::= NON TERMINAL error NT$6 SEMI 
             {
-              CUP$result = new java_cup.runtime.symbol(/*symbol*/15);
+              CUP$result = CUP$parser.new_symbol(/*symbol*/15);
               
             }
           return CUP$result;
@@ -837,7 +640,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 29: // symbol ::= TERMINAL error NT$5 SEMI 
             {
-              CUP$result = new java_cup.runtime.symbol(/*symbol*/15);
+              CUP$result = CUP$parser.new_symbol(/*symbol*/15);
               
             }
           return CUP$result;
@@ -856,7 +659,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 27: // symbol ::= NON TERMINAL type_id non_term_name_list NT$4 SEMI 
             {
-              CUP$result = new java_cup.runtime.symbol(/*symbol*/15);
+              CUP$result = CUP$parser.new_symbol(/*symbol*/15);
               
             }
           return CUP$result;
@@ -875,7 +678,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 25: // symbol ::= TERMINAL type_id term_name_list NT$3 SEMI 
             {
-              CUP$result = new java_cup.runtime.symbol(/*symbol*/15);
+              CUP$result = CUP$parser.new_symbol(/*symbol*/15);
               
             }
           return CUP$result;
@@ -894,7 +697,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 23: // symbol_list ::= symbol 
             {
-              CUP$result = new java_cup.runtime.symbol(/*symbol_list*/7);
+              CUP$result = CUP$parser.new_symbol(/*symbol_list*/7);
               
             }
           return CUP$result;
@@ -902,7 +705,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 22: // symbol_list ::= symbol_list symbol 
             {
-              CUP$result = new java_cup.runtime.symbol(/*symbol_list*/7);
+              CUP$result = CUP$parser.new_symbol(/*symbol_list*/7);
               
             }
           return CUP$result;
@@ -910,7 +713,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 21: // debug_grammar ::= empty 
             {
-              CUP$result = new java_cup.runtime.symbol(/*debug_grammar*/16);
+              CUP$result = CUP$parser.new_symbol(/*debug_grammar*/16);
               
             }
           return CUP$result;
@@ -918,7 +721,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 20: // debug_grammar ::= DEBUG WITH multipart_id SEMI 
             {
-              CUP$result = new java_cup.runtime.symbol(/*debug_grammar*/16);
+              CUP$result = CUP$parser.new_symbol(/*debug_grammar*/16);
               
 	  /* save the procedure name */
           emit.debug_grammar = multipart_name;
@@ -931,7 +734,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 19: // scan_code ::= empty 
             {
-              CUP$result = new java_cup.runtime.symbol(/*scan_code*/14);
+              CUP$result = CUP$parser.new_symbol(/*scan_code*/14);
               
             }
           return CUP$result;
@@ -939,7 +742,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 18: // scan_code ::= SCAN WITH CODE_STRING SEMI 
             {
-              CUP$result = new java_cup.runtime.symbol(/*scan_code*/14);
+              CUP$result = CUP$parser.new_symbol(/*scan_code*/14);
               
 	  /* save the user code */
 	  emit.scan_code = (/*user_code*/(java_cup.runtime.str_token)CUP$stack.elementAt(CUP$top-1)).str_val;
@@ -950,7 +753,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 17: // init_code ::= empty 
             {
-              CUP$result = new java_cup.runtime.symbol(/*init_code*/13);
+              CUP$result = CUP$parser.new_symbol(/*init_code*/13);
               
             }
           return CUP$result;
@@ -958,7 +761,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 16: // init_code ::= INIT WITH CODE_STRING SEMI 
             {
-              CUP$result = new java_cup.runtime.symbol(/*init_code*/13);
+              CUP$result = CUP$parser.new_symbol(/*init_code*/13);
               
 	  /* save the user code */
 	  emit.init_code = (/*user_code*/(java_cup.runtime.str_token)CUP$stack.elementAt(CUP$top-1)).str_val;
@@ -969,7 +772,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 15: // parser_code_part ::= empty 
             {
-              CUP$result = new java_cup.runtime.symbol(/*parser_code_part*/6);
+              CUP$result = CUP$parser.new_symbol(/*parser_code_part*/6);
               
             }
           return CUP$result;
@@ -977,7 +780,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 14: // parser_code_part ::= PARSER CODE CODE_STRING SEMI 
             {
-              CUP$result = new java_cup.runtime.symbol(/*parser_code_part*/6);
+              CUP$result = CUP$parser.new_symbol(/*parser_code_part*/6);
               
 	  /* save the user included code string */
 	  emit.parser_code = (/*user_code*/(java_cup.runtime.str_token)CUP$stack.elementAt(CUP$top-1)).str_val;
@@ -988,7 +791,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 13: // action_code_part ::= empty 
             {
-              CUP$result = new java_cup.runtime.symbol(/*action_code_part*/5);
+              CUP$result = CUP$parser.new_symbol(/*action_code_part*/5);
               
             }
           return CUP$result;
@@ -996,7 +799,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 12: // action_code_part ::= ACTION CODE CODE_STRING SEMI 
             {
-              CUP$result = new java_cup.runtime.symbol(/*action_code_part*/5);
+              CUP$result = CUP$parser.new_symbol(/*action_code_part*/5);
               
 	  /* save the user included code string */
 	  emit.action_code = (/*user_code*/(java_cup.runtime.str_token)CUP$stack.elementAt(CUP$top-1)).str_val;
@@ -1007,7 +810,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 11: // code_part ::= action_code_part parser_code_part 
             {
-              CUP$result = new java_cup.runtime.symbol(/*code_part*/4);
+              CUP$result = CUP$parser.new_symbol(/*code_part*/4);
               
             }
           return CUP$result;
@@ -1015,7 +818,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 10: // import_spec ::= IMPORT import_id NT$2 SEMI 
             {
-              CUP$result = new java_cup.runtime.symbol(/*import_spec*/11);
+              CUP$result = CUP$parser.new_symbol(/*import_spec*/11);
               
             }
           return CUP$result;
@@ -1037,7 +840,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 8: // import_list ::= empty 
             {
-              CUP$result = new java_cup.runtime.symbol(/*import_list*/3);
+              CUP$result = CUP$parser.new_symbol(/*import_list*/3);
               
             }
           return CUP$result;
@@ -1045,7 +848,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 7: // import_list ::= import_list import_spec 
             {
-              CUP$result = new java_cup.runtime.symbol(/*import_list*/3);
+              CUP$result = CUP$parser.new_symbol(/*import_list*/3);
               
             }
           return CUP$result;
@@ -1053,7 +856,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 6: // package_spec ::= empty 
             {
-              CUP$result = new java_cup.runtime.symbol(/*package_spec*/2);
+              CUP$result = CUP$parser.new_symbol(/*package_spec*/2);
               
             }
           return CUP$result;
@@ -1061,7 +864,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 5: // package_spec ::= PACKAGE multipart_id NT$1 SEMI 
             {
-              CUP$result = new java_cup.runtime.symbol(/*package_spec*/2);
+              CUP$result = CUP$parser.new_symbol(/*package_spec*/2);
               
             }
           return CUP$result;
@@ -1083,7 +886,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 3: // spec ::= error symbol_list start_spec production_list 
             {
-              CUP$result = new java_cup.runtime.symbol(/*spec*/1);
+              CUP$result = CUP$parser.new_symbol(/*spec*/1);
               
             }
           return CUP$result;
@@ -1091,7 +894,7 @@ class CUP$actions {
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 2: // spec ::= NT$0 package_spec import_list code_part debug_grammar init_code scan_code symbol_list start_spec production_list 
             {
-              CUP$result = new java_cup.runtime.symbol(/*spec*/1);
+              CUP$result = CUP$parser.new_symbol(/*spec*/1);
               
             }
           return CUP$result;
@@ -1127,5 +930,5 @@ class CUP$actions {
 
         }
     }
-};
+};
 
@@ -1,8 +1,6 @@
 
 package java_cup.runtime;
 
-import java.util.Stack;
-
 /** This class implements a skeleton table driven LR parser.  In general,
  *  LR parsers are a form of bottom up shift-reduce parsers.  Shift-reduce
  *  parsers act by shifting input onto a parse stack until the symbols 
@@ -100,6 +98,11 @@ import java.util.Stack;
  *  <dd> This method is called if syntax error recovery fails.  In the default
  *       implementation it invokes:<br> 
  *         report_fatal_error("Couldn't repair and continue parse", null);
+ *  <dt> short[][] action_comb(), short[][] reduce_comb()
+ *  <dd> Provide the action and reduce-goto tables in comb vector form.  
+ *       These are generated when JavaCup is run with -comb_tables, and 
+ *       when present get_action() and get_reduce() index them directly 
+ *       rather than searching the compacted rows.  They default to null.
  *  </dl>
  *
  * @see     java_cup.runtime.symbol
@@ -187,6 +190,27 @@ public abstract class lr_parser {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** The action table in comb vector form, or null if the generated
+   *  subclass does not supply one.  The four rows are base and default 
+   *  (indexed by state), then check and next.  The action for a state and
+   *  symbol is next[base[state]+sym] if check[base[state]+sym] == state, 
+   *  and the default for the state otherwise.
+   *
+   * @see java_cup.runtime.lr_parser#get_action
+   */
+  public short[][] action_comb() {return null;}
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** The reduce-goto table in comb vector form, or null if the generated
+   *  subclass does not supply one.  Laid out as for action_comb().
+   *
+   * @see java_cup.runtime.lr_parser#get_reduce
+   */
+  public short[][] reduce_comb() {return null;}
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** The index of the start state (supplied by generated subclass). */
   public abstract int start_state();
 
@@ -239,7 +263,19 @@ public abstract class lr_parser {
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
   /** The parse stack itself. */
-  protected Stack stack = new Stack();
+  protected parse_stack stack = new parse_stack();
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Plain symbol objects that have been popped off the parse stack and
+   *  can be handed out again by new_symbol().  Only objects whose class is
+   *  exactly symbol are kept here; those carry no attributes, so once a
+   *  reduce has popped them nothing else can be looking at them.
+   */
+  protected symbol[] symbol_pool = new symbol[64];
+
+  /** Number of symbols currently in the pool. */
+  protected int symbol_pool_size = 0;
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
@@ -256,10 +292,59 @@ public abstract class lr_parser {
   /** Direct reference to the reduce-goto table. */
   protected short[][] reduce_tab;
 
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Direct references to the rows of the comb vector action table (all
+   *  null when the parser has none). */
+  protected short[] action_base, action_default, action_check, action_next;
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Direct references to the rows of the comb vector reduce-goto table 
+   *  (all null when the parser has none). */
+  protected short[] reduce_base, reduce_check, reduce_next;
+
   /*-----------------------------------------------------------*/
   /*--- General Methods ---------------------------------------*/
   /*-----------------------------------------------------------*/
 
+  /** Rebuild a parse table from the packed String form emitted by the 
+   *  parser generator (see java_cup.emit.do_table_as_string()).  The
+   *  pieces are read as one sequence holding the number of rows, then 
+   *  for each row its length followed by its entries, each offset by 2.
+   *
+   * @param sa the pieces of the packed table.
+   */
+  protected static short[][] unpack_table(String[] sa)
+    {
+      /* gather the pieces into one array (String.charAt() per entry is 
+	 far slower than this while the class is still being interpreted) */
+      int total = 0;
+      for (int i = 0; i < sa.length; i++)
+	total += sa[i].length();
+      char[] packed = new char[total];
+      total = 0;
+      for (int i = 0; i < sa.length; i++)
+	{
+	  sa[i].getChars(0, sa[i].length(), packed, total);
+	  total += sa[i].length();
+	}
+
+      /* number of rows, then each row as its length and its entries */
+      int pos = 0;
+      short[][] result = new short[packed[pos++]][];
+      for (int row = 0; row < result.length; row++)
+	{
+	  short[] entries = new short[packed[pos++]];
+	  for (int col = 0; col < entries.length; col++)
+	    entries[col] = (short)(packed[pos++] - 2);
+	  result[row] = entries;
+	}
+      return result;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** Perform a bit of user supplied action code (supplied by generated 
    *  subclass).  Actions are indexed by an internal action number assigned
    *  at parser generation time.
@@ -272,12 +357,54 @@ public abstract class lr_parser {
   public abstract symbol do_action(
     int       act_num, 
     lr_parser parser, 
-    Stack     stack, 
+    parse_stack stack, 
     int       top) 
     throws java.lang.Exception;
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** Return a plain symbol object for the given symbol number, reusing one
+   *  from the pool if one is available.  Generated action code calls this 
+   *  to build the left hand side of a reduce for non terminals that are 
+   *  declared without a type.
+   *
+   * @param sym_num the symbol number of the symbol.
+   */
+  public symbol new_symbol(int sym_num)
+    {
+      if (symbol_pool_size == 0)
+	return new symbol(sym_num);
+
+      symbol result = symbol_pool[--symbol_pool_size];
+      symbol_pool[symbol_pool_size] = null;
+      result.sym = sym_num;
+      result.parse_state = -1;
+      return result;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Pop the handle of a reduce off the parse stack, returning any plain
+   *  symbol objects on it to the pool.
+   *
+   * @param handle_size the number of symbols to pop.
+   */
+  protected void pop_handle(int handle_size)
+    {
+      symbol popped;
+
+      for (int i = 0; i < handle_size; i++)
+	{
+	  popped = stack.pop();
+	  if (popped.getClass() == symbol.class && 
+	      symbol_pool_size < symbol_pool.length)
+	    symbol_pool[symbol_pool_size++] = popped;
+	}
+      tos -= handle_size;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** User code for initialization inside the parser.  Typically this 
    *  initializes the scanner.  This is called before the parser requests
    *  the first token.  Here this is just a placeholder for subclasses that 
@@ -380,6 +507,8 @@ public abstract class lr_parser {
    *  entries in the table), and the list is terminated by a default entry 
    *  (denoted with a symbol index of -1).  To find the proper entry in a row 
    *  we do a linear or binary search (depending on the size of the row).  
+   *  When the parser supplies comb vectors (see action_comb()) the entry
+   *  is found with a single probe instead.
    *
    * @param state the state index of the action being accessed.
    * @param sym   the symbol index of the action being accessed.
@@ -388,6 +517,16 @@ public abstract class lr_parser {
     {
       short tag;
       int first, last, probe;
+
+      /* with comb vectors this is a single probe */
+      if (action_check != null)
+	{
+	  probe = action_base[state] + sym;
+	  if (probe < action_check.length && action_check[probe] == state)
+	    return action_next[probe];
+	  return action_default[state];
+	}
+
       short[] row = action_tab[state];
 
       /* linear search if we are < 10 entries */
@@ -434,7 +573,8 @@ public abstract class lr_parser {
    *  Within each row, a list of index, value pairs are given (as sequential
    *  entries in the table), and the list is terminated by a default entry 
    *  (denoted with a symbol index of -1).  To find the proper entry in a row 
-   *  we do a linear search.  
+   *  we do a linear search, or a single probe when the parser supplies 
+   *  comb vectors (see reduce_comb()).
    *
    * @param state the state index of the entry being accessed.
    * @param sym   the symbol index of the entry being accessed.
@@ -442,6 +582,16 @@ public abstract class lr_parser {
   protected final short get_reduce(int state, int sym)
     {
       short tag;
+
+      /* with comb vectors this is a single probe */
+      if (reduce_check != null)
+	{
+	  int probe = reduce_base[state] + sym;
+	  if (probe < reduce_check.length && reduce_check[probe] == state)
+	    return reduce_next[probe];
+	  return -1;
+	}
+
       short[] row = reduce_tab[state];
 
       /* if we have a null row we go with the default */
@@ -464,6 +614,32 @@ public abstract class lr_parser {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** Set up direct references to the tables that drive the parser. */
+  protected void init_tables()
+    {
+      production_tab = production_table();
+      action_tab     = action_table();
+      reduce_tab     = reduce_table();
+
+      short[][] comb = action_comb();
+      if (comb != null)
+	{
+	  action_base    = comb[0];
+	  action_default = comb[1];
+	  action_check   = comb[2];
+	  action_next    = comb[3];
+	}
+      comb = reduce_comb();
+      if (comb != null)
+	{
+	  reduce_base  = comb[0];
+	  reduce_check = comb[2];
+	  reduce_next  = comb[3];
+	}
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** This method provides the main parsing routine.  It returns only when 
    *  done_parsing() has been called (typically because the parser has 
    *  accepted, or a fatal error has been reported).  See the header 
@@ -482,10 +658,7 @@ public abstract class lr_parser {
       short handle_size, lhs_sym_num;
 
       /* set up direct reference to tables to drive the parser */
-
-      production_tab = production_table();
-      action_tab     = action_table();
-      reduce_tab     = reduce_table();
+      init_tables();
 
       /* initialize the action encapsulation object */
       init_actions();
@@ -497,6 +670,7 @@ public abstract class lr_parser {
       cur_token = scan(); 
 
       /* push dummy symbol with start state to get us underway */
+      stack.remove_all_elements();
       stack.push(new symbol(0, start_state()));
       tos = 0;
 
@@ -506,7 +680,7 @@ public abstract class lr_parser {
 	  /* current state is always on the top of the stack */
 
 	  /* look up action out of the current state with the current input */
-	  act = get_action(((symbol)stack.peek()).parse_state, cur_token.sym);
+	  act = get_action(stack.top_state(), cur_token.sym);
 
 	  /* decode the action -- > 0 encodes shift */
 	  if (act > 0)
@@ -530,14 +704,10 @@ public abstract class lr_parser {
 	      handle_size = production_tab[(-act)-1][1];
 
 	      /* pop the handle off the stack */
-	      for (int i = 0; i < handle_size; i++)
-		{
-		  stack.pop();
-		  tos--;
-		}
+	      pop_handle(handle_size);
 	      
 	      /* look up the state to go to from the one popped back to */
-	      act = get_reduce(((symbol)stack.peek()).parse_state, lhs_sym_num);
+	      act = get_reduce(stack.top_state(), lhs_sym_num);
 
 	      /* shift to that state */
 	      lhs_sym.parse_state = act;
@@ -591,8 +761,8 @@ public abstract class lr_parser {
       /* dump the stack */
       for (int i=0; i<stack.size(); i++)
 	{
-	  debug_message("Symbol: " + ((symbol)stack.elementAt(i)).sym +
-			" State: " + ((symbol)stack.elementAt(i)).parse_state);
+	  debug_message("Symbol: " + stack.elementAt(i).sym +
+			" State: " + stack.state_at(i));
 	}
       debug_message("==========================================");
     }
@@ -643,9 +813,7 @@ public abstract class lr_parser {
       short handle_size, lhs_sym_num;
 
       /* set up direct reference to tables to drive the parser */
-      production_tab = production_table();
-      action_tab     = action_table();
-      reduce_tab     = reduce_table();
+      init_tables();
 
       debug_message("# Initializing parser");
 
@@ -661,6 +829,7 @@ public abstract class lr_parser {
       debug_message("# Current token is #" + cur_token.sym);
 
       /* push dummy symbol with start state to get us underway */
+      stack.remove_all_elements();
       stack.push(new symbol(0, start_state()));
       tos = 0;
 
@@ -670,7 +839,7 @@ public abstract class lr_parser {
 	  /* current state is always on the top of the stack */
 
 	  /* look up action out of the current state with the current input */
-	  act = get_action(((symbol)stack.peek()).parse_state, cur_token.sym);
+	  act = get_action(stack.top_state(), cur_token.sym);
 
 	  /* decode the action -- > 0 encodes shift */
 	  if (act > 0)
@@ -698,14 +867,10 @@ public abstract class lr_parser {
 	      debug_reduce((-act)-1, lhs_sym_num, handle_size);
 
 	      /* pop the handle off the stack */
-	      for (int i = 0; i < handle_size; i++)
-		{
-		  stack.pop();
-		  tos--;
-		}
+	      pop_handle(handle_size);
 	      
 	      /* look up the state to go to from the one popped back to */
-	      act = get_reduce(((symbol)stack.peek()).parse_state, lhs_sym_num);
+	      act = get_reduce(stack.top_state(), lhs_sym_num);
 
 	      /* shift to that state */
 	      lhs_sym.parse_state = act;
@@ -816,7 +981,7 @@ public abstract class lr_parser {
   protected boolean shift_under_error()
     {
       /* is there a shift under error symbol */
-      return get_action(((symbol)stack.peek()).parse_state, error_sym()) > 0;
+      return get_action(stack.top_state(), error_sym()) > 0;
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -841,7 +1006,7 @@ public abstract class lr_parser {
 	  /* pop the stack */
 	  if (debug) 
 	    debug_message("# Pop stack by one, state was # " +
-	                  ((symbol)stack.peek()).parse_state);
+	                  stack.top_state());
           stack.pop();	
 	  tos--;
 
@@ -854,11 +1019,11 @@ public abstract class lr_parser {
 	}
 
       /* state on top of the stack can shift under error, find the shift */
-      act = get_action(((symbol)stack.peek()).parse_state, error_sym());
+      act = get_action(stack.top_state(), error_sym());
       if (debug) 
 	{
 	  debug_message("# Recover state found (#" + 
-			((symbol)stack.peek()).parse_state + ")");
+			stack.top_state() + ")");
 	  debug_message("# Shifting on error to state #" + (act-1));
 	}
 
@@ -1040,7 +1205,7 @@ public abstract class lr_parser {
 	  debug_message("# Reparsing saved input with actions");
 	  debug_message("# Current token is #" + cur_err_token().sym);
 	  debug_message("# Current state is #" + 
-			((symbol)stack.peek()).parse_state);
+			stack.top_state());
 	}
 
       /* continue until we accept or have read all lookahead input */
@@ -1050,7 +1215,7 @@ public abstract class lr_parser {
 
 	  /* look up action out of the current state with the current input */
 	  act = 
-	    get_action(((symbol)stack.peek()).parse_state, cur_err_token().sym);
+	    get_action(stack.top_state(), cur_err_token().sym);
 
 	  /* decode the action -- > 0 encodes shift */
 	  if (act > 0)
@@ -1089,14 +1254,10 @@ public abstract class lr_parser {
 	      if (debug) debug_reduce((-act)-1, lhs_sym_num, handle_size);
 
 	      /* pop the handle off the stack */
-	      for (int i = 0; i < handle_size; i++)
-		{
-		  stack.pop();
-		  tos--;
-		}
+	      pop_handle(handle_size);
 	      
 	      /* look up the state to go to from the one popped back to */
-	      act = get_reduce(((symbol)stack.peek()).parse_state, lhs_sym_num);
+	      act = get_reduce(stack.top_state(), lhs_sym_num);
 
 	      /* shift to that state */
 	      lhs_sym.parse_state = act;
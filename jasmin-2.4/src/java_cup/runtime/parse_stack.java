@@ -0,0 +1,148 @@
+package java_cup.runtime;
+
+/** This class implements the parse stack used by lr_parser.  It replaces
+ *  the java.util.Stack used previously: it is not synchronized, and it
+ *  keeps the parse state of each element in a parallel array of ints so
+ *  that the parser can find the state on top of the stack without going
+ *  through the symbol object.  Generated action code reaches into the
+ *  stack with elementAt() exactly as it did with java.util.Stack, so the
+ *  indexing of the stack (from 0 at the bottom up to size()-1 at the top)
+ *  is unchanged.
+ *
+ * @see     java_cup.runtime.lr_parser
+ */
+
+public class parse_stack {
+
+  /*-----------------------------------------------------------*/
+  /*--- Constructor(s) ----------------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** Constructor with an initial capacity. */
+  public parse_stack(int initial_size)
+    {
+      if (initial_size < 1) initial_size = 1;
+      elements = new symbol[initial_size];
+      states   = new int[initial_size];
+      count    = 0;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Constructor with a default initial capacity. */
+  public parse_stack()
+    {
+      this(128);
+    }
+
+  /*-----------------------------------------------------------*/
+  /*--- (Access to) Instance Variables ------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** The symbols on the stack, bottom first. */
+  protected symbol[] elements;
+
+  /** The parse state recorded with each symbol on the stack. */
+  protected int[] states;
+
+  /** The number of elements currently on the stack. */
+  protected int count;
+
+  /** The number of elements currently on the stack. */
+  public final int size() {return count;}
+
+  /*-----------------------------------------------------------*/
+  /*--- General Methods ---------------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** Indicate whether the stack is empty. */
+  public final boolean empty()
+    {
+      return count == 0;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Push a symbol onto the stack, recording its current parse_state. */
+  public final void push(symbol sym)
+    {
+      if (count == elements.length)
+	grow();
+
+      elements[count] = sym;
+      states[count]   = sym.parse_state;
+      count++;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Pop the stack, returning the symbol that was on top. */
+  public final symbol pop()
+    {
+      symbol result = elements[--count];
+
+      /* don't hold on to symbols the parser is done with */
+      elements[count] = null;
+      return result;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Return the symbol on the top of the stack (without popping it). */
+  public final symbol peek()
+    {
+      return elements[count-1];
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Return the parse state on the top of the stack. */
+  public final int top_state()
+    {
+      return states[count-1];
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Return the symbol at a given index (0 is the bottom of the stack). */
+  public final symbol elementAt(int index)
+    {
+      return elements[index];
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Return the parse state at a given index (0 is the bottom of the
+   *  stack).
+   */
+  public final int state_at(int index)
+    {
+      return states[index];
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Pop everything off the stack. */
+  public final void remove_all_elements()
+    {
+      while (count > 0)
+	elements[--count] = null;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Double the capacity of the stack. */
+  protected void grow()
+    {
+      symbol[] new_elements = new symbol[elements.length * 2];
+      int[]    new_states   = new int[elements.length * 2];
+
+      System.arraycopy(elements, 0, new_elements, 0, count);
+      System.arraycopy(states, 0, new_states, 0, count);
+      elements = new_elements;
+      states   = new_states;
+    }
+
+  /*-----------------------------------------------------------*/
+
+};
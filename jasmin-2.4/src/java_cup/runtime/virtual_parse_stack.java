@@ -25,7 +25,7 @@ public class virtual_parse_stack {
   /*-----------------------------------------------------------*/
 
   /** Constructor to build a virtual stack out of a real stack. */
-  public virtual_parse_stack(Stack shadowing_stack) throws java.lang.Exception
+  public virtual_parse_stack(parse_stack shadowing_stack) throws java.lang.Exception
     {
       /* sanity check */
       if (shadowing_stack == null)
@@ -49,7 +49,7 @@ public class virtual_parse_stack {
    *  the bottom of the virtual portion of the stack, but is always left
    *  unmodified.
    */
-  protected Stack real_stack;
+  protected parse_stack real_stack;
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
@@ -78,19 +78,17 @@ public class virtual_parse_stack {
    */
   protected void get_from_real()
     {
-      symbol stack_sym;
-
       /* don't transfer if the real stack is empty */
       if (real_next >= real_stack.size()) return;
 
-      /* get a copy of the first symbol we have not transfered */
-      stack_sym = (symbol)real_stack.elementAt(real_stack.size()-1-real_next);
+      /* get the state of the first element we have not transfered */
+      int state = real_stack.state_at(real_stack.size()-1-real_next);
 
       /* record the transfer */
       real_next++;
 
-      /* put the state number from the symbol onto the virtual stack */
-      vstack.push(new Integer(stack_sym.parse_state));
+      /* put the state number onto the virtual stack */
+      vstack.push(new Integer(state));
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -1,9 +1,13 @@
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -12,47 +16,102 @@ class CodeGenerator {
 
     public CodeGenerator(List<ASTNode> astNodes) {
         this.astNodes = astNodes;
-    }
-
-    Set<VarDeclaration> declaredVariables = new HashSet<>();
 
-    public void generateCode(String outputFileName) {
         // Collect variable declarations
         for (ASTNode node : astNodes) {
             if (node instanceof VarDeclaration) {
                 declaredVariables.add(((VarDeclaration) node));
             }
         }
+    }
+
+    Set<VarDeclaration> declaredVariables = new HashSet<>();
 
+    private final PeepholeOptimizer peephole = new PeepholeOptimizer();
+
+    // How many times each rule of the peephole optimizer applied to the generated code
+    public Map<String, Integer> getPeepholeHits() {
+        return peephole.getHits();
+    }
+
+    public void generateCode(String outputFileName) {
+        generateCode(outputFileName, null);
+    }
+
+    // Generates the class file, using code generated beforehand for the top-level nodes if it is given
+    void generateCode(String outputFileName, List<String> codeFragments) {
         try (FileWriter writer = new FileWriter(outputFileName)) {
-            // Generate Jasmin file header
-            writer.write(".class public GeneratedClass\n");
-            writer.write(".super java/lang/Object\n\n");
+            writeClass(writer, codeFragments);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
 
-            // Generate fields for variable declarations
-            for (VarDeclaration varDeclaration : declaredVariables) {
-                writer.write(".field static " + varDeclaration.variableName + " " + getVarType((TypeNode) varDeclaration.variableType) + "\n");
-            }
+    // Generates the class and returns its Jasmin code
+    public String generateCodeAsString() {
+        StringWriter writer = new StringWriter();
+        try {
+            writeClass(writer, null);
+        } catch (IOException e) {
+            // A StringWriter does not throw
+            throw new RuntimeException(e);
+        }
+        return writer.toString();
+    }
+
+    private void writeClass(Writer writer, List<String> codeFragments) throws IOException {
+        // Generate Jasmin file header
+        writer.write(".class public GeneratedClass\n");
+        writer.write(".super java/lang/Object\n\n");
 
-            // Generate main method
-            writer.write(".method public static main([Ljava/lang/String;)V\n");
-            writer.write(".limit stack 100\n");
-            writer.write(".limit locals 100\n\n");
+        // Generate fields for variable declarations
+        for (VarDeclaration varDeclaration : declaredVariables) {
+            writer.write(".field static " + varDeclaration.variableName + " " + getVarType((TypeNode) varDeclaration.variableType) + "\n");
+        }
 
-            // Generate code for each AST node
-            for (ASTNode node : astNodes) {
-                generateCodeForNode(node, writer);
+        // Generate main method
+        writer.write(".method public static main([Ljava/lang/String;)V\n");
+        writer.write(".limit stack 100\n");
+        writer.write(".limit locals 100\n\n");
+
+        // Generate code for each AST node, then let the peephole optimizer clean it up
+        StringWriter body = new StringWriter();
+        if (codeFragments != null) {
+            for (String code : codeFragments) {
+                body.write(code);
             }
+        } else {
+            generateCodeForStatements(astNodes, body);
+        }
+        writer.write(peephole.optimize(body.toString()));
+
+        // Generate Jasmin file footer
+        writer.write("return\n");
+        writer.write(".end method\n");
+    }
 
-            // Generate Jasmin file footer
-            writer.write("return\n");
-            writer.write(".end method\n");
+    // Generates the code for some top-level nodes on their own, numbering their labels from firstLabel
+    String generateCodeForNodes(List<ASTNode> nodes, int firstLabel) {
+        labelCounter = firstLabel;
+        StringWriter writer = new StringWriter();
+        try {
+            generateCodeForStatements(nodes, writer);
         } catch (IOException e) {
-            e.printStackTrace();
+            // A StringWriter does not throw
+            throw new RuntimeException(e);
         }
+        return writer.toString();
     }
 
-    private void generateCodeForNode(ASTNode node, FileWriter writer) throws IOException {
+    // Generates the code for the statements of a block, computing the expressions they repeat only once
+    private void generateCodeForStatements(List<ASTNode> statements, Writer writer) throws IOException {
+        findCommonSubexpressions(statements);
+        for (ASTNode statement : statements) {
+            generateCodeForNode(statement, writer);
+        }
+    }
+
+    private void generateCodeForNode(ASTNode node, Writer writer) throws IOException {
         if (node instanceof AssignmentNode assignmentNode) {
             if (assignmentNode.expression instanceof LiteralNode value) {
                 if (value.value == "true") {
@@ -63,6 +122,10 @@ class CodeGenerator {
                     writer.write("ldc " + value.value + " \n");
                 }
                 writer.write("putstatic GeneratedClass/" + assignmentNode.variableName + " " + getVarTypeFromVarName(assignmentNode.variableName) + "\n");
+            } else if (assignmentNode.expression instanceof BinaryOpNode && reusedExpressions.containsKey(assignmentNode)) {
+                // The same expression was computed by an earlier assignment of the block and kept in a local
+                writer.write("iload " + reusedExpressions.get(assignmentNode) + "\n");
+                writer.write("putstatic GeneratedClass/" + assignmentNode.variableName + " " + getVarTypeFromVarName(assignmentNode.variableName) + "\n");
             } else if (assignmentNode.expression instanceof BinaryOpNode binaryNode) {
                 if (binaryNode.left instanceof LiteralNode left && isNumeric(left.value)) {
                     writer.write("ldc " + left.value + " \n");
@@ -91,6 +154,11 @@ class CodeGenerator {
                     default:
                         throw new UnsupportedOperationException("Unsupported binary operator: " + binaryNode.operator);
                 }
+                if (savedExpressions.containsKey(assignmentNode)) {
+                    // Later assignments of the block reuse the value
+                    writer.write("dup\n");
+                    writer.write("istore " + savedExpressions.get(assignmentNode) + "\n");
+                }
                 writer.write("putstatic GeneratedClass/" + assignmentNode.variableName + " " + getVarTypeFromVarName(assignmentNode.variableName) + "\n");
             }
         } else if (node instanceof VarDeclaration varNode && varNode.expression != null) {
@@ -107,17 +175,22 @@ class CodeGenerator {
                 writer.write("putstatic GeneratedClass/" + varNode.variableName + " " + getVarType((TypeNode) varNode.variableType) + "\n");
             }
         } else if (node instanceof IfStatementNode ifStatementNode) {
+            // A chain of comparisons of one integer with constants becomes a switch
+            SwitchChain chain = switchChain(ifStatementNode);
+            if (chain != null) {
+                generateCodeForSwitch(chain, writer);
+                return;
+            }
+
             String endLabel = "LabelEnd" + uniqueLabelIndex();
             String elseLabel = ifStatementNode.elseBlock != null ? "LabelElse" + uniqueLabelIndex() : endLabel;
 
             // First, evaluate the condition and branch to elseLabel if the condition is false
-            generateCodeForIfCondition(ifStatementNode.condition, writer, elseLabel);
+            generateCodeForCondition(ifStatementNode.condition, false, elseLabel, writer);
 
             // Generate code for the 'then' block
             if (ifStatementNode.thenBlock instanceof BlockNode thenBlock) {
-                for (ASTNode statement : thenBlock.statements) {
-                    generateCodeForNode(statement, writer);
-                }
+                generateCodeForStatements(thenBlock.statements, writer);
             }
 
             // If there is an else block, jump to the end label after the then block
@@ -127,36 +200,29 @@ class CodeGenerator {
 
                 // Generate code for the else block
                 if (ifStatementNode.elseBlock instanceof BlockNode elseBlock) {
-                    for (ASTNode statement : elseBlock.statements) {
-                        generateCodeForNode(statement, writer);
-                    }
+                    generateCodeForStatements(elseBlock.statements, writer);
                 }
             }
 
             // Mark the end of the if statement
             writer.write(endLabel + ":\n");
         } else if (node instanceof WhileLoop whileLoop) {
-            String startLabel = "WhileStart" + uniqueLabelIndex();
-            String endLabel = "WhileEnd" + uniqueLabelIndex();
-
-            // Label for the start of the loop
-            writer.write(startLabel + ":\n");
+            String bodyLabel = "WhileBody" + uniqueLabelIndex();
+            String testLabel = "WhileTest" + uniqueLabelIndex();
 
-            // Generate code for evaluating the loop condition
-            generateCodeForWhileCondition(whileLoop.condition, writer, endLabel); // This needs to handle jumping to endLabel if condition is false
+            // The condition is tested at the bottom, like javac does it, so each iteration runs a single
+            // conditional jump back to the body instead of a test at the top and a goto back to it
+            writer.write("goto " + testLabel + "\n");
+            writer.write(bodyLabel + ":\n");
 
             // Generate code for the loop body
             if (whileLoop.loopBody instanceof BlockNode loopBlock) {
-                for (ASTNode statement : loopBlock.statements) {
-                    generateCodeForNode(statement, writer);
-                }
+                generateCodeForStatements(loopBlock.statements, writer);
             }
 
-            // Unconditional jump back to the beginning to reevaluate the condition
-            writer.write("goto " + startLabel + "\n");
-
-            // Label for the end of the loop
-            writer.write(endLabel + ":\n");
+            // Jump back to the body while the condition holds
+            writer.write(testLabel + ":\n");
+            generateCodeForCondition(whileLoop.condition, true, bodyLabel, writer);
         } else if (node instanceof ForLoop forLoopNode) {
             // Here you may want to add more complex logic to deal with variable names and indices.
             int loopVarIndex = 1; // Assuming `i` is at index 1 for the sake of this example.
@@ -202,6 +268,67 @@ class CodeGenerator {
         }
     }
 
+    // Locals 0 and 1 hold the arguments of main and the for loop variable, so the temporaries come after them
+    private static final int FIRST_TEMPORARY_LOCAL = 2;
+    // Must match the .limit locals of the main method
+    private static final int LOCAL_LIMIT = 100;
+
+    // Assignments whose value is also stored in a local for later assignments of their block, with the local
+    private final Map<ASTNode, Integer> savedExpressions = new HashMap<>();
+    // Assignments that load their value from the local of an earlier one instead of computing it again
+    private final Map<ASTNode, Integer> reusedExpressions = new HashMap<>();
+
+    // Common subexpression elimination: finds the assignments of a basic block that compute an expression
+    // an earlier assignment of the block has computed, with none of its variables assigned in between.
+    // Expressions are hash-consed by the parser and the semantic analyzer, so equal ones are the same node.
+    // An if, while or for statement ends the block, so no local is live across one.
+    private void findCommonSubexpressions(List<ASTNode> statements) {
+        // The assignment that first computed each expression that is still available
+        Map<ASTNode, AssignmentNode> available = new HashMap<>();
+        int nextLocal = FIRST_TEMPORARY_LOCAL;
+        for (ASTNode statement : statements) {
+            if (statement instanceof AssignmentNode assignment) {
+                boolean candidate = isCommonSubexpressionCandidate(assignment.expression);
+                AssignmentNode first = candidate ? available.get(assignment.expression) : null;
+                if (first != null) {
+                    Integer local = savedExpressions.get(first);
+                    if (local == null && nextLocal < LOCAL_LIMIT) {
+                        local = nextLocal++;
+                        savedExpressions.put(first, local);
+                    }
+                    if (local != null) {
+                        reusedExpressions.put(assignment, local);
+                    }
+                }
+                available.keySet().removeIf(expression -> readsVariable(expression, assignment.variableName));
+                if (candidate && first == null && !readsVariable(assignment.expression, assignment.variableName)) {
+                    available.put(assignment.expression, assignment);
+                }
+            } else if (statement instanceof VarDeclaration declaration) {
+                available.keySet().removeIf(expression -> readsVariable(expression, declaration.variableName));
+            } else {
+                available.clear();
+                nextLocal = FIRST_TEMPORARY_LOCAL;
+            }
+        }
+    }
+
+    // Only the binary operations that generateCodeForNode computes on the stack are worth keeping in a local
+    private boolean isCommonSubexpressionCandidate(ASTNode expression) {
+        return expression instanceof BinaryOpNode binaryNode
+                && binaryNode.left instanceof LiteralNode
+                && binaryNode.right instanceof LiteralNode
+                && switch (binaryNode.operator) {
+                    case PLUS, MINUS, MULTIPLY, DIVIDE -> true;
+                    default -> false;
+                };
+    }
+
+    private boolean readsVariable(ASTNode expression, String variableName) {
+        BinaryOpNode binaryNode = (BinaryOpNode) expression;
+        return ((LiteralNode) binaryNode.left).value.equals(variableName) || ((LiteralNode) binaryNode.right).value.equals(variableName);
+    }
+
     private String getVarType(TypeNode type) {
         if (Objects.equals(type.typeName, "integer")) {
             return "I";
@@ -224,6 +351,11 @@ class CodeGenerator {
 
     private int labelCounter = 0;
 
+    // Returns the index of the next label that will be generated
+    int nextLabelIndex() {
+        return labelCounter;
+    }
+
     // Generates a unique label index to avoid collisions
     private int uniqueLabelIndex() {
         return labelCounter++;
@@ -241,114 +373,235 @@ class CodeGenerator {
         return variableIndices.get(variableName);
     }
 
-    private void generateCodeForIfCondition(ASTNode condition, FileWriter writer, String endLabel) throws IOException {
-        if (condition instanceof BinaryOpNode comparison) {
-
-            // Assuming ComparisonNode has left and right operands and an operator
-            if (comparison.left instanceof LiteralNode leftValue) {
-                if (isNumeric(leftValue.value)) {
-                    writer.write("ldc " + leftValue.value + "\n");
-                } else if (Objects.equals(leftValue.value, "true")) {
-                    writer.write("ldc 1\n");
-                } else if (Objects.equals(leftValue.value, "false")) {
-                    writer.write("ldc 0\n");
-                } else {
-                    writer.write("getstatic GeneratedClass/" + leftValue.value + " " + getVarTypeFromVarName(leftValue.value) + "\n");
-                }
+    // Chains of if statements with fewer cases than this are left as comparisons, which are as fast for so few
+    private static final int MIN_SWITCH_CASES = 3;
+
+    // A chain of if statements that compare the same expression with different integer constants, like
+    // if x == 1 then ... else if x == 2 then ... else ... end; end;
+    private record SwitchChain(ASTNode subject, List<Integer> constants, List<List<ASTNode>> bodies, List<ASTNode> defaultStatements) {
+    }
+
+    // Returns the chain of cases that starts at an if statement, or null if it has too few of them. The chain
+    // ends at the first else that is not just another case; that else becomes the default.
+    private SwitchChain switchChain(IfStatementNode node) {
+        ASTNode subject = null;
+        List<Integer> constants = new ArrayList<>();
+        List<List<ASTNode>> bodies = new ArrayList<>();
+        List<ASTNode> defaultStatements = List.of();
+        IfStatementNode current = node;
+        while (current != null) {
+            if (!(current.condition instanceof BinaryOpNode comparison) || comparison.operator != Token.TokenType.EQUALS) {
+                defaultStatements = List.of(current);
+                break;
+            }
+            Integer constant = integerConstant(comparison.right);
+            ASTNode operand = comparison.left;
+            if (constant == null) {
+                constant = integerConstant(comparison.left);
+                operand = comparison.right;
             }
-            if (comparison.right instanceof LiteralNode rightValue) {
-                if (isNumeric(rightValue.value)) {
-                    writer.write("ldc " + rightValue.value + "\n");
-                } else if (Objects.equals(rightValue.value, "true")) {
-                    writer.write("ldc 1\n");
-                } else if (Objects.equals(rightValue.value, "false")) {
-                    writer.write("ldc 0\n");
+            if (subject == null && isSwitchSubject(operand)) {
+                subject = operand;
+            }
+            // A constant seen before could never match here, so the chain stops and the rest is left as it is
+            if (constant == null || subject == null || !sameExpression(subject, operand) || constants.contains(constant)) {
+                defaultStatements = List.of(current);
+                break;
+            }
+            constants.add(constant);
+            bodies.add(current.thenBlock instanceof BlockNode thenBlock ? thenBlock.statements : List.of());
+            ASTNode elseBlock = current.elseBlock;
+            current = null;
+            if (elseBlock instanceof BlockNode block) {
+                if (block.statements.size() == 1 && block.statements.get(0) instanceof IfStatementNode next) {
+                    current = next;
                 } else {
-                    writer.write("getstatic GeneratedClass/" + rightValue.value + " " + getVarTypeFromVarName(rightValue.value) + "\n");
+                    defaultStatements = block.statements;
                 }
             }
-            Token.TokenType operator = comparison.operator;
+        }
+        return constants.size() >= MIN_SWITCH_CASES ? new SwitchChain(subject, constants, bodies, defaultStatements) : null;
+    }
 
-            // Depending on the comparison operator, use the appropriate branching instruction
-            switch (operator) {
-                case GREATER_THAN:
-                    writer.write("if_icmpgt " + endLabel + "\n");
-                    break;
-                case LESS_THAN:
-                    writer.write("if_icmplt " + endLabel + "\n");
-                    break;
-                case EQUALS:
-                    writer.write("if_icmpeq " + endLabel + "\n");
-                    break;
-                case NOT_EQUALS:
-                    writer.write("if_icmpne " + endLabel + "\n");
-                    break;
-                case GREATER_THAN_OR_EQUAL:
-                    writer.write("if_icmpge " + endLabel + "\n");
-                    break;
-                case LESS_THAN_OR_EQUAL:
-                    writer.write("if_icmple " + endLabel + "\n");
-                    break;
-                default:
-                    throw new UnsupportedOperationException("Operator " + operator + " is not supported");
+    private Integer integerConstant(ASTNode node) {
+        if (node instanceof LiteralNode literal) {
+            try {
+                return Integer.parseInt(literal.value);
+            } catch (NumberFormatException e) {
+                return null;
             }
         }
+        return null;
     }
 
-    private void generateCodeForWhileCondition(ASTNode condition, FileWriter writer, String endLabel) throws IOException {
-        if (condition instanceof BinaryOpNode comparison) {
-
-            // Assuming ComparisonNode has left and right operands and an operator
-            if (comparison.left instanceof LiteralNode leftValue) {
-                if (isNumeric(leftValue.value)) {
-                    writer.write("ldc " + leftValue.value + "\n");
-                } else if (Objects.equals(leftValue.value, "true")) {
-                    writer.write("ldc 1\n");
-                } else if (Objects.equals(leftValue.value, "false")) {
-                    writer.write("ldc 0\n");
-                } else {
-                    writer.write("getstatic GeneratedClass/" + leftValue.value + " " + getVarTypeFromVarName(leftValue.value) + "\n");
-                }
+    // An integer variable, or integer arithmetic that generateCodeForOperand can push
+    private boolean isSwitchSubject(ASTNode node) {
+        if (node instanceof LiteralNode literal) {
+            return !isNumeric(literal.value) && !literal.value.equals("true") && !literal.value.equals("false")
+                    && getVarTypeFromVarName(literal.value).equals("I");
+        }
+        return node instanceof BinaryOpNode binaryNode && switch (binaryNode.operator) {
+            case PLUS, MINUS, MULTIPLY, DIVIDE, REMAINDER -> true;
+            default -> false;
+        };
+    }
+
+    // Expressions are hash-consed by the parser and the semantic analyzer, so equal ones are the same node
+    private boolean sameExpression(ASTNode a, ASTNode b) {
+        return a == b || a instanceof LiteralNode left && b instanceof LiteralNode right && left.value.equals(right.value);
+    }
+
+    // Computes the subject of the chain once and jumps to the matching case with a tableswitch, which indexes
+    // a table of labels by the value, or a lookupswitch, which searches a sorted list of the constants. Like
+    // javac, the table is used unless it would be much larger than the list: its size plus three times its
+    // cost in time is compared with the same sum for the list.
+    private void generateCodeForSwitch(SwitchChain chain, Writer writer) throws IOException {
+        String defaultLabel = "SwitchDefault" + uniqueLabelIndex();
+        String endLabel = "SwitchEnd" + uniqueLabelIndex();
+        List<String> caseLabels = new ArrayList<>();
+        TreeMap<Integer, String> labelsByConstant = new TreeMap<>();
+        for (int constant : chain.constants) {
+            String label = "SwitchCase" + uniqueLabelIndex();
+            caseLabels.add(label);
+            labelsByConstant.put(constant, label);
+        }
+
+        generateCodeForOperand(chain.subject, writer);
+        long low = labelsByConstant.firstKey();
+        long high = labelsByConstant.lastKey();
+        long cases = labelsByConstant.size();
+        long tableCost = 4 + (high - low + 1) + 3 * 3;
+        long lookupCost = 3 + 2 * cases + 3 * cases;
+        if (tableCost <= lookupCost) {
+            writer.write("tableswitch " + low + " " + high + "\n");
+            for (long value = low; value <= high; value++) {
+                writer.write(labelsByConstant.getOrDefault((int) value, defaultLabel) + "\n");
             }
-            if (comparison.right instanceof LiteralNode rightValue) {
-                if (isNumeric(rightValue.value)) {
-                    writer.write("ldc " + rightValue.value + "\n");
-                } else if (Objects.equals(rightValue.value, "true")) {
-                    writer.write("ldc 1\n");
-                } else if (Objects.equals(rightValue.value, "false")) {
-                    writer.write("ldc 0\n");
-                } else {
-                    writer.write("getstatic GeneratedClass/" + rightValue.value + " " + getVarTypeFromVarName(rightValue.value) + "\n");
-                }
+        } else {
+            writer.write("lookupswitch\n");
+            for (Map.Entry<Integer, String> entry : labelsByConstant.entrySet()) {
+                writer.write(entry.getKey() + " : " + entry.getValue() + "\n");
             }
-            Token.TokenType operator = comparison.operator;
+        }
+        writer.write("default : " + defaultLabel + "\n");
 
-            // Depending on the comparison operator, use the appropriate branching instruction
+        for (int i = 0; i < caseLabels.size(); i++) {
+            writer.write(caseLabels.get(i) + ":\n");
+            generateCodeForStatements(chain.bodies.get(i), writer);
+            writer.write("goto " + endLabel + "\n");
+        }
+        writer.write(defaultLabel + ":\n");
+        generateCodeForStatements(chain.defaultStatements, writer);
+        writer.write(endLabel + ":\n");
+    }
+
+    // Compiles a condition into jumps: the code jumps to label if the condition is jumpWhen, and goes on with the
+    // next instruction otherwise, so no boolean is ever pushed for and, or and not. The right operand of and is
+    // skipped once the left one is false, and that of or once the left one is true; not swaps the two outcomes.
+    private void generateCodeForCondition(ASTNode condition, boolean jumpWhen, String label, Writer writer) throws IOException {
+        if (condition instanceof UnaryOpNode unaryNode && unaryNode.operator == Token.TokenType.NOT) {
+            generateCodeForCondition(unaryNode.operand, !jumpWhen, label, writer);
+        } else if (condition instanceof LiteralNode literal && (literal.value.equals("true") || literal.value.equals("false"))) {
+            // A constant condition either always jumps or never does
+            if (literal.value.equals(String.valueOf(jumpWhen))) {
+                writer.write("goto " + label + "\n");
+            }
+        } else if (condition instanceof LiteralNode variable) {
+            writer.write("getstatic GeneratedClass/" + variable.value + " " + getVarTypeFromVarName(variable.value) + "\n");
+            writer.write((jumpWhen ? "ifne " : "ifeq ") + label + "\n");
+        } else if (condition instanceof BinaryOpNode binaryNode && (binaryNode.operator == Token.TokenType.AND || binaryNode.operator == Token.TokenType.OR)) {
+            // a and b is false as soon as a is, a or b is true as soon as a is
+            boolean shortCircuitWhen = binaryNode.operator == Token.TokenType.OR;
+            if (jumpWhen == shortCircuitWhen) {
+                generateCodeForCondition(binaryNode.left, jumpWhen, label, writer);
+                generateCodeForCondition(binaryNode.right, jumpWhen, label, writer);
+            } else {
+                String skipLabel = "ConditionSkip" + uniqueLabelIndex();
+                generateCodeForCondition(binaryNode.left, shortCircuitWhen, skipLabel, writer);
+                generateCodeForCondition(binaryNode.right, jumpWhen, label, writer);
+                writer.write(skipLabel + ":\n");
+            }
+        } else if (condition instanceof BinaryOpNode binaryNode && binaryNode.operator == Token.TokenType.XOR) {
+            // Both operands are always needed; the right one is tested the other way round when the left one is true
+            String leftFalseLabel = "ConditionElse" + uniqueLabelIndex();
+            String endLabel = "ConditionEnd" + uniqueLabelIndex();
+            generateCodeForCondition(binaryNode.left, false, leftFalseLabel, writer);
+            generateCodeForCondition(binaryNode.right, !jumpWhen, label, writer);
+            writer.write("goto " + endLabel + "\n");
+            writer.write(leftFalseLabel + ":\n");
+            generateCodeForCondition(binaryNode.right, jumpWhen, label, writer);
+            writer.write(endLabel + ":\n");
+        } else if (condition instanceof BinaryOpNode comparison) {
+            generateCodeForOperand(comparison.left, writer);
+            generateCodeForOperand(comparison.right, writer);
+            // When the jump is taken for a false condition, the comparison is the opposite one
+            Token.TokenType operator = jumpWhen ? comparison.operator : negate(comparison.operator);
             switch (operator) {
                 case GREATER_THAN:
-                    writer.write("if_icmple " + endLabel + "\n");
+                    writer.write("if_icmpgt " + label + "\n");
                     break;
                 case LESS_THAN:
-                    writer.write("if_icmpge " + endLabel + "\n");
+                    writer.write("if_icmplt " + label + "\n");
                     break;
                 case EQUALS:
-                    writer.write("if_icmpne " + endLabel + "\n");
+                    writer.write("if_icmpeq " + label + "\n");
                     break;
                 case NOT_EQUALS:
-                    writer.write("if_icmpeq " + endLabel + "\n");
+                    writer.write("if_icmpne " + label + "\n");
                     break;
                 case GREATER_THAN_OR_EQUAL:
-                    writer.write("if_icmplt " + endLabel + "\n");
+                    writer.write("if_icmpge " + label + "\n");
                     break;
                 case LESS_THAN_OR_EQUAL:
-                    writer.write("if_icmpgt " + endLabel + "\n");
+                    writer.write("if_icmple " + label + "\n");
                     break;
                 default:
                     throw new UnsupportedOperationException("Operator " + operator + " is not supported");
             }
+        } else {
+            throw new UnsupportedOperationException("Unsupported condition: " + condition.getClass().getSimpleName());
         }
     }
 
+    private static Token.TokenType negate(Token.TokenType comparison) {
+        return switch (comparison) {
+            case GREATER_THAN -> Token.TokenType.LESS_THAN_OR_EQUAL;
+            case LESS_THAN -> Token.TokenType.GREATER_THAN_OR_EQUAL;
+            case EQUALS -> Token.TokenType.NOT_EQUALS;
+            case NOT_EQUALS -> Token.TokenType.EQUALS;
+            case GREATER_THAN_OR_EQUAL -> Token.TokenType.LESS_THAN;
+            case LESS_THAN_OR_EQUAL -> Token.TokenType.GREATER_THAN;
+            default -> comparison;
+        };
+    }
+
+    // Pushes an operand of a comparison: a literal, a variable or integer arithmetic on them
+    private void generateCodeForOperand(ASTNode operand, Writer writer) throws IOException {
+        if (operand instanceof LiteralNode literal) {
+            if (isNumeric(literal.value)) {
+                writer.write("ldc " + literal.value + "\n");
+            } else if (Objects.equals(literal.value, "true")) {
+                writer.write("ldc 1\n");
+            } else if (Objects.equals(literal.value, "false")) {
+                writer.write("ldc 0\n");
+            } else {
+                writer.write("getstatic GeneratedClass/" + literal.value + " " + getVarTypeFromVarName(literal.value) + "\n");
+            }
+        } else if (operand instanceof BinaryOpNode binaryNode) {
+            generateCodeForOperand(binaryNode.left, writer);
+            generateCodeForOperand(binaryNode.right, writer);
+            switch (binaryNode.operator) {
+                case PLUS -> writer.write("iadd\n");
+                case MINUS -> writer.write("isub\n");
+                case MULTIPLY -> writer.write("imul\n");
+                case DIVIDE -> writer.write("idiv\n");
+                case REMAINDER -> writer.write("irem\n");
+                default -> throw new UnsupportedOperationException("Unsupported binary operator: " + binaryNode.operator);
+            }
+        } else {
+            throw new UnsupportedOperationException("Unsupported operand: " + operand.getClass().getSimpleName());
+        }
+    }
 
     private boolean isNumeric(String strNum) {
         if (strNum == null) {
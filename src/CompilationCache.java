@@ -0,0 +1,191 @@
+import java.io.*;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Stream;
+
+// A content-addressed cache of whole compilations, kept in a directory on disk.
+// An entry is found by a hash of the source text, the compiler version and the options, and holds the
+// generated Jasmin code together with the assembled class file. When the entries take up more than the
+// size limit, the least recently used ones are removed; reading an entry counts as using it.
+class CompilationCache {
+    private static final String ENTRY_SUFFIX = ".entry";
+    private static final String COUNTERS_FILE = "counters.properties";
+
+    private final File directory;
+    private final long maximumSize;
+
+    public CompilationCache(String directoryName, long maximumSize) {
+        this.directory = new File(directoryName);
+        this.maximumSize = maximumSize;
+    }
+
+    // The result of compiling a program
+    static class Entry {
+        final String jasminCode;
+        final byte[] classBytes;
+
+        Entry(String jasminCode, byte[] classBytes) {
+            this.jasminCode = jasminCode;
+            this.classBytes = classBytes;
+        }
+    }
+
+    // Computes the key of a compilation
+    static String key(String sourceCode, String compilerVersion, String options) {
+        MessageDigest digest = newDigest();
+        for (String part : new String[]{compilerVersion, options, sourceCode}) {
+            digest.update(part.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // Computes a version for the compiler by hashing the class files or jars the given classes were loaded from,
+    // so that any change to the compiler or the assembler makes the old entries unreachable
+    static String compilerVersion(Class<?>... classes) {
+        MessageDigest digest = newDigest();
+        try {
+            for (Class<?> c : classes) {
+                CodeSource codeSource = c.getProtectionDomain().getCodeSource();
+                if (codeSource == null) {
+                    continue;
+                }
+                Path location = Paths.get(codeSource.getLocation().toURI());
+                List<Path> files = new ArrayList<>();
+                if (Files.isDirectory(location)) {
+                    try (Stream<Path> paths = Files.walk(location)) {
+                        paths.filter(path -> path.toString().endsWith(".class")).sorted().forEach(files::add);
+                    }
+                } else {
+                    files.add(location);
+                }
+                for (Path file : files) {
+                    digest.update(Files.readAllBytes(file));
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new IllegalStateException("Cannot determine the compiler version", e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Returns the entry for a key, or null if the cache does not hold it
+    public synchronized Entry lookup(String key) {
+        File file = new File(directory, key + ENTRY_SUFFIX);
+        Entry entry = null;
+        if (file.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                byte[] jasminCode = new byte[in.readInt()];
+                in.readFully(jasminCode);
+                byte[] classBytes = new byte[in.readInt()];
+                in.readFully(classBytes);
+                entry = new Entry(new String(jasminCode, StandardCharsets.UTF_8), classBytes);
+                file.setLastModified(System.currentTimeMillis());
+            } catch (IOException e) {
+                System.err.println("Ignoring unreadable cache entry " + file + ": " + e);
+            }
+        }
+        incrementCounter(entry != null ? "hits" : "misses");
+        return entry;
+    }
+
+    // Adds an entry to the cache, then removes the least recently used entries if the cache is too large
+    public synchronized void store(String key, Entry entry) {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            System.err.println("Could not create cache directory " + directory);
+            return;
+        }
+        File file = new File(directory, key + ENTRY_SUFFIX);
+        File temporaryFile = new File(directory, key + ENTRY_SUFFIX + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+            byte[] jasminCode = entry.jasminCode.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(jasminCode.length);
+            out.write(jasminCode);
+            out.writeInt(entry.classBytes.length);
+            out.write(entry.classBytes);
+        } catch (IOException e) {
+            System.err.println("Could not write cache entry " + file + ": " + e);
+            temporaryFile.delete();
+            return;
+        }
+        if (!temporaryFile.renameTo(file)) {
+            file.delete();
+            temporaryFile.renameTo(file);
+        }
+        evict();
+    }
+
+    // Removes the least recently used entries until the cache fits in its size limit
+    private void evict() {
+        File[] entries = directory.listFiles((dir, name) -> name.endsWith(ENTRY_SUFFIX));
+        if (entries == null) {
+            return;
+        }
+        long size = 0;
+        for (File file : entries) {
+            size += file.length();
+        }
+        if (size <= maximumSize) {
+            return;
+        }
+        Arrays.sort(entries, Comparator.comparingLong(File::lastModified));
+        for (int i = 0; i < entries.length && size > maximumSize; i++) {
+            long length = entries[i].length();
+            if (entries[i].delete()) {
+                size -= length;
+                incrementCounter("evictions");
+            }
+        }
+    }
+
+    public synchronized long getHits() {
+        return Long.parseLong(readCounters().getProperty("hits", "0"));
+    }
+
+    public synchronized long getMisses() {
+        return Long.parseLong(readCounters().getProperty("misses", "0"));
+    }
+
+    // The hit, miss and eviction counters are kept in a file next to the entries
+    private Properties readCounters() {
+        Properties counters = new Properties();
+        File file = new File(directory, COUNTERS_FILE);
+        if (file.exists()) {
+            try (InputStream in = new FileInputStream(file)) {
+                counters.load(in);
+            } catch (IOException | IllegalArgumentException e) {
+                // Counters that cannot be read start again from zero
+            }
+        }
+        return counters;
+    }
+
+    private void incrementCounter(String name) {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            return;
+        }
+        Properties counters = readCounters();
+        long value = Long.parseLong(counters.getProperty(name, "0")) + 1;
+        counters.setProperty(name, String.valueOf(value));
+        try (OutputStream out = new FileOutputStream(new File(directory, COUNTERS_FILE))) {
+            counters.store(out, "Compilation cache counters");
+        } catch (IOException e) {
+            System.err.println("Could not update cache counters: " + e);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// A long-running compiler that takes programs over a loopback TCP connection, so that the start-up of the JVM
+// and the JIT warm-up of the compiler and the Jasmin assembler are paid once rather than for every program.
+//
+// A request is the server's token and a command, both written with writeUTF, followed for "compile" by the
+// length and UTF-8 bytes of the source code. The reply is "ok" followed by the Jasmin code and the class file,
+// each as a length and bytes, or "error" followed by a message.
+//
+// The server writes its port and a token made up at launch to a port file that only its user can read, and
+// refuses requests without the token, so other local users cannot stop it or make it compile for them.
+class CompileServer {
+    static final int DEFAULT_PORT = 7788;
+    // Where the server tells clients its port and token, in the directory it runs in
+    static final String PORT_FILE = "compile_server.port";
+    // Longer source codes and class files are refused, so a bad length cannot exhaust the memory
+    private static final int MAX_MESSAGE_SIZE = 64 << 20;
+
+    private static final String COMPILE = "compile";
+    private static final String STOP = "stop";
+    private static final String OK = "ok";
+    private static final String ERROR = "error";
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor;
+    private final String token;
+    private volatile boolean stopped;
+
+    // A length read from a request or a reply that is negative or larger than MAX_MESSAGE_SIZE
+    private static class InvalidLengthException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        InvalidLengthException(int length) {
+            super("Invalid message length " + length);
+        }
+    }
+
+    public CompileServer(int port) throws IOException {
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        this.executor = newExecutor();
+        byte[] tokenBytes = new byte[16];
+        new SecureRandom().nextBytes(tokenBytes);
+        this.token = HexFormat.of().formatHex(tokenBytes);
+    }
+
+    // Handles each request on a virtual thread when the JDK has them, and on a pooled platform thread otherwise
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    // Accepts connections until a stop request arrives
+    public void serve() throws IOException {
+        writePortFile();
+        System.out.println("Compile server listening on " + serverSocket.getLocalSocketAddress());
+        try {
+            while (!stopped) {
+                Socket socket;
+                try {
+                    socket = serverSocket.accept();
+                } catch (SocketException e) {
+                    if (stopped) {
+                        break;
+                    }
+                    throw e;
+                }
+                executor.execute(() -> handle(socket));
+            }
+        } finally {
+            executor.shutdown();
+            Files.deleteIfExists(Path.of(PORT_FILE));
+        }
+    }
+
+    // Writes the port and the token, readable only by the user that started the server where the file system
+    // has POSIX permissions
+    private void writePortFile() throws IOException {
+        Path file = Path.of(PORT_FILE);
+        Files.deleteIfExists(file);
+        try {
+            Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } catch (UnsupportedOperationException e) {
+            Files.createFile(file);
+        }
+        Files.writeString(file, serverSocket.getLocalPort() + " " + token + "\n");
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            String requestToken = in.readUTF();
+            String command = in.readUTF();
+            if (!MessageDigest.isEqual(requestToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+                reply(out, ERROR, "Wrong token, see " + PORT_FILE);
+            } else if (command.equals(STOP)) {
+                out.writeUTF(OK);
+                out.flush();
+                stopped = true;
+                serverSocket.close();
+            } else if (command.equals(COMPILE)) {
+                String sourceCode;
+                try {
+                    sourceCode = new String(readBytes(in), StandardCharsets.UTF_8);
+                } catch (InvalidLengthException e) {
+                    reply(out, ERROR, e.getMessage());
+                    return;
+                }
+                String jasminCode;
+                byte[] classBytes;
+                try {
+                    jasminCode = Main.compile(sourceCode);
+                    classBytes = JasminAssembler.assemble(jasminCode, "codegen_result.j");
+                } catch (RuntimeException e) {
+                    reply(out, ERROR, String.valueOf(e));
+                    return;
+                }
+                out.writeUTF(OK);
+                writeBytes(out, jasminCode.getBytes(StandardCharsets.UTF_8));
+                writeBytes(out, classBytes);
+            } else {
+                reply(out, ERROR, "Unknown command " + command);
+            }
+        } catch (IOException e) {
+            System.err.println("Compile server: " + e);
+        }
+    }
+
+    private static void reply(DataOutputStream out, String status, String message) throws IOException {
+        out.writeUTF(status);
+        writeBytes(out, message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // The port and the token of the running server, from its port file
+    private record Address(int port, String token) {
+        static Address read() throws IOException {
+            Path file = Path.of(PORT_FILE);
+            if (!Files.exists(file)) {
+                throw new IOException("No compile server is running here: " + PORT_FILE + " does not exist");
+            }
+            String[] parts = Files.readString(file).trim().split(" ");
+            if (parts.length != 2) {
+                throw new IOException("Malformed " + PORT_FILE);
+            }
+            try {
+                return new Address(Integer.parseInt(parts[0]), parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed " + PORT_FILE, e);
+            }
+        }
+    }
+
+    // The client side: sends a program to the running server and returns its Jasmin code and class file
+    static CompilationCache.Entry compileRemotely(String sourceCode) throws IOException {
+        Address address = Address.read();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), address.port);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            out.writeUTF(address.token);
+            out.writeUTF(COMPILE);
+            writeBytes(out, sourceCode.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            if (!in.readUTF().equals(OK)) {
+                throw new RuntimeException(new String(readBytes(in), StandardCharsets.UTF_8));
+            }
+            String jasminCode = new String(readBytes(in), StandardCharsets.UTF_8);
+            return new CompilationCache.Entry(jasminCode, readBytes(in));
+        }
+    }
+
+    // The client side: asks the running server to stop
+    static void stopRemotely() throws IOException {
+        Address address = Address.read();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), address.port);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            out.writeUTF(address.token);
+            out.writeUTF(STOP);
+            out.flush();
+            if (!in.readUTF().equals(OK)) {
+                throw new IOException(new String(readBytes(in), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_MESSAGE_SIZE) {
+            throw new InvalidLengthException(length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
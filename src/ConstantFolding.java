@@ -0,0 +1,172 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+// Computes the instructions whose operands are all constants at compile time, simplifies integer arithmetic
+// with 0 or 1 and chains of constant additions, turns branches on a constant into jumps, and replaces the phis whose operands are all the same
+// value by that value.
+class ConstantFolding implements OptimizationPass {
+    @Override
+    public boolean run(IRFunction function) {
+        Map<Value, Value> replacements = new HashMap<>();
+        boolean changed = false;
+        // In reverse postorder, the operands of an instruction have been folded before it, except for those of
+        // phis that come over a loop's back edge
+        for (BasicBlock block : function.reversePostorder()) {
+            for (Instruction instruction : new ArrayList<>(block.instructions)) {
+                for (int i = 0; i < instruction.operands.size(); i++) {
+                    Value replacement = replacements.get(instruction.operands.get(i));
+                    if (replacement != null) {
+                        instruction.operands.set(i, replacement);
+                    }
+                }
+                changed |= reassociate(instruction);
+                Value folded = fold(instruction);
+                if (folded != null) {
+                    replacements.put(instruction, folded);
+                    block.instructions.remove(instruction);
+                    changed = true;
+                } else if (instruction instanceof Branch branch && branch.operand(0) instanceof Constant condition) {
+                    BasicBlock taken = condition.intValue != 0 ? branch.ifTrue : branch.ifFalse;
+                    BasicBlock notTaken = condition.intValue != 0 ? branch.ifFalse : branch.ifTrue;
+                    block.instructions.remove(branch);
+                    block.add(new Jump(taken));
+                    notTaken.removePredecessor(block);
+                    changed = true;
+                }
+            }
+        }
+        function.replaceUses(replacements);
+        return changed;
+    }
+
+    // Returns the value of an instruction if it is known at compile time, or null
+    static Value fold(Instruction instruction) {
+        if (instruction instanceof Phi phi) {
+            Value same = null;
+            for (Value operand : phi.operands) {
+                if (operand == phi || operand == same || operand.equals(same)) {
+                    continue;
+                }
+                if (same != null) {
+                    return null;
+                }
+                same = operand;
+            }
+            return same;
+        }
+        for (Value operand : instruction.operands) {
+            if (!(operand instanceof Constant)) {
+                return instruction instanceof BinaryInstruction binary ? simplify(binary) : null;
+            }
+        }
+        if (instruction instanceof BinaryInstruction binary) {
+            return foldBinary(binary, (Constant) binary.operand(0), (Constant) binary.operand(1));
+        } else if (instruction instanceof CompareInstruction compare) {
+            return Constant.ofBoolean(foldCompare(compare.condition, (Constant) compare.operand(0), (Constant) compare.operand(1)));
+        } else if (instruction instanceof UnaryInstruction unary) {
+            Constant operand = (Constant) unary.operand(0);
+            return switch (unary.operator) {
+                case NEG -> operand.type.isReal() ? Constant.ofReal(-operand.realValue) : Constant.ofInt(IRType.INTEGER, -operand.intValue);
+                case NOT -> Constant.ofInt(IRType.BOOLEAN, operand.intValue ^ 1);
+                case TO_REAL -> Constant.ofReal(operand.intValue);
+                case TO_INTEGER -> Constant.ofInt(IRType.INTEGER, (int) operand.realValue);
+            };
+        }
+        return null;
+    }
+
+    // Turns (x + c1) + c2 into x + (c1 + c2), and (x - c1) - c2 into x - (c1 + c2), for integers, whose
+    // arithmetic wraps around the same way in either order. The chains of increments that loop unrolling
+    // leaves become single additions to the loop variable.
+    private static boolean reassociate(Instruction instruction) {
+        if (!(instruction instanceof BinaryInstruction outer) || outer.type != IRType.INTEGER
+                || outer.operator != BinaryInstruction.Operator.ADD && outer.operator != BinaryInstruction.Operator.SUB
+                || !(outer.operand(1) instanceof Constant second)
+                || !(outer.operand(0) instanceof BinaryInstruction inner) || inner.operator != outer.operator
+                || !(inner.operand(1) instanceof Constant first)) {
+            return false;
+        }
+        outer.operands.set(0, inner.operand(0));
+        outer.operands.set(1, Constant.ofInt(IRType.INTEGER, first.intValue + second.intValue));
+        return true;
+    }
+
+    // Returns the value of integer arithmetic with a neutral or absorbing constant operand, or null. Reals are
+    // left alone, since x * 0 is not 0 when x is infinite or NaN.
+    private static Value simplify(BinaryInstruction binary) {
+        if (binary.type != IRType.INTEGER) {
+            return null;
+        }
+        Value left = binary.operand(0);
+        Value right = binary.operand(1);
+        return switch (binary.operator) {
+            case ADD -> isConstant(left, 0) ? right : isConstant(right, 0) ? left : null;
+            case SUB -> isConstant(right, 0) ? left : null;
+            case MUL -> isConstant(left, 1) ? right : isConstant(right, 1) ? left
+                    : isConstant(left, 0) ? left : isConstant(right, 0) ? right : null;
+            case DIV -> isConstant(right, 1) ? left : null;
+            default -> null;
+        };
+    }
+
+    private static boolean isConstant(Value value, int intValue) {
+        return value instanceof Constant constant && constant.intValue == intValue;
+    }
+
+    private static Value foldBinary(BinaryInstruction binary, Constant left, Constant right) {
+        if (binary.type.isReal()) {
+            double l = left.realValue;
+            double r = right.realValue;
+            double result = switch (binary.operator) {
+                case ADD -> l + r;
+                case SUB -> l - r;
+                case MUL -> l * r;
+                case DIV -> l / r;
+                case REM -> l % r;
+                case XOR -> throw new IllegalStateException("Exclusive or of reals");
+            };
+            // Infinities and NaN have no constant in Jasmin, so they are left to be computed at run time
+            return Double.isFinite(result) ? Constant.ofReal(result) : null;
+        }
+        int l = left.intValue;
+        int r = right.intValue;
+        if ((binary.operator == BinaryInstruction.Operator.DIV || binary.operator == BinaryInstruction.Operator.REM) && r == 0) {
+            // The division throws at run time
+            return null;
+        }
+        return Constant.ofInt(binary.type, switch (binary.operator) {
+            case ADD -> l + r;
+            case SUB -> l - r;
+            case MUL -> l * r;
+            case DIV -> l / r;
+            case REM -> l % r;
+            case XOR -> l ^ r;
+        });
+    }
+
+    private static boolean foldCompare(CompareInstruction.Condition condition, Constant left, Constant right) {
+        if (left.type.isReal()) {
+            double l = left.realValue;
+            double r = right.realValue;
+            return switch (condition) {
+                case LT -> l < r;
+                case LE -> l <= r;
+                case GT -> l > r;
+                case GE -> l >= r;
+                case EQ -> l == r;
+                case NE -> l != r;
+            };
+        }
+        int l = left.intValue;
+        int r = right.intValue;
+        return switch (condition) {
+            case LT -> l < r;
+            case LE -> l <= r;
+            case GT -> l > r;
+            case GE -> l >= r;
+            case EQ -> l == r;
+            case NE -> l != r;
+        };
+    }
+}
@@ -0,0 +1,37 @@
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+// Removes the blocks that can no longer be reached, and the instructions that have no effect and whose values
+// are not used by anything that has one. Starting from the instructions that must stay, everything they use is
+// marked as needed, so dead cycles of phis around a loop are removed as well.
+class DeadCodeElimination implements OptimizationPass {
+    @Override
+    public boolean run(IRFunction function) {
+        boolean changed = function.removeUnreachableBlocks();
+
+        Set<Instruction> live = new HashSet<>();
+        Deque<Instruction> worklist = new ArrayDeque<>();
+        for (BasicBlock block : function.blocks) {
+            for (Instruction instruction : block.instructions) {
+                if (!instruction.isRemovable()) {
+                    live.add(instruction);
+                    worklist.add(instruction);
+                }
+            }
+        }
+        while (!worklist.isEmpty()) {
+            for (Value operand : worklist.poll().operands) {
+                if (operand instanceof Instruction instruction && live.add(instruction)) {
+                    worklist.add(instruction);
+                }
+            }
+        }
+
+        for (BasicBlock block : function.blocks) {
+            changed |= block.instructions.removeIf(instruction -> !live.contains(instruction));
+        }
+        return changed;
+    }
+}
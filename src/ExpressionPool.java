@@ -0,0 +1,122 @@
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// Hash-conses expression nodes, so that structurally equal literals, unary and binary operations are
+// represented by a single node and the expressions of a program form a DAG rather than a tree.
+// A node's children are interned before the node itself, so two nodes are equal exactly when they have the
+// same operator and the same child objects, and the pool can compare children by identity.
+// Expression nodes are never modified once built, which is what makes sharing them safe; the code generator
+// relies on it to find the repeated subexpressions of a block by identity.
+class ExpressionPool {
+    private record UnaryKey(Token.TokenType operator, ASTNode operand) {
+    }
+
+    private record BinaryKey(Token.TokenType operator, ASTNode left, ASTNode right) {
+    }
+
+    // A node of a weak pool, in the chain of the nodes with the same hash. The hash is kept so that the node can be
+    // dropped from its chain once it has been collected.
+    private static class WeakNode extends WeakReference<ASTNode> {
+        final int hash;
+        WeakNode next;
+
+        WeakNode(int hash, ASTNode node, ReferenceQueue<ASTNode> queue, WeakNode next) {
+            super(node, queue);
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+
+    private final Map<String, LiteralNode> literals = new HashMap<>();
+    private final Map<UnaryKey, UnaryOpNode> unaryOperations = new HashMap<>();
+    private final Map<BinaryKey, BinaryOpNode> binaryOperations = new HashMap<>();
+
+    // The nodes of a weak pool by the hash of their value or of their operator and operands, or null if the pool
+    // keeps its nodes. The nodes are found by comparing their own fields, so the pool holds nothing strongly
+    // and a collected node does not keep its operands alive.
+    private final Map<Integer, WeakNode> weakNodes;
+    private final ReferenceQueue<ASTNode> collected;
+
+    public ExpressionPool() {
+        this(false);
+    }
+
+    // A weak pool only holds on to the nodes that are in use elsewhere. Two expressions can only be compared
+    // while both are in use, so it still gives equal ones the same node, but it does not keep the expressions of
+    // a whole program alive.
+    public ExpressionPool(boolean weak) {
+        weakNodes = weak ? new HashMap<>() : null;
+        collected = weak ? new ReferenceQueue<>() : null;
+    }
+
+    // Returns the literal or identifier node for a value
+    LiteralNode literal(String value) {
+        if (weakNodes != null) {
+            return intern(value.hashCode(), node -> node instanceof LiteralNode literal && literal.value.equals(value),
+                    () -> new LiteralNode(value));
+        }
+        return literals.computeIfAbsent(value, LiteralNode::new);
+    }
+
+    // Returns the node for a unary operation on an operand that has been interned already
+    UnaryOpNode unary(Token.TokenType operator, ASTNode operand) {
+        if (weakNodes != null) {
+            return intern(Objects.hash(operator, System.identityHashCode(operand)),
+                    node -> node instanceof UnaryOpNode unary && unary.operator == operator && unary.operand == operand,
+                    () -> new UnaryOpNode(operator, operand));
+        }
+        return unaryOperations.computeIfAbsent(new UnaryKey(operator, operand), key -> new UnaryOpNode(operator, operand));
+    }
+
+    // Returns the node for a binary operation on operands that have been interned already
+    BinaryOpNode binary(Token.TokenType operator, ASTNode left, ASTNode right) {
+        if (weakNodes != null) {
+            return intern(Objects.hash(operator, System.identityHashCode(left), System.identityHashCode(right)),
+                    node -> node instanceof BinaryOpNode binary && binary.operator == operator && binary.left == left && binary.right == right,
+                    () -> new BinaryOpNode(operator, left, right));
+        }
+        return binaryOperations.computeIfAbsent(new BinaryKey(operator, left, right), key -> new BinaryOpNode(operator, left, right));
+    }
+
+    // Looks a node up in the weak pool, creating it if no node in use matches
+    @SuppressWarnings("unchecked")
+    private <T extends ASTNode> T intern(int hash, Predicate<ASTNode> matches, Supplier<T> create) {
+        for (Reference<? extends ASTNode> node; (node = collected.poll()) != null; ) {
+            remove((WeakNode) node);
+        }
+        WeakNode first = weakNodes.get(hash);
+        for (WeakNode entry = first; entry != null; entry = entry.next) {
+            ASTNode node = entry.get();
+            if (node != null && matches.test(node)) {
+                return (T) node;
+            }
+        }
+        T node = create.get();
+        weakNodes.put(hash, new WeakNode(hash, node, collected, first));
+        return node;
+    }
+
+    private void remove(WeakNode node) {
+        WeakNode first = weakNodes.get(node.hash);
+        if (first == node) {
+            if (node.next == null) {
+                weakNodes.remove(node.hash);
+            } else {
+                weakNodes.put(node.hash, node.next);
+            }
+            return;
+        }
+        for (WeakNode entry = first; entry != null; entry = entry.next) {
+            if (entry.next == node) {
+                entry.next = node.next;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,403 @@
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+// A compact form of the AST, kept in parallel arrays instead of one object per node.
+//
+// Node i has a kind, an operator (the ordinal of a token type, or 1 for a reverse for loop), an index into
+// the string table for its name or literal value, and the indices of its first child and of its next
+// sibling. Each kind of node has its children in a fixed order, and a missing child (such as the initial
+// value of a variable declared without one) is an EMPTY node, so that every child keeps its position.
+// Node 0 is a root whose children are the top-level declarations.
+//
+// The program is parsed into the flat form one top-level declaration at a time, so the objects of the whole
+// program never exist at once. The semantic analyzer and the code generator work on ASTNode objects;
+// asNodeList gives them a view of the top-level declarations that creates the objects for a declaration when it
+// is read and does not keep them once they are no longer in use.
+class FlatAST {
+    static final byte EMPTY = 0;
+    static final byte ROOT = 1;
+    static final byte VAR_DECLARATION = 2;
+    static final byte TYPE = 3;
+    static final byte IF_STATEMENT = 4;
+    static final byte FOR_LOOP = 5;
+    static final byte WHILE_LOOP = 6;
+    static final byte BLOCK = 7;
+    static final byte BINARY_OPERATION = 8;
+    static final byte UNARY_OPERATION = 9;
+    static final byte LITERAL = 10;
+    static final byte ASSIGNMENT = 11;
+    static final byte PARAMETER = 12;
+    static final byte ROUTINE_BODY = 13;
+    static final byte RETURN_STATEMENT = 14;
+    static final byte ROUTINE_DECLARATION = 15;
+    static final byte FUNCTION_CALL = 16;
+    static final byte TYPE_DECLARATION = 17;
+    static final byte ARRAY_TYPE = 18;
+    static final byte ARRAY_VALUES = 19;
+    // The parameters of a routine declaration, as the children of one node
+    static final byte PARAMETER_LIST = 20;
+
+    static final int NONE = -1;
+
+    private static final Token.TokenType[] OPERATORS = Token.TokenType.values();
+
+    private byte[] kinds = new byte[16];
+    private byte[] operators = new byte[16];
+    private int[] firstChildren = new int[16];
+    private int[] nextSiblings = new int[16];
+    private int[] literals = new int[16];
+    private int size;
+
+    private String[] strings = new String[16];
+    private int stringCount;
+    // Only used while the flat form is built
+    private Map<String, Integer> stringIndices = new HashMap<>();
+
+    // The expressions read back are hash-consed like the parser's, so that the code generator can compare them
+    // by identity. The pool is weak, so it does not keep the expressions of the whole program either.
+    private final ExpressionPool expressions = new ExpressionPool(true);
+
+    private FlatAST() {
+    }
+
+    // Parses a program into the flat form. Each top-level declaration is parsed on its own and added to the
+    // arrays before the next one is parsed.
+    static FlatAST parse(List<Token> tokens) {
+        FlatAST ast = new FlatAST();
+        int root = ast.addNode(ROOT, 0, NONE);
+        List<Integer> boundaries = new Parser(tokens).findDeclarationBoundaries();
+        if (boundaries == null) {
+            // The blocks are unbalanced, so the whole program is left to the parser, which reports the error
+            ast.addChildren(root, new Parser(tokens).parse());
+        } else {
+            int previous = NONE;
+            for (int i = 0; i + 1 < boundaries.size(); i++) {
+                for (ASTNode node : Parser.parseRange(tokens, boundaries.get(i), boundaries.get(i + 1))) {
+                    previous = ast.link(root, previous, ast.add(node));
+                }
+            }
+        }
+        ast.trimToSize();
+        return ast;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    byte kind(int node) {
+        return kinds[node];
+    }
+
+    Token.TokenType operator(int node) {
+        return OPERATORS[operators[node]];
+    }
+
+    int firstChild(int node) {
+        return firstChildren[node];
+    }
+
+    int nextSibling(int node) {
+        return nextSiblings[node];
+    }
+
+    // Returns the name or literal value of a node, or null if it has none
+    String string(int node) {
+        return literals[node] == NONE ? null : strings[literals[node]];
+    }
+
+    // Returns the number of bytes taken by the arrays, not counting the strings themselves
+    long footprint() {
+        // Six arrays with a 16-byte header each, 14 bytes per node and a 4-byte reference per string
+        return 6 * 16 + (long) size * (1 + 1 + 4 + 4 + 4) + (long) stringCount * 4;
+    }
+
+    // Building
+
+    private int addNode(byte kind, int operator, int literal) {
+        if (size == kinds.length) {
+            int capacity = Math.max(size * 2, 16);
+            kinds = Arrays.copyOf(kinds, capacity);
+            operators = Arrays.copyOf(operators, capacity);
+            firstChildren = Arrays.copyOf(firstChildren, capacity);
+            nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+            literals = Arrays.copyOf(literals, capacity);
+        }
+        kinds[size] = kind;
+        operators[size] = (byte) operator;
+        firstChildren[size] = NONE;
+        nextSiblings[size] = NONE;
+        literals[size] = literal;
+        return size++;
+    }
+
+    // Returns the index of a string in the string table, adding it if needed. Once the flat form is built, the
+    // strings of a declaration the semantic analyzer rewrote are added again without looking for them.
+    // The strings are interned, because the code generator compares some literal values with ==.
+    private int addString(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        Integer index = stringIndices == null ? null : stringIndices.get(value);
+        if (index == null) {
+            if (stringCount == strings.length) {
+                strings = Arrays.copyOf(strings, Math.max(stringCount * 2, 16));
+            }
+            index = stringCount;
+            strings[stringCount++] = value.intern();
+            if (stringIndices != null) {
+                stringIndices.put(value, index);
+            }
+        }
+        return index;
+    }
+
+    private void addChildren(int parent, List<? extends ASTNode> children) {
+        int previous = NONE;
+        for (ASTNode child : children) {
+            previous = link(parent, previous, add(child));
+        }
+    }
+
+    // Adds the nodes as the children of parent, in order
+    private void addChildren(int parent, ASTNode... children) {
+        addChildren(parent, Arrays.asList(children));
+    }
+
+    // Makes child the next child of parent after previous, and returns it
+    private int link(int parent, int previous, int child) {
+        if (previous == NONE) {
+            firstChildren[parent] = child;
+        } else {
+            nextSiblings[previous] = child;
+        }
+        return child;
+    }
+
+    private int add(ASTNode node) {
+        if (node == null) {
+            return addNode(EMPTY, 0, NONE);
+        } else if (node instanceof VarDeclaration varDeclaration) {
+            int index = addNode(VAR_DECLARATION, 0, addString(varDeclaration.variableName));
+            addChildren(index, varDeclaration.variableType, varDeclaration.expression);
+            return index;
+        } else if (node instanceof TypeNode typeNode) {
+            return addNode(TYPE, 0, addString(typeNode.typeName));
+        } else if (node instanceof IfStatementNode ifStatement) {
+            int index = addNode(IF_STATEMENT, 0, NONE);
+            addChildren(index, ifStatement.condition, ifStatement.thenBlock, ifStatement.elseBlock);
+            return index;
+        } else if (node instanceof ForLoop forLoop) {
+            int index = addNode(FOR_LOOP, forLoop.isReverse ? 1 : 0, addString(forLoop.loopVariable));
+            addChildren(index, new LiteralNode(forLoop.range), forLoop.loopBody);
+            return index;
+        } else if (node instanceof WhileLoop whileLoop) {
+            int index = addNode(WHILE_LOOP, 0, NONE);
+            addChildren(index, whileLoop.condition, whileLoop.loopBody);
+            return index;
+        } else if (node instanceof BlockNode block) {
+            int index = addNode(BLOCK, 0, NONE);
+            addChildren(index, block.statements);
+            return index;
+        } else if (node instanceof BinaryOpNode binaryOperation) {
+            int index = addNode(BINARY_OPERATION, binaryOperation.operator.ordinal(), NONE);
+            addChildren(index, binaryOperation.left, binaryOperation.right);
+            return index;
+        } else if (node instanceof UnaryOpNode unaryOperation) {
+            int index = addNode(UNARY_OPERATION, unaryOperation.operator.ordinal(), NONE);
+            addChildren(index, unaryOperation.operand);
+            return index;
+        } else if (node instanceof LiteralNode literal) {
+            return addNode(LITERAL, 0, addString(literal.value));
+        } else if (node instanceof AssignmentNode assignment) {
+            int index = addNode(ASSIGNMENT, 0, addString(assignment.variableName));
+            addChildren(index, assignment.expression);
+            return index;
+        } else if (node instanceof ParameterNode parameter) {
+            int index = addNode(PARAMETER, 0, addString(parameter.paramName));
+            addChildren(index, parameter.paramType);
+            return index;
+        } else if (node instanceof RoutineBodyNode routineBody) {
+            int index = addNode(ROUTINE_BODY, 0, NONE);
+            addChildren(index, routineBody.statements);
+            return index;
+        } else if (node instanceof ReturnStatementNode returnStatement) {
+            int index = addNode(RETURN_STATEMENT, 0, NONE);
+            addChildren(index, returnStatement.returnValue);
+            return index;
+        } else if (node instanceof RoutineDeclarationNode routine) {
+            int index = addNode(ROUTINE_DECLARATION, 0, addString(routine.routineName));
+            int parameters = link(index, NONE, addNode(PARAMETER_LIST, 0, NONE));
+            addChildren(parameters, routine.parameters);
+            int returnType = link(index, parameters, add(routine.returnType));
+            link(index, returnType, add(routine.routineBody));
+            return index;
+        } else if (node instanceof FunctionCallNode call) {
+            int index = addNode(FUNCTION_CALL, 0, addString(call.functionName));
+            addChildren(index, call.arguments);
+            return index;
+        } else if (node instanceof TypeDeclarationNode typeDeclaration) {
+            int index = addNode(TYPE_DECLARATION, 0, addString(typeDeclaration.typeName));
+            addChildren(index, typeDeclaration.typeDefinition);
+            return index;
+        } else if (node instanceof ArrayTypeNode arrayType) {
+            int index = addNode(ARRAY_TYPE, 0, NONE);
+            addChildren(index, arrayType.size, arrayType.elementType);
+            return index;
+        } else if (node instanceof ArrayValuesNode arrayValues) {
+            int index = addNode(ARRAY_VALUES, 0, NONE);
+            addChildren(index, arrayValues.values);
+            return index;
+        }
+        throw new IllegalArgumentException("Unknown AST node " + node.getClass().getSimpleName());
+    }
+
+    private void trimToSize() {
+        kinds = Arrays.copyOf(kinds, size);
+        operators = Arrays.copyOf(operators, size);
+        firstChildren = Arrays.copyOf(firstChildren, size);
+        nextSiblings = Arrays.copyOf(nextSiblings, size);
+        literals = Arrays.copyOf(literals, size);
+        strings = Arrays.copyOf(strings, stringCount);
+        stringIndices = null;
+    }
+
+    // Empties a flat form that is being built, keeping its arrays
+    private void clear() {
+        size = 0;
+        stringCount = 0;
+        stringIndices.clear();
+    }
+
+    // Returns whether node a and everything under it are the same as node b of another flat form
+    private boolean sameTree(int a, FlatAST other, int b) {
+        if (kinds[a] != other.kinds[b] || operators[a] != other.operators[b] || !Objects.equals(string(a), other.string(b))) {
+            return false;
+        }
+        int childA = firstChildren[a];
+        int childB = other.firstChildren[b];
+        while (childA != NONE && childB != NONE) {
+            if (!sameTree(childA, other, childB)) {
+                return false;
+            }
+            childA = nextSiblings[childA];
+            childB = other.nextSiblings[childB];
+        }
+        return childA == NONE && childB == NONE;
+    }
+
+    // Reading back as ASTNode objects
+
+    // Returns the top-level declarations as a list of ASTNode objects. The objects for a declaration are created
+    // when it is read, and the list only keeps them through weak references: the same objects are returned while
+    // something, like the symbol table of the semantic analyzer, still uses them, and they are created again
+    // from the arrays otherwise. The semantic analyzer rewrites declarations in place, so it sets each one back
+    // into the list after analyzing it, which stores the rewritten declaration in the arrays.
+    List<ASTNode> asNodeList() {
+        List<Integer> topLevel = children(0);
+        int[] indices = new int[topLevel.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = topLevel.get(i);
+        }
+        return new NodeList(indices);
+    }
+
+    private class NodeList extends AbstractList<ASTNode> implements RandomAccess {
+        private final int[] indices;
+        private final List<WeakReference<ASTNode>> nodes;
+        // Where set flattens a declaration to compare it with the one in the arrays
+        private final FlatAST scratch = new FlatAST();
+
+        NodeList(int[] indices) {
+            this.indices = indices;
+            this.nodes = new ArrayList<>(Collections.nCopies(indices.length, null));
+        }
+
+        @Override
+        public ASTNode get(int i) {
+            ASTNode node = nodes.get(i) == null ? null : nodes.get(i).get();
+            if (node == null) {
+                node = toNode(indices[i]);
+                nodes.set(i, new WeakReference<>(node));
+            }
+            return node;
+        }
+
+        // Stores a declaration in the arrays in place of the one at index i. The declaration is flattened on its
+        // own first, and only one that differs from the one in the arrays is added at their end, leaving the old
+        // nodes unused.
+        @Override
+        public ASTNode set(int i, ASTNode node) {
+            ASTNode previous = get(i);
+            scratch.clear();
+            if (!sameTree(indices[i], scratch, scratch.add(node))) {
+                int index = FlatAST.this.add(node);
+                nextSiblings[index] = nextSiblings[indices[i]];
+                link(0, i == 0 ? NONE : indices[i - 1], index);
+                indices[i] = index;
+            }
+            if (node != previous) {
+                nodes.set(i, new WeakReference<>(node));
+            }
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return indices.length;
+        }
+    }
+
+    // Returns the indices of the children of a node
+    private List<Integer> children(int node) {
+        List<Integer> children = new ArrayList<>();
+        for (int child = firstChildren[node]; child != NONE; child = nextSiblings[child]) {
+            children.add(child);
+        }
+        return children;
+    }
+
+    private List<ASTNode> toNodes(int parent) {
+        List<ASTNode> nodes = new ArrayList<>();
+        for (int child = firstChildren[parent]; child != NONE; child = nextSiblings[child]) {
+            nodes.add(toNode(child));
+        }
+        return nodes;
+    }
+
+    // Creates the ASTNode objects for a node and everything under it
+    ASTNode toNode(int node) {
+        if (kinds[node] == ROUTINE_DECLARATION) {
+            // The first child is the list of parameters, which has no ASTNode of its own
+            int parameterList = firstChildren[node];
+            int returnType = nextSiblings[parameterList];
+            List<ParameterNode> parameters = new ArrayList<>();
+            for (ASTNode parameter : toNodes(parameterList)) {
+                parameters.add((ParameterNode) parameter);
+            }
+            return new RoutineDeclarationNode(string(node), parameters, toNode(returnType), (RoutineBodyNode) toNode(nextSiblings[returnType]));
+        }
+        List<ASTNode> children = toNodes(node);
+        return switch (kinds[node]) {
+            case EMPTY -> null;
+            case VAR_DECLARATION -> new VarDeclaration(string(node), children.get(0), children.get(1));
+            case TYPE -> new TypeNode(string(node));
+            case IF_STATEMENT -> new IfStatementNode(children.get(0), children.get(1), children.get(2));
+            case FOR_LOOP -> new ForLoop(string(node), operators[node] == 1, ((LiteralNode) children.get(0)).value, children.get(1));
+            case WHILE_LOOP -> new WhileLoop(children.get(0), children.get(1));
+            case BLOCK -> new BlockNode(children);
+            case BINARY_OPERATION -> expressions.binary(operator(node), children.get(0), children.get(1));
+            case UNARY_OPERATION -> expressions.unary(operator(node), children.get(0));
+            case LITERAL -> expressions.literal(string(node));
+            case ASSIGNMENT -> new AssignmentNode(string(node), children.get(0));
+            case PARAMETER -> new ParameterNode(string(node), children.get(0));
+            case ROUTINE_BODY -> new RoutineBodyNode(children);
+            case RETURN_STATEMENT -> new ReturnStatementNode(children.get(0));
+            case FUNCTION_CALL -> new FunctionCallNode(string(node), children);
+            case TYPE_DECLARATION -> new TypeDeclarationNode(string(node), children.get(0));
+            case ARRAY_TYPE -> new ArrayTypeNode(children.get(0), children.get(1));
+            case ARRAY_VALUES -> new ArrayValuesNode(children);
+            default -> throw new IllegalStateException("Unknown node kind " + kinds[node]);
+        };
+    }
+}
@@ -0,0 +1,829 @@
+import java.util.*;
+
+// The intermediate representation between the AST and the generated bytecode.
+//
+// A program is a set of functions, one for the main program and one for each routine. A function is a
+// control-flow graph of basic blocks, and each block is a list of instructions ending with a terminator
+// (a jump, a branch or a return). The code is in static single assignment form: every instruction is the
+// value it computes, and it is computed exactly once. Where control flow merges and a variable can have
+// several values, a phi instruction at the start of the block chooses the one of the predecessor the
+// block was entered from.
+//
+// The variables of the main program are static fields of the generated class, so they are read and written
+// by LoadGlobal and StoreGlobal rather than being SSA values; routines can see them too. Everything else,
+// the parameters and variables of routines and the variables declared in the blocks of the main program,
+// lives in SSA values.
+
+// The type of a value; integers and booleans are both ints in the bytecode
+enum IRType {
+    INTEGER("I"),
+    REAL("D"),
+    BOOLEAN("Z"),
+    VOID("V");
+
+    final String descriptor;
+
+    IRType(String descriptor) {
+        this.descriptor = descriptor;
+    }
+
+    boolean isReal() {
+        return this == REAL;
+    }
+
+    // Number of JVM local variable slots and stack words that a value of the type takes
+    int size() {
+        return switch (this) {
+            case REAL -> 2;
+            case VOID -> 0;
+            default -> 1;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase();
+    }
+}
+
+// Something an instruction can use as an operand: a constant, a parameter or another instruction
+abstract class Value {
+    final IRType type;
+
+    Value(IRType type) {
+        this.type = type;
+    }
+
+    // The name of the value in the printed IR
+    abstract String reference();
+}
+
+// A constant; integers and booleans keep their value in intValue, reals in realValue
+final class Constant extends Value {
+    final int intValue;
+    final double realValue;
+
+    private Constant(IRType type, int intValue, double realValue) {
+        super(type);
+        this.intValue = intValue;
+        this.realValue = realValue;
+    }
+
+    static Constant ofInt(IRType type, int value) {
+        return new Constant(type, value, value);
+    }
+
+    static Constant ofReal(double value) {
+        return new Constant(IRType.REAL, (int) value, value);
+    }
+
+    static Constant ofBoolean(boolean value) {
+        return ofInt(IRType.BOOLEAN, value ? 1 : 0);
+    }
+
+    // The zero of a type, which is also the value of a variable that has not been assigned
+    static Constant zero(IRType type) {
+        return type.isReal() ? ofReal(0) : ofInt(type, 0);
+    }
+
+    boolean isZero() {
+        return type.isReal() ? realValue == 0 : intValue == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Constant constant && constant.type == type && constant.intValue == intValue
+                && Double.compare(constant.realValue, realValue) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, intValue, realValue);
+    }
+
+    @Override
+    String reference() {
+        return switch (type) {
+            case REAL -> String.valueOf(realValue);
+            case BOOLEAN -> intValue != 0 ? "true" : "false";
+            default -> String.valueOf(intValue);
+        };
+    }
+}
+
+// A parameter of a routine
+final class Parameter extends Value {
+    final String name;
+    final int index;
+
+    Parameter(IRType type, String name, int index) {
+        super(type);
+        this.name = name;
+        this.index = index;
+    }
+
+    @Override
+    String reference() {
+        return "%" + name;
+    }
+}
+
+// An instruction; the operands of phis can be added and any operand can be replaced, everything else is fixed
+abstract class Instruction extends Value {
+    final List<Value> operands;
+    BasicBlock block;
+    // Numbers the instructions of a function when it is printed
+    int number = -1;
+
+    Instruction(IRType type, Value... operands) {
+        super(type);
+        this.operands = new ArrayList<>(Arrays.asList(operands));
+    }
+
+    Value operand(int index) {
+        return operands.get(index);
+    }
+
+    // True if the instruction does something besides computing its value, so it cannot be removed or moved
+    boolean hasSideEffects() {
+        return false;
+    }
+
+    // True if the instruction can throw an exception, which also keeps it in place
+    boolean mayThrow() {
+        return false;
+    }
+
+    // True if the value depends on the static fields, so it cannot be moved across stores or calls
+    boolean readsGlobals() {
+        return false;
+    }
+
+    // True if the instruction ends its block
+    boolean isTerminator() {
+        return false;
+    }
+
+    // True if the instruction can be removed when nothing uses its value
+    boolean isRemovable() {
+        return !hasSideEffects() && !mayThrow() && !isTerminator();
+    }
+
+    // The name of the instruction in the printed IR, followed by its operands
+    abstract String describe();
+
+    // A new instruction that does the same thing with the same operands, and for a terminator goes to the same
+    // blocks; it is not in any block yet
+    abstract Instruction copy();
+
+    @Override
+    String reference() {
+        return "v" + number;
+    }
+
+    @Override
+    public String toString() {
+        return type == IRType.VOID ? describe() : reference() + ": " + type + " = " + describe();
+    }
+
+    static String references(List<Value> values) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Value value : values) {
+            joiner.add(value.reference());
+        }
+        return joiner.toString();
+    }
+}
+
+// Chooses the operand that belongs to the predecessor the block was entered from; operand i goes with
+// predecessor i of the block
+final class Phi extends Instruction {
+    Phi(IRType type) {
+        super(type);
+    }
+
+    @Override
+    Phi copy() {
+        Phi phi = new Phi(type);
+        phi.operands.addAll(operands);
+        return phi;
+    }
+
+    @Override
+    String describe() {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (int i = 0; i < operands.size(); i++) {
+            joiner.add("[" + operands.get(i).reference() + ", " + block.predecessors.get(i).label() + "]");
+        }
+        return "phi " + joiner;
+    }
+}
+
+// Arithmetic on two integers or two reals, or exclusive or on two booleans
+final class BinaryInstruction extends Instruction {
+    enum Operator { ADD, SUB, MUL, DIV, REM, XOR }
+
+    final Operator operator;
+
+    BinaryInstruction(Operator operator, Value left, Value right) {
+        super(left.type.isReal() ? IRType.REAL : operator == Operator.XOR ? IRType.BOOLEAN : IRType.INTEGER, left, right);
+        this.operator = operator;
+    }
+
+    @Override
+    BinaryInstruction copy() {
+        return new BinaryInstruction(operator, operand(0), operand(1));
+    }
+
+    // Integer division by zero throws an ArithmeticException
+    @Override
+    boolean mayThrow() {
+        return !type.isReal() && (operator == Operator.DIV || operator == Operator.REM)
+                && !(operand(1) instanceof Constant divisor && !divisor.isZero());
+    }
+
+    @Override
+    String describe() {
+        return operator.name().toLowerCase() + " " + references(operands);
+    }
+}
+
+// Compares two integers, booleans or reals
+final class CompareInstruction extends Instruction {
+    enum Condition {
+        LT, LE, GT, GE, EQ, NE;
+
+        // The condition that is true exactly when this one is false
+        Condition negate() {
+            return switch (this) {
+                case LT -> GE;
+                case LE -> GT;
+                case GT -> LE;
+                case GE -> LT;
+                case EQ -> NE;
+                case NE -> EQ;
+            };
+        }
+
+        // The condition that gives the same result with the operands swapped
+        Condition swap() {
+            return switch (this) {
+                case LT -> GT;
+                case LE -> GE;
+                case GT -> LT;
+                case GE -> LE;
+                default -> this;
+            };
+        }
+
+        // The suffix of the JVM's conditional jump instructions
+        String mnemonic() {
+            return name().toLowerCase();
+        }
+    }
+
+    final Condition condition;
+
+    CompareInstruction(Condition condition, Value left, Value right) {
+        super(IRType.BOOLEAN, left, right);
+        this.condition = condition;
+    }
+
+    @Override
+    CompareInstruction copy() {
+        return new CompareInstruction(condition, operand(0), operand(1));
+    }
+
+    @Override
+    String describe() {
+        return "cmp " + condition.mnemonic() + " " + references(operands);
+    }
+}
+
+// Negation, boolean not and the conversions between integers and reals
+final class UnaryInstruction extends Instruction {
+    enum Operator { NEG, NOT, TO_REAL, TO_INTEGER }
+
+    final Operator operator;
+
+    UnaryInstruction(Operator operator, Value operand) {
+        super(switch (operator) {
+            case NEG -> operand.type.isReal() ? IRType.REAL : IRType.INTEGER;
+            case NOT -> IRType.BOOLEAN;
+            case TO_REAL -> IRType.REAL;
+            case TO_INTEGER -> IRType.INTEGER;
+        }, operand);
+        this.operator = operator;
+    }
+
+    @Override
+    UnaryInstruction copy() {
+        return new UnaryInstruction(operator, operand(0));
+    }
+
+    @Override
+    String describe() {
+        return operator.name().toLowerCase() + " " + references(operands);
+    }
+}
+
+// Reads a variable of the main program
+final class LoadGlobal extends Instruction {
+    final String field;
+
+    LoadGlobal(IRType type, String field) {
+        super(type);
+        this.field = field;
+    }
+
+    @Override
+    LoadGlobal copy() {
+        return new LoadGlobal(type, field);
+    }
+
+    @Override
+    boolean readsGlobals() {
+        return true;
+    }
+
+    @Override
+    String describe() {
+        return "load @" + field;
+    }
+}
+
+// Writes a variable of the main program
+final class StoreGlobal extends Instruction {
+    final String field;
+    final IRType fieldType;
+
+    StoreGlobal(String field, IRType fieldType, Value value) {
+        super(IRType.VOID, value);
+        this.field = field;
+        this.fieldType = fieldType;
+    }
+
+    @Override
+    StoreGlobal copy() {
+        return new StoreGlobal(field, fieldType, operand(0));
+    }
+
+    @Override
+    boolean hasSideEffects() {
+        return true;
+    }
+
+    @Override
+    String describe() {
+        return "store @" + field + ", " + operand(0).reference();
+    }
+}
+
+// Calls a routine, which can read and write the variables of the main program
+final class CallInstruction extends Instruction {
+    final IRFunction callee;
+
+    CallInstruction(IRFunction callee, List<Value> arguments) {
+        super(callee.returnType, arguments.toArray(new Value[0]));
+        this.callee = callee;
+    }
+
+    @Override
+    CallInstruction copy() {
+        return new CallInstruction(callee, operands);
+    }
+
+    @Override
+    boolean hasSideEffects() {
+        return true;
+    }
+
+    @Override
+    boolean mayThrow() {
+        return true;
+    }
+
+    @Override
+    boolean readsGlobals() {
+        return true;
+    }
+
+    @Override
+    String describe() {
+        return "call " + callee.name + "(" + references(operands) + ")";
+    }
+}
+
+// The instructions that end a block, and decide which block comes next
+abstract class Terminator extends Instruction {
+    Terminator(Value... operands) {
+        super(IRType.VOID, operands);
+    }
+
+    abstract List<BasicBlock> successors();
+
+    // Makes the terminator go to another block instead of one of its successors
+    abstract void replaceSuccessor(BasicBlock from, BasicBlock to);
+
+    @Override
+    boolean isTerminator() {
+        return true;
+    }
+
+    @Override
+    boolean hasSideEffects() {
+        return true;
+    }
+}
+
+final class Jump extends Terminator {
+    BasicBlock target;
+
+    Jump(BasicBlock target) {
+        this.target = target;
+    }
+
+    @Override
+    Jump copy() {
+        return new Jump(target);
+    }
+
+    @Override
+    List<BasicBlock> successors() {
+        return List.of(target);
+    }
+
+    @Override
+    void replaceSuccessor(BasicBlock from, BasicBlock to) {
+        if (target == from) {
+            target = to;
+        }
+    }
+
+    @Override
+    String describe() {
+        return "jump " + target.label();
+    }
+}
+
+// Goes to one block if a boolean is true and to another if it is false
+final class Branch extends Terminator {
+    BasicBlock ifTrue;
+    BasicBlock ifFalse;
+
+    Branch(Value condition, BasicBlock ifTrue, BasicBlock ifFalse) {
+        super(condition);
+        this.ifTrue = ifTrue;
+        this.ifFalse = ifFalse;
+    }
+
+    @Override
+    Branch copy() {
+        return new Branch(operand(0), ifTrue, ifFalse);
+    }
+
+    @Override
+    List<BasicBlock> successors() {
+        return List.of(ifTrue, ifFalse);
+    }
+
+    @Override
+    void replaceSuccessor(BasicBlock from, BasicBlock to) {
+        if (ifTrue == from) {
+            ifTrue = to;
+        }
+        if (ifFalse == from) {
+            ifFalse = to;
+        }
+    }
+
+    @Override
+    String describe() {
+        return "branch " + operand(0).reference() + ", " + ifTrue.label() + ", " + ifFalse.label();
+    }
+}
+
+// Leaves the function, with a value unless the function returns void
+final class ReturnInstruction extends Terminator {
+    ReturnInstruction(Value value) {
+        super(value == null ? new Value[0] : new Value[]{value});
+    }
+
+    @Override
+    ReturnInstruction copy() {
+        return new ReturnInstruction(operands.isEmpty() ? null : operand(0));
+    }
+
+    @Override
+    List<BasicBlock> successors() {
+        return List.of();
+    }
+
+    @Override
+    void replaceSuccessor(BasicBlock from, BasicBlock to) {
+    }
+
+    @Override
+    String describe() {
+        return operands.isEmpty() ? "return" : "return " + operand(0).reference();
+    }
+}
+
+// A straight sequence of instructions: phis first, then the others, then one terminator
+final class BasicBlock {
+    final int id;
+    final List<Instruction> instructions = new ArrayList<>();
+    final List<BasicBlock> predecessors = new ArrayList<>();
+
+    BasicBlock(int id) {
+        this.id = id;
+    }
+
+    String label() {
+        return "B" + id;
+    }
+
+    Terminator terminator() {
+        if (instructions.isEmpty() || !(instructions.get(instructions.size() - 1) instanceof Terminator terminator)) {
+            return null;
+        }
+        return terminator;
+    }
+
+    List<BasicBlock> successors() {
+        Terminator terminator = terminator();
+        return terminator == null ? List.of() : terminator.successors();
+    }
+
+    List<Phi> phis() {
+        List<Phi> phis = new ArrayList<>();
+        for (Instruction instruction : instructions) {
+            if (!(instruction instanceof Phi phi)) {
+                break;
+            }
+            phis.add(phi);
+        }
+        return phis;
+    }
+
+    // Adds an instruction before the terminator, or at the end if there is none yet
+    <T extends Instruction> T add(T instruction) {
+        instruction.block = this;
+        int index = instructions.size();
+        if (terminator() != null && !(instruction instanceof Terminator)) {
+            index--;
+        }
+        instructions.add(index, instruction);
+        return instruction;
+    }
+
+    // Adds a phi after the other phis
+    Phi addPhi(Phi phi) {
+        phi.block = this;
+        instructions.add(phis().size(), phi);
+        return phi;
+    }
+
+    // Ends the block, which records it as a predecessor of the terminator's successors
+    void terminate(Terminator terminator) {
+        add(terminator);
+        for (BasicBlock successor : terminator.successors()) {
+            successor.predecessors.add(this);
+        }
+    }
+
+    // Forgets an edge from a predecessor, along with the phi operands that belong to it
+    void removePredecessor(BasicBlock predecessor) {
+        int index = predecessors.indexOf(predecessor);
+        predecessors.remove(index);
+        for (Phi phi : phis()) {
+            phi.operands.remove(index);
+        }
+    }
+
+    // Makes an edge from a predecessor come from another block instead, keeping the phi operands
+    void replacePredecessor(BasicBlock from, BasicBlock to) {
+        predecessors.set(predecessors.indexOf(from), to);
+    }
+}
+
+// The main program or a routine
+final class IRFunction {
+    final String name;
+    final IRType returnType;
+    final List<Parameter> parameters = new ArrayList<>();
+    final List<BasicBlock> blocks = new ArrayList<>();
+    private int nextBlockId;
+
+    IRFunction(String name, IRType returnType) {
+        this.name = name;
+        this.returnType = returnType;
+    }
+
+    BasicBlock entry() {
+        return blocks.get(0);
+    }
+
+    BasicBlock newBlock() {
+        BasicBlock block = new BasicBlock(nextBlockId++);
+        blocks.add(block);
+        return block;
+    }
+
+    // The JVM method descriptor of the function
+    String descriptor() {
+        StringBuilder descriptor = new StringBuilder("(");
+        for (Parameter parameter : parameters) {
+            descriptor.append(parameter.type.descriptor);
+        }
+        return descriptor.append(")").append(returnType.descriptor).toString();
+    }
+
+    // Copies blocks, which can come from another function, into this one and returns the copy of each block. The
+    // operands of the copies are looked up in values, which the copied instructions are added to; a parameter
+    // or instruction of another function must be in it. Edges between copied blocks are copied too, while the
+    // copies keep the successors and predecessors that are not copied, for the caller to connect.
+    Map<BasicBlock, BasicBlock> copyBlocks(List<BasicBlock> originals, Map<Value, Value> values) {
+        Map<BasicBlock, BasicBlock> copies = new HashMap<>();
+        for (BasicBlock block : originals) {
+            copies.put(block, newBlock());
+        }
+        for (BasicBlock block : originals) {
+            BasicBlock copy = copies.get(block);
+            for (BasicBlock predecessor : block.predecessors) {
+                copy.predecessors.add(copies.getOrDefault(predecessor, predecessor));
+            }
+            for (Instruction instruction : block.instructions) {
+                Instruction copied = instruction.copy();
+                copied.block = copy;
+                copy.instructions.add(copied);
+                values.put(instruction, copied);
+            }
+        }
+        // The operands are replaced once everything is copied, since phis use values from blocks that come later
+        for (BasicBlock block : originals) {
+            for (Instruction instruction : copies.get(block).instructions) {
+                for (int i = 0; i < instruction.operands.size(); i++) {
+                    Value operand = instruction.operand(i);
+                    instruction.operands.set(i, values.getOrDefault(operand, operand));
+                }
+                if (instruction instanceof Terminator terminator) {
+                    for (BasicBlock successor : new ArrayList<>(terminator.successors())) {
+                        if (copies.containsKey(successor)) {
+                            terminator.replaceSuccessor(successor, copies.get(successor));
+                        }
+                    }
+                }
+            }
+        }
+        return copies;
+    }
+
+    // Replaces the uses of values by others, following chains of replacements
+    void replaceUses(Map<Value, Value> replacements) {
+        if (replacements.isEmpty()) {
+            return;
+        }
+        for (BasicBlock block : blocks) {
+            for (Instruction instruction : block.instructions) {
+                for (int i = 0; i < instruction.operands.size(); i++) {
+                    Value operand = instruction.operands.get(i);
+                    Value replacement = replacements.get(operand);
+                    if (replacement != null) {
+                        // The bound stops at a cycle of replacements, which only dead phis can form
+                        for (int steps = 0; replacements.containsKey(replacement) && steps < replacements.size(); steps++) {
+                            replacement = replacements.get(replacement);
+                        }
+                        instruction.operands.set(i, replacement);
+                    }
+                }
+            }
+        }
+    }
+
+    // Counts how many times each instruction is used as an operand
+    Map<Instruction, Integer> useCounts() {
+        Map<Instruction, Integer> counts = new HashMap<>();
+        for (BasicBlock block : blocks) {
+            for (Instruction instruction : block.instructions) {
+                for (Value operand : instruction.operands) {
+                    if (operand instanceof Instruction used) {
+                        counts.merge(used, 1, Integer::sum);
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    // The blocks in reverse postorder, which puts every block after its dominators; unreachable blocks are left out.
+    // The successors of a block are visited last to first, so that the first one comes right after it: the then
+    // block of an if and the body of a loop follow their condition.
+    List<BasicBlock> reversePostorder() {
+        List<BasicBlock> postorder = new ArrayList<>();
+        Set<BasicBlock> visited = new HashSet<>();
+        // An explicit stack, so that long chains of blocks do not overflow the Java stack
+        Deque<Iterator<BasicBlock>> stack = new ArrayDeque<>();
+        Deque<BasicBlock> path = new ArrayDeque<>();
+        visited.add(entry());
+        stack.push(reversed(entry().successors()));
+        path.push(entry());
+        while (!stack.isEmpty()) {
+            Iterator<BasicBlock> successors = stack.peek();
+            if (successors.hasNext()) {
+                BasicBlock successor = successors.next();
+                if (visited.add(successor)) {
+                    stack.push(reversed(successor.successors()));
+                    path.push(successor);
+                }
+            } else {
+                stack.pop();
+                postorder.add(path.pop());
+            }
+        }
+        Collections.reverse(postorder);
+        return postorder;
+    }
+
+    private static Iterator<BasicBlock> reversed(List<BasicBlock> blocks) {
+        List<BasicBlock> copy = new ArrayList<>(blocks);
+        Collections.reverse(copy);
+        return copy.iterator();
+    }
+
+    // Removes the blocks that cannot be reached from the entry; returns true if there were any
+    boolean removeUnreachableBlocks() {
+        Set<BasicBlock> reachable = new HashSet<>(reversePostorder());
+        if (reachable.size() == blocks.size()) {
+            return false;
+        }
+        for (BasicBlock block : blocks) {
+            if (!reachable.contains(block)) {
+                for (BasicBlock successor : new LinkedHashSet<>(block.successors())) {
+                    if (reachable.contains(successor)) {
+                        while (successor.predecessors.contains(block)) {
+                            successor.removePredecessor(block);
+                        }
+                    }
+                }
+            }
+        }
+        blocks.retainAll(reachable);
+        return true;
+    }
+
+    // Numbers the instructions in the order they are printed
+    void numberInstructions() {
+        int number = 0;
+        for (BasicBlock block : blocks) {
+            for (Instruction instruction : block.instructions) {
+                instruction.number = number++;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        numberInstructions();
+        StringBuilder text = new StringBuilder("function " + name + "(");
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Parameter parameter : parameters) {
+            joiner.add(parameter.reference() + ": " + parameter.type);
+        }
+        text.append(joiner).append("): ").append(returnType).append('\n');
+        for (BasicBlock block : blocks) {
+            text.append(block.label()).append(":");
+            if (!block.predecessors.isEmpty()) {
+                StringJoiner predecessors = new StringJoiner(", ", "  ; from ", "");
+                for (BasicBlock predecessor : block.predecessors) {
+                    predecessors.add(predecessor.label());
+                }
+                text.append(predecessors);
+            }
+            text.append('\n');
+            for (Instruction instruction : block.instructions) {
+                text.append("    ").append(instruction).append('\n');
+            }
+        }
+        return text.toString();
+    }
+}
+
+// The functions of a program and the variables of its main program, which become static fields
+final class IRProgram {
+    final Map<String, IRType> globals = new LinkedHashMap<>();
+    final List<IRFunction> functions = new ArrayList<>();
+    IRFunction main;
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, IRType> global : globals.entrySet()) {
+            text.append("global @").append(global.getKey()).append(": ").append(global.getValue()).append('\n');
+        }
+        for (IRFunction function : functions) {
+            text.append('\n').append(function);
+        }
+        return text.toString();
+    }
+}
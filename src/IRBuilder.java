@@ -0,0 +1,484 @@
+import java.util.*;
+
+// Builds the IR of a program from its analyzed AST.
+//
+// The SSA form is constructed directly while the AST is walked, with the algorithm of Braun et al.,
+// "Simple and Efficient Construction of Static Single Assignment Form": each block remembers the value each
+// variable was last given in it, and reading a variable that a block has not assigned looks it up in the
+// predecessors, placing a phi where several of them meet. A block whose predecessors are not all known yet
+// (the header of a loop, before its body has been built) gets phis without operands, which are filled in
+// once the block is sealed. Phis that turn out to choose between one value and themselves are removed at
+// the end.
+//
+// The language is the one the interpreter runs, with the same rules for names, types and conversions, so
+// that a program gives the same results either way.
+class IRBuilder {
+    // A variable of the source program
+    private static final class Variable {
+        final String name;
+        final IRType type;
+        // The variables declared at the top level of the main program are static fields
+        final boolean global;
+
+        Variable(String name, IRType type, boolean global) {
+            this.name = name;
+            this.type = type;
+            this.global = global;
+        }
+    }
+
+    private final List<ASTNode> astNodes;
+    private final IRProgram program = new IRProgram();
+
+    // Name resolution state
+    private final Deque<Map<String, Variable>> scopes = new ArrayDeque<>();
+    private final Map<String, IRType> typeAliases = new HashMap<>();
+    private final Map<String, IRFunction> routines = new HashMap<>();
+
+    public IRBuilder(List<ASTNode> astNodes) {
+        this.astNodes = astNodes;
+    }
+
+    // Builds the IR of the whole program
+    public IRProgram build() {
+        program.main = new IRFunction("main", IRType.VOID);
+        program.functions.add(program.main);
+
+        // Routines can be called before they are declared, so their signatures are resolved first
+        for (ASTNode node : astNodes) {
+            if (node instanceof TypeDeclarationNode typeDeclaration) {
+                typeAliases.put(typeDeclaration.typeName, resolveType(typeDeclaration.typeDefinition));
+            } else if (node instanceof RoutineDeclarationNode routineNode) {
+                IRFunction routine = new IRFunction(routineNode.routineName,
+                        routineNode.returnType != null ? resolveType(routineNode.returnType) : IRType.INTEGER);
+                for (ParameterNode parameter : routineNode.parameters) {
+                    routine.parameters.add(new Parameter(resolveType(parameter.paramType), parameter.paramName, routine.parameters.size()));
+                }
+                routines.put(routineNode.routineName, routine);
+                program.functions.add(routine);
+            }
+        }
+
+        new FunctionBuilder(program.main).buildBody(astNodes);
+        return program;
+    }
+
+    private IRType resolveType(ASTNode typeNode) {
+        if (typeNode instanceof TypeNode type) {
+            switch (type.typeName) {
+                case "integer":
+                    return IRType.INTEGER;
+                case "real":
+                    return IRType.REAL;
+                case "boolean":
+                    return IRType.BOOLEAN;
+                default:
+                    IRType alias = typeAliases.get(type.typeName);
+                    if (alias != null) {
+                        return alias;
+                    }
+            }
+        }
+        throw new UnsupportedOperationException("The IR only supports integer, real and boolean variables");
+    }
+
+    private Variable lookupVariable(String name) {
+        for (Map<String, Variable> scope : scopes) {
+            Variable variable = scope.get(name);
+            if (variable != null) {
+                return variable;
+            }
+        }
+        return null;
+    }
+
+    // Builds the code of one function, keeping track of the block that code is currently added to
+    private final class FunctionBuilder {
+        private final IRFunction function;
+        private BasicBlock current;
+
+        // The value each variable was last given in each block
+        private final Map<BasicBlock, Map<Variable, Value>> definitions = new HashMap<>();
+        // The blocks whose predecessors are all known
+        private final Set<BasicBlock> sealedBlocks = new HashSet<>();
+        // The phis without operands of the blocks that are not sealed yet
+        private final Map<BasicBlock, Map<Variable, Phi>> incompletePhis = new HashMap<>();
+
+        FunctionBuilder(IRFunction function) {
+            this.function = function;
+        }
+
+        // Builds the function from its statements and removes what construction left behind
+        void buildBody(List<ASTNode> statements) {
+            current = function.newBlock();
+            sealBlock(current);
+            scopes.push(new HashMap<>());
+            for (Parameter parameter : function.parameters) {
+                Variable variable = new Variable(parameter.name, parameter.type, false);
+                scopes.peek().put(parameter.name, variable);
+                writeVariable(variable, current, parameter);
+            }
+            buildStatements(statements);
+            scopes.pop();
+            // A routine that ends without a return statement returns the zero of its type
+            current.terminate(new ReturnInstruction(function.returnType == IRType.VOID ? null : Constant.zero(function.returnType)));
+
+            function.removeUnreachableBlocks();
+            removeTrivialPhis();
+        }
+
+        // SSA construction
+
+        private void writeVariable(Variable variable, BasicBlock block, Value value) {
+            definitions.computeIfAbsent(block, key -> new HashMap<>()).put(variable, value);
+        }
+
+        private Value readVariable(Variable variable, BasicBlock block) {
+            Map<Variable, Value> blockDefinitions = definitions.get(block);
+            Value value = blockDefinitions != null ? blockDefinitions.get(variable) : null;
+            return value != null ? value : readVariableRecursive(variable, block);
+        }
+
+        private Value readVariableRecursive(Variable variable, BasicBlock block) {
+            Value value;
+            if (!sealedBlocks.contains(block)) {
+                Phi phi = block.addPhi(new Phi(variable.type));
+                incompletePhis.computeIfAbsent(block, key -> new HashMap<>()).put(variable, phi);
+                value = phi;
+            } else if (block.predecessors.isEmpty()) {
+                // Only reached by code after a return statement, which is removed
+                value = Constant.zero(variable.type);
+            } else if (block.predecessors.size() == 1) {
+                value = readVariable(variable, block.predecessors.get(0));
+            } else {
+                // The phi is recorded first, so that reading the variable through a loop ends at it
+                Phi phi = block.addPhi(new Phi(variable.type));
+                writeVariable(variable, block, phi);
+                addPhiOperands(variable, phi);
+                value = phi;
+            }
+            writeVariable(variable, block, value);
+            return value;
+        }
+
+        private void addPhiOperands(Variable variable, Phi phi) {
+            for (BasicBlock predecessor : phi.block.predecessors) {
+                phi.operands.add(readVariable(variable, predecessor));
+            }
+        }
+
+        // Records that all the predecessors of a block are known and completes its phis
+        private void sealBlock(BasicBlock block) {
+            Map<Variable, Phi> phis = incompletePhis.remove(block);
+            if (phis != null) {
+                for (Map.Entry<Variable, Phi> entry : phis.entrySet()) {
+                    addPhiOperands(entry.getKey(), entry.getValue());
+                }
+            }
+            sealedBlocks.add(block);
+        }
+
+        // Replaces the phis whose operands are all the same value, or the phi itself, by that value
+        private void removeTrivialPhis() {
+            boolean changed = true;
+            while (changed) {
+                Map<Value, Value> replacements = new HashMap<>();
+                for (BasicBlock block : function.blocks) {
+                    for (Phi phi : block.phis()) {
+                        Value same = null;
+                        boolean trivial = true;
+                        for (Value operand : phi.operands) {
+                            if (operand == phi || operand == same || operand.equals(same)) {
+                                continue;
+                            }
+                            if (same != null) {
+                                trivial = false;
+                                break;
+                            }
+                            same = operand;
+                        }
+                        if (trivial) {
+                            replacements.put(phi, same != null ? same : Constant.zero(phi.type));
+                            block.instructions.remove(phi);
+                        }
+                    }
+                }
+                function.replaceUses(replacements);
+                changed = !replacements.isEmpty();
+            }
+        }
+
+        // Starts a block for the code after a return statement, which nothing jumps to
+        private void startUnreachableBlock() {
+            current = function.newBlock();
+            sealBlock(current);
+        }
+
+        // Statements
+
+        private void buildStatements(List<ASTNode> statements) {
+            for (ASTNode statement : statements) {
+                buildStatement(statement);
+            }
+        }
+
+        // Builds the statements of a block, whose declarations are only visible inside it
+        private void buildBlock(ASTNode block) {
+            if (block == null) {
+                return;
+            }
+            scopes.push(new HashMap<>());
+            buildStatements(((BlockNode) block).statements);
+            scopes.pop();
+        }
+
+        private void buildStatement(ASTNode node) {
+            if (node instanceof VarDeclaration varDeclaration) {
+                IRType type = resolveType(varDeclaration.variableType);
+                Value value = varDeclaration.expression != null ? convert(buildExpression(varDeclaration.expression), type) : Constant.zero(type);
+                boolean global = function == program.main && scopes.size() == 1;
+                Variable variable = new Variable(varDeclaration.variableName, type, global);
+                scopes.peek().put(varDeclaration.variableName, variable);
+                if (global) {
+                    program.globals.put(variable.name, type);
+                }
+                assign(variable, value);
+            } else if (node instanceof AssignmentNode assignmentNode) {
+                Variable variable = lookupVariable(assignmentNode.variableName);
+                if (variable == null) {
+                    throw new RuntimeException("Variable not declared before assignment");
+                }
+                assign(variable, convert(buildExpression(assignmentNode.expression), variable.type));
+            } else if (node instanceof IfStatementNode ifStatementNode) {
+                buildIf(ifStatementNode);
+            } else if (node instanceof WhileLoop whileLoop) {
+                buildWhile(whileLoop);
+            } else if (node instanceof ForLoop forLoop) {
+                buildFor(forLoop);
+            } else if (node instanceof RoutineDeclarationNode routineNode) {
+                if (function != program.main) {
+                    throw new UnsupportedOperationException("Routines can only be declared at the top level");
+                }
+                // The routine sees the variables declared before it
+                new FunctionBuilder(routines.get(routineNode.routineName)).buildBody(routineNode.routineBody.statements);
+            } else if (node instanceof ReturnStatementNode returnNode) {
+                if (function == program.main) {
+                    throw new RuntimeException("Return outside of a routine");
+                }
+                Value value = convert(buildExpression(returnNode.returnValue), function.returnType);
+                current.terminate(new ReturnInstruction(value));
+                startUnreachableBlock();
+            } else if (node instanceof TypeDeclarationNode typeDeclaration) {
+                typeAliases.put(typeDeclaration.typeName, resolveType(typeDeclaration.typeDefinition));
+            } else {
+                throw new UnsupportedOperationException("The IR does not support " + node.getClass().getSimpleName());
+            }
+        }
+
+        private void assign(Variable variable, Value value) {
+            if (variable.global) {
+                current.add(new StoreGlobal(variable.name, variable.type, value));
+            } else {
+                writeVariable(variable, current, value);
+            }
+        }
+
+        private void buildIf(IfStatementNode ifStatementNode) {
+            Value condition = buildCondition(ifStatementNode.condition);
+            BasicBlock thenBlock = function.newBlock();
+            BasicBlock elseBlock = ifStatementNode.elseBlock != null ? function.newBlock() : null;
+            BasicBlock endBlock = function.newBlock();
+            current.terminate(new Branch(condition, thenBlock, elseBlock != null ? elseBlock : endBlock));
+            sealBlock(thenBlock);
+
+            current = thenBlock;
+            buildBlock(ifStatementNode.thenBlock);
+            current.terminate(new Jump(endBlock));
+
+            if (elseBlock != null) {
+                sealBlock(elseBlock);
+                current = elseBlock;
+                buildBlock(ifStatementNode.elseBlock);
+                current.terminate(new Jump(endBlock));
+            }
+            sealBlock(endBlock);
+            current = endBlock;
+        }
+
+        private void buildWhile(WhileLoop whileLoop) {
+            BasicBlock header = function.newBlock();
+            current.terminate(new Jump(header));
+            current = header;
+            Value condition = buildCondition(whileLoop.condition);
+            BasicBlock body = function.newBlock();
+            BasicBlock exit = function.newBlock();
+            current.terminate(new Branch(condition, body, exit));
+            sealBlock(body);
+            sealBlock(exit);
+
+            current = body;
+            buildBlock(whileLoop.loopBody);
+            current.terminate(new Jump(header));
+            sealBlock(header);
+            current = exit;
+        }
+
+        // The bounds are evaluated once, before the first iteration. A hidden counter runs through the range and
+        // is copied to the loop variable at the start of every iteration, so assigning the loop variable in the
+        // body does not change the number of iterations.
+        private void buildFor(ForLoop forLoop) {
+            String[] range = forLoop.range.split("\\.\\.");
+            Value first = convert(buildExpression(new LiteralNode(range[0])), IRType.INTEGER);
+            Value last = convert(buildExpression(new LiteralNode(range[1])), IRType.INTEGER);
+            Variable counter = new Variable(forLoop.loopVariable, IRType.INTEGER, false);
+            writeVariable(counter, current, forLoop.isReverse ? last : first);
+
+            BasicBlock header = function.newBlock();
+            current.terminate(new Jump(header));
+            current = header;
+            Value value = readVariable(counter, header);
+            Value condition = forLoop.isReverse
+                    ? current.add(new CompareInstruction(CompareInstruction.Condition.GE, value, first))
+                    : current.add(new CompareInstruction(CompareInstruction.Condition.LE, value, last));
+            BasicBlock body = function.newBlock();
+            BasicBlock exit = function.newBlock();
+            current.terminate(new Branch(condition, body, exit));
+            sealBlock(body);
+            sealBlock(exit);
+
+            current = body;
+            scopes.push(new HashMap<>());
+            Variable loopVariable = new Variable(forLoop.loopVariable, IRType.INTEGER, false);
+            scopes.peek().put(forLoop.loopVariable, loopVariable);
+            writeVariable(loopVariable, current, value);
+            buildBlock(forLoop.loopBody);
+            scopes.pop();
+            Value step = Constant.ofInt(IRType.INTEGER, 1);
+            Value next = current.add(new BinaryInstruction(forLoop.isReverse ? BinaryInstruction.Operator.SUB : BinaryInstruction.Operator.ADD,
+                    readVariable(counter, current), step));
+            writeVariable(counter, current, next);
+            current.terminate(new Jump(header));
+            sealBlock(header);
+            current = exit;
+        }
+
+        // Expressions
+
+        private Value buildCondition(ASTNode condition) {
+            Value value = buildExpression(condition);
+            if (value.type != IRType.BOOLEAN) {
+                throw new RuntimeException("Condition is not boolean");
+            }
+            return value;
+        }
+
+        private Value buildExpression(ASTNode node) {
+            if (node instanceof LiteralNode literal) {
+                String value = literal.value;
+                if (value.equals("true") || value.equals("false")) {
+                    return Constant.ofBoolean(value.equals("true"));
+                }
+                if (!value.isEmpty() && (Character.isDigit(value.charAt(0)) || value.charAt(0) == '-' || value.charAt(0) == '.')) {
+                    if (value.contains(".") || value.contains("E") || value.contains("e")) {
+                        return Constant.ofReal(Double.parseDouble(value));
+                    }
+                    return Constant.ofInt(IRType.INTEGER, Integer.parseInt(value));
+                }
+                Variable variable = lookupVariable(value);
+                if (variable == null) {
+                    throw new RuntimeException("Variable not declared before use");
+                }
+                if (variable.global) {
+                    return current.add(new LoadGlobal(variable.type, variable.name));
+                }
+                return readVariable(variable, current);
+            } else if (node instanceof BinaryOpNode binaryNode) {
+                if (binaryNode.operator == Token.TokenType.AND || binaryNode.operator == Token.TokenType.OR) {
+                    return buildShortCircuit(binaryNode);
+                }
+                Value left = buildExpression(binaryNode.left);
+                Value right = buildExpression(binaryNode.right);
+                return buildBinary(binaryNode.operator, left, right);
+            } else if (node instanceof UnaryOpNode unaryNode) {
+                Value operand = buildExpression(unaryNode.operand);
+                return switch (unaryNode.operator) {
+                    case PLUS -> operand;
+                    case MINUS -> current.add(new UnaryInstruction(UnaryInstruction.Operator.NEG, operand));
+                    case NOT -> current.add(new UnaryInstruction(UnaryInstruction.Operator.NOT, operand));
+                    default -> throw new UnsupportedOperationException("Operator " + unaryNode.operator + " is not supported");
+                };
+            } else if (node instanceof FunctionCallNode callNode) {
+                IRFunction routine = routines.get(callNode.functionName);
+                if (routine == null) {
+                    throw new RuntimeException("Function not declared before call");
+                }
+                if (callNode.arguments.size() != routine.parameters.size()) {
+                    throw new RuntimeException("The number of arguments in the function call does not match the required number");
+                }
+                List<Value> arguments = new ArrayList<>(callNode.arguments.size());
+                for (int i = 0; i < callNode.arguments.size(); i++) {
+                    arguments.add(convert(buildExpression(callNode.arguments.get(i)), routine.parameters.get(i).type));
+                }
+                return current.add(new CallInstruction(routine, arguments));
+            }
+            throw new UnsupportedOperationException("The IR does not support " + node.getClass().getSimpleName());
+        }
+
+        private Value buildBinary(Token.TokenType operator, Value left, Value right) {
+            if (left.type.isReal() || right.type.isReal()) {
+                left = convert(left, IRType.REAL);
+                right = convert(right, IRType.REAL);
+            }
+            return switch (operator) {
+                case PLUS -> current.add(new BinaryInstruction(BinaryInstruction.Operator.ADD, left, right));
+                case MINUS -> current.add(new BinaryInstruction(BinaryInstruction.Operator.SUB, left, right));
+                case MULTIPLY -> current.add(new BinaryInstruction(BinaryInstruction.Operator.MUL, left, right));
+                case DIVIDE -> current.add(new BinaryInstruction(BinaryInstruction.Operator.DIV, left, right));
+                case REMAINDER -> current.add(new BinaryInstruction(BinaryInstruction.Operator.REM, left, right));
+                case XOR -> current.add(new BinaryInstruction(BinaryInstruction.Operator.XOR, left, right));
+                case LESS_THAN -> current.add(new CompareInstruction(CompareInstruction.Condition.LT, left, right));
+                case LESS_THAN_OR_EQUAL -> current.add(new CompareInstruction(CompareInstruction.Condition.LE, left, right));
+                case GREATER_THAN -> current.add(new CompareInstruction(CompareInstruction.Condition.GT, left, right));
+                case GREATER_THAN_OR_EQUAL -> current.add(new CompareInstruction(CompareInstruction.Condition.GE, left, right));
+                case EQUALS -> current.add(new CompareInstruction(CompareInstruction.Condition.EQ, left, right));
+                case NOT_EQUALS -> current.add(new CompareInstruction(CompareInstruction.Condition.NE, left, right));
+                default -> throw new UnsupportedOperationException("Operator " + operator + " is not supported");
+            };
+        }
+
+        // The right operand of and and or is only evaluated when the left one does not decide the result
+        private Value buildShortCircuit(BinaryOpNode binaryNode) {
+            boolean and = binaryNode.operator == Token.TokenType.AND;
+            Value left = buildExpression(binaryNode.left);
+            BasicBlock shortCircuit = current;
+            BasicBlock rightBlock = function.newBlock();
+            BasicBlock end = function.newBlock();
+            shortCircuit.terminate(and ? new Branch(left, rightBlock, end) : new Branch(left, end, rightBlock));
+            sealBlock(rightBlock);
+
+            current = rightBlock;
+            Value right = buildExpression(binaryNode.right);
+            BasicBlock rightEnd = current;
+            rightEnd.terminate(new Jump(end));
+            sealBlock(end);
+
+            current = end;
+            // The predecessors of the end block are the block of the left operand, then the one of the right operand
+            Phi phi = end.addPhi(new Phi(IRType.BOOLEAN));
+            phi.operands.add(Constant.ofBoolean(!and));
+            phi.operands.add(right);
+            return phi;
+        }
+
+        // Converts a value to the type of the variable, parameter or result it is stored in
+        private Value convert(Value value, IRType type) {
+            if (type.isReal() && !value.type.isReal()) {
+                return current.add(new UnaryInstruction(UnaryInstruction.Operator.TO_REAL, value));
+            }
+            if (!type.isReal() && value.type.isReal()) {
+                return current.add(new UnaryInstruction(UnaryInstruction.Operator.TO_INTEGER, value));
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,399 @@
+import java.util.*;
+
+// Translates the IR of a program to the Jasmin code of a class: a static field for each variable of the main
+// program, the main method, and a static method for each routine.
+//
+// SSA values become JVM local variables, except that a value used once, by an instruction that comes right
+// after it, is left on the operand stack for that instruction instead, so a whole expression is evaluated on
+// the stack the way javac would do it. Phis are taken out of SSA form by copying their operands into their
+// locals at the end of each predecessor. All the operands are pushed before any of them is stored, which
+// makes the copies behave as if they happened at the same time, as phis do.
+//
+// Lowering changes the IR of the functions: edges from a block that branches to a block with phis are split,
+// so that the copies have a block of their own to go in.
+class IRLowering {
+    private final IRProgram program;
+    private final String className;
+
+    public IRLowering(IRProgram program, String className) {
+        this.program = program;
+        this.className = className;
+    }
+
+    // Returns the Jasmin code of the class
+    public String lower() {
+        StringBuilder code = new StringBuilder();
+        code.append(".class public ").append(className).append('\n');
+        code.append(".super java/lang/Object\n\n");
+        for (Map.Entry<String, IRType> global : program.globals.entrySet()) {
+            code.append(".field public static ").append(global.getKey()).append(' ').append(global.getValue().descriptor).append('\n');
+        }
+        for (IRFunction function : program.functions) {
+            code.append('\n');
+            new MethodLowering(function).lower(code);
+        }
+        return code.toString();
+    }
+
+    private String methodDescriptor(IRFunction function) {
+        return function == program.main ? "([Ljava/lang/String;)V" : function.descriptor();
+    }
+
+    // Lowers one function to a method
+    private final class MethodLowering {
+        private final IRFunction function;
+        private final List<String> code = new ArrayList<>();
+        private int stack;
+        private int maxStack;
+        private int labelCount;
+
+        // The local variable of each value that has one
+        private final Map<Value, Integer> locals = new HashMap<>();
+        private int localCount;
+        // The instructions that are evaluated on the stack by the instruction that uses them
+        private final Set<Instruction> stackified = new HashSet<>();
+        private Map<Instruction, Integer> useCounts;
+        private List<BasicBlock> layout;
+
+        MethodLowering(IRFunction function) {
+            this.function = function;
+        }
+
+        void lower(StringBuilder out) {
+            splitPhiEdges();
+            layout = function.reversePostorder();
+            rotateLoops();
+            useCounts = function.useCounts();
+            for (BasicBlock block : layout) {
+                stackify(block);
+            }
+            allocateLocals();
+
+            for (int i = 0; i < layout.size(); i++) {
+                BasicBlock block = layout.get(i);
+                BasicBlock next = i + 1 < layout.size() ? layout.get(i + 1) : null;
+                // Blocks are only entered with an empty stack
+                stack = 0;
+                label(block.label());
+                for (Instruction instruction : block.instructions) {
+                    if (!(instruction instanceof Phi) && !stackified.contains(instruction)) {
+                        lowerStatement(instruction, block, next);
+                    }
+                }
+            }
+
+            out.append(".method public static ").append(function.name).append(methodDescriptor(function)).append('\n');
+            out.append(".limit stack ").append(Math.max(maxStack, 1)).append('\n');
+            out.append(".limit locals ").append(Math.max(localCount, 1)).append('\n');
+            for (String line : code) {
+                out.append(line).append('\n');
+            }
+            out.append(".end method\n");
+        }
+
+        // Puts a block on every edge from a branch to a block with phis
+        private void splitPhiEdges() {
+            for (BasicBlock block : new ArrayList<>(function.blocks)) {
+                if (block.terminator() instanceof Branch branch) {
+                    if (branch.ifTrue == branch.ifFalse) {
+                        // Both ways lead to the same block, so the branch is a jump
+                        block.instructions.remove(branch);
+                        block.add(new Jump(branch.ifTrue));
+                        branch.ifTrue.removePredecessor(block);
+                        continue;
+                    }
+                    for (BasicBlock successor : branch.successors()) {
+                        if (!successor.phis().isEmpty()) {
+                            BasicBlock edge = function.newBlock();
+                            branch.replaceSuccessor(successor, edge);
+                            edge.predecessors.add(block);
+                            edge.add(new Jump(successor));
+                            successor.replacePredecessor(block, edge);
+                        }
+                    }
+                }
+            }
+        }
+
+        // Moves the header of each loop that is tested at the top after the block that jumps back to it, the way
+        // javac lays out its loops: the loop is entered with a jump to the test, and the test jumps back to the
+        // body while the loop goes on. An iteration then takes one jump instead of two, and the loop has the shape
+        // HotSpot expects of a counted loop.
+        private void rotateLoops() {
+            // The header that goes after each latch
+            Map<BasicBlock, BasicBlock> rotated = new HashMap<>();
+            for (Loop loop : new LoopAnalysis(function).loops()) {
+                if (loop.latches.size() == 1 && loop.latches.get(0).terminator() instanceof Jump
+                        && loop.header.terminator() instanceof Branch branch
+                        && loop.contains(branch.ifTrue) != loop.contains(branch.ifFalse) && loop.header != layout.get(0)) {
+                    rotated.put(loop.latches.get(0), loop.header);
+                }
+            }
+            Set<BasicBlock> headers = new HashSet<>(rotated.values());
+            List<BasicBlock> rotatedLayout = new ArrayList<>(layout.size());
+            for (BasicBlock block : layout) {
+                if (!headers.contains(block)) {
+                    rotatedLayout.add(block);
+                }
+                BasicBlock header = rotated.get(block);
+                if (header != null) {
+                    rotatedLayout.add(header);
+                }
+            }
+            layout = rotatedLayout;
+        }
+
+        // The values an instruction takes from the stack: its operands, or for a jump the operands of the
+        // target's phis that belong to the jump's block
+        private List<Value> stackOperands(Instruction instruction) {
+            if (instruction instanceof Jump jump) {
+                List<Value> values = new ArrayList<>();
+                for (Phi phi : jump.target.phis()) {
+                    Value value = phi.operand(jump.target.predecessors.indexOf(jump.block));
+                    if (value != phi) {
+                        values.add(value);
+                    }
+                }
+                return values;
+            }
+            return instruction.operands;
+        }
+
+        // Finds the instructions of a block that can stay on the stack. Going backwards from an instruction, its
+        // last operand can stay on the stack if it is computed by the instruction right before and used only
+        // once; then the operand before it can if it is computed right before the first operand's own operands,
+        // and so on. Operands that come from locals or constants are pushed where they are used and do not take
+        // a place in the order. Nothing is moved, so side effects happen in the same order.
+        private void stackify(BasicBlock block) {
+            List<Instruction> instructions = block.instructions;
+            int index = instructions.size() - 1;
+            while (index >= 0 && !(instructions.get(index) instanceof Phi)) {
+                index = stackifyOperands(instructions, index);
+            }
+        }
+
+        // Stackifies the operands of the instruction at index and returns the index of the instruction before
+        // the ones that were stackified
+        private int stackifyOperands(List<Instruction> instructions, int index) {
+            Instruction user = instructions.get(index);
+            int previous = index - 1;
+            List<Value> operands = stackOperands(user);
+            for (int i = operands.size() - 1; i >= 0 && previous >= 0; i--) {
+                if (operands.get(i) instanceof Instruction operand && instructions.get(previous) == operand
+                        && !(operand instanceof Phi) && useCounts.getOrDefault(operand, 0) == 1) {
+                    stackified.add(operand);
+                    previous = stackifyOperands(instructions, previous);
+                }
+            }
+            return previous;
+        }
+
+        // Gives a local to every parameter, phi and instruction whose value is used from somewhere else than
+        // the stack
+        private void allocateLocals() {
+            if (function == program.main) {
+                localCount = 1;
+            }
+            for (Parameter parameter : function.parameters) {
+                locals.put(parameter, localCount);
+                localCount += parameter.type.size();
+            }
+            for (BasicBlock block : layout) {
+                for (Instruction instruction : block.instructions) {
+                    if (instruction.type != IRType.VOID && !stackified.contains(instruction)
+                            && (instruction instanceof Phi || useCounts.containsKey(instruction))) {
+                        locals.put(instruction, localCount);
+                        localCount += instruction.type.size();
+                    }
+                }
+            }
+        }
+
+        // Emission
+
+        private void emit(String instruction, int stackChange) {
+            code.add(instruction);
+            stack += stackChange;
+            maxStack = Math.max(maxStack, stack);
+        }
+
+        private void label(String label) {
+            code.add(label + ":");
+        }
+
+        private String newLabel() {
+            return "L" + labelCount++;
+        }
+
+        // Lowers an instruction that is not on the stack of another one: its value, if it has one, is stored in
+        // its local or dropped
+        private void lowerStatement(Instruction instruction, BasicBlock block, BasicBlock next) {
+            if (instruction instanceof Jump jump) {
+                lowerPhiCopies(jump);
+                if (jump.target != next) {
+                    emit("goto " + jump.target.label(), 0);
+                }
+            } else if (instruction instanceof Branch branch) {
+                lowerBranch(branch, next);
+            } else if (instruction instanceof ReturnInstruction returnInstruction) {
+                if (returnInstruction.operands.isEmpty()) {
+                    emit("return", 0);
+                } else {
+                    Value value = returnInstruction.operand(0);
+                    push(value);
+                    emit(value.type.isReal() ? "dreturn" : "ireturn", -value.type.size());
+                }
+            } else {
+                lowerValue(instruction);
+                if (instruction.type != IRType.VOID) {
+                    Integer local = locals.get(instruction);
+                    if (local != null) {
+                        emit((instruction.type.isReal() ? "dstore " : "istore ") + local, -instruction.type.size());
+                    } else {
+                        emit(instruction.type.isReal() ? "pop2" : "pop", -instruction.type.size());
+                    }
+                }
+            }
+        }
+
+        // Pushes all the values the jump's target's phis take from it, then stores them into the phis' locals
+        private void lowerPhiCopies(Jump jump) {
+            List<Phi> copied = new ArrayList<>();
+            for (Phi phi : jump.target.phis()) {
+                Value value = phi.operand(jump.target.predecessors.indexOf(jump.block));
+                if (value != phi) {
+                    push(value);
+                    copied.add(phi);
+                }
+            }
+            for (int i = copied.size() - 1; i >= 0; i--) {
+                Phi phi = copied.get(i);
+                emit((phi.type.isReal() ? "dstore " : "istore ") + locals.get(phi), -phi.type.size());
+            }
+        }
+
+        private void lowerBranch(Branch branch, BasicBlock next) {
+            Value condition = branch.operand(0);
+            if (branch.ifFalse == next) {
+                lowerJump(condition, true, branch.ifTrue.label());
+            } else if (branch.ifTrue == next) {
+                lowerJump(condition, false, branch.ifFalse.label());
+            } else {
+                lowerJump(condition, true, branch.ifTrue.label());
+                emit("goto " + branch.ifFalse.label(), 0);
+            }
+        }
+
+        // Jumps to the label if the boolean value is the given one. A comparison that is on the stack is not
+        // computed as a boolean; its operands are compared by the jump itself.
+        private void lowerJump(Value condition, boolean jumpIf, String label) {
+            if (condition instanceof CompareInstruction compare && stackified.contains(compare)) {
+                lowerCompareJump(compare, jumpIf ? compare.condition : compare.condition.negate(), label);
+            } else {
+                push(condition);
+                emit((jumpIf ? "ifne " : "ifeq ") + label, -1);
+            }
+        }
+
+        // Compares the operands and jumps if the condition holds. Reals are compared like javac does, so that
+        // comparisons with NaN are false: dcmpg makes NaN greater for the less-than conditions and dcmpl makes it
+        // less for the others, whether the jump is for the condition or for its negation.
+        private void lowerCompareJump(CompareInstruction compare, CompareInstruction.Condition condition, String label) {
+            Value left = compare.operand(0);
+            Value right = compare.operand(1);
+            if (left.type.isReal()) {
+                push(left);
+                push(right);
+                boolean less = compare.condition == CompareInstruction.Condition.LT || compare.condition == CompareInstruction.Condition.LE;
+                emit(less ? "dcmpg" : "dcmpl", -3);
+                emit("if" + condition.mnemonic() + " " + label, -1);
+            } else if (right instanceof Constant constant && constant.intValue == 0) {
+                push(left);
+                emit("if" + condition.mnemonic() + " " + label, -1);
+            } else {
+                push(left);
+                push(right);
+                emit("if_icmp" + condition.mnemonic() + " " + label, -2);
+            }
+        }
+
+        // Pushes a value: a constant, the content of a local, or an instruction that is evaluated on the stack
+        private void push(Value value) {
+            if (value instanceof Constant constant) {
+                pushConstant(constant);
+            } else if (value instanceof Instruction instruction && stackified.contains(instruction)) {
+                lowerValue(instruction);
+            } else {
+                Integer local = locals.get(value);
+                emit((value.type.isReal() ? "dload " : "iload ") + local, value.type.size());
+            }
+        }
+
+        private void pushConstant(Constant constant) {
+            if (constant.type.isReal()) {
+                String text = Double.toString(constant.realValue);
+                if (Double.isInfinite(constant.realValue) || Double.isNaN(constant.realValue)) {
+                    throw new UnsupportedOperationException("Cannot compile the constant " + text);
+                }
+                // Without the d suffix, Jasmin would round the constant to a float
+                emit("ldc2_w " + text + "d", 2);
+            } else {
+                emit("ldc " + constant.intValue, 1);
+            }
+        }
+
+        // Computes the value of an instruction on the stack
+        private void lowerValue(Instruction instruction) {
+            if (instruction instanceof BinaryInstruction binary) {
+                push(binary.operand(0));
+                push(binary.operand(1));
+                boolean real = binary.type.isReal();
+                String prefix = real ? "d" : "i";
+                emit(prefix + switch (binary.operator) {
+                    case ADD -> "add";
+                    case SUB -> "sub";
+                    case MUL -> "mul";
+                    case DIV -> "div";
+                    case REM -> "rem";
+                    case XOR -> "xor";
+                }, real ? -2 : -1);
+            } else if (instruction instanceof CompareInstruction compare) {
+                String trueLabel = newLabel();
+                String end = newLabel();
+                lowerCompareJump(compare, compare.condition, trueLabel);
+                int stackAtJump = stack;
+                emit("iconst_0", 1);
+                emit("goto " + end, 0);
+                label(trueLabel);
+                stack = stackAtJump;
+                emit("iconst_1", 1);
+                label(end);
+            } else if (instruction instanceof UnaryInstruction unary) {
+                push(unary.operand(0));
+                switch (unary.operator) {
+                    case NEG -> emit(unary.type.isReal() ? "dneg" : "ineg", 0);
+                    case NOT -> {
+                        emit("iconst_1", 1);
+                        emit("ixor", -1);
+                    }
+                    case TO_REAL -> emit("i2d", 1);
+                    case TO_INTEGER -> emit("d2i", -1);
+                }
+            } else if (instruction instanceof LoadGlobal load) {
+                emit("getstatic " + className + "/" + load.field + " " + load.type.descriptor, load.type.size());
+            } else if (instruction instanceof StoreGlobal store) {
+                push(store.operand(0));
+                emit("putstatic " + className + "/" + store.field + " " + store.fieldType.descriptor, -store.operand(0).type.size());
+            } else if (instruction instanceof CallInstruction call) {
+                int arguments = 0;
+                for (Value argument : call.operands) {
+                    push(argument);
+                    arguments += argument.type.size();
+                }
+                emit("invokestatic " + className + "/" + call.callee.name + methodDescriptor(call.callee), call.type.size() - arguments);
+            } else {
+                throw new IllegalStateException("Cannot lower " + instruction);
+            }
+        }
+    }
+}
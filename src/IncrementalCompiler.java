@@ -0,0 +1,248 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+// A compiler that keeps the results for each top-level declaration in a cache file between runs,
+// and only lexes, parses, analyzes and generates code again for the declarations that changed.
+//
+// Each top-level declaration is fingerprinted by a hash of its tokens. Its cache key adds, for every
+// name the declaration mentions, the key of the last earlier declaration that mentioned the name and
+// the fingerprints of the variable declarations of that name: the semantic analyzer and the code
+// generator look no further than that outside the declaration itself. So a changed declaration also
+// invalidates the later declarations that use the names it mentions, and through them their own
+// dependents.
+//
+// The cache file starts with the version of the compiler that wrote it, so a rebuilt compiler never reuses
+// code an older one generated.
+class IncrementalCompiler {
+    // Changed whenever the layout of the cache file or the meaning of its entries changes
+    private static final String CACHE_VERSION = "1";
+
+    private final String cacheFileName;
+    private int reusedDeclarations;
+    private int compiledDeclarations;
+
+    public IncrementalCompiler(String cacheFileName) {
+        this.cacheFileName = cacheFileName;
+    }
+
+    // The layout version of the cache file and the version of the compiler and the assembler
+    private static String cacheHeader() {
+        return CACHE_VERSION + " " + CompilationCache.compilerVersion(Main.class, jasmin.ClassFile.class);
+    }
+
+    // What is kept for one top-level declaration between runs
+    private static class CachedDeclaration implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        // The nodes of the declaration, after semantic analysis
+        List<ASTNode> nodes;
+        // What the symbol table holds after the declaration for each of the names it mentions
+        Map<String, ASTNode> symbols;
+        // The generated code, and the labels it uses
+        String code;
+        int firstLabel;
+        int labelCount;
+    }
+
+    public int getReusedDeclarations() {
+        return reusedDeclarations;
+    }
+
+    public int getCompiledDeclarations() {
+        return compiledDeclarations;
+    }
+
+    // Compiles the source code into a Jasmin file, reusing what the cache holds for unchanged declarations
+    public void compile(String sourceCode, String outputFileName) {
+        List<Token> tokens = new Lexer(sourceCode).tokenize();
+        Parser parser = new Parser(tokens);
+        List<Integer> boundaries = parser.findDeclarationBoundaries();
+        if (boundaries == null) {
+            // The blocks are unbalanced, so compile the usual way and let the parser report the error
+            List<ASTNode> result = new SemanticAnalyzer(parser.parse()).startAnalyze();
+            new CodeGenerator(result).generateCode(outputFileName);
+            return;
+        }
+
+        int count = boundaries.size() - 1;
+        String[] keys = computeKeys(tokens, boundaries);
+
+        // Take the nodes of unchanged declarations from the cache and parse the others
+        String header = cacheHeader();
+        Map<String, CachedDeclaration> cache = loadCache(header);
+        CachedDeclaration[] entries = new CachedDeclaration[count];
+        boolean[] reused = new boolean[count];
+        List<ASTNode> program = new ArrayList<>();
+        int[] firstNode = new int[count + 1];
+        for (int i = 0; i < count; i++) {
+            firstNode[i] = program.size();
+            CachedDeclaration entry = cache.get(keys[i]);
+            if (entry != null) {
+                reused[i] = true;
+                reusedDeclarations++;
+            } else {
+                entry = new CachedDeclaration();
+                entry.nodes = Parser.parseRange(tokens, boundaries.get(i), boundaries.get(i + 1));
+                compiledDeclarations++;
+            }
+            entries[i] = entry;
+            program.addAll(entry.nodes);
+        }
+        firstNode[count] = program.size();
+
+        // Analyze the changed declarations, replaying the symbol table entries of the unchanged ones
+        SemanticAnalyzer analyzer = new SemanticAnalyzer(program);
+        for (int i = 0; i < count; i++) {
+            CachedDeclaration entry = entries[i];
+            if (reused[i]) {
+                for (Map.Entry<String, ASTNode> symbol : entry.symbols.entrySet()) {
+                    analyzer.defineSymbol(symbol.getKey(), symbol.getValue());
+                }
+            } else {
+                for (int j = firstNode[i]; j < firstNode[i + 1]; j++) {
+                    analyzer.analyzeNode(program, j);
+                }
+                entry.symbols = new HashMap<>();
+                for (String name : mentionedNames(tokens, boundaries.get(i), boundaries.get(i + 1))) {
+                    ASTNode symbol = analyzer.lookupSymbol(name);
+                    if (symbol != null) {
+                        entry.symbols.put(name, symbol);
+                    }
+                }
+            }
+        }
+
+        // Generate code for the changed declarations, and for unchanged ones whose labels have moved
+        CodeGenerator generator = new CodeGenerator(program);
+        List<String> codeFragments = new ArrayList<>(count);
+        Map<String, CachedDeclaration> updatedCache = new HashMap<>();
+        boolean cacheChanged = compiledDeclarations > 0;
+        int nextLabel = 0;
+        for (int i = 0; i < count; i++) {
+            CachedDeclaration entry = entries[i];
+            if (!reused[i] || entry.firstLabel != nextLabel) {
+                entry.code = generator.generateCodeForNodes(entry.nodes, nextLabel);
+                entry.firstLabel = nextLabel;
+                entry.labelCount = generator.nextLabelIndex() - nextLabel;
+                cacheChanged = true;
+            }
+            codeFragments.add(entry.code);
+            nextLabel += entry.labelCount;
+            updatedCache.put(keys[i], entry);
+        }
+        generator.generateCode(outputFileName, codeFragments);
+
+        // Only the declarations of this version of the program are kept
+        if (cacheChanged || updatedCache.size() != cache.size()) {
+            saveCache(header, updatedCache);
+        }
+    }
+
+    // Computes the cache key of every top-level declaration
+    private static String[] computeKeys(List<Token> tokens, List<Integer> boundaries) {
+        int count = boundaries.size() - 1;
+
+        MessageDigest digest = newDigest();
+        String[] fingerprints = new String[count];
+        Map<String, StringBuilder> variableFingerprints = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            int start = boundaries.get(i);
+            int end = boundaries.get(i + 1);
+            for (int j = start; j < end; j++) {
+                update(digest, tokens.get(j).type.name());
+                update(digest, tokens.get(j).value);
+            }
+            fingerprints[i] = toHex(digest.digest());
+
+            if (end - start > 1 && tokens.get(start).type == Token.TokenType.VAR) {
+                variableFingerprints.computeIfAbsent(tokens.get(start + 1).value, name -> new StringBuilder())
+                        .append(fingerprints[i]);
+            }
+        }
+
+        String[] keys = new String[count];
+        Map<String, String> lastKeys = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            Set<String> names = mentionedNames(tokens, boundaries.get(i), boundaries.get(i + 1));
+            update(digest, fingerprints[i]);
+            for (String name : names) {
+                StringBuilder variableFingerprint = variableFingerprints.get(name);
+                update(digest, name);
+                update(digest, lastKeys.getOrDefault(name, ""));
+                update(digest, variableFingerprint != null ? variableFingerprint.toString() : "");
+            }
+            keys[i] = toHex(digest.digest());
+            for (String name : names) {
+                lastKeys.put(name, keys[i]);
+            }
+        }
+        return keys;
+    }
+
+    // Returns the identifiers used between two token indices, in sorted order
+    private static Set<String> mentionedNames(List<Token> tokens, int start, int end) {
+        Set<String> names = new TreeSet<>();
+        for (int i = start; i < end; i++) {
+            if (tokens.get(i).type == Token.TokenType.IDENTIFIER) {
+                names.add(tokens.get(i).value);
+            }
+        }
+        return names;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Adds a string to a digest, followed by a separator so that consecutive strings cannot run together
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String toHex(byte[] bytes) {
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    // Reads the cache file, treating a missing, outdated or unreadable file, or one another compiler wrote, as an
+    // empty cache
+    @SuppressWarnings("unchecked")
+    private Map<String, CachedDeclaration> loadCache(String header) {
+        File file = new File(cacheFileName);
+        if (file.exists()) {
+            try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                if (in.readUTF().equals(header)) {
+                    return (Map<String, CachedDeclaration>) in.readObject();
+                }
+            } catch (IOException | ClassNotFoundException | ClassCastException e) {
+                System.err.println("Ignoring unreadable cache file " + cacheFileName + ": " + e);
+            }
+        }
+        return new HashMap<>();
+    }
+
+    // Writes the cache file, replacing the old one only once the new one is complete
+    private void saveCache(String header, Map<String, CachedDeclaration> cache) {
+        File file = new File(cacheFileName);
+        File temporaryFile = new File(cacheFileName + ".tmp");
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+            out.writeUTF(header);
+            out.writeObject(cache);
+        } catch (IOException e) {
+            System.err.println("Could not write cache file " + cacheFileName + ": " + e);
+            temporaryFile.delete();
+            return;
+        }
+        if (!temporaryFile.renameTo(file)) {
+            file.delete();
+            temporaryFile.renameTo(file);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+import java.util.*;
+
+// Replaces calls of small routines by a copy of the routine's body, so that the call and the return cost
+// nothing, and the code around the call and in the body can be optimized together: arguments that are
+// constants are folded into the body, and the JIT sees one larger method instead of many small ones.
+//
+// The block with the call is split in two at the call. The first half jumps to the copy of the routine's
+// entry block, with the parameters replaced by the arguments, and every return statement of the copy becomes
+// a jump to the second half, where a phi chooses the returned value if there are several return statements.
+//
+// A routine is inlined if it has at most a given number of instructions and cannot call itself, directly or
+// through other routines, since copying a recursive routine would never end. The pipeline optimizes routines
+// before the functions that call them, so the size is the one of the optimized body, with its own calls of
+// small routines inlined already. No function is made larger than a limit, which keeps methods well below the
+// JVM's 64 KB.
+class Inliner implements OptimizationPass {
+    // The default limit on the number of instructions of a routine that is inlined
+    static final int DEFAULT_ROUTINE_SIZE = 40;
+    private static final int MAX_FUNCTION_SIZE = 5000;
+
+    private final int routineSize;
+
+    public Inliner() {
+        this(DEFAULT_ROUTINE_SIZE);
+    }
+
+    public Inliner(int routineSize) {
+        this.routineSize = routineSize;
+    }
+
+    @Override
+    public boolean run(IRFunction function) {
+        int functionSize = size(function);
+        Map<IRFunction, Boolean> recursive = new HashMap<>();
+        List<CallInstruction> calls = new ArrayList<>();
+        for (BasicBlock block : function.blocks) {
+            for (Instruction instruction : block.instructions) {
+                if (instruction instanceof CallInstruction call) {
+                    calls.add(call);
+                }
+            }
+        }
+        boolean changed = false;
+        for (CallInstruction call : calls) {
+            IRFunction routine = call.callee;
+            if (routine == function) {
+                continue;
+            }
+            int size = size(routine);
+            if (size > routineSize || functionSize + size > MAX_FUNCTION_SIZE
+                    || recursive.computeIfAbsent(routine, Inliner::isRecursive)) {
+                continue;
+            }
+            inline(function, call);
+            functionSize += size;
+            changed = true;
+        }
+        return changed;
+    }
+
+    private static int size(IRFunction function) {
+        int size = 0;
+        for (BasicBlock block : function.blocks) {
+            size += block.instructions.size();
+        }
+        return size;
+    }
+
+    // True if the routine can call itself, directly or through other routines
+    private static boolean isRecursive(IRFunction routine) {
+        Set<IRFunction> visited = new HashSet<>();
+        Deque<IRFunction> worklist = new ArrayDeque<>(List.of(routine));
+        while (!worklist.isEmpty()) {
+            for (BasicBlock block : worklist.pop().blocks) {
+                for (Instruction instruction : block.instructions) {
+                    if (instruction instanceof CallInstruction call) {
+                        if (call.callee == routine) {
+                            return true;
+                        }
+                        if (visited.add(call.callee)) {
+                            worklist.push(call.callee);
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void inline(IRFunction function, CallInstruction call) {
+        IRFunction routine = call.callee;
+        BasicBlock block = call.block;
+
+        // The instructions after the call move to a block of their own, which the routine returns to
+        BasicBlock after = function.newBlock();
+        List<Instruction> moved = block.instructions.subList(block.instructions.indexOf(call) + 1, block.instructions.size());
+        for (Instruction instruction : moved) {
+            instruction.block = after;
+            after.instructions.add(instruction);
+        }
+        moved.clear();
+        block.instructions.remove(call);
+        for (BasicBlock successor : after.successors()) {
+            successor.replacePredecessor(block, after);
+        }
+
+        Map<Value, Value> values = new HashMap<>();
+        for (Parameter parameter : routine.parameters) {
+            values.put(parameter, call.operand(parameter.index));
+        }
+        Map<BasicBlock, BasicBlock> copies = function.copyBlocks(routine.blocks, values);
+        BasicBlock entry = copies.get(routine.entry());
+        block.terminate(new Jump(entry));
+
+        List<Value> results = new ArrayList<>();
+        for (BasicBlock original : routine.blocks) {
+            BasicBlock copy = copies.get(original);
+            if (copy.terminator() instanceof ReturnInstruction returnInstruction) {
+                copy.instructions.remove(returnInstruction);
+                copy.terminate(new Jump(after));
+                if (!returnInstruction.operands.isEmpty()) {
+                    results.add(returnInstruction.operand(0));
+                }
+            }
+        }
+        if (call.type != IRType.VOID) {
+            Value result;
+            if (results.isEmpty()) {
+                // The routine never returns, so nothing after the call runs
+                result = Constant.zero(call.type);
+            } else if (results.size() == 1) {
+                result = results.get(0);
+            } else {
+                // The predecessors of the block after the call are the blocks that returned, in the same order
+                Phi phi = after.addPhi(new Phi(call.type));
+                phi.operands.addAll(results);
+                result = phi;
+            }
+            function.replaceUses(Map.of(call, result));
+        }
+    }
+}
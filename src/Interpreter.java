@@ -0,0 +1,1336 @@
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+// Runs a program by walking its AST, without generating, assembling and loading a class.
+//
+// Before the program runs, the AST is turned into a tree of executable nodes in which every variable has
+// already been resolved to a slot: integers and booleans (as 0 and 1) live in an int array and reals in a
+// double array, one pair of arrays for the main program and one for each call of a routine. So running the
+// program never looks a name up in a map.
+//
+// In tiered mode, routines count their calls and loops count their iterations. Once one of them is hot, its
+// nodes are translated to Jasmin code on a background thread, assembled and loaded as a class, and later
+// calls, or the remaining iterations of the loop, run that class's bytecode instead. The bytecode works on the
+// same slot arrays as the interpreter, so it can take over in the middle of a loop.
+class Interpreter {
+    private enum Type { INTEGER, REAL, BOOLEAN }
+
+    // Number of calls after which a routine is compiled in tiered mode
+    private static final int ROUTINE_THRESHOLD = 1000;
+    // Number of iterations after which a loop is compiled in tiered mode
+    private static final int LOOP_THRESHOLD = 10000;
+
+    // The signature of the method of a compiled routine or loop: the arrays of the current frame and of the
+    // main program's frame, then the routines it may call; the result is 1 if a return statement was executed
+    private static final MethodType COMPILED_TYPE =
+            MethodType.methodType(int.class, int[].class, double[].class, int[].class, double[].class, Object[].class);
+    private static final AtomicInteger compiledClassCount = new AtomicInteger();
+
+    private final List<ASTNode> astNodes;
+    private final boolean tiered;
+
+    // The variables of the main program, and where they are
+    private Frame globals;
+    private final Map<String, Slot> globalSlots = new LinkedHashMap<>();
+
+    // Name resolution state, only used while the executable nodes are built
+    private final Deque<Map<String, Slot>> scopes = new ArrayDeque<>();
+    private final Map<String, Type> typeAliases = new HashMap<>();
+    private final Map<String, Routine> routines = new HashMap<>();
+    private FrameLayout layout;
+    private Routine currentRoutine;
+
+    // The routines in the order compiled code refers to them, and the thread that compiles hot code
+    private Object[] routineTable;
+    private ExecutorService compiler;
+    private final AtomicInteger compiledUnits = new AtomicInteger();
+    // Why the units that stayed interpreted could not be compiled
+    private final List<String> compilationFailures = Collections.synchronizedList(new ArrayList<>());
+
+    public Interpreter(List<ASTNode> astNodes) {
+        this(astNodes, false);
+    }
+
+    public Interpreter(List<ASTNode> astNodes, boolean tiered) {
+        this.astNodes = astNodes;
+        this.tiered = tiered;
+    }
+
+    // Runs the program
+    public void run() {
+        layout = new FrameLayout();
+        scopes.push(globalSlots);
+        // Routines can be called before they are declared, so their signatures are resolved first
+        List<Routine> routineList = new ArrayList<>();
+        for (ASTNode node : astNodes) {
+            if (node instanceof TypeDeclarationNode typeDeclaration) {
+                typeAliases.put(typeDeclaration.typeName, resolveType(typeDeclaration.typeDefinition));
+            } else if (node instanceof RoutineDeclarationNode routineNode) {
+                Routine routine = resolveSignature(routineNode, routineList.size());
+                routines.put(routineNode.routineName, routine);
+                routineList.add(routine);
+            }
+        }
+        Statement[] program = resolveStatements(astNodes);
+        scopes.pop();
+        routineTable = routineList.toArray();
+
+        globals = new Frame(new int[layout.intCount], new double[layout.realCount]);
+        if (tiered) {
+            compiler = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, "Tiered compiler");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        try {
+            for (Statement statement : program) {
+                statement.execute(globals);
+            }
+        } finally {
+            if (compiler != null) {
+                compiler.shutdownNow();
+            }
+        }
+    }
+
+    // Returns the values of the variables of the main program after run, in the order they were declared
+    public Map<String, Object> getVariables() {
+        Map<String, Object> variables = new LinkedHashMap<>();
+        for (Map.Entry<String, Slot> entry : globalSlots.entrySet()) {
+            Slot slot = entry.getValue();
+            variables.put(entry.getKey(), switch (slot.type) {
+                case INTEGER -> globals.ints[slot.index];
+                case REAL -> globals.reals[slot.index];
+                case BOOLEAN -> globals.ints[slot.index] != 0;
+            });
+        }
+        return variables;
+    }
+
+    // Returns how many routines and loops were compiled to bytecode during run
+    public int getCompiledUnits() {
+        return compiledUnits.get();
+    }
+
+    // Returns why each routine or loop that could not be compiled during run failed
+    public List<String> getCompilationFailures() {
+        synchronized (compilationFailures) {
+            return new ArrayList<>(compilationFailures);
+        }
+    }
+
+    // The variables of the main program or of one call of a routine
+    private static final class Frame {
+        final int[] ints;
+        final double[] reals;
+
+        Frame(int[] ints, double[] reals) {
+            this.ints = ints;
+            this.reals = reals;
+        }
+    }
+
+    // Counts the slots a frame needs while its code is resolved
+    private static final class FrameLayout {
+        int intCount;
+        int realCount;
+
+        Slot allocate(Type type, boolean global) {
+            return type == Type.REAL ? new Slot(type, global, realCount++) : new Slot(type, global, intCount++);
+        }
+    }
+
+    // Where a variable lives: in the main program's frame or the current one, and at which index
+    private record Slot(Type type, boolean global, int index) {
+    }
+
+    // Resolution of the AST into executable nodes
+
+    private Statement[] resolveStatements(List<ASTNode> nodes) {
+        List<Statement> statements = new ArrayList<>(nodes.size());
+        for (ASTNode node : nodes) {
+            Statement statement = resolveStatement(node);
+            if (statement != null) {
+                statements.add(statement);
+            }
+        }
+        return statements.toArray(new Statement[0]);
+    }
+
+    // Resolves the statements of a block, whose declarations are only visible inside it
+    private Statement[] resolveBlock(ASTNode block) {
+        if (block == null) {
+            return new Statement[0];
+        }
+        scopes.push(new HashMap<>());
+        Statement[] statements = resolveStatements(((BlockNode) block).statements);
+        scopes.pop();
+        return statements;
+    }
+
+    // Returns the executable node for a statement, or null if it does nothing at run time
+    private Statement resolveStatement(ASTNode node) {
+        if (node instanceof VarDeclaration varDeclaration) {
+            Type type = resolveType(varDeclaration.variableType);
+            Expression expression = varDeclaration.expression != null ? resolveExpression(varDeclaration.expression) : null;
+            Slot slot = layout.allocate(type, currentRoutine == null);
+            scopes.peek().put(varDeclaration.variableName, slot);
+            return store(slot, expression != null ? expression : new IntConstant(Type.INTEGER, 0));
+        } else if (node instanceof AssignmentNode assignmentNode) {
+            Slot slot = lookupVariable(assignmentNode.variableName);
+            if (slot == null) {
+                throw new RuntimeException("Variable not declared before assignment");
+            }
+            return store(slot, resolveExpression(assignmentNode.expression));
+        } else if (node instanceof IfStatementNode ifStatementNode) {
+            return new If(resolveCondition(ifStatementNode.condition),
+                    resolveBlock(ifStatementNode.thenBlock), resolveBlock(ifStatementNode.elseBlock));
+        } else if (node instanceof WhileLoop whileLoop) {
+            return new While(resolveCondition(whileLoop.condition), resolveBlock(whileLoop.loopBody));
+        } else if (node instanceof ForLoop forLoop) {
+            String[] range = forLoop.range.split("\\.\\.");
+            Expression from = resolveExpression(new LiteralNode(range[0]));
+            Expression to = resolveExpression(new LiteralNode(range[1]));
+            scopes.push(new HashMap<>());
+            Slot loopVariable = layout.allocate(Type.INTEGER, currentRoutine == null);
+            Slot last = layout.allocate(Type.INTEGER, currentRoutine == null);
+            scopes.peek().put(forLoop.loopVariable, loopVariable);
+            Statement[] body = resolveBlock(forLoop.loopBody);
+            scopes.pop();
+            return new For(loopVariable, last, from, to, forLoop.isReverse, body);
+        } else if (node instanceof RoutineDeclarationNode routineNode) {
+            resolveRoutine(routineNode);
+            return null;
+        } else if (node instanceof ReturnStatementNode returnNode) {
+            if (currentRoutine == null) {
+                throw new RuntimeException("Return outside of a routine");
+            }
+            return store(currentRoutine.result, resolveExpression(returnNode.returnValue)).returning();
+        } else if (node instanceof TypeDeclarationNode typeDeclaration) {
+            typeAliases.put(typeDeclaration.typeName, resolveType(typeDeclaration.typeDefinition));
+            return null;
+        }
+        throw new UnsupportedOperationException("The interpreter does not support " + node.getClass().getSimpleName());
+    }
+
+    private void resolveRoutine(RoutineDeclarationNode routineNode) {
+        if (currentRoutine != null) {
+            throw new UnsupportedOperationException("Routines can only be declared at the top level");
+        }
+        Routine routine = routines.get(routineNode.routineName);
+        FrameLayout globalLayout = layout;
+        layout = routine.layout;
+        currentRoutine = routine;
+        scopes.push(new HashMap<>());
+
+        for (int i = 0; i < routine.parameters.length; i++) {
+            scopes.peek().put(routineNode.parameters.get(i).paramName, routine.parameters[i]);
+        }
+        routine.body = resolveStatements(routineNode.routineBody.statements);
+
+        scopes.pop();
+        currentRoutine = null;
+        layout = globalLayout;
+    }
+
+    // Resolves the types of a routine's parameters and result, and gives them the first slots of its frame
+    private Routine resolveSignature(RoutineDeclarationNode routineNode, int index) {
+        Routine routine = new Routine(index);
+        routine.parameters = new Slot[routineNode.parameters.size()];
+        for (int i = 0; i < routine.parameters.length; i++) {
+            routine.parameters[i] = routine.layout.allocate(resolveType(routineNode.parameters.get(i).paramType), false);
+        }
+        // A routine without a result type still has a slot that its return statements can store into
+        routine.result = routine.layout.allocate(routineNode.returnType != null ? resolveType(routineNode.returnType) : Type.INTEGER, false);
+        return routine;
+    }
+
+    private Type resolveType(ASTNode typeNode) {
+        if (typeNode instanceof TypeNode type) {
+            switch (type.typeName) {
+                case "integer":
+                    return Type.INTEGER;
+                case "real":
+                    return Type.REAL;
+                case "boolean":
+                    return Type.BOOLEAN;
+                default:
+                    Type alias = typeAliases.get(type.typeName);
+                    if (alias != null) {
+                        return alias;
+                    }
+            }
+        }
+        throw new UnsupportedOperationException("The interpreter only supports integer, real and boolean variables");
+    }
+
+    private Slot lookupVariable(String name) {
+        for (Map<String, Slot> scope : scopes) {
+            Slot slot = scope.get(name);
+            if (slot != null) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    // Builds the statement that stores a value in a slot, converting it to the slot's type
+    private Store store(Slot slot, Expression expression) {
+        if (slot.type == Type.REAL) {
+            return new StoreReal(slot.global, slot.index, expression);
+        }
+        return new StoreInt(slot.global, slot.index, expression);
+    }
+
+    private Expression resolveCondition(ASTNode condition) {
+        Expression expression = resolveExpression(condition);
+        if (expression.type != Type.BOOLEAN) {
+            throw new RuntimeException("Condition is not boolean");
+        }
+        return expression;
+    }
+
+    private Expression resolveExpression(ASTNode node) {
+        if (node instanceof LiteralNode literal) {
+            String value = literal.value;
+            if (value.equals("true") || value.equals("false")) {
+                return new IntConstant(Type.BOOLEAN, value.equals("true") ? 1 : 0);
+            }
+            if (!value.isEmpty() && (Character.isDigit(value.charAt(0)) || value.charAt(0) == '-' || value.charAt(0) == '.')) {
+                if (value.contains(".") || value.contains("E") || value.contains("e")) {
+                    return new RealConstant(Double.parseDouble(value));
+                }
+                return new IntConstant(Type.INTEGER, Integer.parseInt(value));
+            }
+            Slot slot = lookupVariable(value);
+            if (slot == null) {
+                throw new RuntimeException("Variable not declared before use");
+            }
+            return slot.type == Type.REAL ? new RealVariable(slot.global, slot.index) : new IntVariable(slot.type, slot.global, slot.index);
+        } else if (node instanceof BinaryOpNode binaryNode) {
+            return resolveBinary(binaryNode.operator, resolveExpression(binaryNode.left), resolveExpression(binaryNode.right));
+        } else if (node instanceof UnaryOpNode unaryNode) {
+            Expression operand = resolveExpression(unaryNode.operand);
+            return switch (unaryNode.operator) {
+                case PLUS -> operand;
+                case MINUS -> operand.type == Type.REAL ? new RealNegate(operand) : new IntNegate(operand);
+                case NOT -> new Not(operand);
+                default -> throw new UnsupportedOperationException("Operator " + unaryNode.operator + " is not supported");
+            };
+        } else if (node instanceof FunctionCallNode callNode) {
+            Routine routine = routines.get(callNode.functionName);
+            if (routine == null) {
+                throw new RuntimeException("Function not declared before call");
+            }
+            if (callNode.arguments.size() != routine.parameters.length) {
+                throw new RuntimeException("The number of arguments in the function call does not match the required number");
+            }
+            Expression[] arguments = new Expression[callNode.arguments.size()];
+            for (int i = 0; i < arguments.length; i++) {
+                arguments[i] = resolveExpression(callNode.arguments.get(i));
+            }
+            return new Call(routine, arguments);
+        }
+        throw new UnsupportedOperationException("The interpreter does not support " + node.getClass().getSimpleName());
+    }
+
+    private Expression resolveBinary(Token.TokenType operator, Expression left, Expression right) {
+        boolean real = left.type == Type.REAL || right.type == Type.REAL;
+        return switch (operator) {
+            case PLUS, MINUS, MULTIPLY, DIVIDE, REMAINDER ->
+                    real ? new RealArithmetic(operator, left, right) : new IntArithmetic(operator, left, right);
+            case LESS_THAN, LESS_THAN_OR_EQUAL, GREATER_THAN, GREATER_THAN_OR_EQUAL, EQUALS, NOT_EQUALS ->
+                    real ? new RealComparison(operator, left, right) : new IntComparison(operator, left, right);
+            case AND, OR, XOR -> new Logical(operator, left, right);
+            default -> throw new UnsupportedOperationException("Operator " + operator + " is not supported");
+        };
+    }
+
+    // Tiered compilation
+
+    // A routine or a loop that can be compiled on its own once it is hot
+    private interface CompilationUnit {
+        // Generates the body of the compiled method
+        void compileUnit(MethodBuilder code);
+
+        // Makes later executions use the compiled method
+        void install(CompiledCode compiledCode);
+    }
+
+    // The compiled method of a routine or a loop
+    private final class CompiledCode {
+        private final MethodHandle method;
+
+        CompiledCode(MethodHandle method) {
+            this.method = method;
+        }
+
+        // Runs the method on a frame; returns true if a return statement was executed
+        boolean run(Frame frame) {
+            try {
+                return (int) method.invokeExact(frame.ints, frame.reals, globals.ints, globals.reals, routineTable) != 0;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    // Compiles a unit on the background thread; if that fails for any reason, the unit stays interpreted
+    private void requestCompilation(CompilationUnit unit) {
+        compiler.execute(() -> {
+            try {
+                MethodBuilder code = new MethodBuilder();
+                unit.compileUnit(code);
+                String className = "TieredCode" + compiledClassCount.incrementAndGet();
+                byte[] classBytes = JasminAssembler.assemble(code.build(className), className + ".j");
+                Class<?> compiledClass = ProgramRunner.define(className, classBytes);
+                unit.install(new CompiledCode(MethodHandles.publicLookup().findStatic(compiledClass, "run", COMPILED_TYPE)));
+                compiledUnits.incrementAndGet();
+            } catch (UnsupportedOperationException | LinkageError | ReflectiveOperationException e) {
+                // The unit uses something the compiler does not support, or the JVM rejected the generated class;
+                // it keeps being interpreted
+                compilationFailures.add(e.toString());
+            }
+        });
+    }
+
+    // Collects the Jasmin code of a compiled method, keeping track of the operand stack and the locals it needs.
+    // Locals 0 to 4 are the method's parameters, see COMPILED_TYPE.
+    private static final class MethodBuilder {
+        private static final int FRAME_INTS = 0;
+        private static final int FRAME_REALS = 1;
+        private static final int GLOBAL_INTS = 2;
+        private static final int GLOBAL_REALS = 3;
+        private static final int ROUTINES = 4;
+
+        private final StringBuilder code = new StringBuilder();
+        private int stack;
+        private int maxStack;
+        private int locals = ROUTINES + 1;
+        private int labelCount;
+        // The label that ends the method after a return statement
+        final String returnLabel = newLabel();
+
+        // Adds an instruction that changes the size of the operand stack by stackChange words
+        void emit(String instruction, int stackChange) {
+            code.append(instruction).append('\n');
+            stack += stackChange;
+            maxStack = Math.max(maxStack, stack);
+        }
+
+        String newLabel() {
+            return "L" + labelCount++;
+        }
+
+        void label(String label) {
+            code.append(label).append(":\n");
+        }
+
+        int newLocal() {
+            return locals++;
+        }
+
+        // Pushes the int or double array of a slot's frame
+        void loadArray(boolean global, boolean real) {
+            int local = global ? (real ? GLOBAL_REALS : GLOBAL_INTS) : (real ? FRAME_REALS : FRAME_INTS);
+            emit("aload " + local, 1);
+        }
+
+        void loadInt(int value) {
+            emit("ldc " + value, 1);
+        }
+
+        void loadReal(double value) {
+            String text = Double.toString(value);
+            if (Double.isInfinite(value) || Double.isNaN(value)) {
+                throw new UnsupportedOperationException("Cannot compile the constant " + text);
+            }
+            // Without the d suffix, Jasmin would round the constant to a float
+            emit("ldc2_w " + text + "d", 2);
+        }
+
+        // Turns the outcome of a conditional jump that was just emitted into 0 or 1 on the stack
+        void pushJumpOutcome(String jumpLabel, boolean valueIfJumped) {
+            String end = newLabel();
+            int stackAtJump = stack;
+            emit(valueIfJumped ? "iconst_0" : "iconst_1", 1);
+            emit("goto " + end, 0);
+            label(jumpLabel);
+            stack = stackAtJump;
+            emit(valueIfJumped ? "iconst_1" : "iconst_0", 1);
+            label(end);
+        }
+
+        String build(String className) {
+            return ".class public " + className + "\n"
+                    + ".super java/lang/Object\n\n"
+                    + ".method public static run([I[D[I[D[Ljava/lang/Object;)I\n"
+                    + ".limit stack " + Math.max(maxStack, 1) + "\n"
+                    + ".limit locals " + locals + "\n"
+                    + code
+                    + "iconst_0\n"
+                    + "ireturn\n"
+                    + returnLabel + ":\n"
+                    + "iconst_1\n"
+                    + "ireturn\n"
+                    + ".end method\n";
+        }
+    }
+
+    private final class Routine implements CompilationUnit, BiConsumer<int[], double[]> {
+        final int index;
+        final FrameLayout layout = new FrameLayout();
+        Slot[] parameters;
+        Slot result;
+        Statement[] body;
+        private int calls;
+        private volatile CompiledCode compiledCode;
+
+        Routine(int index) {
+            this.index = index;
+        }
+
+        void invoke(Frame frame) {
+            CompiledCode compiled = compiledCode;
+            if (compiled != null) {
+                compiled.run(frame);
+                return;
+            }
+            if (tiered && ++calls == ROUTINE_THRESHOLD) {
+                requestCompilation(this);
+            }
+            executeAll(body, frame);
+        }
+
+        // Called by compiled code
+        @Override
+        public void accept(int[] ints, double[] reals) {
+            invoke(new Frame(ints, reals));
+        }
+
+        @Override
+        public void compileUnit(MethodBuilder code) {
+            compileAll(body, code);
+        }
+
+        @Override
+        public void install(CompiledCode compiled) {
+            compiledCode = compiled;
+        }
+    }
+
+    // Executable nodes
+
+    private abstract static class Statement {
+        // Returns true if a return statement was executed
+        abstract boolean execute(Frame frame);
+
+        // Generates code that does the same as execute, jumping to the method's return label after a return statement
+        abstract void compile(MethodBuilder code);
+    }
+
+    // Runs statements until one of them returns from the routine
+    private static boolean executeAll(Statement[] statements, Frame frame) {
+        for (Statement statement : statements) {
+            if (statement.execute(frame)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void compileAll(Statement[] statements, MethodBuilder code) {
+        for (Statement statement : statements) {
+            statement.compile(code);
+        }
+    }
+
+    private abstract static class Expression {
+        final Type type;
+
+        Expression(Type type) {
+            this.type = type;
+        }
+
+        // Integers and booleans are evaluated as int
+        int evaluateInt(Frame frame) {
+            return (int) evaluateReal(frame);
+        }
+
+        double evaluateReal(Frame frame) {
+            return evaluateInt(frame);
+        }
+
+        // Generates code that leaves the value on the stack as an int or as a double, like the evaluate methods
+        void compileInt(MethodBuilder code) {
+            compileReal(code);
+            code.emit("d2i", -1);
+        }
+
+        void compileReal(MethodBuilder code) {
+            compileInt(code);
+            code.emit("i2d", 1);
+        }
+
+        // Generates code that jumps to the label if the boolean value is false
+        void compileJumpIfFalse(MethodBuilder code, String label) {
+            compileInt(code);
+            code.emit("ifeq " + label, -1);
+        }
+    }
+
+    // An assignment to a slot, which also ends the routine when it stores the routine's result
+    private abstract class Store extends Statement {
+        final boolean global;
+        final int index;
+        final Expression expression;
+        boolean returns;
+
+        Store(boolean global, int index, Expression expression) {
+            this.global = global;
+            this.index = index;
+            this.expression = expression;
+        }
+
+        Store returning() {
+            returns = true;
+            return this;
+        }
+
+        void compileReturn(MethodBuilder code) {
+            if (returns) {
+                code.emit("goto " + code.returnLabel, 0);
+            }
+        }
+    }
+
+    private final class StoreInt extends Store {
+        StoreInt(boolean global, int index, Expression expression) {
+            super(global, index, expression);
+        }
+
+        @Override
+        boolean execute(Frame frame) {
+            (global ? globals : frame).ints[index] = expression.evaluateInt(frame);
+            return returns;
+        }
+
+        @Override
+        void compile(MethodBuilder code) {
+            code.loadArray(global, false);
+            code.loadInt(index);
+            expression.compileInt(code);
+            code.emit("iastore", -3);
+            compileReturn(code);
+        }
+    }
+
+    private final class StoreReal extends Store {
+        StoreReal(boolean global, int index, Expression expression) {
+            super(global, index, expression);
+        }
+
+        @Override
+        boolean execute(Frame frame) {
+            (global ? globals : frame).reals[index] = expression.evaluateReal(frame);
+            return returns;
+        }
+
+        @Override
+        void compile(MethodBuilder code) {
+            code.loadArray(global, true);
+            code.loadInt(index);
+            expression.compileReal(code);
+            code.emit("dastore", -4);
+            compileReturn(code);
+        }
+    }
+
+    private static final class If extends Statement {
+        private final Expression condition;
+        private final Statement[] thenBlock;
+        private final Statement[] elseBlock;
+
+        If(Expression condition, Statement[] thenBlock, Statement[] elseBlock) {
+            this.condition = condition;
+            this.thenBlock = thenBlock;
+            this.elseBlock = elseBlock;
+        }
+
+        @Override
+        boolean execute(Frame frame) {
+            return executeAll(condition.evaluateInt(frame) != 0 ? thenBlock : elseBlock, frame);
+        }
+
+        @Override
+        void compile(MethodBuilder code) {
+            String elseLabel = code.newLabel();
+            String endLabel = code.newLabel();
+            condition.compileJumpIfFalse(code, elseLabel);
+            compileAll(thenBlock, code);
+            code.emit("goto " + endLabel, 0);
+            code.label(elseLabel);
+            compileAll(elseBlock, code);
+            code.label(endLabel);
+        }
+    }
+
+    private final class While extends Statement implements CompilationUnit {
+        private final Expression condition;
+        private final Statement[] body;
+        private int iterations;
+        private volatile CompiledCode compiledCode;
+
+        While(Expression condition, Statement[] body) {
+            this.condition = condition;
+            this.body = body;
+        }
+
+        @Override
+        boolean execute(Frame frame) {
+            CompiledCode compiled = compiledCode;
+            if (compiled != null) {
+                return compiled.run(frame);
+            }
+            while (condition.evaluateInt(frame) != 0) {
+                if (executeAll(body, frame)) {
+                    return true;
+                }
+                if (tiered) {
+                    compiled = compiledCode;
+                    if (compiled != null) {
+                        return compiled.run(frame);
+                    }
+                    if (++iterations == LOOP_THRESHOLD) {
+                        requestCompilation(this);
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        void compile(MethodBuilder code) {
+            String startLabel = code.newLabel();
+            String endLabel = code.newLabel();
+            code.label(startLabel);
+            condition.compileJumpIfFalse(code, endLabel);
+            compileAll(body, code);
+            code.emit("goto " + startLabel, 0);
+            code.label(endLabel);
+        }
+
+        // The loop's state is all in the frame, so the loop compiled on its own is the same as the statement
+        @Override
+        public void compileUnit(MethodBuilder code) {
+            compile(code);
+        }
+
+        @Override
+        public void install(CompiledCode compiled) {
+            compiledCode = compiled;
+        }
+    }
+
+    private final class For extends Statement implements CompilationUnit {
+        private final Slot loopVariable;
+        // Holds the last value of the loop variable, so that a compiled loop can take over in the middle
+        private final Slot last;
+        private final Expression from;
+        private final Expression to;
+        private final boolean reverse;
+        private final Statement[] body;
+        private int iterations;
+        private volatile CompiledCode compiledCode;
+
+        For(Slot loopVariable, Slot last, Expression from, Expression to, boolean reverse, Statement[] body) {
+            this.loopVariable = loopVariable;
+            this.last = last;
+            this.from = from;
+            this.to = to;
+            this.reverse = reverse;
+            this.body = body;
+        }
+
+        @Override
+        boolean execute(Frame frame) {
+            int[] ints = (loopVariable.global ? globals : frame).ints;
+            int index = loopVariable.index;
+            int first = from.evaluateInt(frame);
+            int lastValue = to.evaluateInt(frame);
+            int step = reverse ? -1 : 1;
+            CompiledCode compiled = compiledCode;
+            if (compiled != null) {
+                return resume(compiled, frame, ints, reverse ? lastValue : first, reverse ? first : lastValue);
+            }
+            for (int i = reverse ? lastValue : first; reverse ? i >= first : i <= lastValue; i += step) {
+                ints[index] = i;
+                if (executeAll(body, frame)) {
+                    return true;
+                }
+                if (tiered) {
+                    compiled = compiledCode;
+                    if (compiled != null) {
+                        return resume(compiled, frame, ints, i + step, reverse ? first : lastValue);
+                    }
+                    if (++iterations == LOOP_THRESHOLD) {
+                        requestCompilation(this);
+                    }
+                }
+            }
+            return false;
+        }
+
+        // Runs the rest of the loop in compiled code, starting from the given value of the loop variable
+        private boolean resume(CompiledCode compiled, Frame frame, int[] ints, int next, int end) {
+            ints[loopVariable.index] = next;
+            ints[last.index] = end;
+            return compiled.run(frame);
+        }
+
+        // The loop as a whole, with the bounds evaluated on entry
+        @Override
+        void compile(MethodBuilder code) {
+            int counter = code.newLocal();
+            int end = code.newLocal();
+            (reverse ? to : from).compileInt(code);
+            code.emit("istore " + counter, -1);
+            (reverse ? from : to).compileInt(code);
+            code.emit("istore " + end, -1);
+            compileLoop(code, counter, end);
+        }
+
+        private void compileLoop(MethodBuilder code, int counter, int end) {
+            String startLabel = code.newLabel();
+            String endLabel = code.newLabel();
+            code.label(startLabel);
+            code.emit("iload " + counter, 1);
+            code.emit("iload " + end, 1);
+            code.emit((reverse ? "if_icmplt " : "if_icmpgt ") + endLabel, -2);
+            code.loadArray(loopVariable.global, false);
+            code.loadInt(loopVariable.index);
+            code.emit("iload " + counter, 1);
+            code.emit("iastore", -3);
+            compileAll(body, code);
+            code.emit("iinc " + counter + " " + (reverse ? -1 : 1), 0);
+            code.emit("goto " + startLabel, 0);
+            code.label(endLabel);
+        }
+
+        // The loop compiled on its own continues from the values that resume put in the slots
+        @Override
+        public void compileUnit(MethodBuilder code) {
+            int counter = code.newLocal();
+            int end = code.newLocal();
+            code.loadArray(loopVariable.global, false);
+            code.loadInt(loopVariable.index);
+            code.emit("iaload", -1);
+            code.emit("istore " + counter, -1);
+            code.loadArray(last.global, false);
+            code.loadInt(last.index);
+            code.emit("iaload", -1);
+            code.emit("istore " + end, -1);
+            compileLoop(code, counter, end);
+        }
+
+        @Override
+        public void install(CompiledCode compiled) {
+            compiledCode = compiled;
+        }
+    }
+
+    private static final class IntConstant extends Expression {
+        private final int value;
+
+        IntConstant(Type type, int value) {
+            super(type);
+            this.value = value;
+        }
+
+        @Override
+        int evaluateInt(Frame frame) {
+            return value;
+        }
+
+        @Override
+        void compileInt(MethodBuilder code) {
+            code.loadInt(value);
+        }
+    }
+
+    private static final class RealConstant extends Expression {
+        private final double value;
+
+        RealConstant(double value) {
+            super(Type.REAL);
+            this.value = value;
+        }
+
+        @Override
+        double evaluateReal(Frame frame) {
+            return value;
+        }
+
+        @Override
+        void compileReal(MethodBuilder code) {
+            code.loadReal(value);
+        }
+    }
+
+    private final class IntVariable extends Expression {
+        private final boolean global;
+        private final int index;
+
+        IntVariable(Type type, boolean global, int index) {
+            super(type);
+            this.global = global;
+            this.index = index;
+        }
+
+        @Override
+        int evaluateInt(Frame frame) {
+            return (global ? globals : frame).ints[index];
+        }
+
+        @Override
+        void compileInt(MethodBuilder code) {
+            code.loadArray(global, false);
+            code.loadInt(index);
+            code.emit("iaload", -1);
+        }
+    }
+
+    private final class RealVariable extends Expression {
+        private final boolean global;
+        private final int index;
+
+        RealVariable(boolean global, int index) {
+            super(Type.REAL);
+            this.global = global;
+            this.index = index;
+        }
+
+        @Override
+        double evaluateReal(Frame frame) {
+            return (global ? globals : frame).reals[index];
+        }
+
+        @Override
+        void compileReal(MethodBuilder code) {
+            code.loadArray(global, true);
+            code.loadInt(index);
+            code.emit("daload", 0);
+        }
+    }
+
+    private static final class IntArithmetic extends Expression {
+        private final Token.TokenType operator;
+        private final Expression left;
+        private final Expression right;
+
+        IntArithmetic(Token.TokenType operator, Expression left, Expression right) {
+            super(Type.INTEGER);
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        int evaluateInt(Frame frame) {
+            int l = left.evaluateInt(frame);
+            int r = right.evaluateInt(frame);
+            return switch (operator) {
+                case PLUS -> l + r;
+                case MINUS -> l - r;
+                case MULTIPLY -> l * r;
+                case DIVIDE -> l / r;
+                default -> l % r;
+            };
+        }
+
+        @Override
+        void compileInt(MethodBuilder code) {
+            left.compileInt(code);
+            right.compileInt(code);
+            code.emit(switch (operator) {
+                case PLUS -> "iadd";
+                case MINUS -> "isub";
+                case MULTIPLY -> "imul";
+                case DIVIDE -> "idiv";
+                default -> "irem";
+            }, -1);
+        }
+    }
+
+    private static final class RealArithmetic extends Expression {
+        private final Token.TokenType operator;
+        private final Expression left;
+        private final Expression right;
+
+        RealArithmetic(Token.TokenType operator, Expression left, Expression right) {
+            super(Type.REAL);
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double evaluateReal(Frame frame) {
+            double l = left.evaluateReal(frame);
+            double r = right.evaluateReal(frame);
+            return switch (operator) {
+                case PLUS -> l + r;
+                case MINUS -> l - r;
+                case MULTIPLY -> l * r;
+                case DIVIDE -> l / r;
+                default -> l % r;
+            };
+        }
+
+        @Override
+        void compileReal(MethodBuilder code) {
+            left.compileReal(code);
+            right.compileReal(code);
+            code.emit(switch (operator) {
+                case PLUS -> "dadd";
+                case MINUS -> "dsub";
+                case MULTIPLY -> "dmul";
+                case DIVIDE -> "ddiv";
+                default -> "drem";
+            }, -2);
+        }
+    }
+
+    private static final class IntComparison extends Expression {
+        private final Token.TokenType operator;
+        private final Expression left;
+        private final Expression right;
+
+        IntComparison(Token.TokenType operator, Expression left, Expression right) {
+            super(Type.BOOLEAN);
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        int evaluateInt(Frame frame) {
+            int l = left.evaluateInt(frame);
+            int r = right.evaluateInt(frame);
+            boolean result = switch (operator) {
+                case LESS_THAN -> l < r;
+                case LESS_THAN_OR_EQUAL -> l <= r;
+                case GREATER_THAN -> l > r;
+                case GREATER_THAN_OR_EQUAL -> l >= r;
+                case EQUALS -> l == r;
+                default -> l != r;
+            };
+            return result ? 1 : 0;
+        }
+
+        @Override
+        void compileInt(MethodBuilder code) {
+            String label = code.newLabel();
+            compileJump(code, label, false);
+            code.pushJumpOutcome(label, true);
+        }
+
+        @Override
+        void compileJumpIfFalse(MethodBuilder code, String label) {
+            compileJump(code, label, true);
+        }
+
+        // Compares the operands and jumps if the comparison is true, or if it is false when inverted is set
+        private void compileJump(MethodBuilder code, String label, boolean inverted) {
+            left.compileInt(code);
+            right.compileInt(code);
+            String condition = switch (operator) {
+                case LESS_THAN -> inverted ? "ge" : "lt";
+                case LESS_THAN_OR_EQUAL -> inverted ? "gt" : "le";
+                case GREATER_THAN -> inverted ? "le" : "gt";
+                case GREATER_THAN_OR_EQUAL -> inverted ? "lt" : "ge";
+                case EQUALS -> inverted ? "ne" : "eq";
+                default -> inverted ? "eq" : "ne";
+            };
+            code.emit("if_icmp" + condition + " " + label, -2);
+        }
+    }
+
+    private static final class RealComparison extends Expression {
+        private final Token.TokenType operator;
+        private final Expression left;
+        private final Expression right;
+
+        RealComparison(Token.TokenType operator, Expression left, Expression right) {
+            super(Type.BOOLEAN);
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        int evaluateInt(Frame frame) {
+            double l = left.evaluateReal(frame);
+            double r = right.evaluateReal(frame);
+            boolean result = switch (operator) {
+                case LESS_THAN -> l < r;
+                case LESS_THAN_OR_EQUAL -> l <= r;
+                case GREATER_THAN -> l > r;
+                case GREATER_THAN_OR_EQUAL -> l >= r;
+                case EQUALS -> l == r;
+                default -> l != r;
+            };
+            return result ? 1 : 0;
+        }
+
+        @Override
+        void compileInt(MethodBuilder code) {
+            String label = code.newLabel();
+            compileJump(code, label, false);
+            code.pushJumpOutcome(label, true);
+        }
+
+        @Override
+        void compileJumpIfFalse(MethodBuilder code, String label) {
+            compileJump(code, label, true);
+        }
+
+        // Compares the operands like javac does, so that comparisons with NaN come out the same as in evaluateInt
+        private void compileJump(MethodBuilder code, String label, boolean inverted) {
+            left.compileReal(code);
+            right.compileReal(code);
+            boolean less = operator == Token.TokenType.LESS_THAN || operator == Token.TokenType.LESS_THAN_OR_EQUAL;
+            code.emit(less ? "dcmpg" : "dcmpl", -3);
+            String condition = switch (operator) {
+                case LESS_THAN -> inverted ? "ge" : "lt";
+                case LESS_THAN_OR_EQUAL -> inverted ? "gt" : "le";
+                case GREATER_THAN -> inverted ? "le" : "gt";
+                case GREATER_THAN_OR_EQUAL -> inverted ? "lt" : "ge";
+                case EQUALS -> inverted ? "ne" : "eq";
+                default -> inverted ? "eq" : "ne";
+            };
+            code.emit("if" + condition + " " + label, -1);
+        }
+    }
+
+    private static final class Logical extends Expression {
+        private final Token.TokenType operator;
+        private final Expression left;
+        private final Expression right;
+
+        Logical(Token.TokenType operator, Expression left, Expression right) {
+            super(Type.BOOLEAN);
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        int evaluateInt(Frame frame) {
+            int l = left.evaluateInt(frame);
+            return switch (operator) {
+                case AND -> l != 0 ? right.evaluateInt(frame) : 0;
+                case OR -> l != 0 ? 1 : right.evaluateInt(frame);
+                default -> l ^ right.evaluateInt(frame);
+            };
+        }
+
+        @Override
+        void compileInt(MethodBuilder code) {
+            if (operator == Token.TokenType.XOR) {
+                left.compileInt(code);
+                right.compileInt(code);
+                code.emit("ixor", -1);
+                return;
+            }
+            // The right operand is only evaluated when the left one does not decide the result
+            String shortCircuit = code.newLabel();
+            String end = code.newLabel();
+            left.compileInt(code);
+            code.emit((operator == Token.TokenType.AND ? "ifeq " : "ifne ") + shortCircuit, -1);
+            int stackBefore = code.stack;
+            right.compileInt(code);
+            code.emit("goto " + end, 0);
+            code.label(shortCircuit);
+            code.stack = stackBefore;
+            code.emit(operator == Token.TokenType.AND ? "iconst_0" : "iconst_1", 1);
+            code.label(end);
+        }
+
+        @Override
+        void compileJumpIfFalse(MethodBuilder code, String label) {
+            if (operator == Token.TokenType.AND) {
+                left.compileJumpIfFalse(code, label);
+                right.compileJumpIfFalse(code, label);
+            } else {
+                super.compileJumpIfFalse(code, label);
+            }
+        }
+    }
+
+    private static final class IntNegate extends Expression {
+        private final Expression operand;
+
+        IntNegate(Expression operand) {
+            super(Type.INTEGER);
+            this.operand = operand;
+        }
+
+        @Override
+        int evaluateInt(Frame frame) {
+            return -operand.evaluateInt(frame);
+        }
+
+        @Override
+        void compileInt(MethodBuilder code) {
+            operand.compileInt(code);
+            code.emit("ineg", 0);
+        }
+    }
+
+    private static final class RealNegate extends Expression {
+        private final Expression operand;
+
+        RealNegate(Expression operand) {
+            super(Type.REAL);
+            this.operand = operand;
+        }
+
+        @Override
+        double evaluateReal(Frame frame) {
+            return -operand.evaluateReal(frame);
+        }
+
+        @Override
+        void compileReal(MethodBuilder code) {
+            operand.compileReal(code);
+            code.emit("dneg", 0);
+        }
+    }
+
+    private static final class Not extends Expression {
+        private final Expression operand;
+
+        Not(Expression operand) {
+            super(Type.BOOLEAN);
+            this.operand = operand;
+        }
+
+        @Override
+        int evaluateInt(Frame frame) {
+            return operand.evaluateInt(frame) != 0 ? 0 : 1;
+        }
+
+        @Override
+        void compileInt(MethodBuilder code) {
+            operand.compileInt(code);
+            code.emit("iconst_1", 1);
+            code.emit("ixor", -1);
+        }
+    }
+
+    private static final class Call extends Expression {
+        private final Routine routine;
+        private final Expression[] arguments;
+
+        Call(Routine routine, Expression[] arguments) {
+            super(routine.result.type);
+            this.routine = routine;
+            this.arguments = arguments;
+        }
+
+        private Frame call(Frame frame) {
+            Frame callee = new Frame(new int[routine.layout.intCount], new double[routine.layout.realCount]);
+            for (int i = 0; i < arguments.length; i++) {
+                Slot parameter = routine.parameters[i];
+                if (parameter.type == Type.REAL) {
+                    callee.reals[parameter.index] = arguments[i].evaluateReal(frame);
+                } else {
+                    callee.ints[parameter.index] = arguments[i].evaluateInt(frame);
+                }
+            }
+            routine.invoke(callee);
+            return callee;
+        }
+
+        @Override
+        int evaluateInt(Frame frame) {
+            Frame callee = call(frame);
+            return type == Type.REAL ? (int) callee.reals[routine.result.index] : callee.ints[routine.result.index];
+        }
+
+        @Override
+        double evaluateReal(Frame frame) {
+            Frame callee = call(frame);
+            return type == Type.REAL ? callee.reals[routine.result.index] : callee.ints[routine.result.index];
+        }
+
+        // Creates the callee's frame, calls the routine through the routine table and leaves the frame's arrays
+        // in the returned locals
+        private int[] compileCall(MethodBuilder code) {
+            int ints = code.newLocal();
+            int reals = code.newLocal();
+            code.loadInt(routine.layout.intCount);
+            code.emit("newarray int", 0);
+            code.emit("astore " + ints, -1);
+            code.loadInt(routine.layout.realCount);
+            code.emit("newarray double", 0);
+            code.emit("astore " + reals, -1);
+            for (int i = 0; i < arguments.length; i++) {
+                Slot parameter = routine.parameters[i];
+                if (parameter.type == Type.REAL) {
+                    code.emit("aload " + reals, 1);
+                    code.loadInt(parameter.index);
+                    arguments[i].compileReal(code);
+                    code.emit("dastore", -4);
+                } else {
+                    code.emit("aload " + ints, 1);
+                    code.loadInt(parameter.index);
+                    arguments[i].compileInt(code);
+                    code.emit("iastore", -3);
+                }
+            }
+            code.emit("aload " + MethodBuilder.ROUTINES, 1);
+            code.loadInt(routine.index);
+            code.emit("aaload", -1);
+            code.emit("checkcast java/util/function/BiConsumer", 0);
+            code.emit("aload " + ints, 1);
+            code.emit("aload " + reals, 1);
+            code.emit("invokeinterface java/util/function/BiConsumer/accept(Ljava/lang/Object;Ljava/lang/Object;)V 3", -3);
+            return new int[]{ints, reals};
+        }
+
+        @Override
+        void compileInt(MethodBuilder code) {
+            if (type == Type.REAL) {
+                super.compileInt(code);
+                return;
+            }
+            int[] frame = compileCall(code);
+            code.emit("aload " + frame[0], 1);
+            code.loadInt(routine.result.index);
+            code.emit("iaload", -1);
+        }
+
+        @Override
+        void compileReal(MethodBuilder code) {
+            if (type != Type.REAL) {
+                super.compileReal(code);
+                return;
+            }
+            int[] frame = compileCall(code);
+            code.emit("aload " + frame[1], 1);
+            code.loadInt(routine.result.index);
+            code.emit("daload", 0);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+import jas.StackMap;
+import jas.jasError;
+import jasmin.ClassFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+
+// Runs the Jasmin assembler from jasmin-2.4/jasmin.jar inside the compiler's JVM
+class JasminAssembler {
+
+    // Assembles Jasmin code into the bytes of a class file
+    // Jasmin keeps some of its state in static fields, so only one class is assembled at a time
+    static synchronized byte[] assemble(String jasminCode, String sourceName) {
+        StackMap.reinit();
+        ClassFile classFile = new ClassFile();
+        try {
+            classFile.readJasmin(new StringReader(jasminCode), sourceName, false);
+            if (classFile.errorCount() == 0) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                classFile.write(out);
+                return out.toByteArray();
+            }
+        } catch (jasError e) {
+            throw new RuntimeException("JAS Error: " + e.getMessage());
+        } catch (Exception e) {
+            throw new RuntimeException(sourceName + ": exception - <" + e.getClass().getName() + "> " + e.getMessage() + ".");
+        }
+        throw new RuntimeException(sourceName + ": Found " + classFile.errorCount() + " errors");
+    }
+}
@@ -1,4 +1,8 @@
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 // A class required to describe tokens used in the language
 class Token {
@@ -22,18 +26,42 @@ class Token {
 }
 
 class Lexer {
+    // Sources with fewer characters than this are tokenized on the calling thread
+    private static final int PARALLEL_THRESHOLD = 1 << 20;
+    // Smallest piece of the source worth handing to a separate task
+    private static final int MIN_CHUNK_SIZE = 1 << 16;
+
     private final String input;
+    private final int startPosition;
+    private final int endPosition;
     private int position;
     private final List<Token> tokens;
+    // Error messages of a chunk lexed in parallel, printed once the chunks are put back in order
+    private final StringBuilder errors;
 
     public Lexer(String input) {
+        this(input, 0, input.length(), null);
+    }
+
+    // Constructor for a Lexer that tokenizes the part of the input from startPosition up to endPosition
+    private Lexer(String input, int startPosition, int endPosition, StringBuilder errors) {
         this.input = input;
-        this.position = 0;
+        this.startPosition = startPosition;
+        this.endPosition = endPosition;
+        this.position = startPosition;
         this.tokens = new ArrayList<>();
+        this.errors = errors;
     }
 
     public List<Token> tokenize() {
-        while (position < input.length()) {
+        if (endPosition - position >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return tokenizeInParallel();
+        }
+        return tokenizeRange();
+    }
+
+    private List<Token> tokenizeRange() {
+        while (position < endPosition) {
             char currentChar = input.charAt(position);
 
             if (Character.isWhitespace(currentChar)) {
@@ -51,6 +79,78 @@ class Lexer {
         return tokens;
     }
 
+    // Splits the input at line breaks, tokenizes the chunks concurrently and concatenates their tokens
+    // Tokens do not span lines, so every chunk starts at the beginning of a token; if one does run past
+    // the end of its chunk, the next chunk is tokenized again from where that token ended
+    private List<Token> tokenizeInParallel() {
+        int chunkCount = Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, (endPosition - position) / MIN_CHUNK_SIZE);
+        List<Lexer> chunks = new ArrayList<>();
+        int chunkStart = position;
+        for (int i = 1; i <= chunkCount && chunkStart < endPosition; i++) {
+            int chunkEnd = endPosition;
+            if (i < chunkCount) {
+                int lineBreak = input.indexOf('\n', position + (int) ((long) (endPosition - position) * i / chunkCount));
+                if (lineBreak >= 0 && lineBreak + 1 < endPosition) {
+                    chunkEnd = lineBreak + 1;
+                }
+            }
+            if (chunkEnd > chunkStart) {
+                chunks.add(new Lexer(input, chunkStart, chunkEnd, new StringBuilder()));
+                chunkStart = chunkEnd;
+            }
+        }
+
+        List<Callable<List<Token>>> tasks = new ArrayList<>();
+        for (Lexer chunk : chunks) {
+            tasks.add(chunk::tokenizeRange);
+        }
+        List<Future<List<Token>>> results = ForkJoinPool.commonPool().invokeAll(tasks);
+
+        int tokenCount = 0;
+        for (Lexer chunk : chunks) {
+            tokenCount += chunk.tokens.size();
+        }
+        List<Token> result = new ArrayList<>(tokenCount);
+        for (int i = 0; i < chunks.size(); i++) {
+            Lexer chunk = chunks.get(i);
+            if (chunk.startPosition == position) {
+                awaitChunk(results.get(i));
+            } else {
+                chunk = new Lexer(input, position, chunk.endPosition, new StringBuilder());
+                chunk.tokenizeRange();
+            }
+            result.addAll(chunk.tokens);
+            System.err.print(chunk.errors);
+            position = chunk.position;
+        }
+        tokens.addAll(result);
+        return tokens;
+    }
+
+    // Waits for a chunk to be tokenized, rethrowing whatever the sequential lexer would have thrown there
+    private static void awaitChunk(Future<List<Token>> result) {
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw (Error) e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    // Reports a lexical error
+    private void reportError(String message) {
+        if (errors != null) {
+            errors.append(message).append('\n');
+        } else {
+            System.err.println(message);
+        }
+    }
+
     private void tokenizeNumber() {
         int start = position;
         while (position < input.length() && (Character.isDigit(input.charAt(position)) || input.charAt(position) == '.')) {
@@ -133,7 +233,7 @@ class Lexer {
                     position++; // Consume the second '='
                 } else {
                     // Treat '=' as an error
-                    System.err.println("Error: Unrecognized character '=' at position " + position);
+                    reportError("Error: Unrecognized character '=' at position " + position);
                 }
             }
             case '!' -> {
@@ -143,7 +243,7 @@ class Lexer {
                     position++; // Consume the second '='
                 } else {
                     // Treat '!' as an error
-                    System.err.println("Error: Unrecognized character '!' at position " + position);
+                    reportError("Error: Unrecognized character '!' at position " + position);
                 }
             }
             case '<' -> {
@@ -189,12 +289,12 @@ class Lexer {
                     position++; // Consume the second '.'
                 } else {
                     // Treat a single '.' as an error
-                    System.err.println("Error: Unrecognized character '.' at position " + position);
+                    reportError("Error: Unrecognized character '.' at position " + position);
                 }
             }      // Handle unrecognized characters as an error
             default -> {
                 // Handle unrecognized characters as an error
-                System.err.println("Error: Unrecognized character '" + currentChar + "' at position " + position);
+                reportError("Error: Unrecognized character '" + currentChar + "' at position " + position);
                 position++;
             }
         }
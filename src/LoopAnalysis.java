@@ -0,0 +1,232 @@
+import java.util.*;
+
+// A natural loop of a function: a header that dominates every block of the loop, and the blocks that can
+// reach one of the jumps back to the header without going through it
+final class Loop {
+    final BasicBlock header;
+    final Set<BasicBlock> blocks = new HashSet<>();
+    // The blocks that jump back to the header
+    final List<BasicBlock> latches = new ArrayList<>();
+    // The innermost loop that contains this one, or null
+    Loop parent;
+
+    Loop(BasicBlock header) {
+        this.header = header;
+    }
+
+    boolean contains(BasicBlock block) {
+        return blocks.contains(block);
+    }
+
+    // True if the value is computed outside the loop, so it is the same in every iteration
+    boolean isDefinedOutside(Value value) {
+        return !(value instanceof Instruction instruction) || !blocks.contains(instruction.block);
+    }
+
+    // The blocks outside the loop that the loop can leave to
+    List<BasicBlock> exits() {
+        List<BasicBlock> exits = new ArrayList<>();
+        for (BasicBlock block : blocks) {
+            for (BasicBlock successor : block.successors()) {
+                if (!blocks.contains(successor) && !exits.contains(successor)) {
+                    exits.add(successor);
+                }
+            }
+        }
+        return exits;
+    }
+}
+
+// Finds the dominators and the loops of a function.
+//
+// The dominators are computed with the algorithm of Cooper, Harvey and Kennedy, "A Simple, Fast Dominance
+// Algorithm": each block's immediate dominator is refined from those of its predecessors, in reverse
+// postorder, until nothing changes. An edge to a block that dominates its source is a back edge, and the
+// back edges to the same header make one loop. The language only has structured control flow, so every
+// cycle of a function is a natural loop.
+//
+// The analysis describes the function as it was when it was created; passes that change the control flow
+// create a new one, apart from the preheaders added by ensurePreheader, which it keeps track of.
+class LoopAnalysis {
+    private final IRFunction function;
+    private final List<BasicBlock> order;
+    private final Map<BasicBlock, Integer> orderIndex = new HashMap<>();
+    private final Map<BasicBlock, BasicBlock> immediateDominators = new HashMap<>();
+    private final List<Loop> loops = new ArrayList<>();
+
+    public LoopAnalysis(IRFunction function) {
+        this.function = function;
+        this.order = function.reversePostorder();
+        for (int i = 0; i < order.size(); i++) {
+            orderIndex.put(order.get(i), i);
+        }
+        computeDominators();
+        findLoops();
+    }
+
+    // The loops of the function, inner loops before the loops that contain them
+    List<Loop> loops() {
+        return loops;
+    }
+
+    // The blocks of a loop in reverse postorder
+    List<BasicBlock> blocksInOrder(Loop loop) {
+        List<BasicBlock> blocks = new ArrayList<>();
+        for (BasicBlock block : loop.blocks) {
+            if (orderIndex.containsKey(block)) {
+                blocks.add(block);
+            }
+        }
+        blocks.sort(Comparator.comparingInt(orderIndex::get));
+        return blocks;
+    }
+
+    // True if every path from the entry to b goes through a
+    boolean dominates(BasicBlock a, BasicBlock b) {
+        while (b != null) {
+            if (a == b) {
+                return true;
+            }
+            BasicBlock dominator = immediateDominators.get(b);
+            b = dominator == b ? null : dominator;
+        }
+        return false;
+    }
+
+    private void computeDominators() {
+        BasicBlock entry = function.entry();
+        immediateDominators.put(entry, entry);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (BasicBlock block : order) {
+                if (block == entry) {
+                    continue;
+                }
+                BasicBlock dominator = null;
+                for (BasicBlock predecessor : block.predecessors) {
+                    // Predecessors that cannot be reached, or have not been visited yet, are left out
+                    if (!immediateDominators.containsKey(predecessor)) {
+                        continue;
+                    }
+                    dominator = dominator == null ? predecessor : intersect(predecessor, dominator);
+                }
+                if (dominator != immediateDominators.get(block)) {
+                    immediateDominators.put(block, dominator);
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    // The nearest common dominator of two blocks
+    private BasicBlock intersect(BasicBlock a, BasicBlock b) {
+        while (a != b) {
+            while (orderIndex.get(a) > orderIndex.get(b)) {
+                a = immediateDominators.get(a);
+            }
+            while (orderIndex.get(b) > orderIndex.get(a)) {
+                b = immediateDominators.get(b);
+            }
+        }
+        return a;
+    }
+
+    private void findLoops() {
+        Map<BasicBlock, Loop> loopsByHeader = new LinkedHashMap<>();
+        for (BasicBlock block : order) {
+            for (BasicBlock successor : block.successors()) {
+                // Only an edge that goes back in reverse postorder can be a back edge
+                if (orderIndex.get(successor) <= orderIndex.get(block) && dominates(successor, block)) {
+                    Loop loop = loopsByHeader.computeIfAbsent(successor, Loop::new);
+                    if (!loop.latches.contains(block)) {
+                        loop.latches.add(block);
+                    }
+                }
+            }
+        }
+        for (Loop loop : loopsByHeader.values()) {
+            loop.blocks.add(loop.header);
+            Deque<BasicBlock> worklist = new ArrayDeque<>(loop.latches);
+            while (!worklist.isEmpty()) {
+                BasicBlock block = worklist.pop();
+                if (loop.blocks.add(block)) {
+                    for (BasicBlock predecessor : block.predecessors) {
+                        if (orderIndex.containsKey(predecessor)) {
+                            worklist.push(predecessor);
+                        }
+                    }
+                }
+            }
+            loops.add(loop);
+        }
+        // A loop nested in another has fewer blocks, so sorting by size puts inner loops first
+        loops.sort(Comparator.comparingInt(loop -> loop.blocks.size()));
+        // Going outwards, each loop becomes the parent of the outermost loops found so far among its blocks
+        Map<BasicBlock, Loop> innermost = new HashMap<>();
+        for (Loop loop : loops) {
+            for (BasicBlock block : loop.blocks) {
+                Loop inner = innermost.putIfAbsent(block, loop);
+                if (inner != null) {
+                    while (inner.parent != null) {
+                        inner = inner.parent;
+                    }
+                    if (inner != loop) {
+                        inner.parent = loop;
+                    }
+                }
+            }
+        }
+    }
+
+    // Returns the block that enters the loop from outside, creating it if there is none: the only predecessor
+    // of the header outside the loop, provided it has no other successor. Code put at the end of the preheader
+    // runs once before the loop starts.
+    BasicBlock ensurePreheader(Loop loop) {
+        BasicBlock header = loop.header;
+        List<Integer> outside = new ArrayList<>();
+        for (int i = 0; i < header.predecessors.size(); i++) {
+            if (!loop.contains(header.predecessors.get(i))) {
+                outside.add(i);
+            }
+        }
+        if (outside.size() == 1) {
+            BasicBlock predecessor = header.predecessors.get(outside.get(0));
+            if (predecessor.successors().size() == 1) {
+                return predecessor;
+            }
+        }
+
+        BasicBlock preheader = function.newBlock();
+        List<Phi> phis = header.phis();
+        // The values the phis get from outside the loop are chosen in the preheader instead
+        List<Value> entryValues = new ArrayList<>();
+        for (Phi phi : phis) {
+            if (outside.size() == 1) {
+                entryValues.add(phi.operand(outside.get(0)));
+            } else {
+                Phi entryPhi = preheader.addPhi(new Phi(phi.type));
+                for (int index : outside) {
+                    entryPhi.operands.add(phi.operand(index));
+                }
+                entryValues.add(entryPhi);
+            }
+        }
+        for (int index : outside) {
+            BasicBlock predecessor = header.predecessors.get(index);
+            predecessor.terminator().replaceSuccessor(header, preheader);
+            preheader.predecessors.add(predecessor);
+        }
+        for (int i = outside.size() - 1; i >= 0; i--) {
+            header.removePredecessor(header.predecessors.get(outside.get(i)));
+        }
+        preheader.terminate(new Jump(header));
+        for (int i = 0; i < phis.size(); i++) {
+            phis.get(i).operands.add(entryValues.get(i));
+        }
+        for (Loop outer = loop.parent; outer != null; outer = outer.parent) {
+            outer.blocks.add(preheader);
+        }
+        return preheader;
+    }
+}
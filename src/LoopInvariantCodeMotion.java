@@ -0,0 +1,107 @@
+import java.util.*;
+
+// Moves the computations that give the same value in every iteration of a loop out of it, into the preheader,
+// so they run once before the loop starts instead of once per iteration.
+//
+// An instruction is invariant when all its operands are defined outside the loop or are invariant themselves.
+// Arithmetic, comparisons and conversions that cannot throw are moved even from blocks that do not run in
+// every iteration, since computing them once too often has no visible effect; integer divisions by something
+// other than a nonzero constant stay where they are, because moving one could throw for a loop that never
+// runs it. A load of a variable of the main
+// program is invariant when the loop does not store to the variable and calls no routine, which could store
+// to it. Inner loops are done first, so code that is invariant in several nested loops moves out step by step,
+// and equal instructions moved to the same preheader are computed only once there.
+class LoopInvariantCodeMotion implements OptimizationPass {
+    @Override
+    public boolean run(IRFunction function) {
+        LoopAnalysis analysis = new LoopAnalysis(function);
+        boolean changed = false;
+        for (Loop loop : analysis.loops()) {
+            changed |= hoist(function, analysis, loop);
+        }
+        return changed;
+    }
+
+    private boolean hoist(IRFunction function, LoopAnalysis analysis, Loop loop) {
+        Set<String> storedFields = new HashSet<>();
+        boolean callsRoutines = false;
+        for (BasicBlock block : loop.blocks) {
+            for (Instruction instruction : block.instructions) {
+                if (instruction instanceof StoreGlobal store) {
+                    storedFields.add(store.field);
+                } else if (instruction instanceof CallInstruction) {
+                    callsRoutines = true;
+                }
+            }
+        }
+
+        // In reverse postorder the operands of an instruction are seen before it, apart from phis
+        List<Instruction> invariant = new ArrayList<>();
+        Set<Instruction> invariantSet = new HashSet<>();
+        for (BasicBlock block : analysis.blocksInOrder(loop)) {
+            for (Instruction instruction : block.instructions) {
+                if (isMovable(instruction, storedFields, callsRoutines) && operandsInvariant(instruction, loop, invariantSet)) {
+                    invariant.add(instruction);
+                    invariantSet.add(instruction);
+                }
+            }
+        }
+        if (invariant.isEmpty()) {
+            return false;
+        }
+
+        BasicBlock preheader = analysis.ensurePreheader(loop);
+        Map<List<Object>, Instruction> hoisted = new HashMap<>();
+        Map<Value, Value> replacements = new HashMap<>();
+        for (Instruction instruction : invariant) {
+            instruction.block.instructions.remove(instruction);
+            for (int i = 0; i < instruction.operands.size(); i++) {
+                Value replacement = replacements.get(instruction.operand(i));
+                if (replacement != null) {
+                    instruction.operands.set(i, replacement);
+                }
+            }
+            Instruction same = hoisted.putIfAbsent(key(instruction), instruction);
+            if (same != null) {
+                replacements.put(instruction, same);
+            } else {
+                preheader.add(instruction);
+            }
+        }
+        function.replaceUses(replacements);
+        return true;
+    }
+
+    private static boolean isMovable(Instruction instruction, Set<String> storedFields, boolean callsRoutines) {
+        if (instruction instanceof LoadGlobal load) {
+            return !callsRoutines && !storedFields.contains(load.field);
+        }
+        return (instruction instanceof BinaryInstruction || instruction instanceof CompareInstruction
+                || instruction instanceof UnaryInstruction) && instruction.isRemovable();
+    }
+
+    private static boolean operandsInvariant(Instruction instruction, Loop loop, Set<Instruction> invariant) {
+        for (Value operand : instruction.operands) {
+            if (!loop.isDefinedOutside(operand) && !invariant.contains(operand)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Two instructions with equal keys compute the same value
+    private static List<Object> key(Instruction instruction) {
+        List<Object> key = new ArrayList<>();
+        if (instruction instanceof BinaryInstruction binary) {
+            key.add(binary.operator);
+        } else if (instruction instanceof CompareInstruction compare) {
+            key.add(compare.condition);
+        } else if (instruction instanceof UnaryInstruction unary) {
+            key.add(unary.operator);
+        } else if (instruction instanceof LoadGlobal load) {
+            key.add(load.field);
+        }
+        key.addAll(instruction.operands);
+        return key;
+    }
+}
@@ -0,0 +1,265 @@
+import java.util.*;
+
+// Unrolls the loops whose number of iterations is known at compile time, which are the for loops over ranges of
+// literals, like for i in 1..5.
+//
+// A loop whose body, repeated for every iteration, stays within a size limit is unrolled fully: the body is
+// copied once per iteration, with the loop variable replaced by its value in that iteration, and the loop
+// disappears. Constant folding then computes what depends only on the loop variable.
+//
+// A larger loop is unrolled partially by a factor: its body is repeated that many times between two tests of
+// the loop condition, so the test, the jump back and the update of the variables run once per group of
+// iterations. The iterations that do not fill a whole group are unrolled fully before the loop, so the number
+// of iterations left for the loop is a multiple of the factor and it never has to stop in the middle of a
+// group.
+//
+// Only loops whose one way out is the test at the header are unrolled. That is every for loop, since the
+// language has no way to break out of one; a return statement in the body is copied with the rest of it.
+class LoopUnrolling implements OptimizationPass {
+    // The default limit on the number of instructions of a fully unrolled loop
+    static final int DEFAULT_FULL_UNROLL_SIZE = 200;
+    // The default number of copies of the body in each iteration of a partially unrolled loop
+    static final int DEFAULT_FACTOR = 4;
+    // The default limit on the number of instructions of the unrolled body of a partially unrolled loop
+    static final int DEFAULT_PARTIAL_UNROLL_SIZE = 200;
+    // Functions are not made larger than this by unrolling, which keeps their code well below the JVM's limit of
+    // 64 KB per method
+    private static final int MAX_FUNCTION_SIZE = 5000;
+    // Loops with more iterations than this are not counted
+    private static final int MAX_COUNTED_ITERATIONS = 1 << 20;
+
+    private final int fullUnrollSize;
+    private final int factor;
+    private final int partialUnrollSize;
+    // The headers of the loops that have been unrolled partially already
+    private final Set<BasicBlock> unrolled = new HashSet<>();
+
+    public LoopUnrolling() {
+        this(DEFAULT_FULL_UNROLL_SIZE, DEFAULT_FACTOR, DEFAULT_PARTIAL_UNROLL_SIZE);
+    }
+
+    public LoopUnrolling(int fullUnrollSize, int factor, int partialUnrollSize) {
+        this.fullUnrollSize = fullUnrollSize;
+        this.factor = factor;
+        this.partialUnrollSize = partialUnrollSize;
+    }
+
+    // A loop that can be unrolled: its header only has phis and the test, and the body starts right after it
+    private record CountedLoop(Loop loop, BasicBlock latch, BasicBlock bodyEntry, BasicBlock exit, List<BasicBlock> body,
+                               int iterations, int bodySize) {
+    }
+
+    // A copy of the body of a loop; the copy of the latch still jumps to the header
+    private record Copy(BasicBlock entry, BasicBlock latch, Map<Value, Value> values) {
+    }
+
+    @Override
+    public boolean run(IRFunction function) {
+        LoopAnalysis analysis = new LoopAnalysis(function);
+        Map<Instruction, Integer> useCounts = null;
+        int functionSize = 0;
+        for (BasicBlock block : function.blocks) {
+            functionSize += block.instructions.size();
+        }
+        // The loops that contain an unrolled loop; their blocks have changed, so they wait for the next run
+        Set<Loop> changedLoops = new HashSet<>();
+        boolean changed = false;
+        for (Loop loop : analysis.loops()) {
+            if (changedLoops.contains(loop) || unrolled.contains(loop.header)) {
+                continue;
+            }
+            if (useCounts == null) {
+                useCounts = function.useCounts();
+            }
+            CountedLoop counted = countedLoop(loop, analysis, useCounts);
+            if (counted == null) {
+                continue;
+            }
+            long fullSize = (long) counted.iterations * counted.bodySize;
+            long partialSize = (long) (factor - 1 + counted.iterations % factor) * counted.bodySize;
+            if (fullSize <= fullUnrollSize && functionSize + fullSize <= MAX_FUNCTION_SIZE) {
+                unrollFully(function, analysis, counted);
+                functionSize += fullSize;
+            } else if (factor > 1 && counted.iterations >= factor && (long) factor * counted.bodySize <= partialUnrollSize
+                    && functionSize + partialSize <= MAX_FUNCTION_SIZE) {
+                unrollPartially(function, analysis, counted);
+                unrolled.add(loop.header);
+                functionSize += partialSize;
+            } else {
+                continue;
+            }
+            for (Loop outer = loop.parent; outer != null; outer = outer.parent) {
+                changedLoops.add(outer);
+            }
+            useCounts = null;
+            changed = true;
+        }
+        return changed;
+    }
+
+    // Returns the loop with its number of iterations, if it is a loop that can be unrolled
+    private static CountedLoop countedLoop(Loop loop, LoopAnalysis analysis, Map<Instruction, Integer> useCounts) {
+        BasicBlock header = loop.header;
+        if (loop.latches.size() != 1 || !(loop.latches.get(0).terminator() instanceof Jump)
+                || !(header.terminator() instanceof Branch branch) || !loop.contains(branch.ifTrue) || loop.contains(branch.ifFalse)
+                || !(branch.operand(0) instanceof CompareInstruction test) || test.block != header
+                || useCounts.getOrDefault(test, 0) != 1 || header.instructions.size() != header.phis().size() + 2
+                || !branch.ifTrue.predecessors.equals(List.of(header)) || header.predecessors.size() != 2) {
+            return null;
+        }
+        BasicBlock latch = loop.latches.get(0);
+        List<BasicBlock> body = analysis.blocksInOrder(loop);
+        body.remove(header);
+        // A block that returns from a routine in the middle of the loop is not part of the loop, since it does not
+        // lead back to the header, but it is copied with the body
+        List<BasicBlock> returns = new ArrayList<>();
+        int bodySize = 0;
+        for (BasicBlock block : body) {
+            for (BasicBlock successor : block.successors()) {
+                if (!loop.contains(successor)) {
+                    if (!(successor.terminator() instanceof ReturnInstruction) || successor.predecessors.size() != 1) {
+                        return null;
+                    }
+                    returns.add(successor);
+                }
+            }
+            bodySize += block.instructions.size();
+        }
+        for (BasicBlock block : returns) {
+            bodySize += block.instructions.size();
+        }
+        body.addAll(returns);
+
+        // The test compares a variable that goes up or down by a constant with a constant
+        if (!(test.operand(0) instanceof Phi variable) || variable.block != header || !(test.operand(1) instanceof Constant bound)) {
+            return null;
+        }
+        int latchIndex = header.predecessors.indexOf(latch);
+        if (!(variable.operand(1 - latchIndex) instanceof Constant first)
+                || !(variable.operand(latchIndex) instanceof BinaryInstruction update) || update.operand(0) != variable
+                || !(update.operand(1) instanceof Constant step)
+                || update.operator != BinaryInstruction.Operator.ADD && update.operator != BinaryInstruction.Operator.SUB) {
+            return null;
+        }
+        int iterations = 0;
+        int value = first.intValue;
+        while (holds(test.condition, value, bound.intValue)) {
+            if (++iterations > MAX_COUNTED_ITERATIONS) {
+                return null;
+            }
+            value = update.operator == BinaryInstruction.Operator.ADD ? value + step.intValue : value - step.intValue;
+        }
+        return new CountedLoop(loop, latch, branch.ifTrue, branch.ifFalse, body, iterations, bodySize);
+    }
+
+    private static boolean holds(CompareInstruction.Condition condition, int left, int right) {
+        return switch (condition) {
+            case LT -> left < right;
+            case LE -> left <= right;
+            case GT -> left > right;
+            case GE -> left >= right;
+            case EQ -> left == right;
+            case NE -> left != right;
+        };
+    }
+
+    // Replaces the loop by one copy of its body for each iteration
+    private void unrollFully(IRFunction function, LoopAnalysis analysis, CountedLoop counted) {
+        Loop loop = counted.loop;
+        BasicBlock header = loop.header;
+        BasicBlock preheader = analysis.ensurePreheader(loop);
+        int latchIndex = header.predecessors.indexOf(counted.latch);
+        Map<Value, Value> values = entryValues(header, 1 - latchIndex);
+
+        BasicBlock previous = preheader;
+        for (int i = 0; i < counted.iterations; i++) {
+            Copy copy = copyBody(function, counted, values, previous);
+            previous.terminator().replaceSuccessor(header, copy.entry);
+            previous = copy.latch;
+            values = nextValues(header, latchIndex, copy.values);
+        }
+        previous.terminator().replaceSuccessor(header, counted.exit);
+        counted.exit.replacePredecessor(header, previous);
+        function.blocks.removeAll(loop.blocks);
+        function.blocks.removeAll(counted.body);
+        // After the loop, its variables have their values from the last iteration
+        function.replaceUses(values);
+    }
+
+    // Repeats the body of the loop factor times in each iteration, after unrolling the iterations that are left
+    // over fully in front of the loop
+    private void unrollPartially(IRFunction function, LoopAnalysis analysis, CountedLoop counted) {
+        Loop loop = counted.loop;
+        BasicBlock header = loop.header;
+        BasicBlock preheader = analysis.ensurePreheader(loop);
+        int latchIndex = header.predecessors.indexOf(counted.latch);
+        int entryIndex = 1 - latchIndex;
+        List<Phi> phis = header.phis();
+
+        // The iterations that are left over
+        Map<Value, Value> values = entryValues(header, entryIndex);
+        BasicBlock previous = preheader;
+        for (int i = 0; i < counted.iterations % factor; i++) {
+            Copy copy = copyBody(function, counted, values, previous);
+            previous.terminator().replaceSuccessor(header, copy.entry);
+            previous = copy.latch;
+            values = nextValues(header, latchIndex, copy.values);
+        }
+        if (previous != preheader) {
+            header.replacePredecessor(preheader, previous);
+            for (Phi phi : phis) {
+                phi.operands.set(entryIndex, values.get(phi));
+            }
+        }
+
+        // The copies of the body inside the loop, each one starting with the values the previous one ends with.
+        // They are all made before the latch is changed to go to the first one, since they copy the latch too.
+        List<Copy> copies = new ArrayList<>();
+        values = nextValues(header, latchIndex, new HashMap<>());
+        previous = counted.latch;
+        for (int i = 1; i < factor; i++) {
+            Copy copy = copyBody(function, counted, values, previous);
+            copies.add(copy);
+            previous = copy.latch;
+            values = nextValues(header, latchIndex, copy.values);
+        }
+        previous = counted.latch;
+        for (Copy copy : copies) {
+            previous.terminator().replaceSuccessor(header, copy.entry);
+            previous = copy.latch;
+        }
+        header.replacePredecessor(counted.latch, previous);
+        for (Phi phi : phis) {
+            phi.operands.set(latchIndex, values.get(phi));
+        }
+    }
+
+    // The values the header's phis have when the loop is entered
+    private static Map<Value, Value> entryValues(BasicBlock header, int entryIndex) {
+        Map<Value, Value> values = new HashMap<>();
+        for (Phi phi : header.phis()) {
+            values.put(phi, phi.operand(entryIndex));
+        }
+        return values;
+    }
+
+    // The values the header's phis get for the next iteration, from a copy of the body
+    private static Map<Value, Value> nextValues(BasicBlock header, int latchIndex, Map<Value, Value> copyValues) {
+        Map<Value, Value> values = new HashMap<>();
+        for (Phi phi : header.phis()) {
+            Value next = phi.operand(latchIndex);
+            values.put(phi, copyValues.getOrDefault(next, next));
+        }
+        return values;
+    }
+
+    // Copies the blocks of the body of a loop, entered from the given block, with the header's phis replaced by
+    // the given values
+    private static Copy copyBody(IRFunction function, CountedLoop counted, Map<Value, Value> phiValues, BasicBlock from) {
+        Map<Value, Value> values = new HashMap<>(phiValues);
+        Map<BasicBlock, BasicBlock> blocks = function.copyBlocks(counted.body, values);
+        BasicBlock entry = blocks.get(counted.bodyEntry);
+        entry.replacePredecessor(counted.loop.header, from);
+        return new Copy(entry, blocks.get(counted.latch), values);
+    }
+}
@@ -2,10 +2,107 @@ import java.io.*;
 import java.util.*;
 
 public class Main {
+    // Size limit of the compilation cache, in bytes
+    private static final long CACHE_SIZE = 64L << 20;
+
     public static void main(String[] args) {
+        // With --server, keep compiling programs sent by clients until one of them asks the server to stop
+        if (args.length > 0 && args[0].equals("--server")) {
+            try {
+                new CompileServer(CompileServer.DEFAULT_PORT).serve();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            return;
+        }
+
+        if (args.length > 0 && args[0].equals("--stop-server")) {
+            try {
+                CompileServer.stopRemotely();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            return;
+        }
+
         // Read the source code from a file
         String sourceCode = readFile();
 
+        // With --client, the program is compiled and assembled by a running server
+        if (args.length > 0 && args[0].equals("--client")) {
+            try {
+                CompilationCache.Entry entry = CompileServer.compileRemotely(sourceCode);
+                writeFile("jasmin-2.4/codegen_result.j", entry.jasminCode.getBytes());
+                writeFile("jasmin-2.4/GeneratedClass.class", entry.classBytes);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            return;
+        }
+
+        // With --incremental, only the top-level declarations that changed since the last run are compiled again
+        if (args.length > 0 && args[0].equals("--incremental")) {
+            IncrementalCompiler compiler = new IncrementalCompiler("incremental.cache");
+            compiler.compile(sourceCode, "jasmin-2.4/codegen_result.j");
+            System.out.println("Reused " + compiler.getReusedDeclarations() + " top-level declarations, compiled " + compiler.getCompiledDeclarations());
+            return;
+        }
+
+        // With --cache, the generated Jasmin code and class file are taken from the cache of earlier compilations
+        // when the same source has already been compiled by the same compiler, and the class file is assembled here
+        if (args.length > 0 && args[0].equals("--cache")) {
+            compileWithCache(sourceCode);
+            return;
+        }
+
+        // With --run, the program is compiled, assembled and run inside this JVM, without writing any files;
+        // an optional count after it runs the program that many times
+        if (args.length > 0 && args[0].equals("--run")) {
+            int runs = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+            byte[] classBytes = JasminAssembler.assemble(compile(sourceCode), "codegen_result.j");
+            for (int i = 0; i < runs; i++) {
+                ProgramRunner.run(classBytes, new String[0]);
+            }
+            return;
+        }
+
+        // With --interpret, the program is run by walking its AST and the final values of its variables are printed;
+        // --tiered does the same, but compiles hot routines and loops to bytecode while the program runs
+        if (args.length > 0 && (args[0].equals("--interpret") || args[0].equals("--tiered"))) {
+            List<ASTNode> result = new SemanticAnalyzer(new Parser(new Lexer(sourceCode).tokenize()).parse()).startAnalyze();
+            Interpreter interpreter = new Interpreter(result, args[0].equals("--tiered"));
+            interpreter.run();
+            for (Map.Entry<String, Object> variable : interpreter.getVariables().entrySet()) {
+                System.out.println(variable.getKey() + " = " + variable.getValue());
+            }
+            if (args[0].equals("--tiered")) {
+                System.out.println("Compiled " + interpreter.getCompiledUnits() + " routines and loops");
+                for (String failure : interpreter.getCompilationFailures()) {
+                    System.out.println("Could not compile a routine or loop: " + failure);
+                }
+            }
+            return;
+        }
+
+        // With --flat, the program is parsed into the compact FlatAST form, and the semantic analyzer and
+        // the code generator read it through its node list view
+        if (args.length > 0 && args[0].equals("--flat")) {
+            FlatAST ast = FlatAST.parse(new Lexer(sourceCode).tokenize());
+            System.out.println("Flat AST: " + ast.size() + " nodes, " + ast.footprint() + " bytes");
+            List<ASTNode> result = new SemanticAnalyzer(ast.asNodeList()).startAnalyze();
+            new CodeGenerator(result).generateCode("jasmin-2.4/codegen_result.j");
+            return;
+        }
+
+        // With --ir, the program is translated to the SSA intermediate representation, optimized there and lowered
+        // to Jasmin code; the optimized IR is printed. --ir --no-unroll leaves the loops as they are.
+        if (args.length > 0 && args[0].equals("--ir")) {
+            IRProgram program = buildIR(sourceCode, !(args.length > 1 && args[1].equals("--no-unroll")));
+            System.out.print(program);
+            writeFile("jasmin-2.4/codegen_result.j", new IRLowering(program, "GeneratedClass").lower().getBytes());
+            return;
+        }
+
         // Start tokenization of source code
         Lexer lexer = new Lexer(sourceCode);
         List<Token> tokens = lexer.tokenize();
@@ -25,6 +122,52 @@ public class Main {
         // Generation of Jasmin code
         CodeGenerator generator = new CodeGenerator(result);
         generator.generateCode("jasmin-2.4/codegen_result.j");
+        System.out.println("Peephole rewrites: " + generator.getPeepholeHits());
+    }
+
+    private static void compileWithCache(String sourceCode) {
+        CompilationCache cache = new CompilationCache("compile_cache", CACHE_SIZE);
+        String version = CompilationCache.compilerVersion(Main.class, jasmin.ClassFile.class);
+        String key = CompilationCache.key(sourceCode, version, "GeneratedClass");
+
+        CompilationCache.Entry entry = cache.lookup(key);
+        if (entry == null) {
+            String jasminCode = compile(sourceCode);
+            writeFile("jasmin-2.4/codegen_result.j", jasminCode.getBytes());
+            entry = new CompilationCache.Entry(jasminCode, JasminAssembler.assemble(jasminCode, "codegen_result.j"));
+            cache.store(key, entry);
+        } else {
+            writeFile("jasmin-2.4/codegen_result.j", entry.jasminCode.getBytes());
+        }
+        writeFile("jasmin-2.4/GeneratedClass.class", entry.classBytes);
+
+        System.out.println("Compilation cache: " + cache.getHits() + " hits, " + cache.getMisses() + " misses");
+    }
+
+    // Compiles a program into Jasmin code, without printing the tokens
+    static String compile(String sourceCode) {
+        List<ASTNode> result = new SemanticAnalyzer(new Parser(new Lexer(sourceCode).tokenize()).parse()).startAnalyze();
+        return new CodeGenerator(result).generateCodeAsString();
+    }
+
+    // Builds and optimizes the IR of a program
+    static IRProgram buildIR(String sourceCode) {
+        return buildIR(sourceCode, true);
+    }
+
+    static IRProgram buildIR(String sourceCode, boolean unrollLoops) {
+        List<ASTNode> result = new SemanticAnalyzer(new Parser(new Lexer(sourceCode).tokenize()).parse()).startAnalyze();
+        IRProgram program = new IRBuilder(result).build();
+        OptimizationPipeline.standard(unrollLoops).run(program);
+        return program;
+    }
+
+    private static void writeFile(String fileName, byte[] content) {
+        try (FileOutputStream out = new FileOutputStream(fileName)) {
+            out.write(content);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
     }
 
     private static String readFile() {
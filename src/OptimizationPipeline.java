@@ -0,0 +1,78 @@
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// A transformation of the IR of a function
+interface OptimizationPass {
+    // Transforms the function; returns true if anything changed
+    boolean run(IRFunction function);
+}
+
+// Runs optimization passes over the IR of every function of a program. The passes run in the order they
+// were added, and the whole list is run again while any of them still changes something, since one pass
+// often makes work for another: folding a branch leaves dead code, which can make phis trivial, and so on.
+class OptimizationPipeline {
+    // Stops a pipeline whose passes keep undoing each other
+    private static final int MAX_ROUNDS = 10;
+
+    private final List<OptimizationPass> passes = new ArrayList<>();
+
+    // The passes that every program gets
+    static OptimizationPipeline standard() {
+        return standard(true);
+    }
+
+    // The standard passes, with or without loop unrolling, which makes the code larger to make it faster
+    static OptimizationPipeline standard(boolean unrollLoops) {
+        OptimizationPipeline pipeline = new OptimizationPipeline()
+                .add(new TailRecursionElimination())
+                .add(new Inliner())
+                .add(new ConstantFolding());
+        if (unrollLoops) {
+            pipeline.add(new LoopUnrolling());
+        }
+        return pipeline
+                .add(new LoopInvariantCodeMotion())
+                .add(new StrengthReduction())
+                .add(new DeadCodeElimination());
+    }
+
+    OptimizationPipeline add(OptimizationPass pass) {
+        passes.add(pass);
+        return this;
+    }
+
+    // Optimizes the routines a function calls before the function itself, so that a routine has its final form
+    // by the time it is inlined somewhere
+    void run(IRProgram program) {
+        Set<IRFunction> visited = new HashSet<>();
+        for (IRFunction function : program.functions) {
+            runCalleesFirst(function, visited);
+        }
+    }
+
+    private void runCalleesFirst(IRFunction function, Set<IRFunction> visited) {
+        if (!visited.add(function)) {
+            return;
+        }
+        for (BasicBlock block : function.blocks) {
+            for (Instruction instruction : block.instructions) {
+                if (instruction instanceof CallInstruction call) {
+                    runCalleesFirst(call.callee, visited);
+                }
+            }
+        }
+        run(function);
+    }
+
+    void run(IRFunction function) {
+        boolean changed = true;
+        for (int round = 0; changed && round < MAX_ROUNDS; round++) {
+            changed = false;
+            for (OptimizationPass pass : passes) {
+                changed |= pass.run(function);
+            }
+        }
+    }
+}
@@ -1,14 +1,20 @@
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Stack;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 
 // Represents the base class for all AST nodes
-abstract class ASTNode {
+// Nodes are serializable so that the incremental compiler can keep them between runs
+abstract class ASTNode implements Serializable {
+    private static final long serialVersionUID = 1L;
 }
 
 // Represents a variable declaration
 class VarDeclaration extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     String variableName;
     ASTNode variableType;
     ASTNode expression;
@@ -22,6 +28,8 @@ class VarDeclaration extends ASTNode {
 
 // Represents a type declaration
 class TypeNode extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     String typeName;
 
     public TypeNode(String typeName) {
@@ -31,6 +39,8 @@ class TypeNode extends ASTNode {
 
 // Represents an if statement
 class IfStatementNode extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     ASTNode condition;
     ASTNode thenBlock;
     ASTNode elseBlock;
@@ -44,6 +54,8 @@ class IfStatementNode extends ASTNode {
 
 // Represents a for loop
 class ForLoop extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     String loopVariable;
     boolean isReverse;
     String range;
@@ -59,6 +71,8 @@ class ForLoop extends ASTNode {
 
 // Represents a while loop
 class WhileLoop extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     ASTNode condition;
     ASTNode loopBody;
 
@@ -69,6 +83,8 @@ class WhileLoop extends ASTNode {
 }
 // Represents a block for conditional operator
 class BlockNode extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     List<ASTNode> statements;
 
     public BlockNode(List<ASTNode> statements) {
@@ -78,6 +94,8 @@ class BlockNode extends ASTNode {
 
 // Represents a node for binary operations (e.g., +, -, *, /, %)
 class BinaryOpNode extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     Token.TokenType operator;
     ASTNode left;
     ASTNode right;
@@ -91,6 +109,8 @@ class BinaryOpNode extends ASTNode {
 
 // Represents a node for unary operations (e.g., unary +, unary -)
 class UnaryOpNode extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     Token.TokenType operator;
     ASTNode operand;
 
@@ -102,6 +122,8 @@ class UnaryOpNode extends ASTNode {
 
 // Represents a node for literal values and identifiers
 class LiteralNode extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     String value;
 
     public LiteralNode(String value) {
@@ -111,6 +133,8 @@ class LiteralNode extends ASTNode {
 
 // Represents an assignment statement
 class AssignmentNode extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     String variableName;
     ASTNode expression;
 
@@ -122,6 +146,8 @@ class AssignmentNode extends ASTNode {
 
 // Represents a parameter in a routine
 class ParameterNode extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     String paramName;
     ASTNode paramType;
 
@@ -133,6 +159,8 @@ class ParameterNode extends ASTNode {
 
 // Represents the body of a routine
 class RoutineBodyNode extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     List<ASTNode> statements;
 
     public RoutineBodyNode(List<ASTNode> statements) {
@@ -142,6 +170,8 @@ class RoutineBodyNode extends ASTNode {
 
 // Represents a return statement
 class ReturnStatementNode extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     ASTNode returnValue;
 
     public ReturnStatementNode(ASTNode returnValue) {
@@ -151,6 +181,8 @@ class ReturnStatementNode extends ASTNode {
 
 // Represents a routine declaration
 class RoutineDeclarationNode extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     String routineName;
     List<ParameterNode> parameters;
     ASTNode returnType;
@@ -166,6 +198,8 @@ class RoutineDeclarationNode extends ASTNode {
 
 // Represents a function call
 class FunctionCallNode extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     String functionName;
     List<ASTNode> arguments;
 
@@ -177,6 +211,8 @@ class FunctionCallNode extends ASTNode {
 
 // Represents a type declaration
 class TypeDeclarationNode extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     String typeName;
     ASTNode typeDefinition;
 
@@ -188,6 +224,8 @@ class TypeDeclarationNode extends ASTNode {
 
 // Represents an array type
 class ArrayTypeNode extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     ASTNode size;
     ASTNode elementType;
 
@@ -199,6 +237,8 @@ class ArrayTypeNode extends ASTNode {
 
 // Represents an array values
 class ArrayValuesNode extends ASTNode {
+    private static final long serialVersionUID = 1L;
+
     List<ASTNode> values;
 
     public ArrayValuesNode(List<ASTNode> values) {
@@ -208,25 +248,127 @@ class ArrayValuesNode extends ASTNode {
 
 
 class Parser {
+    // Programs with fewer tokens than this are parsed on the calling thread
+    private static final int PARALLEL_THRESHOLD = 16384;
+    // Number of tokens below which a parallel task stops splitting its declarations
+    private static final int CHUNK_SIZE = 4096;
+
     final private List<Token> tokens;
     private int currentTokenIndex;
+    final private int endTokenIndex;
+    // Identical subexpressions share one node
+    final private ExpressionPool expressions = new ExpressionPool();
 
     // Constructor for Parser
     public Parser(List<Token> tokens) {
+        this(tokens, 0, tokens.size());
+    }
+
+    // Constructor for a Parser that only reads the tokens from startTokenIndex up to endTokenIndex
+    private Parser(List<Token> tokens, int startTokenIndex, int endTokenIndex) {
         this.tokens = tokens;
-        this.currentTokenIndex = 0;
+        this.currentTokenIndex = startTokenIndex;
+        this.endTokenIndex = endTokenIndex;
     }
 
     // Parse the entire program
-    // iteratively until the end of tokens is reached, building the AST nodes for the program
+    // Large programs are split at top-level declaration boundaries and the pieces are parsed in parallel
     public List<ASTNode> parse() {
+        if (endTokenIndex - currentTokenIndex >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            List<Integer> boundaries = findDeclarationBoundaries();
+            if (boundaries != null) {
+                return ForkJoinPool.commonPool().invoke(new ParseTask(tokens, boundaries, 0, boundaries.size() - 1));
+            }
+        }
+        return parseDeclarations();
+    }
+
+    // Parse only the declarations found between two token indices
+    static List<ASTNode> parseRange(List<Token> tokens, int startTokenIndex, int endTokenIndex) {
+        return new Parser(tokens, startTokenIndex, endTokenIndex).parseDeclarations();
+    }
+
+    // Parse declarations iteratively until the end of tokens is reached, building the AST nodes for the program
+    private List<ASTNode> parseDeclarations() {
         List<ASTNode> program = new ArrayList<>();
-        while (currentTokenIndex < tokens.size()) {
+        while (currentTokenIndex < endTokenIndex) {
             program.add(parseSimpleDeclaration());
         }
         return program;
     }
 
+    // Helper method that finds the token index at which each top-level declaration starts, followed by the end index
+    // A declaration ends at a ';' that is not inside a routine, if, while, for or record ... end block
+    // Returns null if the blocks are unbalanced, in which case the program is parsed sequentially
+    List<Integer> findDeclarationBoundaries() {
+        List<Integer> boundaries = new ArrayList<>();
+        boundaries.add(currentTokenIndex);
+        int depth = 0;
+        for (int i = currentTokenIndex; i < endTokenIndex; i++) {
+            switch (tokens.get(i).type) {
+                case ROUTINE, IF, WHILE, FOR, RECORD -> depth++;
+                case END -> {
+                    if (--depth < 0) {
+                        return null;
+                    }
+                }
+                case SEMICOLON -> {
+                    if (depth == 0 && i + 1 < endTokenIndex) {
+                        boundaries.add(i + 1);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        if (depth != 0) {
+            return null;
+        }
+        boundaries.add(endTokenIndex);
+        return boundaries;
+    }
+
+    // Parses the declarations between two boundaries, splitting the range in half until it is small enough
+    // Tasks are never serialized, although RecursiveTask is Serializable
+    @SuppressWarnings("serial")
+    private static class ParseTask extends RecursiveTask<List<ASTNode>> {
+        final private List<Token> tokens;
+        final private List<Integer> boundaries;
+        final private int first;
+        final private int last;
+
+        ParseTask(List<Token> tokens, List<Integer> boundaries, int first, int last) {
+            this.tokens = tokens;
+            this.boundaries = boundaries;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected List<ASTNode> compute() {
+            int start = boundaries.get(first);
+            int end = boundaries.get(last);
+            if (last - first == 1 || end - start < CHUNK_SIZE) {
+                return parseRange(tokens, start, end);
+            }
+
+            int middle = (first + last) >>> 1;
+            ParseTask left = new ParseTask(tokens, boundaries, first, middle);
+            left.fork();
+            List<ASTNode> right;
+            try {
+                right = new ParseTask(tokens, boundaries, middle, last).compute();
+            } catch (RuntimeException e) {
+                // Report the first error in program order, as the sequential parser would
+                left.join();
+                throw e;
+            }
+            List<ASTNode> result = left.join();
+            result.addAll(right);
+            return result;
+        }
+    }
+
     // Helper method to parse simple declarations (variables, loops, etc.).
     private ASTNode parseSimpleDeclaration() {
         if (match(Token.TokenType.VAR)) {
@@ -236,11 +378,7 @@ class Parser {
             currentTokenIndex++;
             ASTNode expression = null;
             if (match(Token.TokenType.IS)) {
-                // Check if it's a function call
-                if (tokens.get(currentTokenIndex).type == Token.TokenType.IDENTIFIER &&
-                        tokens.get(currentTokenIndex + 1).type == Token.TokenType.LPAREN) {
-                    expression = parseFunctionCall();
-                } else if (tokens.get(currentTokenIndex).type == Token.TokenType.LBRACKET) {
+                if (tokens.get(currentTokenIndex).type == Token.TokenType.LBRACKET) {
                     expression = parseArrayValues();
                 } else {
                     expression = parseExpression();
@@ -294,12 +432,14 @@ class Parser {
 
             consume(Token.TokenType.LPAREN, "Expect '(' after function name");
 
-            // Parse the arguments
+            // Parse the arguments, if there are any
             List<ASTNode> arguments = new ArrayList<>();
-            arguments.add(parseExpression());
-
-            while (match(Token.TokenType.COMMA)) {
+            if (currentTokenIndex < endTokenIndex && tokens.get(currentTokenIndex).type != Token.TokenType.RPAREN) {
                 arguments.add(parseExpression());
+
+                while (match(Token.TokenType.COMMA)) {
+                    arguments.add(parseExpression());
+                }
             }
 
             consume(Token.TokenType.RPAREN, "Expect ')' after function arguments");
@@ -426,7 +566,7 @@ class Parser {
     private RoutineBodyNode parseRoutineBody() {
         List<ASTNode> statements = new ArrayList<>();
 
-        while (currentTokenIndex < tokens.size() && !(tokens.get(currentTokenIndex).type.equals(Token.TokenType.END))) {
+        while (currentTokenIndex < endTokenIndex && !(tokens.get(currentTokenIndex).type.equals(Token.TokenType.END))) {
             // Parse statements within the routine body and add them to the statements list
             statements.add(parseStatement());
         }
@@ -486,7 +626,7 @@ class Parser {
     private ASTNode parseBody() {
         List<ASTNode> statements = new ArrayList<>();
 
-        while (currentTokenIndex < tokens.size() &&
+        while (currentTokenIndex < endTokenIndex &&
                 !(tokens.get(currentTokenIndex).type.equals(Token.TokenType.END)) &&
                 !(tokens.get(currentTokenIndex).type.equals(Token.TokenType.ELSE))) {
             // Parse simple declarations within the block and add them to the statements list
@@ -519,15 +659,7 @@ class Parser {
             consume(Token.TokenType.ASSIGN, "Expect ':=' for assignment");
 
             // Parse the right-hand side expression
-
-            ASTNode expression;
-            if (tokens.get(currentTokenIndex).type == Token.TokenType.IDENTIFIER &&
-                    tokens.get(currentTokenIndex + 1).type == Token.TokenType.LPAREN) {
-                // Parse and return a FunctionCallNode
-                expression = parseFunctionCall();
-            } else {
-                expression = parseExpression();
-            }
+            ASTNode expression = parseExpression();
             consume(Token.TokenType.SEMICOLON, "Expect ';' after declaration or assignment");
             return new AssignmentNode(variableName, expression);
         } else {
@@ -559,111 +691,79 @@ class Parser {
     }
 
     // Helper method to parse an expression
-    // Helper method to parse an expression using the Shunting Yard algorithm
+    // Uses precedence climbing: the tree is built directly while reading the tokens left to right,
+    // recursing only for operands whose operators bind more tightly than the one before them
     private ASTNode parseExpression() {
-        Stack<Token.TokenType> operatorStack = new Stack<>();
-        Stack<ASTNode> outputQueue = new Stack<>();
-
-        while (!isEndOfExpression()) {
-            if (match(Token.TokenType.INTEGER_LITERAL) ||
-                    match(Token.TokenType.REAL_LITERAL) ||
-                    match(Token.TokenType.TRUE) ||
-                    match(Token.TokenType.FALSE) ||
-                    match(Token.TokenType.IDENTIFIER)) {
-                outputQueue.add(new LiteralNode(tokens.get(currentTokenIndex - 1).value));
-            } else if (match(Token.TokenType.LPAREN)) {
-                operatorStack.push(Token.TokenType.LPAREN);
-            } else if (match(Token.TokenType.RPAREN)) {
-                if (operatorStack.isEmpty()) {
-                    currentTokenIndex--;
-                    break;
-                }
-                while (!operatorStack.isEmpty() && operatorStack.peek() != Token.TokenType.LPAREN) {
-                    outputQueue.push(createBinaryOpNode(operatorStack.pop(), outputQueue.pop(), outputQueue.pop()));
-                }
-                operatorStack.pop(); // Discard the left parenthesis
-            } else if (isOperator()) {
-                Token.TokenType currentOperator = tokens.get(currentTokenIndex - 1).type;
-                while (!operatorStack.isEmpty() && hasHigherPrecedence(operatorStack.peek(), currentOperator)) {
-                    pushOperator(outputQueue, operatorStack.pop());
-                }
-                operatorStack.push(currentOperator);
-            } else {
+        return parseExpression(1);
+    }
+
+    // Helper method to parse an expression made of operators with at least the given precedence
+    private ASTNode parseExpression(int minPrecedence) {
+        ASTNode left = parseUnary();
+
+        while (currentTokenIndex < endTokenIndex) {
+            Token.TokenType operator = tokens.get(currentTokenIndex).type;
+            int precedence = getPrecedence(operator);
+            // Anything that is not a binary operator has precedence 0 and ends the expression
+            if (precedence < minPrecedence) {
                 break;
             }
+            currentTokenIndex++;
+            // Binary operators are left-associative, so the right operand only takes tighter operators
+            ASTNode right = parseExpression(precedence + 1);
+            left = expressions.binary(operator, left, right);
         }
 
-        while (!operatorStack.isEmpty()) {
-            outputQueue.push(createBinaryOpNode(operatorStack.pop(), outputQueue.pop(), outputQueue.pop()));
-        }
+        return left;
+    }
 
-        if (!outputQueue.isEmpty()) {
-            return outputQueue.pop();
+    // Helper method to parse an operand preceded by any number of unary -, + or not
+    private ASTNode parseUnary() {
+        if (match(Token.TokenType.MINUS) || match(Token.TokenType.PLUS) || match(Token.TokenType.NOT)) {
+            Token.TokenType operator = tokens.get(currentTokenIndex - 1).type;
+            return expressions.unary(operator, parseUnary());
+        }
+        return parsePrimary();
+    }
+
+    // Helper method to parse a literal, a variable, a function call or a parenthesized expression
+    private ASTNode parsePrimary() {
+        if (match(Token.TokenType.INTEGER_LITERAL) ||
+                match(Token.TokenType.REAL_LITERAL) ||
+                match(Token.TokenType.TRUE) ||
+                match(Token.TokenType.FALSE)) {
+            return expressions.literal(tokens.get(currentTokenIndex - 1).value);
+        } else if (currentTokenIndex < endTokenIndex && tokens.get(currentTokenIndex).type == Token.TokenType.IDENTIFIER) {
+            if (currentTokenIndex + 1 < endTokenIndex && tokens.get(currentTokenIndex + 1).type == Token.TokenType.LPAREN) {
+                return parseFunctionCall();
+            }
+            currentTokenIndex++;
+            return expressions.literal(tokens.get(currentTokenIndex - 1).value);
+        } else if (match(Token.TokenType.LPAREN)) {
+            ASTNode expression = parseExpression();
+            consume(Token.TokenType.RPAREN, "Expect ')' after expression");
+            return expression;
         }
 
         throw new RuntimeException("Invalid expression");
     }
 
-    private void pushOperator(List<ASTNode> outputQueue, Token.TokenType operator) {
-        if (outputQueue.size() < 2) {
-            throw new RuntimeException("Invalid expression");
-        }
-        ASTNode right = outputQueue.remove(outputQueue.size() - 1);
-        ASTNode left = outputQueue.remove(outputQueue.size() - 1);
-        outputQueue.add(new BinaryOpNode(operator, left, right));}
-
-    // Helper method to check if the current token is the end of the expression
-    private boolean isEndOfExpression() {
-        return currentTokenIndex >= tokens.size() ||
-                tokens.get(currentTokenIndex).type == Token.TokenType.SEMICOLON ||
-                tokens.get(currentTokenIndex).type == Token.TokenType.COMMA;
-    }
-
-    // Helper method to check if the current token is an operator
-    private boolean isOperator() {
-        return match(Token.TokenType.PLUS) ||
-                match(Token.TokenType.MINUS) ||
-                match(Token.TokenType.MULTIPLY) ||
-                match(Token.TokenType.DIVIDE) ||
-                match(Token.TokenType.REMAINDER) ||
-                match(Token.TokenType.LESS_THAN) ||
-                match(Token.TokenType.LESS_THAN_OR_EQUAL) ||
-                match(Token.TokenType.GREATER_THAN) ||
-                match(Token.TokenType.GREATER_THAN_OR_EQUAL) ||
-                match(Token.TokenType.EQUALS) ||
-                match(Token.TokenType.NOT_EQUALS) ||
-                match(Token.TokenType.AND) ||
-                match(Token.TokenType.OR) ||
-                match(Token.TokenType.XOR);
-    }
-
-    // Helper method to check if the first operator has higher precedence than the second operator
-    private boolean hasHigherPrecedence(Token.TokenType operator1, Token.TokenType operator2) {
-        return getPrecedence(operator1) > getPrecedence(operator2);
-    }
-
-    // Helper method to get the precedence of an operator
+    // Helper method to get the precedence of a binary operator (a higher value binds more tightly)
     private int getPrecedence(Token.TokenType operator) {
         return switch (operator) {
-            case PLUS, MINUS -> 1;
-            case MULTIPLY, DIVIDE, REMAINDER -> 2;
+            case OR, XOR -> 1;
+            case AND -> 2;
             case LESS_THAN, LESS_THAN_OR_EQUAL, GREATER_THAN, GREATER_THAN_OR_EQUAL, EQUALS, NOT_EQUALS -> 3;
-            case AND -> 4;
-            case OR -> 5;
-            case XOR -> 6;
+            case PLUS, MINUS -> 4;
+            case MULTIPLY, DIVIDE, REMAINDER -> 5;
             default -> 0;
         };
     }
 
-    // Helper method to create a BinaryOpNode with the specified operator and operands
-    private ASTNode createBinaryOpNode(Token.TokenType operator, ASTNode right, ASTNode left) {
-        return new BinaryOpNode(operator, left, right);
-    }
-
     // Helper method to check if the current token matches a given type
     private boolean match(Token.TokenType type) {
         // If there is a match, it advances the token index and returns true
-        if (currentTokenIndex < tokens.size() && tokens.get(currentTokenIndex).type == type) {
+        if (currentTokenIndex < endTokenIndex && tokens.get(currentTokenIndex).type == type) {
             currentTokenIndex++;
             return true;
         }
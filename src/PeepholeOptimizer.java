@@ -0,0 +1,273 @@
+import java.util.*;
+
+// Improves the Jasmin code of a method by looking at a few instructions at a time. The code generator emits
+// every statement on its own, so the code has patterns that are easy to spot and to rewrite afterwards:
+//
+// - constant: ldc of a small integer becomes iconst_<n>, bipush or sipush, which are shorter and need no
+//   entry in the constant pool
+// - store-load: a value stored into a variable and loaded right back is kept on the stack with dup instead
+// - jump-threading: a jump to a goto goes straight to where the goto leads
+// - redundant-goto: a goto to the label that comes right after it is dropped
+// - dead-code: the instructions after a goto or a return that no jump or switch leads to are dropped
+//
+// Each rule makes one pass over the code, and the whole table runs again while any rule still applies, since
+// one rewrite can make room for another: threading a jump can leave a label unused, which makes the code after
+// it dead. The number of times each rule applied is kept for the statistics.
+class PeepholeOptimizer {
+    // Stops rules that keep undoing each other
+    private static final int MAX_ROUNDS = 10;
+
+    // A rule rewrites the code into result and returns how many times it applied
+    private interface Rewrite {
+        int apply(List<String> code, List<String> result);
+    }
+
+    private record Rule(String name, Rewrite rewrite) {
+    }
+
+    private final List<Rule> rules = List.of(
+            new Rule("constant", PeepholeOptimizer::loadSmallConstants),
+            new Rule("store-load", PeepholeOptimizer::keepStoredValues),
+            new Rule("jump-threading", PeepholeOptimizer::threadJumps),
+            new Rule("redundant-goto", PeepholeOptimizer::removeRedundantGotos),
+            new Rule("dead-code", PeepholeOptimizer::removeDeadCode));
+
+    private final Map<String, Integer> hits = new LinkedHashMap<>();
+
+    public PeepholeOptimizer() {
+        for (Rule rule : rules) {
+            hits.put(rule.name, 0);
+        }
+    }
+
+    // Optimizes the instructions of a method, given as Jasmin code with one instruction or label per line
+    public String optimize(String code) {
+        List<String> instructions = new ArrayList<>();
+        for (String line : code.split("\n")) {
+            if (!line.isBlank()) {
+                instructions.add(line.trim());
+            }
+        }
+        StringBuilder result = new StringBuilder();
+        for (String instruction : optimize(instructions)) {
+            result.append(instruction).append("\n");
+        }
+        return result.toString();
+    }
+
+    List<String> optimize(List<String> code) {
+        boolean changed = true;
+        for (int round = 0; changed && round < MAX_ROUNDS; round++) {
+            changed = false;
+            for (Rule rule : rules) {
+                List<String> result = new ArrayList<>(code.size());
+                int count = rule.rewrite.apply(code, result);
+                if (count > 0) {
+                    hits.merge(rule.name, count, Integer::sum);
+                    code = result;
+                    changed = true;
+                }
+            }
+        }
+        return code;
+    }
+
+    // How many times each rule applied, in the order of the rule table
+    public Map<String, Integer> getHits() {
+        return Collections.unmodifiableMap(hits);
+    }
+
+    private static int loadSmallConstants(List<String> code, List<String> result) {
+        int count = 0;
+        for (String instruction : code) {
+            Integer value = opcode(instruction).equals("ldc") ? intOperand(instruction) : null;
+            if (value == null) {
+                result.add(instruction);
+                continue;
+            }
+            if (value >= -1 && value <= 5) {
+                result.add(value == -1 ? "iconst_m1" : "iconst_" + value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                result.add("bipush " + value);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                result.add("sipush " + value);
+            } else {
+                result.add(instruction);
+                continue;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    // putstatic x followed by getstatic x, or istore n followed by iload n, becomes dup and the store. Values
+    // that take two slots would need dup2, and the code generator does not produce them.
+    private static int keepStoredValues(List<String> code, List<String> result) {
+        int count = 0;
+        for (int i = 0; i < code.size(); i++) {
+            String instruction = code.get(i);
+            if (i + 1 < code.size() && loadOfStored(instruction).equals(code.get(i + 1))) {
+                result.add("dup");
+                result.add(instruction);
+                i++;
+                count++;
+            } else {
+                result.add(instruction);
+            }
+        }
+        return count;
+    }
+
+    // The instruction that loads what the given instruction stores, or "" if it is not a one-slot store
+    private static String loadOfStored(String instruction) {
+        String opcode = opcode(instruction);
+        String operand = operand(instruction);
+        if (opcode.equals("putstatic") && !operand.endsWith(" D") && !operand.endsWith(" J")) {
+            return "getstatic " + operand;
+        }
+        if (opcode.equals("istore") || opcode.equals("fstore") || opcode.equals("astore")) {
+            return opcode.charAt(0) + "load " + operand;
+        }
+        return "";
+    }
+
+    private static int threadJumps(List<String> code, List<String> result) {
+        Map<String, Integer> labels = labelPositions(code);
+        int count = 0;
+        for (String instruction : code) {
+            if (!isJump(instruction)) {
+                result.add(instruction);
+                continue;
+            }
+            String target = operand(instruction);
+            // The set stops at a loop of gotos, which is an endless loop of the program
+            Set<String> seen = new HashSet<>(List.of(target));
+            String next = finalTarget(code, labels, target);
+            while (next != null && seen.add(next)) {
+                target = next;
+                next = finalTarget(code, labels, target);
+            }
+            if (target.equals(operand(instruction))) {
+                result.add(instruction);
+            } else {
+                result.add(opcode(instruction) + " " + target);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // The label the instruction at a label jumps to, if it is a goto
+    private static String finalTarget(List<String> code, Map<String, Integer> labels, String label) {
+        Integer position = labels.get(label);
+        if (position == null) {
+            return null;
+        }
+        int index = position;
+        while (index < code.size() && isLabel(code.get(index))) {
+            index++;
+        }
+        if (index < code.size() && opcode(code.get(index)).equals("goto")) {
+            return operand(code.get(index));
+        }
+        return null;
+    }
+
+    private static int removeRedundantGotos(List<String> code, List<String> result) {
+        int count = 0;
+        for (int i = 0; i < code.size(); i++) {
+            String instruction = code.get(i);
+            if (opcode(instruction).equals("goto")) {
+                String target = operand(instruction) + ":";
+                int next = i + 1;
+                while (next < code.size() && isLabel(code.get(next)) && !code.get(next).equals(target)) {
+                    next++;
+                }
+                if (next < code.size() && code.get(next).equals(target)) {
+                    count++;
+                    continue;
+                }
+            }
+            result.add(instruction);
+        }
+        return count;
+    }
+
+    // Drops what follows a goto or a return up to the next label that some jump leads to, along with the labels
+    // no jump leads to on the way
+    private static int removeDeadCode(List<String> code, List<String> result) {
+        Set<String> targets = referencedLabels(code);
+        int count = 0;
+        boolean dead = false;
+        for (String instruction : code) {
+            if (isLabel(instruction) && targets.contains(instruction.substring(0, instruction.length() - 1))) {
+                dead = false;
+            }
+            if (dead) {
+                if (!isLabel(instruction)) {
+                    count++;
+                }
+                continue;
+            }
+            result.add(instruction);
+            String opcode = opcode(instruction);
+            dead = opcode.equals("goto") || opcode.endsWith("return") || opcode.equals("athrow");
+        }
+        return count;
+    }
+
+    // The index of each label in the code
+    private static Map<String, Integer> labelPositions(List<String> code) {
+        Map<String, Integer> labels = new HashMap<>();
+        for (int i = 0; i < code.size(); i++) {
+            if (isLabel(code.get(i))) {
+                labels.put(code.get(i).substring(0, code.get(i).length() - 1), i);
+            }
+        }
+        return labels;
+    }
+
+    // The labels that jumps and the lines of tableswitch and lookupswitch instructions refer to
+    private static Set<String> referencedLabels(List<String> code) {
+        Set<String> labels = labelPositions(code).keySet();
+        Set<String> referenced = new HashSet<>();
+        for (String instruction : code) {
+            if (!isLabel(instruction)) {
+                for (String word : instruction.split("[\\s:]+")) {
+                    if (labels.contains(word)) {
+                        referenced.add(word);
+                    }
+                }
+            }
+        }
+        return referenced;
+    }
+
+    private static boolean isLabel(String instruction) {
+        return instruction.endsWith(":");
+    }
+
+    // True for goto and the conditional jumps, which all have a label as their only operand
+    private static boolean isJump(String instruction) {
+        String opcode = opcode(instruction);
+        return opcode.equals("goto") || opcode.startsWith("if");
+    }
+
+    private static String opcode(String instruction) {
+        int space = instruction.indexOf(' ');
+        return space < 0 ? instruction : instruction.substring(0, space);
+    }
+
+    private static String operand(String instruction) {
+        int space = instruction.indexOf(' ');
+        return space < 0 ? "" : instruction.substring(space + 1).trim();
+    }
+
+    private static Integer intOperand(String instruction) {
+        try {
+            return Integer.parseInt(operand(instruction));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
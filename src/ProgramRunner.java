@@ -0,0 +1,76 @@
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+// Runs a generated class inside the compiler's JVM instead of writing it to disk and starting another JVM.
+// Each run defines the class in a new class loader, so its static fields start from their initial values
+// every time and the old class can be unloaded once the run is over.
+class ProgramRunner {
+    private static final String CLASS_NAME = "GeneratedClass";
+
+    private static class GeneratedClassLoader extends ClassLoader {
+        private final String className;
+        private final byte[] classBytes;
+
+        GeneratedClassLoader(String className, byte[] classBytes) {
+            super(ProgramRunner.class.getClassLoader());
+            this.className = className;
+            this.classBytes = classBytes;
+        }
+
+        // The generated class is defined here without asking the parent first, so that a stale class file of the
+        // same name on the class path cannot take the place of the bytes that were just assembled
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(className)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    loaded = defineClass(name, classBytes, 0, classBytes.length);
+                }
+                if (resolve) {
+                    resolveClass(loaded);
+                }
+                return loaded;
+            }
+        }
+    }
+
+    // Defines a class in a new class loader and initializes it, so that it has been verified once this returns
+    static Class<?> define(String className, byte[] classBytes) throws ClassNotFoundException {
+        return Class.forName(className, true, new GeneratedClassLoader(className, classBytes));
+    }
+
+    // Defines the class in a new class loader and returns its main method
+    static Method load(byte[] classBytes) {
+        try {
+            return define(CLASS_NAME, classBytes).getMethod("main", String[].class);
+        } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            throw new RuntimeException("Cannot load the generated class: " + e, e);
+        }
+    }
+
+    // Calls a main method loaded by load, letting whatever the program throws pass through unchanged
+    static void invoke(Method main, String[] args) {
+        try {
+            main.invoke(null, (Object) args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(cause);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Cannot run the generated class: " + e, e);
+        }
+    }
+
+    // Loads the class and runs its main method once
+    static void run(byte[] classBytes, String[] args) {
+        invoke(load(classBytes), args);
+    }
+}
@@ -10,6 +10,9 @@ class SemanticAnalyzer {
 
     private final Map<String, ASTNode> symbolTable = new HashMap<>();
 
+    // Pool of the checked expressions, so that identical ones share one node
+    private final ExpressionPool expressions = new ExpressionPool();
+
     // Begins semantic analysis on the AST node list.
     public List<ASTNode> startAnalyze() {
         return analyze(astNodeList);
@@ -18,98 +21,117 @@ class SemanticAnalyzer {
     // Processes the analysis of the AST node list.
     private List<ASTNode> analyze(List<ASTNode> astNodeList) {
         for (int i = 0; i < astNodeList.size(); i++) {
-            // Analyzes variable declarations.
-            if (astNodeList.get(i) instanceof VarDeclaration varDeclaration) {
-                varDeclaration.expression = checkExpression(varDeclaration.expression, i, "var");
-                if (!symbolTable.containsKey(varDeclaration.variableName)) {
-                    symbolTable.put(varDeclaration.variableName, varDeclaration);
-                } else {
-                    throw new RuntimeException("Variable already declared");
-                }
-                ASTNode tableNode = symbolTable.get(((VarDeclaration) astNodeList.get(i)).variableName);
-                String typeName = ((TypeNode) ((VarDeclaration) tableNode).variableType).typeName;
-                if ((((VarDeclaration) tableNode).expression) != null && (((VarDeclaration) tableNode).expression) instanceof LiteralNode) {
-                    String expressionString = String.valueOf(((LiteralNode) (((VarDeclaration) tableNode).expression)).value);
-                    if (typeName.equals("integer")) {
-                        VarDeclaration node;
-                        if (expressionString.contains(".")) {
-                            expressionString = expressionString.substring(0, expressionString.indexOf('.'));
-                            node = new VarDeclaration(((VarDeclaration) tableNode).variableName, ((VarDeclaration) tableNode).variableType, new LiteralNode(expressionString));
-                            symbolTable.put(((VarDeclaration) astNodeList.get(i)).variableName, node);
-                            varDeclaration.expression = node.expression;
-                        }
-                    }
-                }
+            ASTNode node = astNodeList.get(i);
+            analyzeNode(astNodeList, i);
+            // Nodes are rewritten in place, and a list that does not keep its nodes, like the view of a FlatAST,
+            // only keeps the rewrites if the node is set back
+            astNodeList.set(i, node);
+        }
+        return astNodeList;
+    }
 
+    // Returns what the symbol table currently holds for a name, or null.
+    ASTNode lookupSymbol(String name) {
+        return symbolTable.get(name);
+    }
+
+    // Puts an entry in the symbol table, as analyzing the declaration that made it would.
+    void defineSymbol(String name, ASTNode node) {
+        symbolTable.put(name, node);
+    }
+
+    // Analyzes the node at index i of the AST node list.
+    void analyzeNode(List<ASTNode> astNodeList, int i) {
+        // Analyzes variable declarations.
+        if (astNodeList.get(i) instanceof VarDeclaration varDeclaration) {
+            varDeclaration.expression = checkExpression(varDeclaration.expression, i, "var");
+            if (!symbolTable.containsKey(varDeclaration.variableName)) {
+                symbolTable.put(varDeclaration.variableName, varDeclaration);
+            } else {
+                throw new RuntimeException("Variable already declared");
             }
-            // Analyzes assignment nodes.
-            else if (astNodeList.get(i) instanceof AssignmentNode assignmentNode) {
-                if (assignmentNode.expression instanceof BinaryOpNode) {
-                    assignmentNode.expression = checkExpression(assignmentNode.expression, i, "assignment");
-                } else {
-                    for (ASTNode astNode : astNodeList) {
-                        if (astNode instanceof VarDeclaration && ((VarDeclaration) astNode).variableName.equals(((AssignmentNode) astNodeList.get(i)).variableName)) {
-                            VarDeclaration node = new VarDeclaration(((VarDeclaration) astNode).variableName, ((VarDeclaration) astNode).variableType, new LiteralNode(String.valueOf(((LiteralNode) assignmentNode.expression).value)));
-                            symbolTable.put(((AssignmentNode) astNodeList.get(i)).variableName, node);
-                            break;
-                        }
-                    }
-                }
-                ASTNode tableNode = symbolTable.get(((AssignmentNode) astNodeList.get(i)).variableName);
-                String typeName = ((TypeNode) ((VarDeclaration) tableNode).variableType).typeName;
+            ASTNode tableNode = symbolTable.get(((VarDeclaration) astNodeList.get(i)).variableName);
+            String typeName = ((TypeNode) ((VarDeclaration) tableNode).variableType).typeName;
+            if ((((VarDeclaration) tableNode).expression) != null && (((VarDeclaration) tableNode).expression) instanceof LiteralNode) {
                 String expressionString = String.valueOf(((LiteralNode) (((VarDeclaration) tableNode).expression)).value);
                 if (typeName.equals("integer")) {
                     VarDeclaration node;
                     if (expressionString.contains(".")) {
                         expressionString = expressionString.substring(0, expressionString.indexOf('.'));
-                        node = new VarDeclaration(((VarDeclaration) tableNode).variableName, ((VarDeclaration) tableNode).variableType, new LiteralNode(expressionString));
-                        symbolTable.put(((AssignmentNode) astNodeList.get(i)).variableName, node);
-                        assignmentNode.expression = node.expression;
+                        node = new VarDeclaration(((VarDeclaration) tableNode).variableName, ((VarDeclaration) tableNode).variableType, expressions.literal(expressionString));
+                        symbolTable.put(((VarDeclaration) astNodeList.get(i)).variableName, node);
+                        varDeclaration.expression = node.expression;
                     }
                 }
+            }
 
-                if (!symbolTable.containsKey(assignmentNode.variableName)) {
-                    throw new RuntimeException("Variable not declared before assignment");
+        }
+        // Analyzes assignment nodes.
+        else if (astNodeList.get(i) instanceof AssignmentNode assignmentNode) {
+            if (assignmentNode.expression instanceof BinaryOpNode || assignmentNode.expression instanceof UnaryOpNode) {
+                assignmentNode.expression = checkExpression(assignmentNode.expression, i, "assignment");
+            } else {
+                for (ASTNode astNode : astNodeList) {
+                    if (astNode instanceof VarDeclaration && ((VarDeclaration) astNode).variableName.equals(((AssignmentNode) astNodeList.get(i)).variableName)) {
+                        VarDeclaration node = new VarDeclaration(((VarDeclaration) astNode).variableName, ((VarDeclaration) astNode).variableType, expressions.literal(String.valueOf(((LiteralNode) assignmentNode.expression).value)));
+                        symbolTable.put(((AssignmentNode) astNodeList.get(i)).variableName, node);
+                        break;
+                    }
                 }
             }
-            // Analyzes routine declarations.
-            else if (astNodeList.get(i) instanceof RoutineDeclarationNode routineDeclarationNode) {
-                if (!symbolTable.containsKey(routineDeclarationNode.routineName)) {
-                    symbolTable.put(routineDeclarationNode.routineName, routineDeclarationNode);
+            ASTNode tableNode = symbolTable.get(((AssignmentNode) astNodeList.get(i)).variableName);
+            String typeName = ((TypeNode) ((VarDeclaration) tableNode).variableType).typeName;
+            String expressionString = String.valueOf(((LiteralNode) (((VarDeclaration) tableNode).expression)).value);
+            if (typeName.equals("integer")) {
+                VarDeclaration node;
+                if (expressionString.contains(".")) {
+                    expressionString = expressionString.substring(0, expressionString.indexOf('.'));
+                    node = new VarDeclaration(((VarDeclaration) tableNode).variableName, ((VarDeclaration) tableNode).variableType, expressions.literal(expressionString));
+                    symbolTable.put(((AssignmentNode) astNodeList.get(i)).variableName, node);
+                    assignmentNode.expression = node.expression;
                 }
             }
-            // Analyzes for loops.
-            else if (astNodeList.get(i) instanceof ForLoop forLoop) {
-                String[] rangeVariables = forLoop.range.split("\\.\\.");
-                if (!isNumeric(rangeVariables[0]) && !symbolTable.containsKey(rangeVariables[0])) {
-                    throw new RuntimeException("Variable not declared before use");
-                }
-                if (!isNumeric(rangeVariables[1]) && !symbolTable.containsKey(rangeVariables[1])) {
-                    throw new RuntimeException("Variable not declared before use");
-                }
-                if (isNumeric(rangeVariables[0]) && isDouble(rangeVariables[0]) || isNumeric(rangeVariables[0]) && isDouble(rangeVariables[0])) {
-                    throw new RuntimeException("Double value cannot be used in ForLoop range");
-                }
-                //BlockNode loop = (BlockNode) forLoop.loopBody;
-                //analyze(loop.statements);
+
+            if (!symbolTable.containsKey(assignmentNode.variableName)) {
+                throw new RuntimeException("Variable not declared before assignment");
             }
-            // Analyzes while loops.
-            else if (astNodeList.get(i) instanceof WhileLoop) {
-                BlockNode loop = (BlockNode) ((WhileLoop) astNodeList.get(i)).loopBody;
-                //analyze(loop.statements);
+        }
+        // Analyzes routine declarations.
+        else if (astNodeList.get(i) instanceof RoutineDeclarationNode routineDeclarationNode) {
+            if (!symbolTable.containsKey(routineDeclarationNode.routineName)) {
+                symbolTable.put(routineDeclarationNode.routineName, routineDeclarationNode);
             }
-            // Analyzes if statements.
-            else if (astNodeList.get(i) instanceof IfStatementNode ifStatementNode) {
-                ifStatementNode.condition = checkExpression(ifStatementNode.condition, i, "var");
-                BlockNode thenBlock = (BlockNode) ((IfStatementNode) astNodeList.get(i)).thenBlock;
-                BlockNode elseBlock = (BlockNode) ((IfStatementNode) astNodeList.get(i)).elseBlock;
-                analyze(thenBlock.statements);
-                if (elseBlock != null) {
-                    analyze(elseBlock.statements);
-                }
+        }
+        // Analyzes for loops.
+        else if (astNodeList.get(i) instanceof ForLoop forLoop) {
+            String[] rangeVariables = forLoop.range.split("\\.\\.");
+            if (!isNumeric(rangeVariables[0]) && !symbolTable.containsKey(rangeVariables[0])) {
+                throw new RuntimeException("Variable not declared before use");
+            }
+            if (!isNumeric(rangeVariables[1]) && !symbolTable.containsKey(rangeVariables[1])) {
+                throw new RuntimeException("Variable not declared before use");
+            }
+            if (isNumeric(rangeVariables[0]) && isDouble(rangeVariables[0]) || isNumeric(rangeVariables[0]) && isDouble(rangeVariables[0])) {
+                throw new RuntimeException("Double value cannot be used in ForLoop range");
+            }
+            //BlockNode loop = (BlockNode) forLoop.loopBody;
+            //analyze(loop.statements);
+        }
+        // Analyzes while loops.
+        else if (astNodeList.get(i) instanceof WhileLoop) {
+            BlockNode loop = (BlockNode) ((WhileLoop) astNodeList.get(i)).loopBody;
+            //analyze(loop.statements);
+        }
+        // Analyzes if statements.
+        else if (astNodeList.get(i) instanceof IfStatementNode ifStatementNode) {
+            ifStatementNode.condition = checkExpression(ifStatementNode.condition, i, "var");
+            BlockNode thenBlock = (BlockNode) ((IfStatementNode) astNodeList.get(i)).thenBlock;
+            BlockNode elseBlock = (BlockNode) ((IfStatementNode) astNodeList.get(i)).elseBlock;
+            analyze(thenBlock.statements);
+            if (elseBlock != null) {
+                analyze(elseBlock.statements);
             }
         }
-        return astNodeList;
     }
 
     // Evaluates expressions and ensures they are semantically correct.
@@ -131,7 +153,7 @@ class SemanticAnalyzer {
                 }
                 if (isBoolean(((LiteralNode) left).value) && isBoolean(((LiteralNode) right).value)) {
                     boolean result = calculateBooleanOperation(Boolean.parseBoolean(((LiteralNode) left).value), Boolean.parseBoolean(((LiteralNode) right).value), binaryOpNode.operator);
-                    return new LiteralNode(String.valueOf(result));
+                    return expressions.literal(String.valueOf(result));
                 }
                 if (isNumeric(((LiteralNode) left).value) && isNumeric(((LiteralNode) right).value) && (binaryOpNode.operator == Token.TokenType.PLUS || binaryOpNode.operator == Token.TokenType.MINUS || binaryOpNode.operator == Token.TokenType.MULTIPLY || binaryOpNode.operator == Token.TokenType.DIVIDE)) {
                     double result = calculateBinaryOperation(Double.parseDouble(((LiteralNode) left).value), Double.parseDouble(((LiteralNode) right).value), binaryOpNode.operator);
@@ -140,32 +162,51 @@ class SemanticAnalyzer {
                     } else if (isDouble(String.valueOf(result)) && (originalDeclaration.equals("assignment"))) {
                         for (ASTNode astNode : astNodeList) {
                             if (astNode instanceof VarDeclaration && ((VarDeclaration) astNode).variableName.equals(((AssignmentNode) astNodeList.get(i)).variableName)) {
-                                VarDeclaration node = new VarDeclaration(((VarDeclaration) astNode).variableName, ((VarDeclaration) astNode).variableType, new LiteralNode(String.valueOf(result)));
+                                VarDeclaration node = new VarDeclaration(((VarDeclaration) astNode).variableName, ((VarDeclaration) astNode).variableType, expressions.literal(String.valueOf(result)));
                                 symbolTable.put(((AssignmentNode) astNodeList.get(i)).variableName, node);
                                 break;
                             }
                         }
                     }
-                    return new LiteralNode(String.valueOf(result));
+                    return expressions.literal(String.valueOf(result));
                 } else if (isNumeric(((LiteralNode) left).value) && isNumeric(((LiteralNode) right).value) && (binaryOpNode.operator == Token.TokenType.GREATER_THAN || binaryOpNode.operator == Token.TokenType.GREATER_THAN_OR_EQUAL || binaryOpNode.operator == Token.TokenType.LESS_THAN || binaryOpNode.operator == Token.TokenType.LESS_THAN_OR_EQUAL || binaryOpNode.operator == Token.TokenType.EQUALS)) {
                     boolean result = calculateComparisonOperation(Double.parseDouble(((LiteralNode) left).value), Double.parseDouble(((LiteralNode) right).value), binaryOpNode.operator);
                     if (isDouble(String.valueOf(result)) && (originalDeclaration.equals("assignment"))) {
                         for (ASTNode astNode : astNodeList) {
                             if (astNode instanceof VarDeclaration && ((VarDeclaration) astNode).variableName.equals(((AssignmentNode) astNodeList.get(i)).variableName)) {
-                                VarDeclaration node = new VarDeclaration(((VarDeclaration) astNode).variableName, ((VarDeclaration) astNode).variableType, new LiteralNode(String.valueOf(result)));
+                                VarDeclaration node = new VarDeclaration(((VarDeclaration) astNode).variableName, ((VarDeclaration) astNode).variableType, expressions.literal(String.valueOf(result)));
                                 symbolTable.put(((AssignmentNode) astNodeList.get(i)).variableName, node);
                                 break;
                             }
                         }
                     }
-                    return new LiteralNode(String.valueOf(result));
+                    return expressions.literal(String.valueOf(result));
                 } else if (!isNumeric(((LiteralNode) left).value) && !symbolTable.containsKey(((LiteralNode) left).value)) {
                     throw new RuntimeException("Variable not declared before use");
                 } else if (!isNumeric(((LiteralNode) right).value) && !symbolTable.containsKey(((LiteralNode) right).value)) {
                     throw new RuntimeException("Variable not declared before use");
                 }
             }
-            return new BinaryOpNode(binaryOpNode.operator, left, right);
+            return expressions.binary(binaryOpNode.operator, left, right);
+        }
+        if (expression instanceof UnaryOpNode unaryOpNode) {
+            ASTNode operand = checkExpression(unaryOpNode.operand, i, originalDeclaration);
+            if (operand instanceof LiteralNode literal) {
+                if (unaryOpNode.operator == Token.TokenType.NOT && isBoolean(literal.value)) {
+                    return expressions.literal(String.valueOf(!Boolean.parseBoolean(literal.value)));
+                }
+                if (unaryOpNode.operator == Token.TokenType.PLUS && isNumeric(literal.value)) {
+                    return literal;
+                }
+                if (unaryOpNode.operator == Token.TokenType.MINUS && isNumeric(literal.value)) {
+                    // Negate the text so that integer literals stay integers
+                    return expressions.literal(literal.value.startsWith("-") ? literal.value.substring(1) : "-" + literal.value);
+                }
+            }
+            return expressions.unary(unaryOpNode.operator, operand);
+        }
+        if (expression instanceof LiteralNode literal) {
+            return expressions.literal(literal.value);
         }
         if (expression instanceof FunctionCallNode) {
             RoutineDeclarationNode routine = (RoutineDeclarationNode) symbolTable.get(((FunctionCallNode) expression).functionName);
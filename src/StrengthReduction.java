@@ -0,0 +1,177 @@
+import java.util.*;
+
+// Replaces multiplications of a loop's induction variables by additions.
+//
+// An induction variable is a phi of the loop header that goes up or down by the same constant step in every
+// iteration: i = phi [first, preheader], [i + step, latch]. A product i * k by an invariant k then also goes
+// up by step * k in every iteration, so it gets a phi of its own, j = phi [first * k, preheader],
+// [j + step * k, latch], and the multiplication in the loop is replaced by j. Only integers are reduced:
+// integer arithmetic wraps around, so the sums are exactly the products even when they overflow, while the
+// sums of reals would be rounded differently.
+//
+// In bytecode, an addition costs as much as a multiplication, so a new phi only pays for itself if the old
+// one goes away. A variable is therefore only reduced when nothing but its products, its own update and the
+// loop test use it, and the test can be rewritten in terms of one of the products (i <= last becomes
+// j <= last * k for a constant k > 0, when no value of j can overflow). The variable is then dead, and the
+// counted loop runs on j alone.
+class StrengthReduction implements OptimizationPass {
+    // An induction variable and the instructions that use it
+    private static final class Induction {
+        final Phi variable;
+        final BinaryInstruction update;
+        final List<BinaryInstruction> products = new ArrayList<>();
+        CompareInstruction test;
+
+        Induction(Phi variable, BinaryInstruction update) {
+            this.variable = variable;
+            this.update = update;
+        }
+    }
+
+    @Override
+    public boolean run(IRFunction function) {
+        LoopAnalysis analysis = new LoopAnalysis(function);
+        Map<Value, List<Instruction>> users = null;
+        boolean changed = false;
+        for (Loop loop : analysis.loops()) {
+            if (loop.latches.size() != 1) {
+                continue;
+            }
+            for (Phi phi : loop.header.phis()) {
+                BinaryInstruction update = update(phi, loop);
+                if (update == null) {
+                    continue;
+                }
+                if (users == null) {
+                    users = users(function);
+                }
+                Induction induction = classifyUses(new Induction(phi, update), users, loop);
+                if (induction != null) {
+                    reduce(function, analysis, loop, induction);
+                    // The uses have changed
+                    users = null;
+                    changed = true;
+                }
+            }
+        }
+        return changed;
+    }
+
+    // Returns the instruction that gives the phi its value for the next iteration, if it adds a constant to it
+    // or subtracts one from it
+    private static BinaryInstruction update(Phi phi, Loop loop) {
+        if (phi.type != IRType.INTEGER || phi.operands.size() != 2) {
+            return null;
+        }
+        Value next = phi.operand(phi.block.predecessors.indexOf(loop.latches.get(0)));
+        if (!(next instanceof BinaryInstruction update) || !loop.contains(update.block)) {
+            return null;
+        }
+        boolean add = update.operator == BinaryInstruction.Operator.ADD
+                && (update.operand(0) == phi && update.operand(1) instanceof Constant
+                || update.operand(1) == phi && update.operand(0) instanceof Constant);
+        boolean subtract = update.operator == BinaryInstruction.Operator.SUB
+                && update.operand(0) == phi && update.operand(1) instanceof Constant;
+        return add || subtract ? update : null;
+    }
+
+    private static Map<Value, List<Instruction>> users(IRFunction function) {
+        Map<Value, List<Instruction>> users = new HashMap<>();
+        for (BasicBlock block : function.blocks) {
+            for (Instruction instruction : block.instructions) {
+                for (Value operand : instruction.operands) {
+                    users.computeIfAbsent(operand, key -> new ArrayList<>()).add(instruction);
+                }
+            }
+        }
+        return users;
+    }
+
+    // Sorts the uses of an induction variable into products, its update and the loop test; returns null if
+    // something else uses it, or if the test cannot be rewritten
+    private static Induction classifyUses(Induction induction, Map<Value, List<Instruction>> users, Loop loop) {
+        Phi variable = induction.variable;
+        for (Instruction user : users.getOrDefault(variable, List.of())) {
+            if (user == induction.update || user == variable) {
+                continue;
+            }
+            if (user instanceof BinaryInstruction binary && binary.operator == BinaryInstruction.Operator.MUL
+                    && loop.contains(binary.block) && loop.isDefinedOutside(factor(binary, variable))) {
+                induction.products.add(binary);
+            } else if (user instanceof CompareInstruction compare && induction.test == null && compare.block == loop.header
+                    && compare.operand(0) == variable && compare.operand(1) instanceof Constant
+                    && users.get(compare).equals(List.of(loop.header.terminator()))) {
+                induction.test = compare;
+            } else {
+                return null;
+            }
+        }
+        if (induction.products.isEmpty() || induction.test != null && testFactor(induction, loop) == null) {
+            return null;
+        }
+        return induction;
+    }
+
+    // The operand of a product that is not the induction variable
+    private static Value factor(BinaryInstruction product, Phi variable) {
+        return product.operand(0) == variable ? product.operand(1) : product.operand(0);
+    }
+
+    // Returns a constant factor k > 0 of one of the products, such that the test i <= last can be replaced by
+    // j <= last * k without overflow, or null
+    private static Constant testFactor(Induction induction, Loop loop) {
+        int entryIndex = 1 - induction.variable.block.predecessors.indexOf(loop.latches.get(0));
+        Value first = induction.variable.operand(entryIndex);
+        Value step = induction.update.operand(0) == induction.variable ? induction.update.operand(1) : induction.update.operand(0);
+        if (!(first instanceof Constant firstConstant)) {
+            return null;
+        }
+        long bound = ((Constant) induction.test.operand(1)).intValue;
+        long stepSize = Math.abs((long) ((Constant) step).intValue);
+        // The values the variable can take before the loop ends
+        long low = Math.min(firstConstant.intValue, bound) - stepSize;
+        long high = Math.max(firstConstant.intValue, bound) + stepSize;
+        for (BinaryInstruction product : induction.products) {
+            if (factor(product, induction.variable) instanceof Constant factor && factor.intValue > 0) {
+                if (low * factor.intValue >= Integer.MIN_VALUE && high * factor.intValue <= Integer.MAX_VALUE) {
+                    return factor;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void reduce(IRFunction function, LoopAnalysis analysis, Loop loop, Induction induction) {
+        Constant testFactor = induction.test != null ? testFactor(induction, loop) : null;
+        BasicBlock latch = loop.latches.get(0);
+        BasicBlock preheader = analysis.ensurePreheader(loop);
+        int entryIndex = loop.header.predecessors.indexOf(preheader);
+        Phi variable = induction.variable;
+        Value step = induction.update.operand(0) == variable ? induction.update.operand(1) : induction.update.operand(0);
+
+        // Products by the same factor share a phi
+        Map<Value, Phi> reduced = new HashMap<>();
+        Map<Value, Value> replacements = new HashMap<>();
+        for (BinaryInstruction product : induction.products) {
+            Value factor = factor(product, variable);
+            Phi phi = reduced.get(factor);
+            if (phi == null) {
+                phi = loop.header.addPhi(new Phi(IRType.INTEGER));
+                Value first = preheader.add(new BinaryInstruction(BinaryInstruction.Operator.MUL, variable.operand(entryIndex), factor));
+                Value amount = preheader.add(new BinaryInstruction(BinaryInstruction.Operator.MUL, step, factor));
+                Value next = latch.add(new BinaryInstruction(induction.update.operator, phi, amount));
+                for (int i = 0; i < loop.header.predecessors.size(); i++) {
+                    phi.operands.add(i == entryIndex ? first : next);
+                }
+                reduced.put(factor, phi);
+            }
+            replacements.put(product, phi);
+        }
+        if (induction.test != null) {
+            int bound = ((Constant) induction.test.operand(1)).intValue;
+            induction.test.operands.set(0, reduced.get(testFactor));
+            induction.test.operands.set(1, Constant.ofInt(IRType.INTEGER, bound * testFactor.intValue));
+        }
+        function.replaceUses(replacements);
+    }
+}
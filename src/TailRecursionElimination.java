@@ -0,0 +1,70 @@
+import java.util.*;
+
+// Turns the calls a routine makes to itself right before returning into jumps back to its start, so that a
+// recursive routine like gcd(a, b) = gcd(b, a % b) runs as a loop: it uses one frame of the JVM stack however
+// deep the recursion goes, and pays for a jump instead of a call.
+//
+// A call is a tail call when the routine returns what it returns, or returns nothing after a call of a routine
+// without a result, with nothing in between. The routine's entry becomes the header of a loop, with a phi for
+// every parameter that takes the arguments of the call, and a new entry block in front of it starts the loop
+// with the parameters. The uses of the parameters then use the phis, and each tail call and its return are
+// replaced by a jump to the header. Parameters are SSA values like any other, so the phis take the arguments
+// all at once, the way a call does: f(b, a) swaps them.
+//
+// Once a routine no longer calls itself, it can be inlined if it is small enough, so the pass runs before the
+// inliner.
+class TailRecursionElimination implements OptimizationPass {
+    @Override
+    public boolean run(IRFunction function) {
+        List<CallInstruction> tailCalls = new ArrayList<>();
+        for (BasicBlock block : function.blocks) {
+            CallInstruction call = tailCall(function, block);
+            if (call != null) {
+                tailCalls.add(call);
+            }
+        }
+        if (tailCalls.isEmpty()) {
+            return false;
+        }
+
+        // The new entry block, which must come first in the list of blocks
+        BasicBlock header = function.entry();
+        BasicBlock entry = function.newBlock();
+        function.blocks.remove(entry);
+        function.blocks.add(0, entry);
+        entry.terminate(new Jump(header));
+
+        Map<Value, Value> phis = new HashMap<>();
+        for (Parameter parameter : function.parameters) {
+            phis.put(parameter, header.addPhi(new Phi(parameter.type)));
+        }
+        function.replaceUses(phis);
+        for (Parameter parameter : function.parameters) {
+            ((Phi) phis.get(parameter)).operands.add(parameter);
+        }
+
+        for (CallInstruction call : tailCalls) {
+            BasicBlock block = call.block;
+            block.instructions.remove(block.terminator());
+            block.instructions.remove(call);
+            block.terminate(new Jump(header));
+            for (Parameter parameter : function.parameters) {
+                ((Phi) phis.get(parameter)).operands.add(call.operand(parameter.index));
+            }
+        }
+        return true;
+    }
+
+    // Returns the call the block ends with, if it is a call of the function followed by a return of its result
+    private static CallInstruction tailCall(IRFunction function, BasicBlock block) {
+        List<Instruction> instructions = block.instructions;
+        if (instructions.size() < 2 || !(block.terminator() instanceof ReturnInstruction returnInstruction)
+                || !(instructions.get(instructions.size() - 2) instanceof CallInstruction call) || call.callee != function) {
+            return null;
+        }
+        if (function.returnType == IRType.VOID ? !returnInstruction.operands.isEmpty() : returnInstruction.operand(0) != call) {
+            return null;
+        }
+        return call;
+    }
+}